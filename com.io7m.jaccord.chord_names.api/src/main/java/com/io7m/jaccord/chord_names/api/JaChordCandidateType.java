@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jaccord.chord_names.api;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import com.io7m.jaccord.core.JaNote;
+import org.immutables.value.Value;
+
+import static org.immutables.value.Value.Immutable;
+
+/**
+ * A candidate chord produced by fuzzy matching.
+ *
+ * @see JaChordMatcher
+ */
+
+@ImmutablesStyleType
+@Immutable
+public interface JaChordCandidateType
+{
+  /**
+   * @return The root of the chord
+   */
+
+  @Value.Parameter
+  JaNote root();
+
+  /**
+   * @return The quality of the chord
+   */
+
+  @Value.Parameter
+  JaChordQuality quality();
+
+  /**
+   * @return The weighted distance between the input and the chord
+   */
+
+  @Value.Parameter
+  int distance();
+
+  /**
+   * @return The confidence of the match in the range {@code [0, 1]}
+   */
+
+  @Value.Parameter
+  double confidence();
+}
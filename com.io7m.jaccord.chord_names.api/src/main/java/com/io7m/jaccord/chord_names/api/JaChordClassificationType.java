@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.chord_names.api;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import static org.immutables.value.Value.Immutable;
+
+/**
+ * The result of classifying a chord. A classification is independent of
+ * any particular naming style, and can be rendered in any number of styles
+ * without classifying the chord again.
+ *
+ * @see JaChordNameStyle#render(JaChordClassification)
+ */
+
+@ImmutablesStyleType
+@Immutable
+public interface JaChordClassificationType
+{
+  /**
+   * @return The recognized quality of the chord
+   */
+
+  @Value.Parameter
+  JaChordQuality quality();
+
+  /**
+   * @return The mask of intervals that are not accounted for by the quality
+   * and are therefore named as added tones
+   *
+   * @see com.io7m.jaccord.core.JaIntervals
+   */
+
+  @Value.Parameter
+  int additions();
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    if ((this.additions() & ~0x1ffffff) != 0) {
+      throw new IllegalArgumentException(
+        new StringBuilder(64)
+          .append("Additions mask out of range: 0x")
+          .append(Integer.toUnsignedString(this.additions(), 16))
+          .toString());
+    }
+  }
+}
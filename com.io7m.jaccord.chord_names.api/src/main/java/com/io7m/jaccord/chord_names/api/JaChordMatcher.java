@@ -0,0 +1,461 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jaccord.chord_names.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.AUGMENTED;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DIMINISHED;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DIMINISHED_SEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DOMINANT_ELEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DOMINANT_ELEVENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DOMINANT_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DOMINANT_ELEVENTH_FLAT_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DOMINANT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DOMINANT_SEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DOMINANT_SEVENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DOMINANT_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DOMINANT_THIRTEENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.HALF_DIMINISHED_SEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_ELEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_ELEVENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_ELEVENTH_FLAT_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_SEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_SEVENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_SIXTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_SIX_NINE;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_THIRTEENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_ELEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_ELEVENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_ELEVENTH_FLAT_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_MAJOR_ELEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_MAJOR_ELEVENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_MAJOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_MAJOR_ELEVENTH_FLAT_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_MAJOR_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_MAJOR_SEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_MAJOR_SEVENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_MAJOR_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_MAJOR_THIRTEENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_SEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_SEVENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_SIXTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_SIX_NINE;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_THIRTEENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.NO_THIRD;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.SUSPENDED_2;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.SUSPENDED_4;
+
+/**
+ * <p>A fuzzy chord matcher. A matcher compares a set of pitch classes
+ * against every chord quality in every one of the twelve roots, and returns
+ * the closest chords by weighted Hamming distance.</p>
+ *
+ * <p>Each quality is described by a template of essential tones, optional
+ * tones (such as the fifth), and contradicting tones (such as a third in a
+ * suspended chord). The templates are rotated into all twelve roots when the
+ * matcher is created and stored as parallel {@code int} arrays, so that
+ * matching is a single branch-free pass of masks and population counts over
+ * the arrays, followed by a top-k selection.</p>
+ *
+ * <p>Pitch class masks use bit {@code n} for pitch class {@code n}, where
+ * pitch class {@code 0} is {@link com.io7m.jaccord.core.JaNote#C}.</p>
+ *
+ * <p>Matchers are immutable and are safe for use from multiple threads.</p>
+ */
+
+public final class JaChordMatcher
+{
+  /**
+   * The largest permitted weight. Distances are packed above the template
+   * specificity into a single {@code int} selection key, and this bound keeps
+   * the largest possible distance within the key.
+   *
+   * @see JaChordMatcherConfigurationType
+   */
+
+  public static final int MAXIMUM_WEIGHT = 1 << 20;
+
+  private static final int PITCH_CLASS_COUNT = 12;
+  private static final int PITCH_CLASSES = 0xfff;
+  private static final int SPECIFICITY_BITS = 5;
+
+  private static final int I_ROOT = 0;
+  private static final int I_MINOR_SECOND = 1;
+  private static final int I_MAJOR_SECOND = 2;
+  private static final int I_MINOR_THIRD = 3;
+  private static final int I_MAJOR_THIRD = 4;
+  private static final int I_FOURTH = 5;
+  private static final int I_DIMINISHED_FIFTH = 6;
+  private static final int I_FIFTH = 7;
+  private static final int I_AUGMENTED_FIFTH = 8;
+  private static final int I_MAJOR_SIXTH = 9;
+  private static final int I_MINOR_SEVENTH = 10;
+  private static final int I_MAJOR_SEVENTH = 11;
+
+  private final JaChordMatcherConfiguration configuration;
+  private final int count;
+  private final int[] essential;
+  private final int[] optional;
+  private final int[] contradicts;
+  private final int[] root_bits;
+  private final int[] specificity;
+  private final int[] roots;
+  private final int[] qualities;
+
+  private JaChordMatcher(
+    final JaChordMatcherConfiguration in_configuration,
+    final List<Template> templates)
+  {
+    this.configuration =
+      Objects.requireNonNull(in_configuration, "Configuration");
+
+    this.count = templates.size() * PITCH_CLASS_COUNT;
+    this.essential = new int[this.count];
+    this.optional = new int[this.count];
+    this.contradicts = new int[this.count];
+    this.root_bits = new int[this.count];
+    this.specificity = new int[this.count];
+    this.roots = new int[this.count];
+    this.qualities = new int[this.count];
+
+    int index = 0;
+    for (int root = 0; root < PITCH_CLASS_COUNT; ++root) {
+      for (final Template template : templates) {
+        this.essential[index] = rotate(template.essential, root);
+        this.optional[index] = rotate(template.optional, root);
+        this.contradicts[index] = rotate(template.contradicts, root);
+        this.root_bits[index] = 1 << root;
+        this.specificity[index] =
+          (1 << SPECIFICITY_BITS) - 1 - Integer.bitCount(template.essential);
+        this.roots[index] = root;
+        this.qualities[index] = template.quality.ordinal();
+        ++index;
+      }
+    }
+  }
+
+  /**
+   * Create a matcher using the default weights.
+   *
+   * @return A new matcher
+   */
+
+  public static JaChordMatcher create()
+  {
+    return create(JaChordMatcherConfiguration.builder().build());
+  }
+
+  /**
+   * Create a matcher.
+   *
+   * @param configuration The matcher weights
+   *
+   * @return A new matcher
+   */
+
+  public static JaChordMatcher create(
+    final JaChordMatcherConfiguration configuration)
+  {
+    return new JaChordMatcher(configuration, templates());
+  }
+
+  private static int rotate(
+    final int mask,
+    final int root)
+  {
+    return ((mask << root) | (mask >>> (PITCH_CLASS_COUNT - root)))
+      & PITCH_CLASSES;
+  }
+
+  private static int pcs(
+    final int... pitch_classes)
+  {
+    int mask = 0;
+    for (final int pc : pitch_classes) {
+      mask |= 1 << pc;
+    }
+    return mask;
+  }
+
+  private static List<Template> templates()
+  {
+    final int thirds = pcs(I_MINOR_THIRD, I_MAJOR_THIRD);
+    final int fifth = pcs(I_FIFTH);
+    final ArrayList<Template> t = new ArrayList<>(64);
+
+    t.add(new Template(SUSPENDED_4, pcs(I_ROOT, I_FOURTH), fifth, thirds));
+    t.add(new Template(SUSPENDED_2, pcs(I_ROOT, I_MAJOR_SECOND), fifth, thirds));
+    t.add(new Template(NO_THIRD, pcs(I_ROOT, I_FIFTH), 0, thirds));
+    t.add(new Template(
+      AUGMENTED, pcs(I_ROOT, I_MAJOR_THIRD, I_AUGMENTED_FIFTH), 0, fifth));
+    t.add(new Template(
+      DIMINISHED, pcs(I_ROOT, I_MINOR_THIRD, I_DIMINISHED_FIFTH), 0, fifth));
+    t.add(new Template(
+      DIMINISHED_SEVENTH,
+      pcs(I_ROOT, I_MINOR_THIRD, I_DIMINISHED_FIFTH, I_MAJOR_SIXTH),
+      0,
+      fifth));
+    t.add(new Template(
+      HALF_DIMINISHED_SEVENTH,
+      pcs(I_ROOT, I_MINOR_THIRD, I_DIMINISHED_FIFTH, I_MINOR_SEVENTH),
+      0,
+      fifth));
+
+    triads(t, I_MAJOR_THIRD, MAJOR, MAJOR_SIXTH, MAJOR_SIX_NINE);
+    triads(t, I_MINOR_THIRD, MINOR, MINOR_SIXTH, MINOR_SIX_NINE);
+
+    sevenths(t, I_MAJOR_THIRD, I_MAJOR_SEVENTH, new JaChordQuality[]{
+      MAJOR_SEVENTH,
+      MAJOR_SEVENTH_FLAT_NINTH,
+      MAJOR_NINTH,
+      MAJOR_ELEVENTH,
+      MAJOR_ELEVENTH_FLAT_THIRTEENTH,
+      MAJOR_THIRTEENTH,
+      MAJOR_ELEVENTH_FLAT_NINTH,
+      MAJOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH,
+      MAJOR_THIRTEENTH_FLAT_NINTH,
+    });
+    sevenths(t, I_MAJOR_THIRD, I_MINOR_SEVENTH, new JaChordQuality[]{
+      DOMINANT_SEVENTH,
+      DOMINANT_SEVENTH_FLAT_NINTH,
+      DOMINANT_NINTH,
+      DOMINANT_ELEVENTH,
+      DOMINANT_ELEVENTH_FLAT_THIRTEENTH,
+      DOMINANT_THIRTEENTH,
+      DOMINANT_ELEVENTH_FLAT_NINTH,
+      DOMINANT_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH,
+      DOMINANT_THIRTEENTH_FLAT_NINTH,
+    });
+    sevenths(t, I_MINOR_THIRD, I_MINOR_SEVENTH, new JaChordQuality[]{
+      MINOR_SEVENTH,
+      MINOR_SEVENTH_FLAT_NINTH,
+      MINOR_NINTH,
+      MINOR_ELEVENTH,
+      MINOR_ELEVENTH_FLAT_THIRTEENTH,
+      MINOR_THIRTEENTH,
+      MINOR_ELEVENTH_FLAT_NINTH,
+      MINOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH,
+      MINOR_THIRTEENTH_FLAT_NINTH,
+    });
+    sevenths(t, I_MINOR_THIRD, I_MAJOR_SEVENTH, new JaChordQuality[]{
+      MINOR_MAJOR_SEVENTH,
+      MINOR_MAJOR_SEVENTH_FLAT_NINTH,
+      MINOR_MAJOR_NINTH,
+      MINOR_MAJOR_ELEVENTH,
+      MINOR_MAJOR_ELEVENTH_FLAT_THIRTEENTH,
+      MINOR_MAJOR_THIRTEENTH,
+      MINOR_MAJOR_ELEVENTH_FLAT_NINTH,
+      MINOR_MAJOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH,
+      MINOR_MAJOR_THIRTEENTH_FLAT_NINTH,
+    });
+    return t;
+  }
+
+  private static void triads(
+    final List<Template> t,
+    final int third,
+    final JaChordQuality triad,
+    final JaChordQuality sixth,
+    final JaChordQuality six_nine)
+  {
+    final int fifth = pcs(I_FIFTH);
+    final int base = pcs(I_ROOT, third);
+    final int other_third = pcs(I_MINOR_THIRD + I_MAJOR_THIRD - third);
+
+    t.add(new Template(triad, base, fifth, other_third));
+    t.add(new Template(
+      sixth, base | pcs(I_MAJOR_SIXTH), fifth, other_third));
+    t.add(new Template(
+      six_nine, base | pcs(I_MAJOR_SIXTH, I_MAJOR_SECOND), fifth, other_third));
+  }
+
+  private static void sevenths(
+    final List<Template> t,
+    final int third,
+    final int seventh,
+    final JaChordQuality[] family)
+  {
+    final int fifth = pcs(I_FIFTH);
+    final int b = pcs(I_ROOT, third, seventh);
+    final int b9 = pcs(I_MINOR_SECOND);
+    final int n9 = pcs(I_MAJOR_SECOND);
+    final int n11 = pcs(I_FOURTH);
+    final int b13 = pcs(I_AUGMENTED_FIFTH);
+    final int n13 = pcs(I_MAJOR_SIXTH);
+
+    /*
+     * The ninth and eleventh of the larger extended chords are frequently
+     * omitted in practice, and so are optional.
+     */
+
+    t.add(new Template(family[0], b, fifth, 0));
+    t.add(new Template(family[1], b | b9, fifth, 0));
+    t.add(new Template(family[2], b | n9, fifth, 0));
+    t.add(new Template(family[3], b | n11, fifth | n9, 0));
+    t.add(new Template(family[4], b | n11 | b13, fifth | n9, 0));
+    t.add(new Template(family[5], b | n13, fifth | n9 | n11, 0));
+    t.add(new Template(family[6], b | b9 | n11, fifth, 0));
+    t.add(new Template(family[7], b | b9 | n11 | b13, fifth, 0));
+    t.add(new Template(family[8], b | b9 | n13, fifth | n11, 0));
+  }
+
+  /**
+   * @return The number of rotated templates
+   */
+
+  public int templateCount()
+  {
+    return this.count;
+  }
+
+  /**
+   * Find the closest chords to the given pitch classes, writing up to
+   * {@code matches.capacity()} results into {@code matches} ordered from
+   * best to worst. This method does not allocate once {@code matches} has
+   * been used with this matcher.
+   *
+   * @param pitch_classes The pitch class mask
+   * @param bass          The pitch class of the bass note, or {@code -1} if
+   *                      the bass note is not known
+   * @param matches       The buffer receiving the results
+   *
+   * @return The number of results
+   */
+
+  public int match(
+    final int pitch_classes,
+    final int bass,
+    final JaChordMatches matches)
+  {
+    Objects.requireNonNull(matches, "Matches");
+    checkInput(pitch_classes, bass);
+
+    final int wm = this.configuration.missingWeight();
+    final int wx = this.configuration.extraWeight();
+    final int wc = this.configuration.contradictionWeight();
+    final int wr = this.configuration.rootWeight();
+    final int x = pitch_classes;
+    final int bass_bits = bass < 0 ? PITCH_CLASSES : 1 << bass;
+    final int[] keys = matches.scratch(this.count);
+
+    for (int index = 0; index < this.count; ++index) {
+      final int e = this.essential[index];
+      final int known = e | this.optional[index];
+      final int missing = Integer.bitCount(e & ~x);
+      final int extra = Integer.bitCount(x & ~known);
+      final int contra = Integer.bitCount(x & this.contradicts[index]);
+      final int off_root = 1 - Integer.bitCount(this.root_bits[index] & bass_bits);
+      final int d = wm * missing + wx * extra + wc * contra + wr * off_root;
+      keys[index] = (d << SPECIFICITY_BITS) | this.specificity[index];
+    }
+
+    matches.select(keys, this.count);
+
+    final int size = matches.size();
+    final int x_count = Integer.bitCount(x);
+    for (int index = 0; index < size; ++index) {
+      final int t = matches.selected(index);
+      final int d = keys[t] >>> SPECIFICITY_BITS;
+      final int worst =
+        wm * Integer.bitCount(this.essential[t])
+          + wx * x_count
+          + wc * Integer.bitCount(x & this.contradicts[t])
+          + wr;
+      final double confidence =
+        worst == 0 ? 1.0 : Math.max(0.0, 1.0 - ((double) d / (double) worst));
+      matches.set(index, this.roots[t], this.qualities[t], d, confidence);
+    }
+    return size;
+  }
+
+  /**
+   * Find the closest {@code k} chords to the given pitch classes.
+   *
+   * @param pitch_classes The pitch class mask
+   * @param bass          The pitch class of the bass note, or {@code -1} if
+   *                      the bass note is not known
+   * @param k             The maximum number of results
+   *
+   * @return The candidates, ordered from best to worst
+   *
+   * @see #match(int, int, JaChordMatches)
+   */
+
+  public List<JaChordCandidate> match(
+    final int pitch_classes,
+    final int bass,
+    final int k)
+  {
+    final JaChordMatches matches = JaChordMatches.create(k);
+    final int size = this.match(pitch_classes, bass, matches);
+    final ArrayList<JaChordCandidate> results = new ArrayList<>(size);
+    for (int index = 0; index < size; ++index) {
+      results.add(matches.candidate(index));
+    }
+    return List.copyOf(results);
+  }
+
+  private static void checkInput(
+    final int pitch_classes,
+    final int bass)
+  {
+    if ((pitch_classes & ~PITCH_CLASSES) != 0) {
+      throw new IllegalArgumentException(
+        new StringBuilder(64)
+          .append("Pitch class mask out of range: 0x")
+          .append(Integer.toUnsignedString(pitch_classes, 16))
+          .toString());
+    }
+    if (bass < -1 || bass >= PITCH_CLASS_COUNT) {
+      throw new IllegalArgumentException(
+        new StringBuilder(64)
+          .append("Bass pitch class must be in the range [-1, 11]: ")
+          .append(bass)
+          .toString());
+    }
+  }
+
+  private static final class Template
+  {
+    private final JaChordQuality quality;
+    private final int essential;
+    private final int optional;
+    private final int contradicts;
+
+    Template(
+      final JaChordQuality in_quality,
+      final int in_essential,
+      final int in_optional,
+      final int in_contradicts)
+    {
+      this.quality = in_quality;
+      this.essential = in_essential;
+      this.optional = in_optional;
+      this.contradicts = in_contradicts;
+    }
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jaccord.chord_names.api;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import static org.immutables.value.Value.Immutable;
+
+/**
+ * The weights used by a fuzzy chord matcher. The distance between a set of
+ * pitch classes and a chord template is the weighted sum of the number of
+ * essential template tones that are missing, the number of tones that are not
+ * part of the template, the number of tones that contradict the template
+ * (such as a third in a suspended chord), and whether the root of the
+ * template differs from the bass note. Every weight must be in the range
+ * {@code [0, JaChordMatcher.MAXIMUM_WEIGHT]}.
+ *
+ * @see JaChordMatcher
+ */
+
+@ImmutablesStyleType
+@Immutable
+public interface JaChordMatcherConfigurationType
+{
+  /**
+   * @return The cost of each essential chord tone that is missing
+   */
+
+  @Value.Default
+  default int missingWeight()
+  {
+    return 3;
+  }
+
+  /**
+   * @return The cost of each tone that is not part of the chord
+   */
+
+  @Value.Default
+  default int extraWeight()
+  {
+    return 2;
+  }
+
+  /**
+   * @return The additional cost of each tone that contradicts the chord
+   */
+
+  @Value.Default
+  default int contradictionWeight()
+  {
+    return 2;
+  }
+
+  /**
+   * @return The cost of the chord root differing from the bass note
+   */
+
+  @Value.Default
+  default int rootWeight()
+  {
+    return 1;
+  }
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    final int[] weights = {
+      this.missingWeight(),
+      this.extraWeight(),
+      this.contradictionWeight(),
+      this.rootWeight(),
+    };
+
+    for (final int weight : weights) {
+      if (weight < 0 || weight > JaChordMatcher.MAXIMUM_WEIGHT) {
+        throw new IllegalArgumentException(
+          new StringBuilder(64)
+            .append("Weights must be in the range [0, ")
+            .append(JaChordMatcher.MAXIMUM_WEIGHT)
+            .append("]: ")
+            .append(weight)
+            .toString());
+      }
+    }
+  }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jaccord.chord_names.api;
+
+import com.io7m.jaccord.core.JaNote;
+
+import java.util.Objects;
+
+/**
+ * <p>A reusable buffer of fuzzy match results, ordered from best to worst.
+ * A buffer holds at most {@link #capacity()} results, and matching into an
+ * existing buffer does not allocate.</p>
+ *
+ * <p>Instances are mutable and are not safe for use from multiple
+ * threads.</p>
+ *
+ * @see JaChordMatcher#match(int, int, JaChordMatches)
+ */
+
+public final class JaChordMatches
+{
+  private static final JaNote[] NOTES = JaNote.values();
+  private static final JaChordQuality[] QUALITIES = JaChordQuality.values();
+
+  private final int[] roots;
+  private final int[] qualities;
+  private final int[] distances;
+  private final double[] confidences;
+  private final int[] selected_keys;
+  private final int[] selected;
+  private int[] keys;
+  private int size;
+
+  private JaChordMatches(
+    final int in_capacity)
+  {
+    this.roots = new int[in_capacity];
+    this.qualities = new int[in_capacity];
+    this.distances = new int[in_capacity];
+    this.confidences = new double[in_capacity];
+    this.selected_keys = new int[in_capacity];
+    this.selected = new int[in_capacity];
+    this.keys = new int[0];
+  }
+
+  /**
+   * Create a buffer that can hold up to {@code capacity} results.
+   *
+   * @param capacity The maximum number of results
+   *
+   * @return A new buffer
+   */
+
+  public static JaChordMatches create(
+    final int capacity)
+  {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException(
+        new StringBuilder(64)
+          .append("Capacity must be positive: ")
+          .append(capacity)
+          .toString());
+    }
+    return new JaChordMatches(capacity);
+  }
+
+  /**
+   * @return The maximum number of results
+   */
+
+  public int capacity()
+  {
+    return this.roots.length;
+  }
+
+  /**
+   * @return The number of results
+   */
+
+  public int size()
+  {
+    return this.size;
+  }
+
+  /**
+   * @param index The result index
+   *
+   * @return The root of the chord at {@code index}
+   */
+
+  public JaNote root(
+    final int index)
+  {
+    return NOTES[this.roots[Objects.checkIndex(index, this.size)]];
+  }
+
+  /**
+   * @param index The result index
+   *
+   * @return The quality of the chord at {@code index}
+   */
+
+  public JaChordQuality quality(
+    final int index)
+  {
+    return QUALITIES[this.qualities[Objects.checkIndex(index, this.size)]];
+  }
+
+  /**
+   * @param index The result index
+   *
+   * @return The weighted distance of the chord at {@code index}
+   */
+
+  public int distance(
+    final int index)
+  {
+    return this.distances[Objects.checkIndex(index, this.size)];
+  }
+
+  /**
+   * @param index The result index
+   *
+   * @return The confidence of the chord at {@code index}
+   */
+
+  public double confidence(
+    final int index)
+  {
+    return this.confidences[Objects.checkIndex(index, this.size)];
+  }
+
+  /**
+   * @param index The result index
+   *
+   * @return The result at {@code index} as an immutable candidate
+   */
+
+  public JaChordCandidate candidate(
+    final int index)
+  {
+    return JaChordCandidate.of(
+      this.root(index),
+      this.quality(index),
+      this.distance(index),
+      this.confidence(index));
+  }
+
+  int[] scratch(
+    final int count)
+  {
+    if (this.keys.length < count) {
+      this.keys = new int[count];
+    }
+    return this.keys;
+  }
+
+  void select(
+    final int[] in_keys,
+    final int count)
+  {
+    final int capacity = this.selected.length;
+    int used = 0;
+
+    for (int index = 0; index < count; ++index) {
+      final int key = in_keys[index];
+      if (used == capacity && key >= this.selected_keys[used - 1]) {
+        continue;
+      }
+
+      int position = used == capacity ? used - 1 : used;
+      while (position > 0 && this.selected_keys[position - 1] > key) {
+        this.selected_keys[position] = this.selected_keys[position - 1];
+        this.selected[position] = this.selected[position - 1];
+        --position;
+      }
+      this.selected_keys[position] = key;
+      this.selected[position] = index;
+      if (used < capacity) {
+        ++used;
+      }
+    }
+
+    this.size = used;
+  }
+
+  int selected(
+    final int index)
+  {
+    return this.selected[index];
+  }
+
+  void set(
+    final int index,
+    final int root,
+    final int quality,
+    final int distance,
+    final double confidence)
+  {
+    this.roots[index] = root;
+    this.qualities[index] = quality;
+    this.distances[index] = distance;
+    this.confidences[index] = confidence;
+  }
+}
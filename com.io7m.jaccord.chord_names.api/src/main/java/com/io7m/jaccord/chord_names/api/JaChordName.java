@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jaccord.chord_names.api;
+
+import java.util.Objects;
+
+/**
+ * <p>A canonical chord name. Each name has an integer identifier derived
+ * from the classification that it renders, and within a naming style two
+ * names have the same identifier exactly when they have the same text.
+ * Names produced by the same style may therefore be compared by
+ * identifier; identifiers are stable across runs and processes, and can be
+ * stored in place of the text.</p>
+ *
+ * @see JaChordNameStyle#nameOf(JaChordClassification)
+ */
+
+public final class JaChordName
+{
+  private final int id;
+  private final String text;
+
+  JaChordName(
+    final int in_id,
+    final String in_text)
+  {
+    this.id = in_id;
+    this.text = Objects.requireNonNull(in_text, "Text");
+  }
+
+  /**
+   * @return The identifier of the name, unique within the naming style
+   * that produced it
+   *
+   * @see JaChordNameStyle#nameById(int)
+   */
+
+  public int id()
+  {
+    return this.id;
+  }
+
+  /**
+   * @return The text of the name
+   */
+
+  public String text()
+  {
+    return this.text;
+  }
+
+  @Override
+  public boolean equals(final Object o)
+  {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || this.getClass() != o.getClass()) {
+      return false;
+    }
+    final JaChordName other = (JaChordName) o;
+    return this.id == other.id && this.text.equals(other.text);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return this.id;
+  }
+
+  @Override
+  public String toString()
+  {
+    return this.text;
+  }
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.chord_names.api;
+
+import com.io7m.jaccord.core.JaNote;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A naming style. A style is a set of precomputed tables: one holding the
+ * name of each chord quality, one holding the name of each added interval,
+ * and one holding the spelling of each root note. Rendering a classification in a style is a pair of table lookups
+ * and never re-runs classification rules.
+ *
+ * The identifier of a name is derived from the classification that it
+ * renders: the ordinal of the quality is packed above the mask of added
+ * intervals. Qualities that share a name are identified by the lowest such
+ * ordinal, and added intervals that have no name are dropped from the mask,
+ * so two classifications that render to the same text yield the same
+ * identifier. Identifiers therefore depend only on the definition of the
+ * style, and are stable across runs and processes. Names of chords without
+ * added tones are created along with the style; other names are held in a
+ * small fixed-size cache. Styles are safe for use from multiple threads.
+ *
+ * @see JaChordNameStyles
+ */
+
+public final class JaChordNameStyle
+{
+  private static final int INTERVAL_COUNT = 25;
+  private static final int INTERVAL_MASK = (1 << INTERVAL_COUNT) - 1;
+  private static final int CACHE_BITS = 10;
+
+  private final String name;
+  private final String[] roots;
+  private final String[] qualities;
+  private final String[] additions;
+  private final int[] quality_ids;
+  private final int named;
+  private final JaChordName[] base_names;
+  private final JaChordName[] cache;
+
+  private JaChordNameStyle(
+    final String in_name,
+    final String[] in_roots,
+    final String[] in_qualities,
+    final String[] in_additions)
+  {
+    this.name = Objects.requireNonNull(in_name, "Name");
+    this.roots = Objects.requireNonNull(in_roots, "Roots");
+    this.qualities = Objects.requireNonNull(in_qualities, "Qualities");
+    this.additions = Objects.requireNonNull(in_additions, "Additions");
+    this.quality_ids = canonicalQualities(in_qualities);
+    this.named = namedAdditions(in_additions);
+    this.cache = new JaChordName[1 << CACHE_BITS];
+
+    this.base_names = new JaChordName[in_qualities.length];
+    for (int index = 0; index < in_qualities.length; ++index) {
+      final int quality = this.quality_ids[index];
+      this.base_names[index] = quality == index
+        ? new JaChordName(quality << INTERVAL_COUNT, in_qualities[index])
+        : this.base_names[quality];
+    }
+  }
+
+  private static int[] canonicalQualities(
+    final String[] names)
+  {
+    final int[] ids = new int[names.length];
+    for (int index = 0; index < names.length; ++index) {
+      ids[index] = index;
+      for (int other = 0; other < index; ++other) {
+        if (names[other].equals(names[index])) {
+          ids[index] = other;
+          break;
+        }
+      }
+    }
+    return ids;
+  }
+
+  private static int namedAdditions(
+    final String[] names)
+  {
+    int mask = 0;
+    for (int index = 0; index < names.length; ++index) {
+      if (!names[index].isEmpty()) {
+        mask |= 1 << index;
+      }
+    }
+    return mask;
+  }
+
+  /**
+   * Create a naming style. Root notes are spelled as per
+   * {@link JaNote#noteName()}.
+   *
+   * @param name      The name of the style
+   * @param qualities The names of chord qualities
+   * @param additions The names of added intervals in the range {@code [0, 24]}
+   *
+   * @return A naming style
+   *
+   * @throws IllegalArgumentException If any quality is missing a name, or any
+   *                                  interval is out of range
+   * @see #of(String, Map, Map, Map)
+   */
+
+  public static JaChordNameStyle of(
+    final String name,
+    final Map<JaChordQuality, String> qualities,
+    final Map<Integer, String> additions)
+  {
+    final EnumMap<JaNote, String> roots = new EnumMap<>(JaNote.class);
+    for (final JaNote note : JaNote.values()) {
+      roots.put(note, note.noteName());
+    }
+    return of(name, roots, qualities, additions);
+  }
+
+  /**
+   * Create a naming style. Every root note and every chord quality must have
+   * a name. Added intervals that do not have a name are rendered as nothing.
+   *
+   * @param name      The name of the style
+   * @param roots     The spellings of root notes
+   * @param qualities The names of chord qualities
+   * @param additions The names of added intervals in the range {@code [0, 24]}
+   *
+   * @return A naming style
+   *
+   * @throws IllegalArgumentException If any root or quality is missing a
+   *                                  name, or any interval is out of range
+   */
+
+  public static JaChordNameStyle of(
+    final String name,
+    final Map<JaNote, String> roots,
+    final Map<JaChordQuality, String> qualities,
+    final Map<Integer, String> additions)
+  {
+    Objects.requireNonNull(name, "Name");
+    Objects.requireNonNull(roots, "Roots");
+    Objects.requireNonNull(qualities, "Qualities");
+    Objects.requireNonNull(additions, "Additions");
+
+    final JaNote[] notes = JaNote.values();
+    final String[] root_names = new String[notes.length];
+    for (final JaNote note : notes) {
+      final String root_name = roots.get(note);
+      if (root_name == null) {
+        throw new IllegalArgumentException(
+          new StringBuilder(64)
+            .append("Style ")
+            .append(name)
+            .append(" has no spelling for root ")
+            .append(note)
+            .toString());
+      }
+      root_names[note.ordinal()] = root_name;
+    }
+
+    final JaChordQuality[] values = JaChordQuality.values();
+    final String[] quality_names = new String[values.length];
+    for (final JaChordQuality quality : values) {
+      final String quality_name = qualities.get(quality);
+      if (quality_name == null) {
+        throw new IllegalArgumentException(
+          new StringBuilder(64)
+            .append("Style ")
+            .append(name)
+            .append(" has no name for quality ")
+            .append(quality)
+            .toString());
+      }
+      quality_names[quality.ordinal()] = quality_name;
+    }
+
+    final String[] addition_names = new String[INTERVAL_COUNT];
+    for (int index = 0; index < INTERVAL_COUNT; ++index) {
+      addition_names[index] = "";
+    }
+
+    for (final Map.Entry<Integer, String> e : additions.entrySet()) {
+      final int interval = e.getKey().intValue();
+      if (interval < 0 || interval >= INTERVAL_COUNT) {
+        throw new IllegalArgumentException(
+          new StringBuilder(64)
+            .append("Style ")
+            .append(name)
+            .append(" names an out-of-range interval ")
+            .append(interval)
+            .toString());
+      }
+      addition_names[interval] =
+        Objects.requireNonNull(e.getValue(), "Addition name");
+    }
+
+    return new JaChordNameStyle(
+      name, root_names, quality_names, addition_names);
+  }
+
+  /**
+   * @return The name of the style
+   */
+
+  public String name()
+  {
+    return this.name;
+  }
+
+  /**
+   * @param root The root note
+   *
+   * @return The spelling of the given root note in this style
+   */
+
+  public String rootName(
+    final JaNote root)
+  {
+    return this.roots[root.ordinal()];
+  }
+
+  /**
+   * @param quality The chord quality
+   *
+   * @return The name of the given quality in this style
+   */
+
+  public String qualityName(
+    final JaChordQuality quality)
+  {
+    return this.qualities[quality.ordinal()];
+  }
+
+  /**
+   * @param interval The added interval in the range {@code [0, 24]}
+   *
+   * @return The name of the given added interval in this style
+   */
+
+  public String additionName(
+    final int interval)
+  {
+    return this.additions[interval];
+  }
+
+  /**
+   * Render a classified chord in this style.
+   *
+   * @param classification The chord classification
+   *
+   * @return The canonical name of the chord
+   */
+
+  public JaChordName nameOf(
+    final JaChordClassification classification)
+  {
+    Objects.requireNonNull(classification, "Classification");
+
+    return this.nameOfCanonical(
+      this.quality_ids[classification.quality().ordinal()],
+      classification.additions() & this.named);
+  }
+
+  private JaChordName nameOfCanonical(
+    final int quality,
+    final int added)
+  {
+    if (added == 0) {
+      return this.base_names[quality];
+    }
+
+    final int id = (quality << INTERVAL_COUNT) | added;
+    final int slot = (id * 0x9e3779b9) >>> (Integer.SIZE - CACHE_BITS);
+    final JaChordName cached = this.cache[slot];
+    if (cached != null && cached.id() == id) {
+      return cached;
+    }
+
+    final StringBuilder buffer = new StringBuilder(32);
+    buffer.append(this.qualities[quality]);
+    int remaining = added;
+    while (remaining != 0) {
+      buffer.append(this.additions[Integer.numberOfTrailingZeros(remaining)]);
+      remaining &= remaining - 1;
+    }
+
+    /*
+     * Names are immutable, and so a racing thread that observes the slot
+     * sees either a complete name or a stale one; both are checked by
+     * identifier above.
+     */
+
+    final JaChordName created = new JaChordName(id, buffer.toString());
+    this.cache[slot] = created;
+    return created;
+  }
+
+  /**
+   * Render a classified chord in this style.
+   *
+   * @param classification The chord classification
+   *
+   * @return The canonical text of the name of the chord
+   *
+   * @see #nameOf(JaChordClassification)
+   */
+
+  public String render(
+    final JaChordClassification classification)
+  {
+    return this.nameOf(classification).text();
+  }
+
+  /**
+   * Find the name with the given identifier.
+   *
+   * @param id The identifier
+   *
+   * @return The name, if the identifier denotes a name in this style
+   *
+   * @see JaChordName#id()
+   */
+
+  public Optional<JaChordName> nameById(
+    final int id)
+  {
+    final int quality = id >>> INTERVAL_COUNT;
+    final int added = id & INTERVAL_MASK;
+    if (quality >= this.qualities.length
+      || this.quality_ids[quality] != quality
+      || (added & ~this.named) != 0) {
+      return Optional.empty();
+    }
+    return Optional.of(this.nameOfCanonical(quality, added));
+  }
+
+  @Override
+  public String toString()
+  {
+    return this.name;
+  }
+}
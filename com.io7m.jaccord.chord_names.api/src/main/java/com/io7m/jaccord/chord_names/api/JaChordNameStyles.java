@@ -0,0 +1,412 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.chord_names.api;
+
+import com.io7m.jaccord.core.JaNote;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The standard naming styles.
+ */
+
+public final class JaChordNameStyles
+{
+  /**
+   * Jazz-style names using Unicode accidentals, such as {@code M7},
+   * {@code m7♭5}, and {@code add♯11}.
+   */
+
+  public static final JaChordNameStyle UNICODE =
+    JaChordNameStyle.of("unicode", unicodeQualities(), unicodeAdditions());
+
+  /**
+   * Jazz-style names using only ASCII characters, such as {@code maj7},
+   * {@code m7b5}, and {@code add#11}. Sharpened roots are spelled with
+   * {@code #}.
+   */
+
+  public static final JaChordNameStyle ASCII =
+    JaChordNameStyle.of(
+      "ascii", asciiRoots(), asciiQualities(), asciiAdditions());
+
+  /**
+   * Classical figured-bass names giving the figures of each chord tone above
+   * the root, such as {@code 7/5/3} and {@code ♭7/♭5/♭3}. Accidentals are
+   * relative to the major scale of the root, and added tones are given in
+   * parentheses.
+   */
+
+  public static final JaChordNameStyle FIGURED_BASS =
+    JaChordNameStyle.of(
+      "figured-bass",
+      figuredBassQualities(),
+      figuredBassAdditions());
+
+  /**
+   * Suffixes intended to follow a Roman numeral, such as {@code °7},
+   * {@code ø7}, and {@code M7}. The case of the numeral itself is left to
+   * the caller; see {@link JaChordQuality#hasMinorThird()}.
+   */
+
+  public static final JaChordNameStyle ROMAN_NUMERAL =
+    JaChordNameStyle.of(
+      "roman-numeral",
+      romanNumeralQualities(),
+      unicodeAdditions());
+
+  private JaChordNameStyles()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static Map<JaChordQuality, String> unicodeQualities()
+  {
+    final EnumMap<JaChordQuality, String> m =
+      new EnumMap<>(JaChordQuality.class);
+    m.put(JaChordQuality.SUSPENDED_4, "sus4");
+    m.put(JaChordQuality.SUSPENDED_2, "sus2");
+    m.put(JaChordQuality.NO_THIRD, "no3");
+    m.put(JaChordQuality.NO_THIRD_NO_FIFTH, "no3no5");
+    m.put(JaChordQuality.AUGMENTED, "aug");
+    m.put(JaChordQuality.DIMINISHED, "dim");
+    m.put(JaChordQuality.DIMINISHED_SEVENTH, "dim7");
+    m.put(JaChordQuality.HALF_DIMINISHED_SEVENTH, "m7♭5");
+    m.put(JaChordQuality.MAJOR, "M");
+    m.put(JaChordQuality.MAJOR_SIXTH, "6");
+    m.put(JaChordQuality.MAJOR_SIX_NINE, "6/9");
+    m.put(JaChordQuality.MAJOR_SEVENTH, "M7");
+    m.put(JaChordQuality.MAJOR_SEVENTH_FLAT_NINTH, "M7♭9");
+    m.put(JaChordQuality.MAJOR_NINTH, "M9");
+    m.put(JaChordQuality.MAJOR_ELEVENTH, "M11");
+    m.put(JaChordQuality.MAJOR_ELEVENTH_FLAT_THIRTEENTH, "M11♭13");
+    m.put(JaChordQuality.MAJOR_THIRTEENTH, "M13");
+    m.put(JaChordQuality.MAJOR_ELEVENTH_FLAT_NINTH, "M11♭9");
+    m.put(JaChordQuality.MAJOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH, "M11♭9♭13");
+    m.put(JaChordQuality.MAJOR_THIRTEENTH_FLAT_NINTH, "M13♭9");
+    m.put(JaChordQuality.DOMINANT_SEVENTH, "7");
+    m.put(JaChordQuality.DOMINANT_SEVENTH_FLAT_NINTH, "7♭9");
+    m.put(JaChordQuality.DOMINANT_NINTH, "9");
+    m.put(JaChordQuality.DOMINANT_ELEVENTH, "11");
+    m.put(JaChordQuality.DOMINANT_ELEVENTH_FLAT_THIRTEENTH, "11♭13");
+    m.put(JaChordQuality.DOMINANT_THIRTEENTH, "13");
+    m.put(JaChordQuality.DOMINANT_ELEVENTH_FLAT_NINTH, "11♭9");
+    m.put(JaChordQuality.DOMINANT_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH, "11♭9♭13");
+    m.put(JaChordQuality.DOMINANT_THIRTEENTH_FLAT_NINTH, "13♭9");
+    unicodeMinorQualities(m);
+    return m;
+  }
+
+  private static void unicodeMinorQualities(
+    final Map<JaChordQuality, String> m)
+  {
+    m.put(JaChordQuality.MINOR, "m");
+    m.put(JaChordQuality.MINOR_SIXTH, "mM6");
+    m.put(JaChordQuality.MINOR_SIX_NINE, "mM6/9");
+    m.put(JaChordQuality.MINOR_SEVENTH, "m7");
+    m.put(JaChordQuality.MINOR_SEVENTH_FLAT_NINTH, "m7♭9");
+    m.put(JaChordQuality.MINOR_NINTH, "m9");
+    m.put(JaChordQuality.MINOR_ELEVENTH, "m11");
+    m.put(JaChordQuality.MINOR_ELEVENTH_FLAT_THIRTEENTH, "m11♭13");
+    m.put(JaChordQuality.MINOR_THIRTEENTH, "m13");
+    m.put(JaChordQuality.MINOR_ELEVENTH_FLAT_NINTH, "m11♭9");
+    m.put(JaChordQuality.MINOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH, "m11♭9♭13");
+    m.put(JaChordQuality.MINOR_THIRTEENTH_FLAT_NINTH, "m13♭9");
+    m.put(JaChordQuality.MINOR_MAJOR_SEVENTH, "mM7");
+    m.put(JaChordQuality.MINOR_MAJOR_SEVENTH_FLAT_NINTH, "mM7♭9");
+    m.put(JaChordQuality.MINOR_MAJOR_NINTH, "m9M7");
+    m.put(JaChordQuality.MINOR_MAJOR_ELEVENTH, "m11M7");
+    m.put(JaChordQuality.MINOR_MAJOR_ELEVENTH_FLAT_THIRTEENTH, "m11M7♭13");
+    m.put(JaChordQuality.MINOR_MAJOR_THIRTEENTH, "m13M7");
+    m.put(JaChordQuality.MINOR_MAJOR_ELEVENTH_FLAT_NINTH, "m11M7♭9");
+    m.put(JaChordQuality.MINOR_MAJOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH, "m11M7♭9♭13");
+    m.put(JaChordQuality.MINOR_MAJOR_THIRTEENTH_FLAT_NINTH, "m13M7♭9");
+  }
+
+  private static Map<Integer, String> unicodeAdditions()
+  {
+    final HashMap<Integer, String> m = new HashMap<>(24);
+    m.put(Integer.valueOf(1), "add♭2");
+    m.put(Integer.valueOf(2), "add2");
+    m.put(Integer.valueOf(5), "add4");
+    m.put(Integer.valueOf(6), "add♯4");
+    m.put(Integer.valueOf(8), "add♭6");
+    m.put(Integer.valueOf(9), "add6");
+    m.put(Integer.valueOf(10), "add♭7");
+    m.put(Integer.valueOf(11), "add7");
+    m.put(Integer.valueOf(13), "add♭9");
+    m.put(Integer.valueOf(14), "add9");
+    m.put(Integer.valueOf(15), "add♯9");
+    m.put(Integer.valueOf(16), "add♭11");
+    m.put(Integer.valueOf(17), "add11");
+    m.put(Integer.valueOf(18), "add♯11");
+    m.put(Integer.valueOf(20), "add♭13");
+    m.put(Integer.valueOf(21), "add13");
+    m.put(Integer.valueOf(22), "add♭14");
+    m.put(Integer.valueOf(23), "add14");
+    return m;
+  }
+
+  private static Map<JaNote, String> asciiRoots()
+  {
+    final EnumMap<JaNote, String> m = new EnumMap<>(JaNote.class);
+    for (final JaNote note : JaNote.values()) {
+      m.put(note, note.noteName().replace('♯', '#'));
+    }
+    return m;
+  }
+
+  private static Map<JaChordQuality, String> asciiQualities()
+  {
+    final EnumMap<JaChordQuality, String> m =
+      new EnumMap<>(JaChordQuality.class);
+    m.put(JaChordQuality.SUSPENDED_4, "sus4");
+    m.put(JaChordQuality.SUSPENDED_2, "sus2");
+    m.put(JaChordQuality.NO_THIRD, "no3");
+    m.put(JaChordQuality.NO_THIRD_NO_FIFTH, "no3no5");
+    m.put(JaChordQuality.AUGMENTED, "aug");
+    m.put(JaChordQuality.DIMINISHED, "dim");
+    m.put(JaChordQuality.DIMINISHED_SEVENTH, "dim7");
+    m.put(JaChordQuality.HALF_DIMINISHED_SEVENTH, "m7b5");
+    m.put(JaChordQuality.MAJOR, "maj");
+    m.put(JaChordQuality.MAJOR_SIXTH, "6");
+    m.put(JaChordQuality.MAJOR_SIX_NINE, "6/9");
+    m.put(JaChordQuality.MAJOR_SEVENTH, "maj7");
+    m.put(JaChordQuality.MAJOR_SEVENTH_FLAT_NINTH, "maj7b9");
+    m.put(JaChordQuality.MAJOR_NINTH, "maj9");
+    m.put(JaChordQuality.MAJOR_ELEVENTH, "maj11");
+    m.put(JaChordQuality.MAJOR_ELEVENTH_FLAT_THIRTEENTH, "maj11b13");
+    m.put(JaChordQuality.MAJOR_THIRTEENTH, "maj13");
+    m.put(JaChordQuality.MAJOR_ELEVENTH_FLAT_NINTH, "maj11b9");
+    m.put(JaChordQuality.MAJOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH, "maj11b9b13");
+    m.put(JaChordQuality.MAJOR_THIRTEENTH_FLAT_NINTH, "maj13b9");
+    m.put(JaChordQuality.DOMINANT_SEVENTH, "7");
+    m.put(JaChordQuality.DOMINANT_SEVENTH_FLAT_NINTH, "7b9");
+    m.put(JaChordQuality.DOMINANT_NINTH, "9");
+    m.put(JaChordQuality.DOMINANT_ELEVENTH, "11");
+    m.put(JaChordQuality.DOMINANT_ELEVENTH_FLAT_THIRTEENTH, "11b13");
+    m.put(JaChordQuality.DOMINANT_THIRTEENTH, "13");
+    m.put(JaChordQuality.DOMINANT_ELEVENTH_FLAT_NINTH, "11b9");
+    m.put(JaChordQuality.DOMINANT_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH, "11b9b13");
+    m.put(JaChordQuality.DOMINANT_THIRTEENTH_FLAT_NINTH, "13b9");
+    asciiMinorQualities(m);
+    return m;
+  }
+
+  private static void asciiMinorQualities(
+    final Map<JaChordQuality, String> m)
+  {
+    m.put(JaChordQuality.MINOR, "m");
+    m.put(JaChordQuality.MINOR_SIXTH, "m6");
+    m.put(JaChordQuality.MINOR_SIX_NINE, "m6/9");
+    m.put(JaChordQuality.MINOR_SEVENTH, "m7");
+    m.put(JaChordQuality.MINOR_SEVENTH_FLAT_NINTH, "m7b9");
+    m.put(JaChordQuality.MINOR_NINTH, "m9");
+    m.put(JaChordQuality.MINOR_ELEVENTH, "m11");
+    m.put(JaChordQuality.MINOR_ELEVENTH_FLAT_THIRTEENTH, "m11b13");
+    m.put(JaChordQuality.MINOR_THIRTEENTH, "m13");
+    m.put(JaChordQuality.MINOR_ELEVENTH_FLAT_NINTH, "m11b9");
+    m.put(JaChordQuality.MINOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH, "m11b9b13");
+    m.put(JaChordQuality.MINOR_THIRTEENTH_FLAT_NINTH, "m13b9");
+    m.put(JaChordQuality.MINOR_MAJOR_SEVENTH, "mmaj7");
+    m.put(JaChordQuality.MINOR_MAJOR_SEVENTH_FLAT_NINTH, "mmaj7b9");
+    m.put(JaChordQuality.MINOR_MAJOR_NINTH, "mmaj9");
+    m.put(JaChordQuality.MINOR_MAJOR_ELEVENTH, "mmaj11");
+    m.put(JaChordQuality.MINOR_MAJOR_ELEVENTH_FLAT_THIRTEENTH, "mmaj11b13");
+    m.put(JaChordQuality.MINOR_MAJOR_THIRTEENTH, "mmaj13");
+    m.put(JaChordQuality.MINOR_MAJOR_ELEVENTH_FLAT_NINTH, "mmaj11b9");
+    m.put(JaChordQuality.MINOR_MAJOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH, "mmaj11b9b13");
+    m.put(JaChordQuality.MINOR_MAJOR_THIRTEENTH_FLAT_NINTH, "mmaj13b9");
+  }
+
+  private static Map<Integer, String> asciiAdditions()
+  {
+    final HashMap<Integer, String> m = new HashMap<>(24);
+    m.put(Integer.valueOf(1), "addb2");
+    m.put(Integer.valueOf(2), "add2");
+    m.put(Integer.valueOf(5), "add4");
+    m.put(Integer.valueOf(6), "add#4");
+    m.put(Integer.valueOf(8), "addb6");
+    m.put(Integer.valueOf(9), "add6");
+    m.put(Integer.valueOf(10), "addb7");
+    m.put(Integer.valueOf(11), "add7");
+    m.put(Integer.valueOf(13), "addb9");
+    m.put(Integer.valueOf(14), "add9");
+    m.put(Integer.valueOf(15), "add#9");
+    m.put(Integer.valueOf(16), "addb11");
+    m.put(Integer.valueOf(17), "add11");
+    m.put(Integer.valueOf(18), "add#11");
+    m.put(Integer.valueOf(20), "addb13");
+    m.put(Integer.valueOf(21), "add13");
+    m.put(Integer.valueOf(22), "addb14");
+    m.put(Integer.valueOf(23), "add14");
+    return m;
+  }
+
+  private static Map<JaChordQuality, String> figuredBassQualities()
+  {
+    final EnumMap<JaChordQuality, String> m =
+      new EnumMap<>(JaChordQuality.class);
+    m.put(JaChordQuality.SUSPENDED_4, "5/4");
+    m.put(JaChordQuality.SUSPENDED_2, "5/2");
+    m.put(JaChordQuality.NO_THIRD, "5");
+    m.put(JaChordQuality.NO_THIRD_NO_FIFTH, "");
+    m.put(JaChordQuality.AUGMENTED, "♯5/3");
+    m.put(JaChordQuality.DIMINISHED, "♭5/♭3");
+    m.put(JaChordQuality.DIMINISHED_SEVENTH, "♭♭7/♭5/♭3");
+    m.put(JaChordQuality.HALF_DIMINISHED_SEVENTH, "♭7/♭5/♭3");
+    m.put(JaChordQuality.MAJOR, "5/3");
+    m.put(JaChordQuality.MAJOR_SIXTH, "6/5/3");
+    m.put(JaChordQuality.MAJOR_SIX_NINE, "9/6/5/3");
+    m.put(JaChordQuality.MAJOR_SEVENTH, "7/5/3");
+    m.put(JaChordQuality.MAJOR_SEVENTH_FLAT_NINTH, "♭9/7/5/3");
+    m.put(JaChordQuality.MAJOR_NINTH, "9/7/5/3");
+    m.put(JaChordQuality.MAJOR_ELEVENTH, "11/9/7/5/3");
+    m.put(JaChordQuality.MAJOR_ELEVENTH_FLAT_THIRTEENTH, "♭13/11/9/7/5/3");
+    m.put(JaChordQuality.MAJOR_THIRTEENTH, "13/11/9/7/5/3");
+    m.put(JaChordQuality.MAJOR_ELEVENTH_FLAT_NINTH, "11/♭9/7/5/3");
+    m.put(JaChordQuality.MAJOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH, "♭13/11/♭9/7/5/3");
+    m.put(JaChordQuality.MAJOR_THIRTEENTH_FLAT_NINTH, "13/11/♭9/7/5/3");
+    m.put(JaChordQuality.DOMINANT_SEVENTH, "♭7/5/3");
+    m.put(JaChordQuality.DOMINANT_SEVENTH_FLAT_NINTH, "♭9/♭7/5/3");
+    m.put(JaChordQuality.DOMINANT_NINTH, "9/♭7/5/3");
+    m.put(JaChordQuality.DOMINANT_ELEVENTH, "11/9/♭7/5/3");
+    m.put(JaChordQuality.DOMINANT_ELEVENTH_FLAT_THIRTEENTH, "♭13/11/9/♭7/5/3");
+    m.put(JaChordQuality.DOMINANT_THIRTEENTH, "13/11/9/♭7/5/3");
+    m.put(JaChordQuality.DOMINANT_ELEVENTH_FLAT_NINTH, "11/♭9/♭7/5/3");
+    m.put(JaChordQuality.DOMINANT_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH, "♭13/11/♭9/♭7/5/3");
+    m.put(JaChordQuality.DOMINANT_THIRTEENTH_FLAT_NINTH, "13/11/♭9/♭7/5/3");
+    figuredBassMinorQualities(m);
+    return m;
+  }
+
+  private static void figuredBassMinorQualities(
+    final Map<JaChordQuality, String> m)
+  {
+    m.put(JaChordQuality.MINOR, "5/♭3");
+    m.put(JaChordQuality.MINOR_SIXTH, "6/5/♭3");
+    m.put(JaChordQuality.MINOR_SIX_NINE, "9/6/5/♭3");
+    m.put(JaChordQuality.MINOR_SEVENTH, "♭7/5/♭3");
+    m.put(JaChordQuality.MINOR_SEVENTH_FLAT_NINTH, "♭9/♭7/5/♭3");
+    m.put(JaChordQuality.MINOR_NINTH, "9/♭7/5/♭3");
+    m.put(JaChordQuality.MINOR_ELEVENTH, "11/9/♭7/5/♭3");
+    m.put(JaChordQuality.MINOR_ELEVENTH_FLAT_THIRTEENTH, "♭13/11/9/♭7/5/♭3");
+    m.put(JaChordQuality.MINOR_THIRTEENTH, "13/11/9/♭7/5/♭3");
+    m.put(JaChordQuality.MINOR_ELEVENTH_FLAT_NINTH, "11/♭9/♭7/5/♭3");
+    m.put(JaChordQuality.MINOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH, "♭13/11/♭9/♭7/5/♭3");
+    m.put(JaChordQuality.MINOR_THIRTEENTH_FLAT_NINTH, "13/11/♭9/♭7/5/♭3");
+    m.put(JaChordQuality.MINOR_MAJOR_SEVENTH, "7/5/♭3");
+    m.put(JaChordQuality.MINOR_MAJOR_SEVENTH_FLAT_NINTH, "♭9/7/5/♭3");
+    m.put(JaChordQuality.MINOR_MAJOR_NINTH, "9/7/5/♭3");
+    m.put(JaChordQuality.MINOR_MAJOR_ELEVENTH, "11/9/7/5/♭3");
+    m.put(JaChordQuality.MINOR_MAJOR_ELEVENTH_FLAT_THIRTEENTH, "♭13/11/9/7/5/♭3");
+    m.put(JaChordQuality.MINOR_MAJOR_THIRTEENTH, "13/11/9/7/5/♭3");
+    m.put(JaChordQuality.MINOR_MAJOR_ELEVENTH_FLAT_NINTH, "11/♭9/7/5/♭3");
+    m.put(JaChordQuality.MINOR_MAJOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH, "♭13/11/♭9/7/5/♭3");
+    m.put(JaChordQuality.MINOR_MAJOR_THIRTEENTH_FLAT_NINTH, "13/11/♭9/7/5/♭3");
+  }
+
+  private static Map<Integer, String> figuredBassAdditions()
+  {
+    final HashMap<Integer, String> m = new HashMap<>(24);
+    m.put(Integer.valueOf(1), "(♭2)");
+    m.put(Integer.valueOf(2), "(2)");
+    m.put(Integer.valueOf(5), "(4)");
+    m.put(Integer.valueOf(6), "(♯4)");
+    m.put(Integer.valueOf(8), "(♭6)");
+    m.put(Integer.valueOf(9), "(6)");
+    m.put(Integer.valueOf(10), "(♭7)");
+    m.put(Integer.valueOf(11), "(7)");
+    m.put(Integer.valueOf(13), "(♭9)");
+    m.put(Integer.valueOf(14), "(9)");
+    m.put(Integer.valueOf(15), "(♯9)");
+    m.put(Integer.valueOf(16), "(♭11)");
+    m.put(Integer.valueOf(17), "(11)");
+    m.put(Integer.valueOf(18), "(♯11)");
+    m.put(Integer.valueOf(20), "(♭13)");
+    m.put(Integer.valueOf(21), "(13)");
+    m.put(Integer.valueOf(22), "(♭14)");
+    m.put(Integer.valueOf(23), "(14)");
+    return m;
+  }
+
+  private static Map<JaChordQuality, String> romanNumeralQualities()
+  {
+    final EnumMap<JaChordQuality, String> m =
+      new EnumMap<>(JaChordQuality.class);
+    m.put(JaChordQuality.SUSPENDED_4, "sus4");
+    m.put(JaChordQuality.SUSPENDED_2, "sus2");
+    m.put(JaChordQuality.NO_THIRD, "(no3)");
+    m.put(JaChordQuality.NO_THIRD_NO_FIFTH, "(no3no5)");
+    m.put(JaChordQuality.AUGMENTED, "+");
+    m.put(JaChordQuality.DIMINISHED, "°");
+    m.put(JaChordQuality.DIMINISHED_SEVENTH, "°7");
+    m.put(JaChordQuality.HALF_DIMINISHED_SEVENTH, "ø7");
+    m.put(JaChordQuality.MAJOR, "");
+    m.put(JaChordQuality.MAJOR_SIXTH, "add6");
+    m.put(JaChordQuality.MAJOR_SIX_NINE, "add6/9");
+    m.put(JaChordQuality.MAJOR_SEVENTH, "M7");
+    m.put(JaChordQuality.MAJOR_SEVENTH_FLAT_NINTH, "M7♭9");
+    m.put(JaChordQuality.MAJOR_NINTH, "M9");
+    m.put(JaChordQuality.MAJOR_ELEVENTH, "M11");
+    m.put(JaChordQuality.MAJOR_ELEVENTH_FLAT_THIRTEENTH, "M11♭13");
+    m.put(JaChordQuality.MAJOR_THIRTEENTH, "M13");
+    m.put(JaChordQuality.MAJOR_ELEVENTH_FLAT_NINTH, "M11♭9");
+    m.put(JaChordQuality.MAJOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH, "M11♭9♭13");
+    m.put(JaChordQuality.MAJOR_THIRTEENTH_FLAT_NINTH, "M13♭9");
+    m.put(JaChordQuality.DOMINANT_SEVENTH, "7");
+    m.put(JaChordQuality.DOMINANT_SEVENTH_FLAT_NINTH, "7♭9");
+    m.put(JaChordQuality.DOMINANT_NINTH, "9");
+    m.put(JaChordQuality.DOMINANT_ELEVENTH, "11");
+    m.put(JaChordQuality.DOMINANT_ELEVENTH_FLAT_THIRTEENTH, "11♭13");
+    m.put(JaChordQuality.DOMINANT_THIRTEENTH, "13");
+    m.put(JaChordQuality.DOMINANT_ELEVENTH_FLAT_NINTH, "11♭9");
+    m.put(JaChordQuality.DOMINANT_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH, "11♭9♭13");
+    m.put(JaChordQuality.DOMINANT_THIRTEENTH_FLAT_NINTH, "13♭9");
+    romanNumeralMinorQualities(m);
+    return m;
+  }
+
+  private static void romanNumeralMinorQualities(
+    final Map<JaChordQuality, String> m)
+  {
+    m.put(JaChordQuality.MINOR, "");
+    m.put(JaChordQuality.MINOR_SIXTH, "add6");
+    m.put(JaChordQuality.MINOR_SIX_NINE, "add6/9");
+    m.put(JaChordQuality.MINOR_SEVENTH, "7");
+    m.put(JaChordQuality.MINOR_SEVENTH_FLAT_NINTH, "7♭9");
+    m.put(JaChordQuality.MINOR_NINTH, "9");
+    m.put(JaChordQuality.MINOR_ELEVENTH, "11");
+    m.put(JaChordQuality.MINOR_ELEVENTH_FLAT_THIRTEENTH, "11♭13");
+    m.put(JaChordQuality.MINOR_THIRTEENTH, "13");
+    m.put(JaChordQuality.MINOR_ELEVENTH_FLAT_NINTH, "11♭9");
+    m.put(JaChordQuality.MINOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH, "11♭9♭13");
+    m.put(JaChordQuality.MINOR_THIRTEENTH_FLAT_NINTH, "13♭9");
+    m.put(JaChordQuality.MINOR_MAJOR_SEVENTH, "M7");
+    m.put(JaChordQuality.MINOR_MAJOR_SEVENTH_FLAT_NINTH, "M7♭9");
+    m.put(JaChordQuality.MINOR_MAJOR_NINTH, "M9");
+    m.put(JaChordQuality.MINOR_MAJOR_ELEVENTH, "M11");
+    m.put(JaChordQuality.MINOR_MAJOR_ELEVENTH_FLAT_THIRTEENTH, "M11♭13");
+    m.put(JaChordQuality.MINOR_MAJOR_THIRTEENTH, "M13");
+    m.put(JaChordQuality.MINOR_MAJOR_ELEVENTH_FLAT_NINTH, "M11♭9");
+    m.put(JaChordQuality.MINOR_MAJOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH, "M11♭9♭13");
+    m.put(JaChordQuality.MINOR_MAJOR_THIRTEENTH_FLAT_NINTH, "M13♭9");
+  }
+}
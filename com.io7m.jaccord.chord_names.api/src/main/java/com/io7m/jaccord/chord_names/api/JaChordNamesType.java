@@ -17,6 +17,7 @@
 package com.io7m.jaccord.chord_names.api;
 
 import com.io7m.jaccord.core.JaChordIntervals;
+import com.io7m.jaccord.core.JaIntervals;
 
 /**
  * An interface for determining names for chords.
@@ -25,13 +26,83 @@ import com.io7m.jaccord.core.JaChordIntervals;
 public interface JaChordNamesType
 {
   /**
-   * Attempt to name the given chord.
+   * Classify the given chord. The resulting classification can be rendered
+   * in any number of naming styles without classifying the chord again.
    *
    * @param chord The chord
    *
-   * @return The chord name
+   * @return The chord classification
+   *
+   * @see JaChordNameStyle#render(JaChordClassification)
    */
 
-  String name(
+  JaChordClassification classify(
     JaChordIntervals chord);
+
+  /**
+   * Classify the chord described by the given interval mask. The mask is
+   * normalized before classification, and must contain at least one
+   * non-unison interval once normalized.
+   *
+   * @param intervals The interval mask
+   *
+   * @return The chord classification
+   *
+   * @throws IllegalArgumentException If the mask does not describe a chord
+   * @see com.io7m.jaccord.core.JaIntervals#mask(io.vavr.collection.SortedSet)
+   */
+
+  default JaChordClassification classifyMask(
+    final int intervals)
+  {
+    return this.classify(JaChordIntervals.of(JaIntervals.ofMask(intervals)));
+  }
+
+  /**
+   * Attempt to name the given chord in the {@link JaChordNameStyles#UNICODE}
+   * style.
+   *
+   * @param chord The chord
+   *
+   * @return The chord name
+   */
+
+  default String name(
+    final JaChordIntervals chord)
+  {
+    return this.name(chord, JaChordNameStyles.UNICODE);
+  }
+
+  /**
+   * Attempt to name the given chord in the given style.
+   *
+   * @param chord The chord
+   * @param style The naming style
+   *
+   * @return The chord name
+   */
+
+  default String name(
+    final JaChordIntervals chord,
+    final JaChordNameStyle style)
+  {
+    return style.render(this.classify(chord));
+  }
+
+  /**
+   * Name the given chord in the given style, returning the canonical name
+   * and its identifier within the style.
+   *
+   * @param chord The chord
+   * @param style The naming style
+   *
+   * @return The chord name
+   */
+
+  default JaChordName nameOf(
+    final JaChordIntervals chord,
+    final JaChordNameStyle style)
+  {
+    return style.nameOf(this.classify(chord));
+  }
 }
@@ -0,0 +1,347 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.chord_names.api;
+
+/**
+ * The quality of a chord. A quality names the chord tones that were
+ * recognized by classification; any remaining tones are expressed as
+ * additions.
+ *
+ * @see JaChordClassificationType
+ */
+
+public enum JaChordQuality
+{
+  /**
+   * A chord with a fourth in place of the third ({@code sus4}).
+   */
+
+  SUSPENDED_4(false),
+
+  /**
+   * A chord with a second in place of the third ({@code sus2}).
+   */
+
+  SUSPENDED_2(false),
+
+  /**
+   * A chord with no third ({@code no3}).
+   */
+
+  NO_THIRD(false),
+
+  /**
+   * A chord with neither a third nor a fifth ({@code no3no5}).
+   */
+
+  NO_THIRD_NO_FIFTH(false),
+
+  /**
+   * An augmented triad ({@code aug}).
+   */
+
+  AUGMENTED(false),
+
+  /**
+   * A diminished triad ({@code dim}).
+   */
+
+  DIMINISHED(true),
+
+  /**
+   * A diminished seventh chord ({@code dim7}).
+   */
+
+  DIMINISHED_SEVENTH(true),
+
+  /**
+   * A half-diminished seventh chord ({@code m7♭5}).
+   */
+
+  HALF_DIMINISHED_SEVENTH(true),
+
+  /**
+   * A major triad ({@code M}).
+   */
+
+  MAJOR(false),
+
+  /**
+   * A major sixth chord ({@code 6}).
+   */
+
+  MAJOR_SIXTH(false),
+
+  /**
+   * A major six-nine chord ({@code 6/9}).
+   */
+
+  MAJOR_SIX_NINE(false),
+
+  /**
+   * A major seventh chord ({@code M7}).
+   */
+
+  MAJOR_SEVENTH(false),
+
+  /**
+   * A major seventh flat ninth chord ({@code M7♭9}).
+   */
+
+  MAJOR_SEVENTH_FLAT_NINTH(false),
+
+  /**
+   * A major ninth chord ({@code M9}).
+   */
+
+  MAJOR_NINTH(false),
+
+  /**
+   * A major eleventh chord ({@code M11}).
+   */
+
+  MAJOR_ELEVENTH(false),
+
+  /**
+   * A major eleventh flat thirteenth chord ({@code M11♭13}).
+   */
+
+  MAJOR_ELEVENTH_FLAT_THIRTEENTH(false),
+
+  /**
+   * A major thirteenth chord ({@code M13}).
+   */
+
+  MAJOR_THIRTEENTH(false),
+
+  /**
+   * A major eleventh flat ninth chord ({@code M11♭9}).
+   */
+
+  MAJOR_ELEVENTH_FLAT_NINTH(false),
+
+  /**
+   * A major eleventh flat ninth flat thirteenth chord ({@code M11♭9♭13}).
+   */
+
+  MAJOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH(false),
+
+  /**
+   * A major thirteenth flat ninth chord ({@code M13♭9}).
+   */
+
+  MAJOR_THIRTEENTH_FLAT_NINTH(false),
+
+  /**
+   * A dominant seventh chord ({@code 7}).
+   */
+
+  DOMINANT_SEVENTH(false),
+
+  /**
+   * A dominant seventh flat ninth chord ({@code 7♭9}).
+   */
+
+  DOMINANT_SEVENTH_FLAT_NINTH(false),
+
+  /**
+   * A dominant ninth chord ({@code 9}).
+   */
+
+  DOMINANT_NINTH(false),
+
+  /**
+   * A dominant eleventh chord ({@code 11}).
+   */
+
+  DOMINANT_ELEVENTH(false),
+
+  /**
+   * A dominant eleventh flat thirteenth chord ({@code 11♭13}).
+   */
+
+  DOMINANT_ELEVENTH_FLAT_THIRTEENTH(false),
+
+  /**
+   * A dominant thirteenth chord ({@code 13}).
+   */
+
+  DOMINANT_THIRTEENTH(false),
+
+  /**
+   * A dominant eleventh flat ninth chord ({@code 11♭9}).
+   */
+
+  DOMINANT_ELEVENTH_FLAT_NINTH(false),
+
+  /**
+   * A dominant eleventh flat ninth flat thirteenth chord ({@code 11♭9♭13}).
+   */
+
+  DOMINANT_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH(false),
+
+  /**
+   * A dominant thirteenth flat ninth chord ({@code 13♭9}).
+   */
+
+  DOMINANT_THIRTEENTH_FLAT_NINTH(false),
+
+  /**
+   * A minor triad ({@code m}).
+   */
+
+  MINOR(true),
+
+  /**
+   * A minor triad with a major sixth ({@code mM6}).
+   */
+
+  MINOR_SIXTH(true),
+
+  /**
+   * A minor triad with a major sixth and ninth ({@code mM6/9}).
+   */
+
+  MINOR_SIX_NINE(true),
+
+  /**
+   * A minor seventh chord ({@code m7}).
+   */
+
+  MINOR_SEVENTH(true),
+
+  /**
+   * A minor seventh flat ninth chord ({@code m7♭9}).
+   */
+
+  MINOR_SEVENTH_FLAT_NINTH(true),
+
+  /**
+   * A minor ninth chord ({@code m9}).
+   */
+
+  MINOR_NINTH(true),
+
+  /**
+   * A minor eleventh chord ({@code m11}).
+   */
+
+  MINOR_ELEVENTH(true),
+
+  /**
+   * A minor eleventh flat thirteenth chord ({@code m11♭13}).
+   */
+
+  MINOR_ELEVENTH_FLAT_THIRTEENTH(true),
+
+  /**
+   * A minor thirteenth chord ({@code m13}).
+   */
+
+  MINOR_THIRTEENTH(true),
+
+  /**
+   * A minor eleventh flat ninth chord ({@code m11♭9}).
+   */
+
+  MINOR_ELEVENTH_FLAT_NINTH(true),
+
+  /**
+   * A minor eleventh flat ninth flat thirteenth chord ({@code m11♭9♭13}).
+   */
+
+  MINOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH(true),
+
+  /**
+   * A minor thirteenth flat ninth chord ({@code m13♭9}).
+   */
+
+  MINOR_THIRTEENTH_FLAT_NINTH(true),
+
+  /**
+   * A minor-major seventh chord ({@code mM7}).
+   */
+
+  MINOR_MAJOR_SEVENTH(true),
+
+  /**
+   * A minor-major seventh flat ninth chord ({@code mM7♭9}).
+   */
+
+  MINOR_MAJOR_SEVENTH_FLAT_NINTH(true),
+
+  /**
+   * A minor-major ninth chord ({@code m9M7}).
+   */
+
+  MINOR_MAJOR_NINTH(true),
+
+  /**
+   * A minor-major eleventh chord ({@code m11M7}).
+   */
+
+  MINOR_MAJOR_ELEVENTH(true),
+
+  /**
+   * A minor-major eleventh flat thirteenth chord ({@code m11M7♭13}).
+   */
+
+  MINOR_MAJOR_ELEVENTH_FLAT_THIRTEENTH(true),
+
+  /**
+   * A minor-major thirteenth chord ({@code m13M7}).
+   */
+
+  MINOR_MAJOR_THIRTEENTH(true),
+
+  /**
+   * A minor-major eleventh flat ninth chord ({@code m11M7♭9}).
+   */
+
+  MINOR_MAJOR_ELEVENTH_FLAT_NINTH(true),
+
+  /**
+   * A minor-major eleventh flat ninth flat thirteenth chord
+   * ({@code m11M7♭9♭13}).
+   */
+
+  MINOR_MAJOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH(true),
+
+  /**
+   * A minor-major thirteenth flat ninth chord ({@code m13M7♭9}).
+   */
+
+  MINOR_MAJOR_THIRTEENTH_FLAT_NINTH(true);
+
+  private final boolean minor_third;
+
+  JaChordQuality(
+    final boolean in_minor_third)
+  {
+    this.minor_third = in_minor_third;
+  }
+
+  /**
+   * @return {@code true} if the chord is built on a minor third (and would
+   * therefore be written with a lowercase Roman numeral)
+   */
+
+  public boolean hasMinorThird()
+  {
+    return this.minor_third;
+  }
+}
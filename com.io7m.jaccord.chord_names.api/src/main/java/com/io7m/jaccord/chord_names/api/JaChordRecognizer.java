@@ -0,0 +1,309 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jaccord.chord_names.api;
+
+import com.io7m.jaccord.core.JaIntervals;
+import com.io7m.jaccord.core.JaNote;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>An incremental chord recognizer for streams of note-on and note-off
+ * events, such as those produced by a MIDI keyboard.</p>
+ *
+ * <p>The recognizer keeps the set of held MIDI notes as a 128-bit mask. The
+ * lowest held note is taken to be the root, and the intervals of the other
+ * notes above it are folded into two octaves. Each event updates the mask in
+ * constant time; the chord is only classified again if the folded interval
+ * mask or the root actually changed, and classifications and labels are kept
+ * in a small direct-mapped cache so that a repeated chord produces no
+ * garbage.</p>
+ *
+ * <p>Instances are mutable and are not safe for use from multiple
+ * threads.</p>
+ */
+
+public final class JaChordRecognizer
+{
+  private static final int NOTE_COUNT = 128;
+  private static final long MASK_24 = 0xffffffL;
+  private static final int CACHE_BITS = 8;
+  private static final int CACHE_SIZE = 1 << CACHE_BITS;
+  private static final JaNote[] NOTES = JaNote.values();
+
+  private final JaChordNamesType names;
+  private final JaChordNameStyle style;
+  private final int[] cache_keys;
+  private final String[] cache_labels;
+  private final JaChordClassification[] cache_classifications;
+  private long held_low;
+  private long held_high;
+  private int key;
+  private String label;
+  private JaChordClassification classification;
+
+  private JaChordRecognizer(
+    final JaChordNamesType in_names,
+    final JaChordNameStyle in_style)
+  {
+    this.names = Objects.requireNonNull(in_names, "Names");
+    this.style = Objects.requireNonNull(in_style, "Style");
+    this.cache_keys = new int[CACHE_SIZE];
+    this.cache_labels = new String[CACHE_SIZE];
+    this.cache_classifications = new JaChordClassification[CACHE_SIZE];
+    this.label = "";
+  }
+
+  /**
+   * Create a new recognizer with no held notes.
+   *
+   * @param names A chord name provider
+   * @param style The style in which labels will be rendered
+   *
+   * @return A new recognizer
+   */
+
+  public static JaChordRecognizer create(
+    final JaChordNamesType names,
+    final JaChordNameStyle style)
+  {
+    return new JaChordRecognizer(names, style);
+  }
+
+  private static int checkNote(
+    final int note)
+  {
+    if (note < 0 || note >= NOTE_COUNT) {
+      throw new IllegalArgumentException(
+        new StringBuilder(64)
+          .append("Note number must be in the range [0, 127]: ")
+          .append(note)
+          .toString());
+    }
+    return note;
+  }
+
+  private static int cacheIndex(
+    final int key)
+  {
+    return (key * 0x9e3779b1) >>> (Integer.SIZE - CACHE_BITS);
+  }
+
+  /**
+   * Mark the given note as held.
+   *
+   * @param note The MIDI note number in the range {@code [0, 127]}
+   *
+   * @return {@code true} iff the label changed as a result
+   */
+
+  public boolean noteOn(
+    final int note)
+  {
+    checkNote(note);
+    if (note < Long.SIZE) {
+      this.held_low |= 1L << note;
+    } else {
+      this.held_high |= 1L << (note - Long.SIZE);
+    }
+    return this.update();
+  }
+
+  /**
+   * Mark the given note as released.
+   *
+   * @param note The MIDI note number in the range {@code [0, 127]}
+   *
+   * @return {@code true} iff the label changed as a result
+   */
+
+  public boolean noteOff(
+    final int note)
+  {
+    checkNote(note);
+    if (note < Long.SIZE) {
+      this.held_low &= ~(1L << note);
+    } else {
+      this.held_high &= ~(1L << (note - Long.SIZE));
+    }
+    return this.update();
+  }
+
+  /**
+   * Release all notes.
+   *
+   * @return {@code true} iff the label changed as a result
+   */
+
+  public boolean reset()
+  {
+    this.held_low = 0L;
+    this.held_high = 0L;
+    return this.update();
+  }
+
+  /**
+   * @return The number of held notes
+   */
+
+  public int heldCount()
+  {
+    return Long.bitCount(this.held_low) + Long.bitCount(this.held_high);
+  }
+
+  /**
+   * @return The lowest held note, or {@code -1} if no notes are held
+   */
+
+  public int root()
+  {
+    if (this.held_low != 0L) {
+      return Long.numberOfTrailingZeros(this.held_low);
+    }
+    if (this.held_high != 0L) {
+      return Long.SIZE + Long.numberOfTrailingZeros(this.held_high);
+    }
+    return -1;
+  }
+
+  /**
+   * @return The pitch classes of the held notes, suitable for use with a
+   * {@link JaChordMatcher}
+   */
+
+  public int pitchClasses()
+  {
+    int classes = 0;
+    for (int offset = 0; offset < NOTE_COUNT; offset += 12) {
+      final long bits;
+      if (offset + 12 <= Long.SIZE) {
+        bits = this.held_low >>> offset;
+      } else if (offset >= Long.SIZE) {
+        bits = this.held_high >>> (offset - Long.SIZE);
+      } else {
+        bits = (this.held_low >>> offset)
+          | (this.held_high << (Long.SIZE - offset));
+      }
+      classes |= (int) (bits & 0xfffL);
+    }
+    return classes;
+  }
+
+  /**
+   * @return The pitch class of the lowest held note, or {@code -1} if no
+   * notes are held
+   */
+
+  public int bassPitchClass()
+  {
+    final int lowest = this.root();
+    return lowest < 0 ? -1 : lowest % 12;
+  }
+
+  /**
+   * @return The label of the current chord (the root note name followed by
+   * the chord name, both as spelled by the style of the recognizer), or the
+   * empty string if the held notes do not form a chord
+   */
+
+  public String label()
+  {
+    return this.label;
+  }
+
+  /**
+   * @return The classification of the current chord, if the held notes form
+   * a chord
+   */
+
+  public Optional<JaChordClassification> classification()
+  {
+    return Optional.ofNullable(this.classification);
+  }
+
+  private boolean update()
+  {
+    final int lowest = this.root();
+    final int new_key;
+    if (lowest < 0) {
+      new_key = 0;
+    } else {
+      final int mask = JaIntervals.normalizeMask(this.fold(lowest));
+      new_key = mask == 0 ? 0 : mask | ((lowest % 12) << 24);
+    }
+
+    if (new_key == this.key) {
+      return false;
+    }
+
+    this.key = new_key;
+    final String previous = this.label;
+    if (new_key == 0) {
+      this.label = "";
+      this.classification = null;
+    } else {
+      this.lookup(new_key);
+    }
+    return !Objects.equals(previous, this.label);
+  }
+
+  private void lookup(
+    final int new_key)
+  {
+    final int index = cacheIndex(new_key);
+    if (this.cache_keys[index] != new_key) {
+      final JaChordClassification k =
+        this.names.classifyMask(new_key & JaIntervals.NORMALIZED_MASK);
+      this.cache_keys[index] = new_key;
+      this.cache_classifications[index] = k;
+      this.cache_labels[index] =
+        this.style.rootName(NOTES[new_key >>> 24]) + this.style.render(k);
+    }
+
+    this.classification = this.cache_classifications[index];
+    this.label = this.cache_labels[index];
+  }
+
+  private int fold(
+    final int lowest)
+  {
+    final long lo;
+    final long hi;
+    if (lowest < Long.SIZE) {
+      hi = this.held_high >>> lowest;
+      lo = lowest == 0
+        ? this.held_low
+        : (this.held_low >>> lowest) | (this.held_high << (Long.SIZE - lowest));
+    } else {
+      hi = 0L;
+      lo = this.held_high >>> (lowest - Long.SIZE);
+    }
+
+    /*
+     * Fold the 128 bits of relative intervals into a single 24-bit mask,
+     * in the same manner as taking each interval modulo 24.
+     */
+
+    long folded = lo & MASK_24;
+    folded |= (lo >>> 24) & MASK_24;
+    folded |= ((lo >>> 48) | (hi << 16)) & MASK_24;
+    folded |= (hi >>> 8) & MASK_24;
+    folded |= (hi >>> 32) & MASK_24;
+    folded |= (hi >>> 56) & MASK_24;
+    return (int) folded;
+  }
+}
@@ -20,7 +20,13 @@
 
 module com.io7m.jaccord.chord_names.api
 {
+  requires static com.io7m.immutables.style;
+  requires static org.immutables.value;
+
   requires transitive com.io7m.jaccord.core;
 
+  requires com.io7m.junreachable.core;
+  requires io.vavr;
+
   exports com.io7m.jaccord.chord_names.api;
 }
\ No newline at end of file
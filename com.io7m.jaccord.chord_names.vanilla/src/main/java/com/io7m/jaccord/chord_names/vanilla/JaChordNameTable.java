@@ -0,0 +1,451 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jaccord.chord_names.vanilla;
+
+import com.io7m.jaccord.chord_names.api.JaChordClassification;
+import com.io7m.jaccord.chord_names.api.JaChordNameStyle;
+import com.io7m.jaccord.chord_names.api.JaChordNameStyles;
+import com.io7m.jaccord.chord_names.api.JaChordNamesType;
+import com.io7m.jaccord.core.JaChordIntervals;
+import com.io7m.jaccord.core.JaIntervals;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>A chord name provider backed by a memory-mapped table written by
+ * {@link JaChordNameTableWriter}.</p>
+ *
+ * <p>Naming a chord in the style of the table is a single read of the
+ * mapped identifier table followed by a lookup of the (lazily decoded and
+ * then cached) name. Names in any other style, and classification, are
+ * delegated to the vanilla namer.</p>
+ *
+ * <p>Opening a table checks only the header and the string pool offsets;
+ * the identifier region is never read in full. Each identifier is instead
+ * range-checked when it is read, so a corrupt identifier is reported by the
+ * lookup that encounters it.</p>
+ *
+ * <p>Tables are safe for use from multiple threads.</p>
+ */
+
+public final class JaChordNameTable implements JaChordNamesType
+{
+  static final int MAGIC = 0x4A434E54;
+  static final int VERSION = 1;
+  static final int MASK_COUNT = 1 << 22;
+  static final int HEADER_SIZE = 9 * 4;
+
+  private static final int LOW_BITS = 0x7ff;
+
+  private static final List<JaChordNameStyle> STANDARD_STYLES =
+    List.of(
+      JaChordNameStyles.UNICODE,
+      JaChordNameStyles.ASCII,
+      JaChordNameStyles.FIGURED_BASS,
+      JaChordNameStyles.ROMAN_NUMERAL);
+
+  private final Path path;
+  private final ByteBuffer buffer;
+  private final JaChordNameStyle table_style;
+  private final int id_width;
+  private final int name_count;
+  private final int offsets_position;
+  private final int pool_position;
+  private final int ids_position;
+  private final String[] names;
+
+  private JaChordNameTable(
+    final Path in_path,
+    final ByteBuffer in_buffer,
+    final JaChordNameStyle in_style,
+    final int in_id_width,
+    final int in_name_count,
+    final int in_offsets_position,
+    final int in_pool_position,
+    final int in_ids_position)
+  {
+    this.path = Objects.requireNonNull(in_path, "Path");
+    this.buffer = Objects.requireNonNull(in_buffer, "Buffer");
+    this.table_style = Objects.requireNonNull(in_style, "Style");
+    this.id_width = in_id_width;
+    this.name_count = in_name_count;
+    this.offsets_position = in_offsets_position;
+    this.pool_position = in_pool_position;
+    this.ids_position = in_ids_position;
+    this.names = new String[in_name_count];
+  }
+
+  /**
+   * Map a table written in one of the standard styles into memory.
+   *
+   * @param path The table file
+   *
+   * @return A chord name provider
+   *
+   * @throws IOException On I/O errors, or if the file is not a valid table
+   *                     in a standard style
+   * @see JaChordNameStyles
+   */
+
+  public static JaChordNameTable open(
+    final Path path)
+    throws IOException
+  {
+    Objects.requireNonNull(path, "Path");
+
+    final ByteBuffer buffer = map(path);
+    final String style_name =
+      decode(buffer, HEADER_SIZE, buffer.getInt(32));
+    for (final JaChordNameStyle style : STANDARD_STYLES) {
+      if (style.name().equals(style_name)) {
+        return create(path, buffer, style);
+      }
+    }
+    throw invalid(path, "Unrecognized style " + style_name);
+  }
+
+  /**
+   * Map a table written in the given style into memory.
+   *
+   * @param path  The table file
+   * @param style The style in which the table was written
+   *
+   * @return A chord name provider
+   *
+   * @throws IOException On I/O errors, or if the file is not a valid table
+   *                     in the given style
+   */
+
+  public static JaChordNameTable open(
+    final Path path,
+    final JaChordNameStyle style)
+    throws IOException
+  {
+    Objects.requireNonNull(path, "Path");
+    Objects.requireNonNull(style, "Style");
+
+    final ByteBuffer buffer = map(path);
+    final String style_name =
+      decode(buffer, HEADER_SIZE, buffer.getInt(32));
+    if (!style.name().equals(style_name)) {
+      throw invalid(path, "Table is written in style " + style_name);
+    }
+    return create(path, buffer, style);
+  }
+
+  private static ByteBuffer map(
+    final Path path)
+    throws IOException
+  {
+    final ByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+        throw invalid(path, "Unexpected file size");
+      }
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+    }
+
+    checkHeader(path, buffer);
+    return buffer;
+  }
+
+  private static JaChordNameTable create(
+    final Path path,
+    final ByteBuffer buffer,
+    final JaChordNameStyle style)
+  {
+    return new JaChordNameTable(
+      path,
+      buffer,
+      style,
+      buffer.getInt(8),
+      buffer.getInt(12),
+      buffer.getInt(20),
+      buffer.getInt(24),
+      buffer.getInt(28));
+  }
+
+  private static void checkHeader(
+    final Path path,
+    final ByteBuffer buffer)
+    throws IOException
+  {
+    if (buffer.getInt(0) != MAGIC) {
+      throw invalid(path, "Bad magic number");
+    }
+    if (buffer.getInt(4) != VERSION) {
+      throw invalid(path, "Unsupported version " + buffer.getInt(4));
+    }
+    checkLayout(path, buffer);
+  }
+
+  private static void checkLayout(
+    final Path path,
+    final ByteBuffer buffer)
+    throws IOException
+  {
+    final int id_width = buffer.getInt(8);
+    final int name_count = buffer.getInt(12);
+    final int mask_count = buffer.getInt(16);
+    final int offsets_position = buffer.getInt(20);
+    final int style_length = buffer.getInt(32);
+
+    if (id_width < 1 || id_width > 4) {
+      throw invalid(path, "Unsupported identifier width " + id_width);
+    }
+    if (mask_count != MASK_COUNT || name_count <= 0 || style_length < 0) {
+      throw invalid(path, "Inconsistent header");
+    }
+
+    checkPositions(path, buffer, id_width, name_count);
+
+    final int pool_position = buffer.getInt(24);
+    final int ids_position = buffer.getInt(28);
+    checkOffsets(
+      path, buffer, name_count, offsets_position, ids_position - pool_position);
+  }
+
+  private static void checkPositions(
+    final Path path,
+    final ByteBuffer buffer,
+    final int id_width,
+    final int name_count)
+    throws IOException
+  {
+    final int offsets_position = buffer.getInt(20);
+    final int pool_position = buffer.getInt(24);
+    final int ids_position = buffer.getInt(28);
+    final int style_length = buffer.getInt(32);
+
+    if (offsets_position < HEADER_SIZE
+      || offsets_position != HEADER_SIZE + style_length) {
+      throw invalid(path, "Inconsistent string pool offsets position");
+    }
+    if ((long) pool_position != (long) offsets_position
+      + ((long) name_count + 1L) * 4L) {
+      throw invalid(path, "Inconsistent string pool position");
+    }
+    if (ids_position < pool_position) {
+      throw invalid(path, "Inconsistent identifiers position");
+    }
+
+    final long expected_size =
+      (long) ids_position + (long) MASK_COUNT * (long) id_width;
+    if (expected_size != buffer.capacity()) {
+      throw invalid(path, "Inconsistent identifiers position");
+    }
+  }
+
+  /**
+   * Check that the string pool offsets start at zero, never decrease, and
+   * end exactly at the end of the string pool.
+   */
+
+  private static void checkOffsets(
+    final Path path,
+    final ByteBuffer buffer,
+    final int name_count,
+    final int offsets_position,
+    final int pool_size)
+    throws IOException
+  {
+    int previous = 0;
+    for (int index = 0; index <= name_count; ++index) {
+      final int offset = buffer.getInt(offsets_position + index * 4);
+      if (index == 0 ? offset != 0 : offset < previous) {
+        throw invalid(path, "Malformed string pool offset at index " + index);
+      }
+      previous = offset;
+    }
+    if (previous != pool_size) {
+      throw invalid(path, "String pool offsets do not match the pool size");
+    }
+  }
+
+  private static int readId(
+    final ByteBuffer buffer,
+    final int position,
+    final int id_width)
+  {
+    int id = 0;
+    for (int byte_index = 0; byte_index < id_width; ++byte_index) {
+      id = (id << 8) | (buffer.get(position + byte_index) & 0xff);
+    }
+    return id;
+  }
+
+  private static IOException invalid(
+    final Path path,
+    final String message)
+  {
+    return new IOException(
+      new StringBuilder(128)
+        .append("Invalid chord name table.")
+        .append(System.lineSeparator())
+        .append("  File: ")
+        .append(path)
+        .append(System.lineSeparator())
+        .append("  Problem: ")
+        .append(message)
+        .append(System.lineSeparator())
+        .toString());
+  }
+
+  private static String decode(
+    final ByteBuffer buffer,
+    final int position,
+    final int length)
+  {
+    return StandardCharsets.UTF_8.decode(buffer.slice(position, length))
+      .toString();
+  }
+
+  static int indexOf(
+    final int normalized)
+  {
+    return ((normalized >>> 1) & LOW_BITS)
+      | (((normalized >>> 13) & LOW_BITS) << 11);
+  }
+
+  static int maskOf(
+    final int index)
+  {
+    return ((index & LOW_BITS) << 1) | (((index >>> 11) & LOW_BITS) << 13);
+  }
+
+  /**
+   * @return The style in which the table was written
+   */
+
+  public JaChordNameStyle style()
+  {
+    return this.table_style;
+  }
+
+  /**
+   * @return The name of the style in which the table was written
+   */
+
+  public String styleName()
+  {
+    return this.table_style.name();
+  }
+
+  /**
+   * @return The number of distinct names in the table
+   */
+
+  public int nameCount()
+  {
+    return this.name_count;
+  }
+
+  /**
+   * Name the chord described by the given interval mask in the style of
+   * the table.
+   *
+   * @param intervals The interval mask
+   *
+   * @return The chord name
+   *
+   * @throws IllegalArgumentException If the normalized mask is empty
+   * @throws UncheckedIOException     If the identifier stored for the mask is
+   *                                  out of range
+   */
+
+  public String nameMask(
+    final int intervals)
+  {
+    final int normalized = JaIntervals.normalizeMask(intervals);
+    if (normalized == 0) {
+      throw new IllegalArgumentException(
+        new StringBuilder(64)
+          .append("Interval mask does not describe a chord: 0x")
+          .append(Integer.toUnsignedString(intervals, 16))
+          .toString());
+    }
+    return this.nameById(this.idOf(indexOf(normalized)));
+  }
+
+  private int idOf(
+    final int index)
+  {
+    final int id = readId(
+      this.buffer, this.ids_position + index * this.id_width, this.id_width);
+    if (id < 0 || id >= this.name_count) {
+      throw new UncheckedIOException(
+        invalid(this.path, "Name identifier out of range at index " + index));
+    }
+    return id;
+  }
+
+  private String nameById(
+    final int id)
+  {
+    /*
+     * Decoded names are cached. The race between threads decoding the same
+     * name is benign: strings are immutable and safely published.
+     */
+
+    final String existing = this.names[id];
+    if (existing != null) {
+      return existing;
+    }
+
+    final int start = this.buffer.getInt(this.offsets_position + id * 4);
+    final int end = this.buffer.getInt(this.offsets_position + (id + 1) * 4);
+    final String name =
+      decode(this.buffer, this.pool_position + start, end - start);
+    this.names[id] = name;
+    return name;
+  }
+
+  @Override
+  public JaChordClassification classify(
+    final JaChordIntervals chord)
+  {
+    return JaChordNames.classify(chord);
+  }
+
+  @Override
+  public JaChordClassification classifyMask(
+    final int intervals)
+  {
+    return JaChordNames.classifyMask(intervals);
+  }
+
+  @Override
+  public String name(
+    final JaChordIntervals chord,
+    final JaChordNameStyle style)
+  {
+    Objects.requireNonNull(chord, "Chord");
+    Objects.requireNonNull(style, "Style");
+
+    if (style == this.table_style) {
+      return this.nameMask(JaIntervals.mask(chord.intervals()));
+    }
+    return style.render(this.classify(chord));
+  }
+}
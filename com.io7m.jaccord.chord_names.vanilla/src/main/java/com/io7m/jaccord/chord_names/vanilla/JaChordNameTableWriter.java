@@ -0,0 +1,196 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jaccord.chord_names.vanilla;
+
+import com.io7m.jaccord.chord_names.api.JaChordNameStyle;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Objects;
+
+import static com.io7m.jaccord.chord_names.vanilla.JaChordNameTable.HEADER_SIZE;
+import static com.io7m.jaccord.chord_names.vanilla.JaChordNameTable.MAGIC;
+import static com.io7m.jaccord.chord_names.vanilla.JaChordNameTable.MASK_COUNT;
+import static com.io7m.jaccord.chord_names.vanilla.JaChordNameTable.VERSION;
+
+/**
+ * <p>Functions to write exhaustive chord name tables.</p>
+ *
+ * <p>A table holds the name of every chord in the normalized interval space
+ * (see {@link com.io7m.jaccord.core.JaIntervals#normalizeMask(int)}) in a
+ * single naming style. The vanilla namer is run once over all
+ * {@code 2^22} masks; the resulting names are deduplicated into a string
+ * pool, and each mask is mapped to the identifier of its name.</p>
+ *
+ * <p>The file layout (all integers big-endian) is:</p>
+ *
+ * <pre>
+ *   int    magic ('JCNT')
+ *   int    version
+ *   int    identifier width in bytes (1 to 4)
+ *   int    number of names
+ *   int    number of masks (2^22)
+ *   int    offset of the string pool offsets
+ *   int    offset of the string pool
+ *   int    offset of the identifiers
+ *   int    length of the style name
+ *   byte[] style name (UTF-8)
+ *   int[]  string pool offsets (number of names + 1)
+ *   byte[] string pool (UTF-8)
+ *   byte[] identifiers (identifier width bytes per mask)
+ * </pre>
+ *
+ * @see JaChordNameTable
+ */
+
+public final class JaChordNameTableWriter
+{
+  private JaChordNameTableWriter()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Write a table of names in the given style to the given file. The table
+   * is written to a temporary file in the same directory and then atomically
+   * moved into place; the temporary file is deleted if writing fails.
+   *
+   * @param path  The output file
+   * @param style The naming style
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static void write(
+    final Path path,
+    final JaChordNameStyle style)
+    throws IOException
+  {
+    Objects.requireNonNull(path, "Path");
+    Objects.requireNonNull(style, "Style");
+
+    final HashMap<String, Integer> ids = new HashMap<>(1 << 19);
+    final ArrayList<byte[]> names = new ArrayList<>(1 << 19);
+    final int[] mask_ids = new int[MASK_COUNT];
+
+    ids.put("", Integer.valueOf(0));
+    names.add(new byte[0]);
+
+    for (int index = 1; index < MASK_COUNT; ++index) {
+      final String name =
+        style.render(JaChordNames.classifyMask(JaChordNameTable.maskOf(index)));
+      final Integer existing = ids.get(name);
+      if (existing != null) {
+        mask_ids[index] = existing.intValue();
+      } else {
+        final int id = names.size();
+        ids.put(name, Integer.valueOf(id));
+        names.add(name.getBytes(StandardCharsets.UTF_8));
+        mask_ids[index] = id;
+      }
+    }
+
+    final Path absolute = path.toAbsolutePath();
+    final Path temporary =
+      Files.createTempFile(
+        absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+
+    try {
+      try (OutputStream file = Files.newOutputStream(temporary);
+           DataOutputStream output =
+             new DataOutputStream(new BufferedOutputStream(file, 65536))) {
+        writeTable(output, style, names, mask_ids);
+      }
+
+      Files.move(
+        temporary,
+        absolute,
+        StandardCopyOption.ATOMIC_MOVE,
+        StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  private static int idWidth(
+    final int count)
+  {
+    final int bits = Integer.SIZE - Integer.numberOfLeadingZeros(count - 1);
+    return Math.max(1, (bits + 7) / 8);
+  }
+
+  private static void writeTable(
+    final DataOutputStream output,
+    final JaChordNameStyle style,
+    final ArrayList<byte[]> names,
+    final int[] mask_ids)
+    throws IOException
+  {
+    final byte[] style_name = style.name().getBytes(StandardCharsets.UTF_8);
+    final int id_width = idWidth(names.size());
+
+    long pool_size = 0L;
+    for (final byte[] name : names) {
+      pool_size += name.length;
+    }
+
+    final long offsets_position = HEADER_SIZE + (long) style_name.length;
+    final long pool_position =
+      offsets_position + ((long) names.size() + 1L) * 4L;
+    final long ids_position = pool_position + pool_size;
+    final long total = ids_position + (long) MASK_COUNT * (long) id_width;
+    if (total > Integer.MAX_VALUE) {
+      throw new IOException("Table is too large");
+    }
+
+    output.writeInt(MAGIC);
+    output.writeInt(VERSION);
+    output.writeInt(id_width);
+    output.writeInt(names.size());
+    output.writeInt(MASK_COUNT);
+    output.writeInt((int) offsets_position);
+    output.writeInt((int) pool_position);
+    output.writeInt((int) ids_position);
+    output.writeInt(style_name.length);
+    output.write(style_name);
+
+    int offset = 0;
+    for (final byte[] name : names) {
+      output.writeInt(offset);
+      offset += name.length;
+    }
+    output.writeInt(offset);
+
+    for (final byte[] name : names) {
+      output.write(name);
+    }
+
+    for (final int id : mask_ids) {
+      for (int shift = (id_width - 1) * 8; shift >= 0; shift -= 8) {
+        output.write(id >>> shift);
+      }
+    }
+  }
+}
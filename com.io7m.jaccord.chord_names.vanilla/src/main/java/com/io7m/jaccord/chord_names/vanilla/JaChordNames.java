@@ -13,54 +13,261 @@
  * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
  * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
  */
-
 package com.io7m.jaccord.chord_names.vanilla;
 
+import com.io7m.jaccord.chord_names.api.JaChordClassification;
+import com.io7m.jaccord.chord_names.api.JaChordNameStyle;
+import com.io7m.jaccord.chord_names.api.JaChordNameStyles;
+import com.io7m.jaccord.chord_names.api.JaChordQuality;
 import com.io7m.jaccord.core.JaChordIntervals;
-
-import java.util.HashMap;
-import java.util.Objects;
+import com.io7m.jaccord.core.JaIntervals;
 import com.io7m.junreachable.UnimplementedCodeException;
 import com.io7m.junreachable.UnreachableCodeException;
-import io.vavr.collection.Map;
-import io.vavr.collection.Set;
-import io.vavr.collection.SortedSet;
-import io.vavr.collection.TreeSet;
-
-import static com.io7m.jaccord.core.JaIntervals.AUGMENTED_FIFTH;
-import static com.io7m.jaccord.core.JaIntervals.DIMINISHED_FIFTH;
-import static com.io7m.jaccord.core.JaIntervals.ELEVENTH;
-import static com.io7m.jaccord.core.JaIntervals.FIFTH;
-import static com.io7m.jaccord.core.JaIntervals.FOURTH;
-import static com.io7m.jaccord.core.JaIntervals.MAJOR_FOURTEENTH;
-import static com.io7m.jaccord.core.JaIntervals.MAJOR_NINTH;
-import static com.io7m.jaccord.core.JaIntervals.MAJOR_SECOND;
-import static com.io7m.jaccord.core.JaIntervals.MAJOR_SEVENTH;
-import static com.io7m.jaccord.core.JaIntervals.MAJOR_SIXTH;
-import static com.io7m.jaccord.core.JaIntervals.MAJOR_TENTH;
-import static com.io7m.jaccord.core.JaIntervals.MAJOR_THIRD;
-import static com.io7m.jaccord.core.JaIntervals.MAJOR_THIRTEENTH;
-import static com.io7m.jaccord.core.JaIntervals.MINOR_FOURTEENTH;
-import static com.io7m.jaccord.core.JaIntervals.MINOR_NINTH;
-import static com.io7m.jaccord.core.JaIntervals.MINOR_SEVENTH;
-import static com.io7m.jaccord.core.JaIntervals.MINOR_TENTH;
-import static com.io7m.jaccord.core.JaIntervals.MINOR_THIRD;
-import static com.io7m.jaccord.core.JaIntervals.MINOR_THIRTEENTH;
-import static com.io7m.jaccord.core.JaIntervals.TRITAVE;
+
+import java.util.Objects;
+
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.AUGMENTED;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DIMINISHED;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DIMINISHED_SEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DOMINANT_ELEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DOMINANT_ELEVENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DOMINANT_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DOMINANT_ELEVENTH_FLAT_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DOMINANT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DOMINANT_SEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DOMINANT_SEVENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DOMINANT_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.DOMINANT_THIRTEENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.HALF_DIMINISHED_SEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_ELEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_ELEVENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_ELEVENTH_FLAT_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_SEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_SEVENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_SIXTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_SIX_NINE;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MAJOR_THIRTEENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_ELEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_ELEVENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_ELEVENTH_FLAT_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_MAJOR_ELEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_MAJOR_ELEVENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_MAJOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_MAJOR_ELEVENTH_FLAT_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_MAJOR_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_MAJOR_SEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_MAJOR_SEVENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_MAJOR_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_MAJOR_THIRTEENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_SEVENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_SEVENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_SIXTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_SIX_NINE;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_THIRTEENTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.MINOR_THIRTEENTH_FLAT_NINTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.NO_THIRD;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.NO_THIRD_NO_FIFTH;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.SUSPENDED_2;
+import static com.io7m.jaccord.chord_names.api.JaChordQuality.SUSPENDED_4;
 
 /**
  * Functions to determine the names of chords.
+ *
+ * Chords are classified by testing bits of an interval mask (see
+ * {@link JaIntervals#mask(io.vavr.collection.SortedSet)}). The classification
+ * yields a quality and the mask of intervals that the quality does not
+ * account for; names in each style are then produced by table lookups.
  */
 
 public final class JaChordNames
 {
+  private static final int B_MAJOR_SECOND = bit(JaIntervals.MAJOR_SECOND);
+  private static final int B_MINOR_THIRD = bit(JaIntervals.MINOR_THIRD);
+  private static final int B_MAJOR_THIRD = bit(JaIntervals.MAJOR_THIRD);
+  private static final int B_FOURTH = bit(JaIntervals.FOURTH);
+  private static final int B_DIMINISHED_FIFTH =
+    bit(JaIntervals.DIMINISHED_FIFTH);
+  private static final int B_FIFTH = bit(JaIntervals.FIFTH);
+  private static final int B_AUGMENTED_FIFTH = bit(JaIntervals.AUGMENTED_FIFTH);
+  private static final int B_MAJOR_SIXTH = bit(JaIntervals.MAJOR_SIXTH);
+  private static final int B_MINOR_SEVENTH = bit(JaIntervals.MINOR_SEVENTH);
+  private static final int B_MAJOR_SEVENTH = bit(JaIntervals.MAJOR_SEVENTH);
+  private static final int B_MINOR_NINTH = bit(JaIntervals.MINOR_NINTH);
+  private static final int B_MAJOR_NINTH = bit(JaIntervals.MAJOR_NINTH);
+  private static final int B_MINOR_TENTH = bit(JaIntervals.MINOR_TENTH);
+  private static final int B_MAJOR_TENTH = bit(JaIntervals.MAJOR_TENTH);
+  private static final int B_ELEVENTH = bit(JaIntervals.ELEVENTH);
+  private static final int B_TRITAVE = bit(JaIntervals.TRITAVE);
+  private static final int B_MINOR_THIRTEENTH =
+    bit(JaIntervals.MINOR_THIRTEENTH);
+  private static final int B_MAJOR_THIRTEENTH =
+    bit(JaIntervals.MAJOR_THIRTEENTH);
+  private static final int B_MINOR_FOURTEENTH =
+    bit(JaIntervals.MINOR_FOURTEENTH);
+  private static final int B_MAJOR_FOURTEENTH =
+    bit(JaIntervals.MAJOR_FOURTEENTH);
+
+  private static final int PERFECT_FIFTHS = B_FIFTH | B_TRITAVE;
+  private static final int FIFTHS =
+    B_FIFTH | B_TRITAVE | B_DIMINISHED_FIFTH | B_AUGMENTED_FIFTH;
+  private static final int MINOR_THIRDS = B_MINOR_THIRD | B_MINOR_TENTH;
+  private static final int MAJOR_THIRDS = B_MAJOR_THIRD | B_MAJOR_TENTH;
+  private static final int MINOR_SEVENTHS =
+    B_MINOR_SEVENTH | B_MINOR_FOURTEENTH;
+  private static final int MAJOR_SEVENTHS =
+    B_MAJOR_SEVENTH | B_MAJOR_FOURTEENTH;
+
+  /*
+   * The extended chord families (major seventh, dominant seventh, minor
+   * seventh, minor-major seventh) are all recognized by the same rules on the
+   * ninth, eleventh, and thirteenth. The arrays below are indexed by the
+   * result of those rules.
+   */
+
+  private static final int EXT_SEVENTH = 0;
+  private static final int EXT_SEVENTH_FLAT_NINTH = 1;
+  private static final int EXT_NINTH = 2;
+  private static final int EXT_ELEVENTH = 3;
+  private static final int EXT_ELEVENTH_FLAT_THIRTEENTH = 4;
+  private static final int EXT_THIRTEENTH = 5;
+  private static final int EXT_ELEVENTH_FLAT_NINTH = 6;
+  private static final int EXT_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH = 7;
+  private static final int EXT_THIRTEENTH_FLAT_NINTH = 8;
+
+  private static final int[] EXTENSION_INTERVALS = {
+    0,
+    B_MINOR_NINTH,
+    B_MAJOR_NINTH,
+    B_MAJOR_NINTH | B_ELEVENTH,
+    B_MAJOR_NINTH | B_ELEVENTH | B_MINOR_THIRTEENTH,
+    B_MAJOR_NINTH | B_ELEVENTH | B_MAJOR_THIRTEENTH,
+    B_MINOR_NINTH | B_ELEVENTH,
+    B_MINOR_NINTH | B_ELEVENTH | B_MINOR_THIRTEENTH,
+    B_MINOR_NINTH | B_ELEVENTH | B_MAJOR_THIRTEENTH,
+  };
+
+  private static final JaChordQuality[] MAJOR_SEVENTH_FAMILY = {
+    MAJOR_SEVENTH,
+    MAJOR_SEVENTH_FLAT_NINTH,
+    MAJOR_NINTH,
+    MAJOR_ELEVENTH,
+    MAJOR_ELEVENTH_FLAT_THIRTEENTH,
+    MAJOR_THIRTEENTH,
+    MAJOR_ELEVENTH_FLAT_NINTH,
+    MAJOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH,
+    MAJOR_THIRTEENTH_FLAT_NINTH,
+  };
+
+  private static final JaChordQuality[] DOMINANT_SEVENTH_FAMILY = {
+    DOMINANT_SEVENTH,
+    DOMINANT_SEVENTH_FLAT_NINTH,
+    DOMINANT_NINTH,
+    DOMINANT_ELEVENTH,
+    DOMINANT_ELEVENTH_FLAT_THIRTEENTH,
+    DOMINANT_THIRTEENTH,
+    DOMINANT_ELEVENTH_FLAT_NINTH,
+    DOMINANT_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH,
+    DOMINANT_THIRTEENTH_FLAT_NINTH,
+  };
+
+  private static final JaChordQuality[] MINOR_SEVENTH_FAMILY = {
+    MINOR_SEVENTH,
+    MINOR_SEVENTH_FLAT_NINTH,
+    MINOR_NINTH,
+    MINOR_ELEVENTH,
+    MINOR_ELEVENTH_FLAT_THIRTEENTH,
+    MINOR_THIRTEENTH,
+    MINOR_ELEVENTH_FLAT_NINTH,
+    MINOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH,
+    MINOR_THIRTEENTH_FLAT_NINTH,
+  };
+
+  private static final JaChordQuality[] MINOR_MAJOR_SEVENTH_FAMILY = {
+    MINOR_MAJOR_SEVENTH,
+    MINOR_MAJOR_SEVENTH_FLAT_NINTH,
+    MINOR_MAJOR_NINTH,
+    MINOR_MAJOR_ELEVENTH,
+    MINOR_MAJOR_ELEVENTH_FLAT_THIRTEENTH,
+    MINOR_MAJOR_THIRTEENTH,
+    MINOR_MAJOR_ELEVENTH_FLAT_NINTH,
+    MINOR_MAJOR_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH,
+    MINOR_MAJOR_THIRTEENTH_FLAT_NINTH,
+  };
+
+  /*
+   * The intervals accounted for by each quality, indexed by ordinal. Any
+   * intervals of a chord that are not present here are named as additions.
+   */
+
+  private static final int[] ACCOUNTED = makeAccounted();
+
   private JaChordNames()
   {
     throw new UnreachableCodeException();
   }
 
+  private static int bit(
+    final Integer interval)
+  {
+    return 1 << interval.intValue();
+  }
+
+  private static int[] makeAccounted()
+  {
+    final int[] accounted = new int[JaChordQuality.values().length];
+
+    accounted[SUSPENDED_4.ordinal()] = B_FOURTH;
+    accounted[SUSPENDED_2.ordinal()] = B_MAJOR_SECOND;
+    accounted[NO_THIRD.ordinal()] = 0;
+    accounted[NO_THIRD_NO_FIFTH.ordinal()] = 0;
+    accounted[AUGMENTED.ordinal()] = MAJOR_THIRDS | FIFTHS;
+    accounted[DIMINISHED.ordinal()] = MINOR_THIRDS | FIFTHS;
+    accounted[DIMINISHED_SEVENTH.ordinal()] =
+      MINOR_THIRDS | B_MAJOR_SIXTH | FIFTHS;
+    accounted[HALF_DIMINISHED_SEVENTH.ordinal()] =
+      MINOR_THIRDS | B_MINOR_SEVENTH | FIFTHS;
+    accounted[MAJOR.ordinal()] = MAJOR_THIRDS;
+    accounted[MAJOR_SIXTH.ordinal()] = MAJOR_THIRDS | B_MAJOR_SIXTH;
+    accounted[MAJOR_SIX_NINE.ordinal()] =
+      MAJOR_THIRDS | B_MAJOR_SIXTH | B_MAJOR_NINTH;
+    accounted[MINOR.ordinal()] = MINOR_THIRDS;
+    accounted[MINOR_SIXTH.ordinal()] = MINOR_THIRDS | B_MAJOR_SIXTH;
+    accounted[MINOR_SIX_NINE.ordinal()] =
+      MINOR_THIRDS | B_MAJOR_SIXTH | B_MAJOR_NINTH;
+
+    for (int index = 0; index < EXTENSION_INTERVALS.length; ++index) {
+      final int ext = EXTENSION_INTERVALS[index];
+      accounted[MAJOR_SEVENTH_FAMILY[index].ordinal()] =
+        MAJOR_THIRDS | MAJOR_SEVENTHS | ext;
+      accounted[DOMINANT_SEVENTH_FAMILY[index].ordinal()] =
+        MAJOR_THIRDS | MINOR_SEVENTHS | ext;
+      accounted[MINOR_SEVENTH_FAMILY[index].ordinal()] =
+        MINOR_THIRDS | MINOR_SEVENTHS | ext;
+      accounted[MINOR_MAJOR_SEVENTH_FAMILY[index].ordinal()] =
+        MINOR_THIRDS | MAJOR_SEVENTHS | ext;
+    }
+
+    /*
+     * A perfect fifth never changes the name of a chord, and so is
+     * accounted for by every quality.
+     */
+
+    for (int index = 0; index < accounted.length; ++index) {
+      accounted[index] |= PERFECT_FIFTHS;
+    }
+    return accounted;
+  }
+
   /**
-   * Attempt to name the given chord.
+   * Attempt to name the given chord in the {@link JaChordNameStyles#UNICODE}
+   * style.
    *
    * @param chord The chord
    *
@@ -70,617 +277,195 @@ public final class JaChordNames
   public static String name(
     final JaChordIntervals chord)
   {
-    Objects.requireNonNull(chord, "Chord");
-
-    final StringBuilder buffer = new StringBuilder(32);
-    final SortedSet<Integer> notes = chord.intervalsNormalized();
-
-    if (notes.isEmpty()) {
-      throw new UnimplementedCodeException();
-    }
-
-    if (notes.contains(MINOR_THIRD)) {
-      if (!notes.contains(FIFTH) && notes.contains(DIMINISHED_FIFTH)) {
-        return nameDiminished(buffer, notes);
-      }
-      return nameMinor(buffer, notes);
-    }
+    return name(chord, JaChordNameStyles.UNICODE);
+  }
 
-    if (notes.contains(MAJOR_THIRD)) {
-      if (!notes.contains(FIFTH) && notes.contains(AUGMENTED_FIFTH)) {
-        return nameAugmented(buffer, notes);
-      }
-      return nameMajor(buffer, notes);
-    }
+  /**
+   * Attempt to name the given chord in the given style.
+   *
+   * @param chord The chord
+   * @param style The naming style
+   *
+   * @return The chord name
+   */
 
-    return suspended(buffer, notes);
+  public static String name(
+    final JaChordIntervals chord,
+    final JaChordNameStyle style)
+  {
+    Objects.requireNonNull(style, "Style");
+    return style.render(classify(chord));
   }
 
-  private static String suspended(
-    final StringBuilder buffer,
-    final SortedSet<Integer> notes)
+  /**
+   * Classify the given chord.
+   *
+   * @param chord The chord
+   *
+   * @return The chord classification
+   */
+
+  public static JaChordClassification classify(
+    final JaChordIntervals chord)
   {
-    if (notes.contains(FOURTH) || notes.contains(ELEVENTH)) {
-      return nameSus("4", FOURTH, buffer, notes);
-    }
+    Objects.requireNonNull(chord, "Chord");
 
-    if (notes.contains(MAJOR_SECOND) || notes.contains(MAJOR_NINTH)) {
-      return nameSus("2", MAJOR_SECOND, buffer, notes);
-    }
+    final int notes =
+      JaIntervals.normalizeMask(JaIntervals.mask(chord.intervals()));
 
-    buffer.append("no3");
-    if (!notes.contains(FIFTH)) {
-      buffer.append("no5");
+    if (notes == 0) {
+      throw new UnimplementedCodeException();
     }
 
-    return addTones(buffer, FifthBehaviour.DO_NOT_IGNORE_FIFTHS, notes);
+    return classifyNormalized(notes);
   }
 
-  private static String nameSus(
-    final String name,
-    final Integer base,
-    final StringBuilder buffer,
-    final SortedSet<Integer> notes)
+  /**
+   * Classify the chord described by the given interval mask.
+   *
+   * @param intervals The interval mask
+   *
+   * @return The chord classification
+   *
+   * @throws IllegalArgumentException If the normalized mask is empty
+   * @see JaIntervals#normalizeMask(int)
+   */
+
+  public static JaChordClassification classifyMask(
+    final int intervals)
   {
-    final TreeSet<Integer> remove = TreeSet.of(base);
-    buffer.append("sus");
-    buffer.append(name);
-    return addTones(
-      buffer,
-      FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-      notes.removeAll(remove));
+    final int notes = JaIntervals.normalizeMask(intervals);
+    if (notes == 0) {
+      throw new IllegalArgumentException(
+        new StringBuilder(64)
+          .append("Interval mask does not describe a chord: 0x")
+          .append(Integer.toUnsignedString(intervals, 16))
+          .toString());
+    }
+    return classifyNormalized(notes);
   }
 
-  private static String nameAugmented(
-    final StringBuilder buffer,
-    final Set<Integer> notes)
+  private static JaChordClassification classifyNormalized(
+    final int notes)
   {
-    final TreeSet<Integer> remove =
-      TreeSet.of(MAJOR_THIRD, MAJOR_TENTH);
-
-    buffer.append("aug");
-    return addTones(
-      buffer,
-      FifthBehaviour.IGNORE_FIFTH,
-      notes.removeAll(remove));
+    final JaChordQuality quality = quality(notes);
+    return JaChordClassification.of(
+      quality, notes & ~ACCOUNTED[quality.ordinal()]);
   }
 
-  private static String nameDiminished(
-    final StringBuilder buffer,
-    final Set<Integer> notes)
+  private static boolean has(
+    final int notes,
+    final int intervals)
   {
-    TreeSet<Integer> remove =
-      TreeSet.of(MINOR_THIRD, MINOR_TENTH);
-
-    if (notes.contains(MAJOR_SIXTH)) {
-      remove = remove.add(MAJOR_SIXTH);
-      buffer.append("dim7");
-      return addTones(
-        buffer,
-        FifthBehaviour.IGNORE_FIFTH,
-        notes.removeAll(remove));
-    }
-
-    if (notes.contains(MINOR_SEVENTH)) {
-      remove = remove.add(MINOR_SEVENTH);
-      buffer.append("m7♭5");
-      return addTones(
-        buffer,
-        FifthBehaviour.IGNORE_FIFTH,
-        notes.removeAll(remove));
-    }
-
-    buffer.append("dim");
-    return addTones(
-      buffer,
-      FifthBehaviour.IGNORE_FIFTH,
-      notes.removeAll(remove));
+    return (notes & intervals) != 0;
   }
 
-  private static String nameMajor(
-    final StringBuilder buffer,
-    final Set<Integer> notes)
+  private static JaChordQuality quality(
+    final int notes)
   {
-    TreeSet<Integer> remove =
-      TreeSet.of(MAJOR_THIRD, MAJOR_TENTH);
-
-    if (notes.contains(MINOR_SEVENTH) || notes.contains(MINOR_FOURTEENTH)) {
-      return nameDominantSeventh(buffer, notes);
-    }
-
-    if (notes.contains(MAJOR_SEVENTH) || notes.contains(MAJOR_FOURTEENTH)) {
-      return nameMajorSeventh(buffer, notes);
+    if (has(notes, B_MINOR_THIRD)) {
+      if (!has(notes, B_FIFTH) && has(notes, B_DIMINISHED_FIFTH)) {
+        return qualityDiminished(notes);
+      }
+      return qualityMinor(notes);
     }
 
-    if (notes.contains(MAJOR_SIXTH)) {
-      remove = remove.add(MAJOR_SIXTH);
-
-      if (notes.contains(MAJOR_NINTH)) {
-        remove = remove.add(MAJOR_NINTH);
-        buffer.append("6/9");
-        return addTones(
-          buffer,
-          FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-          notes.removeAll(remove));
+    if (has(notes, B_MAJOR_THIRD)) {
+      if (!has(notes, B_FIFTH) && has(notes, B_AUGMENTED_FIFTH)) {
+        return AUGMENTED;
       }
-
-      buffer.append('6');
-      return addTones(
-        buffer,
-        FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-        notes.removeAll(remove));
+      return qualityMajor(notes);
     }
 
-    buffer.append('M');
-    return addTones(
-      buffer,
-      FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-      notes.removeAll(remove));
+    return qualitySuspended(notes);
   }
 
-  private static String nameMajorSeventh(
-    final StringBuilder buffer,
-    final Set<Integer> notes)
+  private static JaChordQuality qualitySuspended(
+    final int notes)
   {
-    TreeSet<Integer> remove =
-      TreeSet.of(MAJOR_THIRD, MAJOR_TENTH,
-                 MAJOR_SEVENTH, MAJOR_FOURTEENTH);
-
-    if (notes.contains(MAJOR_NINTH)) {
-      remove = remove.add(MAJOR_NINTH);
-
-      if (notes.contains(ELEVENTH)) {
-        remove = remove.add(ELEVENTH);
-
-        if (notes.contains(MAJOR_THIRTEENTH)) {
-          remove = remove.add(MAJOR_THIRTEENTH);
-          buffer.append("M13");
-          return addTones(
-            buffer,
-            FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-            notes.removeAll(remove));
-        }
-
-        if (notes.contains(MINOR_THIRTEENTH)) {
-          remove = remove.add(MINOR_THIRTEENTH);
-          buffer.append("M11♭13");
-          return addTones(
-            buffer,
-            FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-            notes.removeAll(remove));
-        }
-
-        buffer.append("M11");
-        return addTones(
-          buffer,
-          FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-          notes.removeAll(remove));
-      }
-
-      buffer.append("M9");
-      return addTones(
-        buffer,
-        FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-        notes.removeAll(remove));
+    if (has(notes, B_FOURTH | B_ELEVENTH)) {
+      return SUSPENDED_4;
     }
-
-    if (notes.contains(MINOR_NINTH)) {
-      remove = remove.add(MINOR_NINTH);
-
-      if (notes.contains(ELEVENTH)) {
-        remove = remove.add(ELEVENTH);
-
-        if (notes.contains(MAJOR_THIRTEENTH)) {
-          remove = remove.add(MAJOR_THIRTEENTH);
-          buffer.append("M13♭9");
-          return addTones(
-            buffer,
-            FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-            notes.removeAll(remove));
-        }
-
-        if (notes.contains(MINOR_THIRTEENTH)) {
-          remove = remove.add(MINOR_THIRTEENTH);
-          buffer.append("M11♭9♭13");
-          return addTones(
-            buffer,
-            FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-            notes.removeAll(remove));
-        }
-
-        buffer.append("M11♭9");
-        return addTones(
-          buffer,
-          FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-          notes.removeAll(remove));
-      }
-
-      buffer.append("M7♭9");
-      return addTones(
-        buffer,
-        FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-        notes.removeAll(remove));
+    if (has(notes, B_MAJOR_SECOND | B_MAJOR_NINTH)) {
+      return SUSPENDED_2;
     }
-
-    buffer.append("M7");
-    return addTones(
-      buffer,
-      FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-      notes.removeAll(remove));
+    if (has(notes, B_FIFTH)) {
+      return NO_THIRD;
+    }
+    return NO_THIRD_NO_FIFTH;
   }
 
-  private static String nameDominantSeventh(
-    final StringBuilder buffer,
-    final Set<Integer> notes)
+  private static JaChordQuality qualityDiminished(
+    final int notes)
   {
-    TreeSet<Integer> remove =
-      TreeSet.of(MAJOR_THIRD, MAJOR_TENTH,
-                 MINOR_SEVENTH, MINOR_FOURTEENTH);
-
-    if (notes.contains(MAJOR_NINTH)) {
-      remove = remove.add(MAJOR_NINTH);
-
-      if (notes.contains(ELEVENTH)) {
-        remove = remove.add(ELEVENTH);
-
-        if (notes.contains(MAJOR_THIRTEENTH)) {
-          remove = remove.add(MAJOR_THIRTEENTH);
-          buffer.append("13");
-          return addTones(
-            buffer,
-            FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-            notes.removeAll(remove));
-        }
-
-        if (notes.contains(MINOR_THIRTEENTH)) {
-          remove = remove.add(MINOR_THIRTEENTH);
-          buffer.append("11♭13");
-          return addTones(
-            buffer,
-            FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-            notes.removeAll(remove));
-        }
-
-        buffer.append("11");
-        return addTones(
-          buffer,
-          FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-          notes.removeAll(remove));
-      }
-
-      buffer.append('9');
-      return addTones(
-        buffer,
-        FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-        notes.removeAll(remove));
+    if (has(notes, B_MAJOR_SIXTH)) {
+      return DIMINISHED_SEVENTH;
     }
-
-    if (notes.contains(MINOR_NINTH)) {
-      remove = remove.add(MINOR_NINTH);
-
-      if (notes.contains(ELEVENTH)) {
-        remove = remove.add(ELEVENTH);
-
-        if (notes.contains(MAJOR_THIRTEENTH)) {
-          remove = remove.add(MAJOR_THIRTEENTH);
-          buffer.append("13♭9");
-          return addTones(
-            buffer,
-            FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-            notes.removeAll(remove));
-        }
-
-        if (notes.contains(MINOR_THIRTEENTH)) {
-          remove = remove.add(MINOR_THIRTEENTH);
-          buffer.append("11♭9♭13");
-          return addTones(
-            buffer,
-            FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-            notes.removeAll(remove));
-        }
-
-        buffer.append("11♭9");
-        return addTones(
-          buffer,
-          FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-          notes.removeAll(remove));
-      }
-
-      buffer.append("7♭9");
-      return addTones(
-        buffer,
-        FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-        notes.removeAll(remove));
+    if (has(notes, B_MINOR_SEVENTH)) {
+      return HALF_DIMINISHED_SEVENTH;
     }
-
-    buffer.append('7');
-    return addTones(
-      buffer,
-      FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-      notes.removeAll(remove));
+    return DIMINISHED;
   }
 
-  private static String nameMinor(
-    final StringBuilder buffer,
-    final Set<Integer> notes)
+  private static JaChordQuality qualityMajor(
+    final int notes)
   {
-    TreeSet<Integer> remove =
-      TreeSet.of(MINOR_THIRD, MINOR_TENTH);
-
-    if (notes.contains(MINOR_SEVENTH) || notes.contains(MINOR_FOURTEENTH)) {
-      return nameMinorSeventh(buffer, notes);
+    if (has(notes, MINOR_SEVENTHS)) {
+      return DOMINANT_SEVENTH_FAMILY[extension(notes)];
     }
-
-    if (notes.contains(MAJOR_SEVENTH) || notes.contains(MAJOR_FOURTEENTH)) {
-      return nameMinorMajorSeventh(buffer, notes);
+    if (has(notes, MAJOR_SEVENTHS)) {
+      return MAJOR_SEVENTH_FAMILY[extension(notes)];
     }
-
-    if (notes.contains(MAJOR_SIXTH)) {
-      remove = remove.add(MAJOR_SIXTH);
-
-      if (notes.contains(MAJOR_NINTH)) {
-        remove = remove.add(MAJOR_NINTH);
-        buffer.append("mM6/9");
-        return addTones(
-          buffer,
-          FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-          notes.removeAll(remove));
-      }
-
-      buffer.append("mM6");
-      return addTones(
-        buffer,
-        FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-        notes.removeAll(remove));
+    if (has(notes, B_MAJOR_SIXTH)) {
+      return has(notes, B_MAJOR_NINTH) ? MAJOR_SIX_NINE : MAJOR_SIXTH;
     }
-
-    buffer.append('m');
-    return addTones(
-      buffer,
-      FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-      notes.removeAll(remove));
+    return MAJOR;
   }
 
-  private static String nameMinorMajorSeventh(
-    final StringBuilder buffer,
-    final Set<Integer> notes)
+  private static JaChordQuality qualityMinor(
+    final int notes)
   {
-    TreeSet<Integer> remove =
-      TreeSet.of(MINOR_THIRD, MINOR_TENTH,
-                 MAJOR_SEVENTH, MAJOR_FOURTEENTH);
-
-    if (notes.contains(MAJOR_NINTH)) {
-      remove = remove.add(MAJOR_NINTH);
-
-      if (notes.contains(ELEVENTH)) {
-        remove = remove.add(ELEVENTH);
-
-        if (notes.contains(MAJOR_THIRTEENTH)) {
-          remove = remove.add(MAJOR_THIRTEENTH);
-          buffer.append("m13M7");
-          return addTones(
-            buffer,
-            FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-            notes.removeAll(remove));
-        }
-
-        if (notes.contains(MINOR_THIRTEENTH)) {
-          remove = remove.add(MINOR_THIRTEENTH);
-          buffer.append("m11M7♭13");
-          return addTones(
-            buffer,
-            FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-            notes.removeAll(remove));
-        }
-
-        buffer.append("m11M7");
-        return addTones(
-          buffer,
-          FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-          notes.removeAll(remove));
-      }
-
-      buffer.append("m9M7");
-      return addTones(
-        buffer,
-        FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-        notes.removeAll(remove));
+    if (has(notes, MINOR_SEVENTHS)) {
+      return MINOR_SEVENTH_FAMILY[extension(notes)];
     }
-
-    if (notes.contains(MINOR_NINTH)) {
-      remove = remove.add(MINOR_NINTH);
-
-      if (notes.contains(ELEVENTH)) {
-        remove = remove.add(ELEVENTH);
-
-        if (notes.contains(MAJOR_THIRTEENTH)) {
-          remove = remove.add(MAJOR_THIRTEENTH);
-          buffer.append("m13M7♭9");
-          return addTones(
-            buffer,
-            FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-            notes.removeAll(remove));
-        }
-
-        if (notes.contains(MINOR_THIRTEENTH)) {
-          remove = remove.add(MINOR_THIRTEENTH);
-          buffer.append("m11M7♭9♭13");
-          return addTones(
-            buffer,
-            FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-            notes.removeAll(remove));
-        }
-
-        buffer.append("m11M7♭9");
-        return addTones(
-          buffer,
-          FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-          notes.removeAll(remove));
-      }
-
-      buffer.append("mM7♭9");
-      return addTones(
-        buffer,
-        FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-        notes.removeAll(remove));
+    if (has(notes, MAJOR_SEVENTHS)) {
+      return MINOR_MAJOR_SEVENTH_FAMILY[extension(notes)];
     }
-
-    buffer.append("mM7");
-    return addTones(
-      buffer,
-      FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-      notes.removeAll(remove));
+    if (has(notes, B_MAJOR_SIXTH)) {
+      return has(notes, B_MAJOR_NINTH) ? MINOR_SIX_NINE : MINOR_SIXTH;
+    }
+    return MINOR;
   }
 
-  private static String nameMinorSeventh(
-    final StringBuilder buffer,
-    final Set<Integer> notes)
+  private static int extension(
+    final int notes)
   {
-    TreeSet<Integer> remove =
-      TreeSet.of(MINOR_THIRD, MINOR_TENTH,
-                 MINOR_SEVENTH, MINOR_FOURTEENTH);
-
-    if (notes.contains(MAJOR_NINTH)) {
-      remove = remove.add(MAJOR_NINTH);
-
-      if (notes.contains(ELEVENTH)) {
-        remove = remove.add(ELEVENTH);
-
-        if (notes.contains(MAJOR_THIRTEENTH)) {
-          remove = remove.add(MAJOR_THIRTEENTH);
-          buffer.append("m13");
-          return addTones(
-            buffer,
-            FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-            notes.removeAll(remove));
+    if (has(notes, B_MAJOR_NINTH)) {
+      if (has(notes, B_ELEVENTH)) {
+        if (has(notes, B_MAJOR_THIRTEENTH)) {
+          return EXT_THIRTEENTH;
         }
-
-        if (notes.contains(MINOR_THIRTEENTH)) {
-          remove = remove.add(MINOR_THIRTEENTH);
-          buffer.append("m11♭13");
-          return addTones(
-            buffer,
-            FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-            notes.removeAll(remove));
+        if (has(notes, B_MINOR_THIRTEENTH)) {
+          return EXT_ELEVENTH_FLAT_THIRTEENTH;
         }
-
-        buffer.append("m11");
-        return addTones(
-          buffer,
-          FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-          notes.removeAll(remove));
+        return EXT_ELEVENTH;
       }
-
-      buffer.append("m9");
-      return addTones(
-        buffer,
-        FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-        notes.removeAll(remove));
+      return EXT_NINTH;
     }
 
-    if (notes.contains(MINOR_NINTH)) {
-      remove = remove.add(MINOR_NINTH);
-
-      if (notes.contains(ELEVENTH)) {
-        remove = remove.add(ELEVENTH);
-
-        if (notes.contains(MAJOR_THIRTEENTH)) {
-          remove = remove.add(MAJOR_THIRTEENTH);
-          buffer.append("m13♭9");
-          return addTones(
-            buffer,
-            FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-            notes.removeAll(remove));
+    if (has(notes, B_MINOR_NINTH)) {
+      if (has(notes, B_ELEVENTH)) {
+        if (has(notes, B_MAJOR_THIRTEENTH)) {
+          return EXT_THIRTEENTH_FLAT_NINTH;
         }
-
-        if (notes.contains(MINOR_THIRTEENTH)) {
-          remove = remove.add(MINOR_THIRTEENTH);
-          buffer.append("m11♭9♭13");
-          return addTones(
-            buffer,
-            FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-            notes.removeAll(remove));
+        if (has(notes, B_MINOR_THIRTEENTH)) {
+          return EXT_ELEVENTH_FLAT_NINTH_FLAT_THIRTEENTH;
         }
-
-        buffer.append("m11♭9");
-        return addTones(
-          buffer,
-          FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-          notes.removeAll(remove));
+        return EXT_ELEVENTH_FLAT_NINTH;
       }
-
-      buffer.append("m7♭9");
-      return addTones(
-        buffer,
-        FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-        notes.removeAll(remove));
+      return EXT_SEVENTH_FLAT_NINTH;
     }
 
-    buffer.append("m7");
-    return addTones(
-      buffer,
-      FifthBehaviour.DO_NOT_IGNORE_FIFTHS,
-      notes.removeAll(remove));
-  }
-
-  private enum FifthBehaviour
-  {
-    IGNORE_FIFTH,
-    DO_NOT_IGNORE_FIFTHS
-  }
-
-  private static String addTones(
-    final StringBuilder buffer,
-    final FifthBehaviour fifths,
-    final Set<Integer> intervals)
-  {
-    Set<Integer> add_intervals = intervals;
-    switch (fifths) {
-      case IGNORE_FIFTH: {
-        add_intervals = intervals.removeAll(
-          TreeSet.of(FIFTH, TRITAVE, DIMINISHED_FIFTH, AUGMENTED_FIFTH));
-        break;
-      }
-      case DO_NOT_IGNORE_FIFTHS: {
-        add_intervals = intervals;
-        break;
-      }
-    }
-
-    add_intervals.forEach(i -> buffer.append(addTone(i)));
-    return buffer.toString().trim();
-  }
-
-  private static final Map<Integer, String> CHORD_TONE_NAMES =
-    makeChordToneNames();
-
-  private static Map<Integer, String> makeChordToneNames()
-  {
-    final HashMap<Integer, String> names = new HashMap<>(24);
-    names.put(1, "add♭2");
-    names.put(2, "add2");
-    names.put(5, "add4");
-    names.put(6, "add♯4");
-    names.put(8, "add♭6");
-    names.put(9, "add6");
-    names.put(10, "add♭7");
-    names.put(11, "add7");
-    names.put(13, "add♭9");
-    names.put(14, "add9");
-    names.put(15, "add♯9");
-    names.put(16, "add♭11");
-    names.put(17, "add11");
-    names.put(18, "add♯11");
-    names.put(20, "add♭13");
-    names.put(21, "add13");
-    names.put(22, "add♭14");
-    names.put(23, "add14");
-    return io.vavr.collection.HashMap.ofAll(names);
-  }
-
-  private static String addTone(
-    final Integer interval)
-  {
-    return CHORD_TONE_NAMES.getOrElse(interval, "");
+    return EXT_SEVENTH;
   }
 }
@@ -16,6 +16,7 @@
 
 package com.io7m.jaccord.chord_names.vanilla;
 
+import com.io7m.jaccord.chord_names.api.JaChordClassification;
 import com.io7m.jaccord.chord_names.api.JaChordNamesType;
 import com.io7m.jaccord.core.JaChordIntervals;
 
@@ -35,8 +36,14 @@ public final class JaChordNamesVanilla implements JaChordNamesType
   }
 
   @Override
-  public String name(final JaChordIntervals chord)
+  public JaChordClassification classify(final JaChordIntervals chord)
   {
-    return JaChordNames.name(chord);
+    return JaChordNames.classify(chord);
+  }
+
+  @Override
+  public JaChordClassification classifyMask(final int intervals)
+  {
+    return JaChordNames.classifyMask(intervals);
   }
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.codec;
+
+import com.io7m.jaccord.core.JaIntervals;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * <p>Definitions of the binary encoding.</p>
+ *
+ * <p>An encoded stream begins with a header consisting of the 32-bit
+ * big-endian value {@link #MAGIC} followed by the 16-bit big-endian format
+ * {@link #VERSION}. The header is followed by zero or more records, each of
+ * which begins with the tag byte of a {@link JaCodecRecordKind}:</p>
+ *
+ * <ul>
+ *   <li>A chord is a single unsigned varint holding the root note in the
+ *   low nibble and the chord interval mask in the remaining bits.</li>
+ *   <li>A scale is encoded in the same way, with a scale interval mask.</li>
+ *   <li>A slash chord is a byte holding the bass note, followed by a
+ *   chord.</li>
+ *   <li>A progression is an unsigned varint change count, followed by that
+ *   many changes, each of which is a chord followed by an unsigned varint
+ *   number of beats.</li>
+ * </ul>
+ *
+ * <p>Varints are encoded seven bits at a time, least significant group
+ * first, with the high bit of each byte set on all but the last byte.
+ * Interval masks are as per {@link JaIntervals#mask(io.vavr.collection.SortedSet)}
+ * and notes are encoded as their ordinals.</p>
+ */
+
+public final class JaCodec
+{
+  /**
+   * The magic number that begins every stream ({@code "JCBC"}).
+   */
+
+  public static final int MAGIC = 0x4a434243;
+
+  /**
+   * The current format version.
+   */
+
+  public static final int VERSION = 1;
+
+  /**
+   * The size in bytes of a stream header.
+   */
+
+  public static final int HEADER_SIZE = 6;
+
+  /**
+   * The maximum size in bytes of an encoded varint.
+   */
+
+  public static final int MAXIMUM_VARINT_SIZE = 5;
+
+  /**
+   * The maximum number of changes in a progression.
+   */
+
+  public static final int MAXIMUM_PROGRESSION_LENGTH = 1 << 24;
+
+  private static final int NOTE_COUNT = 12;
+  private static final int CHORD_INTERVALS = 0x1ffffff;
+  private static final int SCALE_INTERVALS = 0xffe;
+
+  private JaCodec()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Write an unsigned varint.
+   *
+   * @param buffer The output buffer
+   * @param value  The value, treated as unsigned
+   */
+
+  public static void putVarint(
+    final ByteBuffer buffer,
+    final int value)
+  {
+    int remaining = value;
+    while ((remaining & ~0x7f) != 0) {
+      buffer.put((byte) ((remaining & 0x7f) | 0x80));
+      remaining >>>= 7;
+    }
+    buffer.put((byte) remaining);
+  }
+
+  /**
+   * @param value The value, treated as unsigned
+   *
+   * @return The size in bytes of the varint encoding of {@code value}
+   */
+
+  public static int varintSize(
+    final int value)
+  {
+    final int bits = 32 - Integer.numberOfLeadingZeros(value | 1);
+    return (bits + 6) / 7;
+  }
+
+  /**
+   * Pack a note and an interval mask into a single word.
+   *
+   * @param note The note ordinal
+   * @param mask The interval mask
+   *
+   * @return The packed word
+   */
+
+  public static int packNoteMask(
+    final int note,
+    final int mask)
+  {
+    return (mask << 4) | note;
+  }
+
+  /**
+   * Check that a note ordinal is valid.
+   *
+   * @param note The note ordinal
+   *
+   * @return {@code note}
+   *
+   * @throws IOException If the note is not valid
+   */
+
+  static int checkNote(
+    final int note)
+    throws IOException
+  {
+    if (note < 0 || note >= NOTE_COUNT) {
+      throw malformed("Note out of range", note);
+    }
+    return note;
+  }
+
+  /**
+   * Check that a chord interval mask is valid.
+   *
+   * @param mask The mask
+   *
+   * @return {@code mask}
+   *
+   * @throws IOException If the mask is not a valid chord
+   */
+
+  static int checkChordMask(
+    final int mask)
+    throws IOException
+  {
+    if ((mask & ~CHORD_INTERVALS) != 0 || JaIntervals.normalizeMask(mask) == 0) {
+      throw malformed("Invalid chord intervals", mask);
+    }
+    return mask;
+  }
+
+  /**
+   * Check that a scale interval mask is valid.
+   *
+   * @param mask The mask
+   *
+   * @return {@code mask}
+   *
+   * @throws IOException If the mask is not a valid scale
+   */
+
+  static int checkScaleMask(
+    final int mask)
+    throws IOException
+  {
+    if ((mask & ~SCALE_INTERVALS) != 0) {
+      throw malformed("Invalid scale intervals", mask);
+    }
+    return mask;
+  }
+
+  static IOException malformed(
+    final String message,
+    final int value)
+  {
+    return new IOException(
+      new StringBuilder(64)
+        .append("Malformed stream: ")
+        .append(message)
+        .append(": 0x")
+        .append(Integer.toUnsignedString(value, 16))
+        .toString());
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.codec;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import com.io7m.jaccord.core.JaChord;
+import org.immutables.value.Value;
+
+import static org.immutables.value.Value.Immutable;
+
+/**
+ * A decoded chord change: a chord held for a number of beats.
+ */
+
+@ImmutablesStyleType
+@Immutable
+public interface JaCodecChangeType
+{
+  /**
+   * @return The chord
+   */
+
+  @Value.Parameter
+  JaChord chord();
+
+  /**
+   * @return The number of beats that the chord is held
+   */
+
+  @Value.Parameter
+  int beats();
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    if (this.beats() < 0) {
+      throw new IllegalArgumentException(
+        new StringBuilder(32)
+          .append("Beats must be non-negative: ")
+          .append(this.beats())
+          .toString());
+    }
+  }
+}
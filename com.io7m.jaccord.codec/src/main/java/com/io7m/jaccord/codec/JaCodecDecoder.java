@@ -0,0 +1,448 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.codec;
+
+import com.io7m.jaccord.core.JaChord;
+import com.io7m.jaccord.core.JaChordIntervals;
+import com.io7m.jaccord.core.JaChordSlash;
+import com.io7m.jaccord.core.JaIntervals;
+import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.core.JaScale;
+import com.io7m.jaccord.core.JaScaleIntervals;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>A streaming decoder.</p>
+ *
+ * <p>A decoder reads either from a channel, through a reusable internal
+ * buffer, or directly from a caller-supplied buffer. Each call to
+ * {@link #next()} decodes one record into reusable primitive fields, which
+ * can be read without allocation using methods such as {@link #root()} and
+ * {@link #intervals()}. Immutable values are only created when requested
+ * with methods such as {@link #chord()}. Instances are not thread-safe.</p>
+ *
+ * @see JaCodec
+ */
+
+public final class JaCodecDecoder
+{
+  private static final int BUFFER_SIZE = 8192;
+  private static final JaNote[] NOTES = JaNote.values();
+
+  private final ReadableByteChannel channel;
+  private final ByteBuffer buffer;
+  private JaCodecRecordKind kind;
+  private int bass;
+  private int root;
+  private int intervals;
+  private int change_count;
+  private int[] change_roots;
+  private int[] change_intervals;
+  private int[] change_beats;
+
+  private JaCodecDecoder(
+    final ReadableByteChannel in_channel,
+    final ByteBuffer in_buffer)
+  {
+    this.channel = in_channel;
+    this.buffer = Objects.requireNonNull(in_buffer, "Buffer");
+    this.buffer.order(ByteOrder.BIG_ENDIAN);
+    this.change_roots = new int[16];
+    this.change_intervals = new int[16];
+    this.change_beats = new int[16];
+  }
+
+  /**
+   * Create a decoder that reads from a channel. The stream header is read
+   * and checked immediately.
+   *
+   * @param channel The input channel
+   *
+   * @return A decoder
+   *
+   * @throws IOException On I/O errors, or if the header is not valid
+   */
+
+  public static JaCodecDecoder create(
+    final ReadableByteChannel channel)
+    throws IOException
+  {
+    Objects.requireNonNull(channel, "Channel");
+    final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    buffer.flip();
+    final JaCodecDecoder decoder = new JaCodecDecoder(channel, buffer);
+    decoder.readHeader();
+    return decoder;
+  }
+
+  /**
+   * Create a decoder that reads directly from the remaining bytes of a
+   * buffer. The stream header is read and checked immediately.
+   *
+   * @param buffer The input buffer
+   *
+   * @return A decoder
+   *
+   * @throws IOException If the header is not valid
+   */
+
+  public static JaCodecDecoder createForBuffer(
+    final ByteBuffer buffer)
+    throws IOException
+  {
+    final JaCodecDecoder decoder = new JaCodecDecoder(null, buffer);
+    decoder.readHeader();
+    return decoder;
+  }
+
+  private void readHeader()
+    throws IOException
+  {
+    this.require(JaCodec.HEADER_SIZE);
+
+    final int magic = this.buffer.getInt();
+    if (magic != JaCodec.MAGIC) {
+      throw JaCodec.malformed("Bad magic number", magic);
+    }
+    final int version = Short.toUnsignedInt(this.buffer.getShort());
+    if (version != JaCodec.VERSION) {
+      throw JaCodec.malformed("Unsupported version", version);
+    }
+  }
+
+  private boolean fill(
+    final int size)
+    throws IOException
+  {
+    if (this.buffer.remaining() >= size) {
+      return true;
+    }
+    if (this.channel == null) {
+      return false;
+    }
+
+    this.buffer.compact();
+    try {
+      while (this.buffer.position() < size) {
+        if (this.channel.read(this.buffer) < 0) {
+          break;
+        }
+      }
+    } finally {
+      this.buffer.flip();
+    }
+    return this.buffer.remaining() >= size;
+  }
+
+  private void require(
+    final int size)
+    throws IOException
+  {
+    if (!this.fill(size)) {
+      throw new EOFException("Unexpected end of stream");
+    }
+  }
+
+  private int readVarint()
+    throws IOException
+  {
+    int value = 0;
+    for (int index = 0; index < JaCodec.MAXIMUM_VARINT_SIZE; ++index) {
+      this.require(1);
+      final int b = Byte.toUnsignedInt(this.buffer.get());
+      value |= (b & 0x7f) << (7 * index);
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw JaCodec.malformed("Varint too long", value);
+  }
+
+  /**
+   * Decode the next record.
+   *
+   * @return {@code true} if a record was decoded, or {@code false} at the
+   * end of the stream
+   *
+   * @throws IOException On I/O errors, or if the record is malformed
+   */
+
+  public boolean next()
+    throws IOException
+  {
+    this.kind = null;
+    if (!this.fill(1)) {
+      return false;
+    }
+
+    final int tag = Byte.toUnsignedInt(this.buffer.get());
+    final JaCodecRecordKind next_kind;
+    try {
+      next_kind = JaCodecRecordKind.ofTag(tag);
+    } catch (final IllegalArgumentException e) {
+      throw JaCodec.malformed("Unrecognized record tag", tag);
+    }
+
+    switch (next_kind) {
+      case CHORD: {
+        this.readChord();
+        break;
+      }
+      case SCALE: {
+        final int word = this.readVarint();
+        this.root = JaCodec.checkNote(word & 0xf);
+        this.intervals = JaCodec.checkScaleMask(word >>> 4);
+        break;
+      }
+      case SLASH_CHORD: {
+        this.require(1);
+        this.bass = JaCodec.checkNote(Byte.toUnsignedInt(this.buffer.get()));
+        this.readChord();
+        break;
+      }
+      case PROGRESSION: {
+        this.readProgression();
+        break;
+      }
+    }
+
+    this.kind = next_kind;
+    return true;
+  }
+
+  private void readChord()
+    throws IOException
+  {
+    final int word = this.readVarint();
+    this.root = JaCodec.checkNote(word & 0xf);
+    this.intervals = JaCodec.checkChordMask(word >>> 4);
+  }
+
+  private void readProgression()
+    throws IOException
+  {
+    final int count = this.readVarint();
+    if (count < 0 || count > JaCodec.MAXIMUM_PROGRESSION_LENGTH) {
+      throw JaCodec.malformed("Progression too long", count);
+    }
+
+    /*
+     * The count is untrusted, so the change arrays are grown only as changes
+     * are actually decoded.
+     */
+
+    for (int index = 0; index < count; ++index) {
+      if (index == this.change_roots.length) {
+        this.growChanges(count);
+      }
+      this.readChord();
+      this.change_roots[index] = this.root;
+      this.change_intervals[index] = this.intervals;
+      final int beats = this.readVarint();
+      if (beats < 0) {
+        throw JaCodec.malformed("Beats out of range", beats);
+      }
+      this.change_beats[index] = beats;
+    }
+    this.change_count = count;
+  }
+
+  private void growChanges(
+    final int count)
+  {
+    final int size =
+      Math.min(count, Math.max(16, this.change_roots.length * 2));
+    this.change_roots = Arrays.copyOf(this.change_roots, size);
+    this.change_intervals = Arrays.copyOf(this.change_intervals, size);
+    this.change_beats = Arrays.copyOf(this.change_beats, size);
+  }
+
+  private void checkKind(
+    final JaCodecRecordKind expected)
+  {
+    if (this.kind != expected) {
+      throw new IllegalStateException(
+        new StringBuilder(64)
+          .append("Current record is ")
+          .append(this.kind)
+          .append(", not ")
+          .append(expected)
+          .toString());
+    }
+  }
+
+  /**
+   * @return The kind of the current record
+   *
+   * @throws IllegalStateException If there is no current record
+   */
+
+  public JaCodecRecordKind kind()
+  {
+    if (this.kind == null) {
+      throw new IllegalStateException("No current record");
+    }
+    return this.kind;
+  }
+
+  /**
+   * @return The root note of the current chord, scale, or slash chord
+   */
+
+  public JaNote root()
+  {
+    return NOTES[this.root];
+  }
+
+  /**
+   * @return The interval mask of the current chord, scale, or slash chord
+   */
+
+  public int intervals()
+  {
+    return this.intervals;
+  }
+
+  /**
+   * @return The bass note of the current slash chord
+   */
+
+  public JaNote bass()
+  {
+    this.checkKind(JaCodecRecordKind.SLASH_CHORD);
+    return NOTES[this.bass];
+  }
+
+  /**
+   * @return The current chord
+   */
+
+  public JaChord chord()
+  {
+    this.checkKind(JaCodecRecordKind.CHORD);
+    return makeChord(this.root, this.intervals);
+  }
+
+  /**
+   * @return The current scale
+   */
+
+  public JaScale scale()
+  {
+    this.checkKind(JaCodecRecordKind.SCALE);
+    return JaScale.of(
+      NOTES[this.root], JaScaleIntervals.of(JaIntervals.ofMask(this.intervals)));
+  }
+
+  /**
+   * @return The current slash chord
+   */
+
+  public JaChordSlash slashChord()
+  {
+    this.checkKind(JaCodecRecordKind.SLASH_CHORD);
+    return JaChordSlash.of(
+      NOTES[this.bass], makeChord(this.root, this.intervals));
+  }
+
+  /**
+   * @return The number of changes in the current progression
+   */
+
+  public int changeCount()
+  {
+    this.checkKind(JaCodecRecordKind.PROGRESSION);
+    return this.change_count;
+  }
+
+  /**
+   * @param index The index of a change in the current progression
+   *
+   * @return The root note of the chord of the change
+   */
+
+  public JaNote changeRoot(
+    final int index)
+  {
+    return NOTES[this.change_roots[this.checkChange(index)]];
+  }
+
+  /**
+   * @param index The index of a change in the current progression
+   *
+   * @return The interval mask of the chord of the change
+   */
+
+  public int changeIntervals(
+    final int index)
+  {
+    return this.change_intervals[this.checkChange(index)];
+  }
+
+  /**
+   * @param index The index of a change in the current progression
+   *
+   * @return The number of beats of the change
+   */
+
+  public int changeBeats(
+    final int index)
+  {
+    return this.change_beats[this.checkChange(index)];
+  }
+
+  /**
+   * @return The changes of the current progression
+   */
+
+  public List<JaCodecChange> changes()
+  {
+    final int count = this.changeCount();
+    final ArrayList<JaCodecChange> changes = new ArrayList<>(count);
+    for (int index = 0; index < count; ++index) {
+      changes.add(
+        JaCodecChange.of(
+          makeChord(this.change_roots[index], this.change_intervals[index]),
+          this.change_beats[index]));
+    }
+    return changes;
+  }
+
+  private int checkChange(
+    final int index)
+  {
+    Objects.checkIndex(index, this.changeCount());
+    return index;
+  }
+
+  private static JaChord makeChord(
+    final int root,
+    final int intervals)
+  {
+    return JaChord.of(
+      NOTES[root], JaChordIntervals.of(JaIntervals.ofMask(intervals)));
+  }
+}
@@ -0,0 +1,422 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.codec;
+
+import com.io7m.jaccord.core.JaChord;
+import com.io7m.jaccord.core.JaChordSlash;
+import com.io7m.jaccord.core.JaIntervals;
+import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.core.JaScale;
+import com.io7m.jaccord.cpdsl.JaCPDSL;
+import io.vavr.collection.Vector;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>A streaming encoder.</p>
+ *
+ * <p>An encoder writes either to a channel, through a reusable internal
+ * buffer that is flushed whenever it fills, or directly into a
+ * caller-supplied buffer. The stream header is written when the encoder is
+ * created. Instances are not thread-safe.</p>
+ *
+ * @see JaCodec
+ */
+
+public final class JaCodecEncoder implements Closeable
+{
+  private static final int BUFFER_SIZE = 8192;
+  private static final int MAXIMUM_RECORD_SIZE =
+    2 + (2 * JaCodec.MAXIMUM_VARINT_SIZE);
+
+  private final WritableByteChannel channel;
+  private final ByteBuffer buffer;
+
+  private JaCodecEncoder(
+    final WritableByteChannel in_channel,
+    final ByteBuffer in_buffer)
+  {
+    this.channel = in_channel;
+    this.buffer = Objects.requireNonNull(in_buffer, "Buffer");
+    this.buffer.order(ByteOrder.BIG_ENDIAN);
+  }
+
+  /**
+   * Create an encoder that writes to a channel.
+   *
+   * @param channel The output channel
+   *
+   * @return An encoder
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static JaCodecEncoder create(
+    final WritableByteChannel channel)
+    throws IOException
+  {
+    Objects.requireNonNull(channel, "Channel");
+    final JaCodecEncoder encoder =
+      new JaCodecEncoder(channel, ByteBuffer.allocate(BUFFER_SIZE));
+    encoder.writeHeader();
+    return encoder;
+  }
+
+  /**
+   * Create an encoder that writes directly into a buffer, starting at the
+   * buffer's current position. Writes that do not fit in the buffer raise
+   * {@link BufferOverflowException}, and leave the position of the buffer
+   * where it was before the write.
+   *
+   * @param buffer The output buffer
+   *
+   * @return An encoder
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static JaCodecEncoder createForBuffer(
+    final ByteBuffer buffer)
+    throws IOException
+  {
+    final JaCodecEncoder encoder = new JaCodecEncoder(null, buffer);
+    encoder.writeHeader();
+    return encoder;
+  }
+
+  private void writeHeader()
+    throws IOException
+  {
+    this.reserve(JaCodec.HEADER_SIZE);
+    final int start = this.buffer.position();
+    try {
+      this.buffer.putInt(JaCodec.MAGIC);
+      this.buffer.putShort((short) JaCodec.VERSION);
+    } catch (final BufferOverflowException e) {
+      this.rewind(start);
+      throw e;
+    }
+  }
+
+  /*
+   * Only encoders that write directly into a buffer can overflow: channel
+   * encoders reserve space for each record by flushing, and so the saved
+   * position is never stale when this is called.
+   */
+
+  private void rewind(
+    final int start)
+  {
+    if (this.channel == null) {
+      this.buffer.position(start);
+    }
+  }
+
+  private void reserve(
+    final int size)
+    throws IOException
+  {
+    if (this.channel != null && this.buffer.remaining() < size) {
+      this.flush();
+    }
+  }
+
+  /**
+   * Write a chord.
+   *
+   * @param root      The root note
+   * @param intervals The chord interval mask
+   *
+   * @throws IOException On I/O errors, or if the mask is not a valid chord
+   */
+
+  public void writeChord(
+    final JaNote root,
+    final int intervals)
+    throws IOException
+  {
+    Objects.requireNonNull(root, "Root");
+    JaCodec.checkChordMask(intervals);
+
+    this.reserve(MAXIMUM_RECORD_SIZE);
+    final int start = this.buffer.position();
+    try {
+      this.buffer.put((byte) JaCodecRecordKind.CHORD.tag());
+      JaCodec.putVarint(
+        this.buffer, JaCodec.packNoteMask(root.ordinal(), intervals));
+    } catch (final BufferOverflowException e) {
+      this.rewind(start);
+      throw e;
+    }
+  }
+
+  /**
+   * Write a chord.
+   *
+   * @param chord The chord
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public void writeChord(
+    final JaChord chord)
+    throws IOException
+  {
+    Objects.requireNonNull(chord, "Chord");
+    this.writeChord(chord.root(), chordMask(chord));
+  }
+
+  /**
+   * Write a scale.
+   *
+   * @param root      The root note
+   * @param intervals The scale interval mask
+   *
+   * @throws IOException On I/O errors, or if the mask is not a valid scale
+   */
+
+  public void writeScale(
+    final JaNote root,
+    final int intervals)
+    throws IOException
+  {
+    Objects.requireNonNull(root, "Root");
+    JaCodec.checkScaleMask(intervals);
+
+    this.reserve(MAXIMUM_RECORD_SIZE);
+    final int start = this.buffer.position();
+    try {
+      this.buffer.put((byte) JaCodecRecordKind.SCALE.tag());
+      JaCodec.putVarint(
+        this.buffer, JaCodec.packNoteMask(root.ordinal(), intervals));
+    } catch (final BufferOverflowException e) {
+      this.rewind(start);
+      throw e;
+    }
+  }
+
+  /**
+   * Write a scale.
+   *
+   * @param scale The scale
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public void writeScale(
+    final JaScale scale)
+    throws IOException
+  {
+    Objects.requireNonNull(scale, "Scale");
+    this.writeScale(
+      scale.root(), JaIntervals.mask(scale.intervals().intervals()));
+  }
+
+  /**
+   * Write a slash chord.
+   *
+   * @param slash The slash chord
+   *
+   * @throws IOException On I/O errors, or if the chord is not valid
+   */
+
+  public void writeSlashChord(
+    final JaChordSlash slash)
+    throws IOException
+  {
+    Objects.requireNonNull(slash, "Slash");
+
+    final JaChord chord = slash.chord();
+    final int intervals = JaCodec.checkChordMask(chordMask(chord));
+
+    this.reserve(MAXIMUM_RECORD_SIZE);
+    final int start = this.buffer.position();
+    try {
+      this.buffer.put((byte) JaCodecRecordKind.SLASH_CHORD.tag());
+      this.buffer.put((byte) slash.bass().ordinal());
+      JaCodec.putVarint(
+        this.buffer, JaCodec.packNoteMask(chord.root().ordinal(), intervals));
+    } catch (final BufferOverflowException e) {
+      this.rewind(start);
+      throw e;
+    }
+  }
+
+  /**
+   * Write a progression. Each change is written as its evaluated chord and
+   * its number of beats; the symbolic chord terms are not preserved. Every
+   * change is evaluated and checked before any part of the record is
+   * written, so a change that fails to evaluate or check leaves the output
+   * unchanged, as does a record that does not fit in the buffer of an
+   * encoder created with {@link #createForBuffer(ByteBuffer)}.
+   *
+   * @param progression The progression
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public void writeProgression(
+    final JaCPDSL.Progression progression)
+    throws IOException
+  {
+    Objects.requireNonNull(progression, "Progression");
+
+    final Vector<JaCPDSL.Change> changes = progression.changes();
+    final int count = checkProgressionLength(changes.size());
+    final int[] notes = new int[count];
+    final int[] beats = new int[count];
+    for (int index = 0; index < count; ++index) {
+      final JaCPDSL.Change change = changes.get(index);
+      notes[index] = packChord(change.chord().evaluate());
+      beats[index] = checkBeats(change.beats());
+    }
+    this.emitProgression(notes, beats);
+  }
+
+  /**
+   * Write a progression. Every change is checked before any part of the
+   * record is written, so a change that fails to check leaves the output
+   * unchanged, as does a record that does not fit in the buffer of an
+   * encoder created with {@link #createForBuffer(ByteBuffer)}.
+   *
+   * @param changes The changes
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public void writeProgression(
+    final List<JaCodecChange> changes)
+    throws IOException
+  {
+    Objects.requireNonNull(changes, "Changes");
+
+    final int count = checkProgressionLength(changes.size());
+    final int[] notes = new int[count];
+    final int[] beats = new int[count];
+    for (int index = 0; index < count; ++index) {
+      final JaCodecChange change = changes.get(index);
+      notes[index] = packChord(change.chord());
+      beats[index] = checkBeats(change.beats());
+    }
+    this.emitProgression(notes, beats);
+  }
+
+  private static int checkProgressionLength(
+    final int count)
+    throws IOException
+  {
+    if (count > JaCodec.MAXIMUM_PROGRESSION_LENGTH) {
+      throw new IOException(
+        new StringBuilder(64)
+          .append("Progression too long: ")
+          .append(count)
+          .append(" changes (maximum ")
+          .append(JaCodec.MAXIMUM_PROGRESSION_LENGTH)
+          .append(")")
+          .toString());
+    }
+    return count;
+  }
+
+  private static int checkBeats(
+    final int beats)
+  {
+    if (beats < 0) {
+      throw new IllegalArgumentException(
+        new StringBuilder(32)
+          .append("Beats must be non-negative: ")
+          .append(beats)
+          .toString());
+    }
+    return beats;
+  }
+
+  private static int packChord(
+    final JaChord chord)
+  {
+    return JaCodec.packNoteMask(chord.root().ordinal(), chordMask(chord));
+  }
+
+  private void emitProgression(
+    final int[] notes,
+    final int[] beats)
+    throws IOException
+  {
+    this.reserve(MAXIMUM_RECORD_SIZE);
+    final int start = this.buffer.position();
+    try {
+      this.buffer.put((byte) JaCodecRecordKind.PROGRESSION.tag());
+      JaCodec.putVarint(this.buffer, notes.length);
+
+      for (int index = 0; index < notes.length; ++index) {
+        this.reserve(MAXIMUM_RECORD_SIZE);
+        JaCodec.putVarint(this.buffer, notes[index]);
+        JaCodec.putVarint(this.buffer, beats[index]);
+      }
+    } catch (final BufferOverflowException e) {
+      this.rewind(start);
+      throw e;
+    }
+  }
+
+  private static int chordMask(
+    final JaChord chord)
+  {
+    return JaIntervals.mask(chord.intervals().intervals());
+  }
+
+  /**
+   * Write any buffered data to the underlying channel. Has no effect for
+   * encoders that write directly into a buffer.
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public void flush()
+    throws IOException
+  {
+    if (this.channel == null) {
+      return;
+    }
+
+    this.buffer.flip();
+    while (this.buffer.hasRemaining()) {
+      this.channel.write(this.buffer);
+    }
+    this.buffer.clear();
+  }
+
+  /**
+   * Flush any buffered data. The underlying channel is not closed.
+   *
+   * @throws IOException On I/O errors
+   */
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    this.flush();
+  }
+}
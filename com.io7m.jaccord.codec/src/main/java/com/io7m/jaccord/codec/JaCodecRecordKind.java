@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.codec;
+
+/**
+ * The kinds of records that may appear in an encoded stream.
+ */
+
+public enum JaCodecRecordKind
+{
+  /**
+   * A chord: a root note and a chord interval mask.
+   */
+
+  CHORD(1),
+
+  /**
+   * A scale: a root note and a scale interval mask.
+   */
+
+  SCALE(2),
+
+  /**
+   * A slash chord: a bass note, a root note, and a chord interval mask.
+   */
+
+  SLASH_CHORD(3),
+
+  /**
+   * A progression: a sequence of chords, each held for a number of beats.
+   */
+
+  PROGRESSION(4);
+
+  private final int tag;
+
+  JaCodecRecordKind(
+    final int in_tag)
+  {
+    this.tag = in_tag;
+  }
+
+  /**
+   * @return The tag byte that introduces records of this kind
+   */
+
+  public int tag()
+  {
+    return this.tag;
+  }
+
+  /**
+   * @param tag A tag byte
+   *
+   * @return The record kind with the given tag
+   *
+   * @throws IllegalArgumentException If no record kind has the given tag
+   */
+
+  public static JaCodecRecordKind ofTag(
+    final int tag)
+  {
+    switch (tag) {
+      case 1:
+        return CHORD;
+      case 2:
+        return SCALE;
+      case 3:
+        return SLASH_CHORD;
+      case 4:
+        return PROGRESSION;
+      default:
+        throw new IllegalArgumentException(
+          new StringBuilder(32)
+            .append("Unrecognized record tag: ")
+            .append(tag)
+            .toString());
+    }
+  }
+}
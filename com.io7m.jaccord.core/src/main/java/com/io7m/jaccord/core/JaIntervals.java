@@ -18,6 +18,7 @@ package com.io7m.jaccord.core;
 
 import com.io7m.junreachable.UnreachableCodeException;
 import io.vavr.collection.SortedSet;
+import io.vavr.collection.TreeSet;
 
 import java.util.Objects;
 
@@ -189,6 +190,15 @@ public final class JaIntervals
 
   public static final Integer DOUBLE_OCTAVE = Integer.valueOf(24);
 
+  /**
+   * The bits of an interval mask that may be set in a normalized mask; all
+   * intervals in the range {@code [1, 23]} except the octave.
+   *
+   * @see #mask(SortedSet)
+   */
+
+  public static final int NORMALIZED_MASK = 0xffeffe;
+
   private JaIntervals()
   {
     throw new UnreachableCodeException();
@@ -210,6 +220,78 @@ public final class JaIntervals
     return intervals.filter(i -> isWithinTwoOctaves(i) && isNotUnison(i));
   }
 
+  /**
+   * Pack a set of intervals into an integer mask. Bit {@code n} of the
+   * resulting mask is set if and only if the interval {@code n} is present
+   * in the set.
+   *
+   * @param intervals The intervals
+   *
+   * @return A mask of intervals
+   *
+   * @throws IllegalArgumentException If any interval is outside the range
+   *                                  {@code [0, 24]}
+   */
+
+  public static int mask(
+    final SortedSet<Integer> intervals)
+  {
+    Objects.requireNonNull(intervals, "intervals");
+
+    int mask = 0;
+    for (final Integer i : intervals) {
+      if (!isWithinTwoOctaves(i)) {
+        throw new IllegalArgumentException(
+          new StringBuilder(64)
+            .append("Interval out of range: ")
+            .append(i)
+            .toString());
+      }
+      mask |= 1 << i.intValue();
+    }
+    return mask;
+  }
+
+  /**
+   * Normalize a mask of intervals, removing unisons. This is the mask
+   * equivalent of {@link #normalize(SortedSet)}.
+   *
+   * @param mask The mask of intervals
+   *
+   * @return A normalized mask of intervals
+   *
+   * @see #mask(SortedSet)
+   */
+
+  public static int normalizeMask(
+    final int mask)
+  {
+    return mask & NORMALIZED_MASK;
+  }
+
+  /**
+   * Unpack a mask of intervals into a set of intervals.
+   *
+   * @param mask The mask of intervals
+   *
+   * @return The set of intervals
+   *
+   * @see #mask(SortedSet)
+   */
+
+  public static SortedSet<Integer> ofMask(
+    final int mask)
+  {
+    TreeSet<Integer> intervals = TreeSet.empty();
+    int remaining = mask & 0x1ffffff;
+    while (remaining != 0) {
+      intervals = intervals.add(
+        Integer.valueOf(Integer.numberOfTrailingZeros(remaining)));
+      remaining &= remaining - 1;
+    }
+    return intervals;
+  }
+
   private static boolean isNotUnison(
     final Integer i)
   {
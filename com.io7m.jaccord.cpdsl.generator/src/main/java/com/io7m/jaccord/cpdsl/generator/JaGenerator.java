@@ -0,0 +1,343 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl.generator;
+
+import com.io7m.jaccord.core.JaChord;
+import com.io7m.jaccord.core.JaIntervals;
+import com.io7m.jaccord.core.JaScaleHarmonization;
+import com.io7m.jaccord.core.JaScaleHarmonizationChordTypes;
+import com.io7m.jaccord.cpdsl.JaCPDSL;
+import com.io7m.jaccord.cpdsl.JaCPDSLTimeline;
+import com.io7m.jaccord.cpdsl.internal.JaCPDSLHashing;
+import com.io7m.jaccord.cpdsl.internal.JaCPDSLParallel;
+import com.io7m.jaccord.cpdsl.internal.JaCPDSLTimelineAccess;
+import io.vavr.collection.Vector;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.io7m.jaccord.cpdsl.generator.JaGeneratorModel.STATE_COUNT;
+
+/**
+ * <p>A generator of random chord progressions in a given scale.</p>
+ *
+ * <p>The chord of every state of the model is harmonized once, when the
+ * generator is created, and is held as a root and an interval mask. A
+ * generated progression is a walk over the states of the model, written
+ * directly into the columns of a {@link JaCPDSLTimeline}; no chord terms are
+ * created.</p>
+ *
+ * <p>Every progression is identified by a seed and an index, and draws from
+ * its own random stream derived from both. The progression for a given seed
+ * and index is therefore the same no matter how many progressions are
+ * generated, in which order, or on which threads.</p>
+ *
+ * <p>Generators are immutable and safe for use from multiple threads.</p>
+ */
+
+public final class JaGenerator
+{
+  private static final int BATCHES_PER_WORKER = 8;
+
+  private final JaGeneratorModel model;
+  private final JaCPDSL.Scale scale;
+  private final int[] roots;
+  private final int[] masks;
+
+  private JaGenerator(
+    final JaGeneratorModel in_model,
+    final JaCPDSL.Scale in_scale,
+    final int[] in_roots,
+    final int[] in_masks)
+  {
+    this.model = in_model;
+    this.scale = in_scale;
+    this.roots = in_roots;
+    this.masks = in_masks;
+  }
+
+  /**
+   * Create a generator.
+   *
+   * @param model The trained model
+   * @param scale The scale in which chords are harmonized
+   *
+   * @return A generator
+   *
+   * @throws IllegalArgumentException If the scale cannot provide the chord of
+   *                                  a state that the model can reach
+   */
+
+  public static JaGenerator create(
+    final JaGeneratorModel model,
+    final JaCPDSL.Scale scale)
+  {
+    Objects.requireNonNull(model, "Model");
+    Objects.requireNonNull(scale, "Scale");
+
+    final int[] roots = new int[STATE_COUNT];
+    final int[] masks = new int[STATE_COUNT];
+    final JaScaleHarmonizationChordTypes[] types =
+      JaScaleHarmonizationChordTypes.values();
+
+    for (final JaScaleHarmonizationChordTypes type : types) {
+      Vector<JaChord> chords = null;
+      for (final JaCPDSL.Degree degree : JaCPDSL.Degree.values()) {
+        final int state = JaGeneratorModel.state(degree, type);
+        if (!model.isReachable(state)) {
+          continue;
+        }
+
+        if (chords == null) {
+          chords = JaScaleHarmonization.harmonize(type, scale.scale());
+        }
+
+        if (degree.ordinal() >= chords.size()) {
+          throw new IllegalArgumentException(
+            new StringBuilder(64)
+              .append("Scale ")
+              .append(scale)
+              .append(" has no degree ")
+              .append(degree)
+              .append(" for chords of type ")
+              .append(type)
+              .toString());
+        }
+
+        final JaChord chord = chords.get(degree.ordinal());
+        roots[state] = chord.root().ordinal();
+        masks[state] = JaIntervals.mask(chord.intervals().intervals());
+      }
+    }
+
+    return new JaGenerator(model, scale, roots, masks);
+  }
+
+  /**
+   * @return The model used by the generator
+   */
+
+  public JaGeneratorModel model()
+  {
+    return this.model;
+  }
+
+  /**
+   * @return The scale in which chords are harmonized
+   */
+
+  public JaCPDSL.Scale scale()
+  {
+    return this.scale;
+  }
+
+  /**
+   * Generate a single progression.
+   *
+   * @param seed   The seed
+   * @param index  The index of the progression
+   * @param length The number of chords in the progression
+   *
+   * @return A compiled progression
+   */
+
+  public JaCPDSLTimeline generate(
+    final long seed,
+    final long index,
+    final int length)
+  {
+    checkLength(length);
+
+    final SplittableRandom random =
+      new SplittableRandom(JaCPDSLHashing.mix(seed, index));
+    final int[] chord_roots = new int[length];
+    final int[] chord_masks = new int[length];
+    final int[] chord_beats = new int[length];
+
+    int state = this.model.sampleStart(random);
+    for (int position = 0; position < length; ++position) {
+      if (position > 0) {
+        state = this.model.sampleNext(state, random);
+      }
+      chord_roots[position] = this.roots[state];
+      chord_masks[position] = this.masks[state];
+      chord_beats[position] = this.model.sampleBeats(state, random);
+    }
+
+    return JaCPDSLTimelineAccess.ofOwnedColumns(
+      chord_roots, chord_masks, chord_beats);
+  }
+
+  /**
+   * Generate progressions with consecutive indices in parallel on the
+   * common fork-join pool.
+   *
+   * @param seed   The seed
+   * @param first  The index of the first progression
+   * @param count  The number of progressions
+   * @param length The number of chords in each progression
+   *
+   * @return The progressions, in order of index
+   *
+   * @see #generate(long, long, int)
+   */
+
+  public Vector<JaCPDSLTimeline> generateAll(
+    final long seed,
+    final long first,
+    final int count,
+    final int length)
+  {
+    return this.generateAll(
+      seed, first, count, length, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Generate progressions with consecutive indices in parallel. The result is
+   * the same as calling {@link #generate(long, long, int)} for each index in
+   * turn.
+   *
+   * @param seed   The seed
+   * @param first  The index of the first progression
+   * @param count  The number of progressions
+   * @param length The number of chords in each progression
+   * @param pool   The pool on which progressions are generated
+   *
+   * @return The progressions, in order of index
+   */
+
+  public Vector<JaCPDSLTimeline> generateAll(
+    final long seed,
+    final long first,
+    final int count,
+    final int length,
+    final ForkJoinPool pool)
+  {
+    Objects.requireNonNull(pool, "Pool");
+    checkLength(length);
+    if (count < 0) {
+      throw new IllegalArgumentException(
+        new StringBuilder(32)
+          .append("Count must be non-negative: ")
+          .append(count)
+          .toString());
+    }
+
+    final JaCPDSLTimeline[] results = new JaCPDSLTimeline[count];
+    this.generateInto(seed, first, length, results, 0, count, pool);
+    return Vector.of(results);
+  }
+
+  /**
+   * Generate the progressions with indices {@code [first, first + count)}
+   * into {@code results[offset, offset + count)} in parallel. The range is
+   * split into batches sized so that every worker of the pool receives
+   * several batches.
+   */
+
+  void generateInto(
+    final long seed,
+    final long first,
+    final int length,
+    final JaCPDSLTimeline[] results,
+    final int offset,
+    final int count,
+    final ForkJoinPool pool)
+  {
+    final int workers = Math.max(1, pool.getParallelism());
+    final int batch = Math.max(1, count / (workers * BATCHES_PER_WORKER));
+    JaCPDSLParallel.forEach(
+      pool,
+      count,
+      batch,
+      index -> results[offset + index] =
+        this.generate(seed, first + index, length));
+  }
+
+  /**
+   * Create a publisher of progressions with consecutive indices starting at
+   * {@code 0}, generated on the common fork-join pool.
+   *
+   * @param seed   The seed
+   * @param count  The number of progressions
+   * @param length The number of chords in each progression
+   *
+   * @return A publisher
+   *
+   * @see #publisher(long, long, int, ForkJoinPool)
+   */
+
+  public Flow.Publisher<JaCPDSLTimeline> publisher(
+    final long seed,
+    final long count,
+    final int length)
+  {
+    return this.publisher(seed, count, length, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * <p>Create a publisher of progressions with consecutive indices starting
+   * at {@code 0}. Every subscriber receives the same progressions, in order
+   * of index, and then completion.</p>
+   *
+   * <p>Progressions are generated only when subscribers request them. Each
+   * outstanding request is generated in parallel batches on the given pool,
+   * and no subscriber is ever sent more progressions than it has
+   * requested.</p>
+   *
+   * @param seed   The seed
+   * @param count  The number of progressions, or {@link Long#MAX_VALUE} for
+   *               an unbounded stream
+   * @param length The number of chords in each progression
+   * @param pool   The pool on which progressions are generated
+   *
+   * @return A publisher
+   */
+
+  public Flow.Publisher<JaCPDSLTimeline> publisher(
+    final long seed,
+    final long count,
+    final int length,
+    final ForkJoinPool pool)
+  {
+    Objects.requireNonNull(pool, "Pool");
+    checkLength(length);
+    if (count < 0L) {
+      throw new IllegalArgumentException(
+        new StringBuilder(32)
+          .append("Count must be non-negative: ")
+          .append(count)
+          .toString());
+    }
+
+    return new JaGeneratorPublisher(this, seed, count, length, pool);
+  }
+
+  private static void checkLength(
+    final int length)
+  {
+    if (length < 0) {
+      throw new IllegalArgumentException(
+        new StringBuilder(32)
+          .append("Length must be non-negative: ")
+          .append(length)
+          .toString());
+    }
+  }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl.generator;
+
+import com.io7m.jaccord.core.JaScaleHarmonizationChordTypes;
+import com.io7m.jaccord.cpdsl.JaCPDSL;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * <p>A trained model of chord progressions. A model is a first-order Markov
+ * chain over <i>states</i>, where a state is a pair of a scale degree and a
+ * type of diatonic chord. The model also holds, for each state, a
+ * distribution over the number of beats for which the chord is held.</p>
+ *
+ * <p>All distributions are held as cumulative probabilities in flat
+ * primitive arrays, with one row of {@link #STATE_COUNT} entries per state.
+ * States that were never observed to have a successor take their successors
+ * from the distribution of starting states, and states that were never
+ * observed with a duration are held for {@link #DEFAULT_BEATS} beats.</p>
+ *
+ * <p>Models are immutable and safe for use from multiple threads.</p>
+ *
+ * @see JaGeneratorModelBuilder
+ */
+
+public final class JaGeneratorModel
+{
+  /**
+   * The number of distinct chord types.
+   */
+
+  public static final int TYPE_COUNT =
+    JaScaleHarmonizationChordTypes.values().length;
+
+  /**
+   * The number of distinct states.
+   */
+
+  public static final int STATE_COUNT =
+    JaCPDSL.Degree.values().length * TYPE_COUNT;
+
+  /**
+   * The largest number of beats for which a chord may be held.
+   */
+
+  public static final int MAXIMUM_BEATS = 16;
+
+  /**
+   * The number of beats for which a chord is held in states that were never
+   * observed with a duration.
+   */
+
+  public static final int DEFAULT_BEATS = 4;
+
+  private static final JaCPDSL.Degree[] DEGREES =
+    JaCPDSL.Degree.values();
+  private static final JaScaleHarmonizationChordTypes[] TYPES =
+    JaScaleHarmonizationChordTypes.values();
+
+  private final double[] starts;
+  private final double[] transitions;
+  private final double[] beats;
+  private final boolean[] reachable;
+
+  JaGeneratorModel(
+    final double[] in_starts,
+    final double[] in_transitions,
+    final double[] in_beats,
+    final boolean[] in_reachable)
+  {
+    this.starts = in_starts;
+    this.transitions = in_transitions;
+    this.beats = in_beats;
+    this.reachable = in_reachable;
+  }
+
+  /**
+   * @return A new builder for training a model
+   */
+
+  public static JaGeneratorModelBuilder builder()
+  {
+    return new JaGeneratorModelBuilder();
+  }
+
+  /**
+   * @param degree The scale degree
+   * @param types  The type of chord
+   *
+   * @return The state for the given degree and type of chord
+   */
+
+  public static int state(
+    final JaCPDSL.Degree degree,
+    final JaScaleHarmonizationChordTypes types)
+  {
+    Objects.requireNonNull(degree, "Degree");
+    Objects.requireNonNull(types, "Types");
+    return degree.ordinal() * TYPE_COUNT + types.ordinal();
+  }
+
+  /**
+   * @param state The state
+   *
+   * @return The scale degree of the given state
+   */
+
+  public static JaCPDSL.Degree degreeOf(
+    final int state)
+  {
+    return DEGREES[Objects.checkIndex(state, STATE_COUNT) / TYPE_COUNT];
+  }
+
+  /**
+   * @param state The state
+   *
+   * @return The type of chord of the given state
+   */
+
+  public static JaScaleHarmonizationChordTypes typesOf(
+    final int state)
+  {
+    return TYPES[Objects.checkIndex(state, STATE_COUNT) % TYPE_COUNT];
+  }
+
+  /**
+   * @param state The state
+   *
+   * @return The probability that a generated progression starts in the
+   * given state
+   */
+
+  public double startProbability(
+    final int state)
+  {
+    return probabilityIn(this.starts, 0, Objects.checkIndex(state, STATE_COUNT));
+  }
+
+  /**
+   * @param from The current state
+   * @param to   The next state
+   *
+   * @return The probability that the state {@code from} is followed by the
+   * state {@code to}
+   */
+
+  public double transitionProbability(
+    final int from,
+    final int to)
+  {
+    return probabilityIn(
+      this.transitions,
+      Objects.checkIndex(from, STATE_COUNT) * STATE_COUNT,
+      Objects.checkIndex(to, STATE_COUNT));
+  }
+
+  /**
+   * @param state The state
+   * @param count The number of beats
+   *
+   * @return The probability that a chord in the given state is held for
+   * {@code count} beats
+   */
+
+  public double beatsProbability(
+    final int state,
+    final int count)
+  {
+    if (count < 1 || count > MAXIMUM_BEATS) {
+      return 0.0;
+    }
+    return probabilityIn(
+      this.beats,
+      Objects.checkIndex(state, STATE_COUNT) * MAXIMUM_BEATS,
+      count - 1);
+  }
+
+  /**
+   * @param state The state
+   *
+   * @return {@code true} if a generated progression can ever enter the given
+   * state
+   */
+
+  public boolean isReachable(
+    final int state)
+  {
+    return this.reachable[Objects.checkIndex(state, STATE_COUNT)];
+  }
+
+  int sampleStart(
+    final SplittableRandom random)
+  {
+    return sample(this.starts, 0, STATE_COUNT, random.nextDouble());
+  }
+
+  int sampleNext(
+    final int state,
+    final SplittableRandom random)
+  {
+    return sample(
+      this.transitions, state * STATE_COUNT, STATE_COUNT, random.nextDouble());
+  }
+
+  int sampleBeats(
+    final int state,
+    final SplittableRandom random)
+  {
+    return 1 + sample(
+      this.beats, state * MAXIMUM_BEATS, MAXIMUM_BEATS, random.nextDouble());
+  }
+
+  private static double probabilityIn(
+    final double[] cumulative,
+    final int row,
+    final int column)
+  {
+    final double previous = column == 0 ? 0.0 : cumulative[row + column - 1];
+    return cumulative[row + column] - previous;
+  }
+
+  /**
+   * Find the first entry in a row of cumulative probabilities that exceeds
+   * the given value. The last entry of every row is exactly {@code 1.0}, and
+   * entries with zero probability are never selected.
+   */
+
+  private static int sample(
+    final double[] cumulative,
+    final int row,
+    final int size,
+    final double value)
+  {
+    int low = 0;
+    int high = size - 1;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (cumulative[row + middle] > value) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return low;
+  }
+}
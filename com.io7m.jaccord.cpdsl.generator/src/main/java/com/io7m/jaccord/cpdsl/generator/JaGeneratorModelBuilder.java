@@ -0,0 +1,296 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl.generator;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static com.io7m.jaccord.cpdsl.generator.JaGeneratorModel.DEFAULT_BEATS;
+import static com.io7m.jaccord.cpdsl.generator.JaGeneratorModel.MAXIMUM_BEATS;
+import static com.io7m.jaccord.cpdsl.generator.JaGeneratorModel.STATE_COUNT;
+
+/**
+ * <p>A mutable builder that trains a {@link JaGeneratorModel} by counting
+ * observations. Counts are held in flat primitive arrays, and observing a
+ * progression allocates nothing.</p>
+ *
+ * <p>Builders are not safe for use from multiple threads.</p>
+ *
+ * @see JaGeneratorModel#state(com.io7m.jaccord.cpdsl.JaCPDSL.Degree,
+ * com.io7m.jaccord.core.JaScaleHarmonizationChordTypes)
+ */
+
+public final class JaGeneratorModelBuilder
+{
+  private final long[] starts;
+  private final long[] transitions;
+  private final long[] beats;
+
+  JaGeneratorModelBuilder()
+  {
+    this.starts = new long[STATE_COUNT];
+    this.transitions = new long[STATE_COUNT * STATE_COUNT];
+    this.beats = new long[STATE_COUNT * MAXIMUM_BEATS];
+  }
+
+  private static void checkWeight(
+    final long weight)
+  {
+    if (weight < 0L) {
+      throw new IllegalArgumentException(
+        new StringBuilder(32)
+          .append("Weight must be non-negative: ")
+          .append(weight)
+          .toString());
+    }
+  }
+
+  private static void checkBeats(
+    final int count)
+  {
+    if (count < 1 || count > MAXIMUM_BEATS) {
+      throw new IllegalArgumentException(
+        new StringBuilder(64)
+          .append("Beats must be in the range [1, ")
+          .append(MAXIMUM_BEATS)
+          .append("]: ")
+          .append(count)
+          .toString());
+    }
+  }
+
+  /**
+   * Observe a progression that starts in the given state.
+   *
+   * @param state  The state
+   * @param weight The weight of the observation
+   *
+   * @return This builder
+   */
+
+  public JaGeneratorModelBuilder observeStart(
+    final int state,
+    final long weight)
+  {
+    checkWeight(weight);
+    this.starts[Objects.checkIndex(state, STATE_COUNT)] += weight;
+    return this;
+  }
+
+  /**
+   * Observe the state {@code from} followed by the state {@code to}.
+   *
+   * @param from   The current state
+   * @param to     The next state
+   * @param weight The weight of the observation
+   *
+   * @return This builder
+   */
+
+  public JaGeneratorModelBuilder observeTransition(
+    final int from,
+    final int to,
+    final long weight)
+  {
+    checkWeight(weight);
+    Objects.checkIndex(from, STATE_COUNT);
+    Objects.checkIndex(to, STATE_COUNT);
+    this.transitions[from * STATE_COUNT + to] += weight;
+    return this;
+  }
+
+  /**
+   * Observe a chord in the given state held for the given number of beats.
+   *
+   * @param state  The state
+   * @param count  The number of beats in the range {@code [1, 16]}
+   * @param weight The weight of the observation
+   *
+   * @return This builder
+   */
+
+  public JaGeneratorModelBuilder observeBeats(
+    final int state,
+    final int count,
+    final long weight)
+  {
+    checkWeight(weight);
+    checkBeats(count);
+    this.beats[Objects.checkIndex(state, STATE_COUNT) * MAXIMUM_BEATS
+      + count - 1] += weight;
+    return this;
+  }
+
+  /**
+   * Observe a complete progression: its starting state, every transition
+   * between consecutive states, and the duration of every chord.
+   *
+   * @param states    The states of the progression
+   * @param durations The number of beats for which each chord is held
+   *
+   * @return This builder
+   */
+
+  public JaGeneratorModelBuilder observeProgression(
+    final int[] states,
+    final int[] durations)
+  {
+    Objects.requireNonNull(states, "States");
+    Objects.requireNonNull(durations, "Durations");
+
+    if (states.length != durations.length) {
+      throw new IllegalArgumentException(
+        new StringBuilder(64)
+          .append("Column lengths differ: states ")
+          .append(states.length)
+          .append(", durations ")
+          .append(durations.length)
+          .toString());
+    }
+
+    for (int index = 0; index < states.length; ++index) {
+      Objects.checkIndex(states[index], STATE_COUNT);
+      checkBeats(durations[index]);
+    }
+
+    if (states.length == 0) {
+      return this;
+    }
+
+    this.starts[states[0]] += 1L;
+    for (int index = 0; index < states.length; ++index) {
+      this.beats[states[index] * MAXIMUM_BEATS + durations[index] - 1] += 1L;
+      if (index > 0) {
+        this.transitions[states[index - 1] * STATE_COUNT + states[index]] += 1L;
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Build a model from the observations made so far. The builder may
+   * continue to be used afterwards.
+   *
+   * @return A model
+   *
+   * @throws IllegalStateException If no starting state has been observed
+   */
+
+  public JaGeneratorModel build()
+  {
+    final double[] start_table = new double[STATE_COUNT];
+    if (!cumulate(this.starts, 0, start_table, STATE_COUNT)) {
+      throw new IllegalStateException(
+        "At least one starting state must be observed");
+    }
+
+    final double[] transition_table = new double[STATE_COUNT * STATE_COUNT];
+    for (int from = 0; from < STATE_COUNT; ++from) {
+      final int row = from * STATE_COUNT;
+      if (!cumulate(this.transitions, row, transition_table, STATE_COUNT)) {
+        System.arraycopy(start_table, 0, transition_table, row, STATE_COUNT);
+      }
+    }
+
+    final double[] beats_table = new double[STATE_COUNT * MAXIMUM_BEATS];
+    for (int state = 0; state < STATE_COUNT; ++state) {
+      final int row = state * MAXIMUM_BEATS;
+      if (!cumulate(this.beats, row, beats_table, MAXIMUM_BEATS)) {
+        Arrays.fill(
+          beats_table, row + DEFAULT_BEATS - 1, row + MAXIMUM_BEATS, 1.0);
+      }
+    }
+
+    final boolean[] reachable = new boolean[STATE_COUNT];
+    for (int state = 0; state < STATE_COUNT; ++state) {
+      reachable[state] = this.starts[state] > 0L;
+    }
+    propagateReachable(transition_table, reachable);
+
+    return new JaGeneratorModel(
+      start_table, transition_table, beats_table, reachable);
+  }
+
+  /**
+   * Mark every state that a walk from a reachable state can enter as
+   * reachable. States are few, so a simple fixpoint suffices.
+   */
+
+  private static void propagateReachable(
+    final double[] transition_table,
+    final boolean[] reachable)
+  {
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (int from = 0; from < STATE_COUNT; ++from) {
+        if (reachable[from]) {
+          changed |= markSuccessors(transition_table, from, reachable);
+        }
+      }
+    }
+  }
+
+  private static boolean markSuccessors(
+    final double[] transition_table,
+    final int from,
+    final boolean[] reachable)
+  {
+    final int row = from * STATE_COUNT;
+    boolean changed = false;
+    double previous = 0.0;
+    for (int to = 0; to < STATE_COUNT; ++to) {
+      final double current = transition_table[row + to];
+      if (!reachable[to] && current > previous) {
+        reachable[to] = true;
+        changed = true;
+      }
+      previous = current;
+    }
+    return changed;
+  }
+
+  /**
+   * Convert a row of counts into a row of cumulative probabilities whose
+   * last entry is exactly {@code 1.0}.
+   *
+   * @return {@code false} if the row holds no observations
+   */
+
+  private static boolean cumulate(
+    final long[] counts,
+    final int row,
+    final double[] output,
+    final int size)
+  {
+    long total = 0L;
+    for (int index = 0; index < size; ++index) {
+      total += counts[row + index];
+    }
+    if (total == 0L) {
+      return false;
+    }
+
+    long running = 0L;
+    for (int index = 0; index < size; ++index) {
+      running += counts[row + index];
+      output[row + index] =
+        running == total ? 1.0 : (double) running / (double) total;
+    }
+    return true;
+  }
+}
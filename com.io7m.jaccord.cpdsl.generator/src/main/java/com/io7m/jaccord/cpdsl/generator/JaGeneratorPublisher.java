@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl.generator;
+
+import com.io7m.jaccord.cpdsl.JaCPDSLTimeline;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>A publisher of generated progressions.</p>
+ *
+ * <p>Each subscriber has its own subscription, and each subscription
+ * generates progressions only in response to demand. Outstanding demand is
+ * served in batches: a batch is generated in parallel on the pool and then
+ * delivered in order of index. At most one batch per subscription is in
+ * flight at any time, and signals to a subscriber are never concurrent.</p>
+ */
+
+final class JaGeneratorPublisher implements Flow.Publisher<JaCPDSLTimeline>
+{
+  private static final int MAXIMUM_BATCH = 4096;
+
+  private final JaGenerator generator;
+  private final long seed;
+  private final long count;
+  private final int length;
+  private final ForkJoinPool pool;
+
+  JaGeneratorPublisher(
+    final JaGenerator in_generator,
+    final long in_seed,
+    final long in_count,
+    final int in_length,
+    final ForkJoinPool in_pool)
+  {
+    this.generator = Objects.requireNonNull(in_generator, "Generator");
+    this.seed = in_seed;
+    this.count = in_count;
+    this.length = in_length;
+    this.pool = Objects.requireNonNull(in_pool, "Pool");
+  }
+
+  private enum Action
+  {
+    NONE,
+    EMIT,
+    COMPLETE,
+    FAIL
+  }
+
+  @Override
+  public void subscribe(
+    final Flow.Subscriber<? super JaCPDSLTimeline> subscriber)
+  {
+    Objects.requireNonNull(subscriber, "Subscriber");
+
+    final Subscription subscription = new Subscription(subscriber);
+    subscriber.onSubscribe(subscription);
+    subscription.schedule();
+  }
+
+  private final class Subscription implements Flow.Subscription
+  {
+    private final Flow.Subscriber<? super JaCPDSLTimeline> subscriber;
+    private final Object lock;
+    private final AtomicInteger work;
+    private final JaCPDSLTimeline[] buffer;
+    private long demand;
+    private long next;
+    private boolean terminated;
+    private Throwable failure;
+    private long batch_first;
+    private int batch_size;
+
+    Subscription(
+      final Flow.Subscriber<? super JaCPDSLTimeline> in_subscriber)
+    {
+      this.subscriber = in_subscriber;
+      this.lock = new Object();
+      this.work = new AtomicInteger(0);
+      this.buffer = new JaCPDSLTimeline[
+        (int) Math.min(MAXIMUM_BATCH, JaGeneratorPublisher.this.count)];
+    }
+
+    @Override
+    public void request(
+      final long n)
+    {
+      synchronized (this.lock) {
+        if (n <= 0L) {
+          if (this.failure == null) {
+            this.failure = new IllegalArgumentException(
+              "Requested item count must be positive");
+          }
+        } else {
+          final long sum = this.demand + n;
+          this.demand = sum < 0L ? Long.MAX_VALUE : sum;
+        }
+      }
+      this.schedule();
+    }
+
+    @Override
+    public void cancel()
+    {
+      synchronized (this.lock) {
+        this.terminated = true;
+      }
+    }
+
+    void schedule()
+    {
+      if (this.work.getAndIncrement() == 0) {
+        JaGeneratorPublisher.this.pool.execute(this::drain);
+      }
+    }
+
+    private void drain()
+    {
+      int missed = 1;
+      while (missed != 0) {
+        this.runActions();
+        missed = this.work.addAndGet(-missed);
+      }
+    }
+
+    private Action nextAction()
+    {
+      synchronized (this.lock) {
+        if (this.terminated) {
+          return Action.NONE;
+        }
+        if (this.failure != null) {
+          this.terminated = true;
+          return Action.FAIL;
+        }
+
+        final long remaining = JaGeneratorPublisher.this.count - this.next;
+        if (remaining == 0L) {
+          this.terminated = true;
+          return Action.COMPLETE;
+        }
+        if (this.demand == 0L) {
+          return Action.NONE;
+        }
+
+        final long size =
+          Math.min(Math.min(this.demand, remaining), this.buffer.length);
+        this.batch_first = this.next;
+        this.batch_size = (int) size;
+        this.next += size;
+        if (this.demand != Long.MAX_VALUE) {
+          this.demand -= size;
+        }
+        return Action.EMIT;
+      }
+    }
+
+    private boolean isTerminated()
+    {
+      synchronized (this.lock) {
+        return this.terminated;
+      }
+    }
+
+    private void runActions()
+    {
+      while (true) {
+        switch (this.nextAction()) {
+          case NONE: {
+            return;
+          }
+          case EMIT: {
+            if (!this.emitBatch()) {
+              return;
+            }
+            break;
+          }
+          case COMPLETE: {
+            this.subscriber.onComplete();
+            return;
+          }
+          case FAIL: {
+            this.subscriber.onError(this.failure);
+            return;
+          }
+        }
+      }
+    }
+
+    private boolean emitBatch()
+    {
+      final int size = this.batch_size;
+      try {
+        JaGeneratorPublisher.this.generator.generateInto(
+          JaGeneratorPublisher.this.seed,
+          this.batch_first,
+          JaGeneratorPublisher.this.length,
+          this.buffer,
+          0,
+          size,
+          JaGeneratorPublisher.this.pool);
+      } catch (final RuntimeException e) {
+        synchronized (this.lock) {
+          this.terminated = true;
+        }
+        this.subscriber.onError(e);
+        return false;
+      }
+
+      for (int index = 0; index < size; ++index) {
+        final JaCPDSLTimeline item = this.buffer[index];
+        this.buffer[index] = null;
+        if (this.isTerminated()) {
+          continue;
+        }
+        this.subscriber.onNext(item);
+      }
+      return true;
+    }
+  }
+}
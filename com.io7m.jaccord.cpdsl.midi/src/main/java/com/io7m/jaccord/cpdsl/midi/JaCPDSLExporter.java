@@ -17,6 +17,7 @@
 package com.io7m.jaccord.cpdsl.midi;
 
 import com.io7m.jaccord.cpdsl.JaCPDSL;
+import com.io7m.jaccord.cpdsl.JaCPDSLTimeline;
 import com.io7m.jaccord.cpdsl.midi.internal.JaMidiChord;
 import com.io7m.jaccord.cpdsl.midi.internal.JaMidiChords;
 import com.io7m.jaccord.cpdsl.midi.internal.JaVoiceLeading;
@@ -38,6 +39,9 @@ import java.util.Objects;
 
 public final class JaCPDSLExporter
 {
+  static final long TICKS_PER_WHOLE = 1800L;
+  static final long TICKS_PER_QUARTER = TICKS_PER_WHOLE / 4L;
+
   private static final JaCPDSLExporterConfiguration DEFAULT_CONFIGURATION =
     JaCPDSLExporterConfiguration.builder()
       .setDoubleRoot(false)
@@ -65,6 +69,7 @@ public final class JaCPDSLExporter
    * @return A MIDI sequence
    *
    * @throws InvalidMidiDataException If MIDI data could not be produced
+   * @see JaCPDSL.Progression#timeline()
    */
 
   public static Sequence exportWithConfiguration(
@@ -72,9 +77,49 @@ public final class JaCPDSLExporter
     final JaCPDSL.Progression progression)
     throws InvalidMidiDataException
   {
-    Objects.requireNonNull(configuration, "Configuration");
     Objects.requireNonNull(progression, "Progression");
+    return exportWithConfiguration(configuration, progression.timeline());
+  }
+
+  /**
+   * Produce a MIDI sequence from the given compiled progression. The chords
+   * are produced as simple root-position voicings with no attempt made to
+   * make the result more musically pleasing.
+   *
+   * @param configuration The exporter configuration
+   * @param timeline      The input timeline
+   *
+   * @return A MIDI sequence
+   *
+   * @throws InvalidMidiDataException If MIDI data could not be produced
+   */
 
+  public static Sequence exportWithConfiguration(
+    final JaCPDSLExporterConfiguration configuration,
+    final JaCPDSLTimeline timeline)
+    throws InvalidMidiDataException
+  {
+    Objects.requireNonNull(configuration, "Configuration");
+    Objects.requireNonNull(timeline, "Timeline");
+
+    final var sequence = createSequence();
+    exportTimeline(configuration, sequence.getTracks()[0], timeline);
+    return sequence;
+  }
+
+  /**
+   * Create a sequence holding a single track that contains only the tempo,
+   * time signature, track name, and instrument events that precede the
+   * chords of every exported progression.
+   *
+   * @return A new sequence
+   *
+   * @throws InvalidMidiDataException If MIDI data could not be produced
+   */
+
+  static Sequence createSequence()
+    throws InvalidMidiDataException
+  {
     final var sequence =
       new Sequence(Sequence.SMPTE_30, 30);
     final var track = sequence.createTrack();
@@ -161,7 +206,6 @@ public final class JaCPDSLExporter
       track.add(me);
     }
 
-    exportProgression(configuration, track, progression);
     return sequence;
   }
 
@@ -184,32 +228,36 @@ public final class JaCPDSLExporter
     return exportWithConfiguration(DEFAULT_CONFIGURATION, progression);
   }
 
-  private static void exportProgression(
+  /**
+   * Produce a MIDI sequence from the given compiled progression. The chords
+   * are produced as simple root-position voicings with no attempt made to
+   * make the result more musically pleasing.
+   *
+   * @param timeline The input timeline
+   *
+   * @return A MIDI sequence
+   *
+   * @throws InvalidMidiDataException If MIDI data could not be produced
+   */
+
+  public static Sequence export(
+    final JaCPDSLTimeline timeline)
+    throws InvalidMidiDataException
+  {
+    return exportWithConfiguration(DEFAULT_CONFIGURATION, timeline);
+  }
+
+  private static void exportTimeline(
     final JaCPDSLExporterConfiguration configuration,
     final Track track,
-    final JaCPDSL.Progression progression)
+    final JaCPDSLTimeline timeline)
     throws InvalidMidiDataException
   {
-    var time = 0L;
-    final var whole = 1800L;
-    final var quarter = whole / 4L;
-
-    final var changes = progression.changes();
-    List<JaMidiChord> chords = new ArrayList<JaMidiChord>(changes.size());
-
-    for (final var ch : changes) {
-      final var duration = (long) ch.beats() * quarter;
-      final var timeNext = time + duration;
-
-      final var midiChord =
-        JaMidiChords.midiChordOf(
-          configuration,
-          time,
-          timeNext,
-          ch.chord().evaluate());
-
-      chords.add(midiChord);
-      time = timeNext;
+    final var size = timeline.size();
+    List<JaMidiChord> chords = new ArrayList<JaMidiChord>(size);
+
+    for (int index = 0; index < size; ++index) {
+      chords.add(midiChordAt(configuration, timeline, index));
     }
 
     if (configuration.voiceLeading()) {
@@ -227,30 +275,76 @@ public final class JaCPDSLExporter
     final var mt = new MetaMessage();
     final byte[] bet = {};
     mt.setMessage(0x2F, bet, 0);
-    final var me = new MidiEvent(mt, time);
+    final var me =
+      new MidiEvent(mt, timeline.totalBeats() * TICKS_PER_QUARTER);
     track.add(me);
   }
 
-  private static void addChord(
+  /**
+   * Produce the root-position midi chord of a change of a timeline.
+   *
+   * @param configuration The exporter configuration
+   * @param timeline      The timeline
+   * @param index         The index of the change
+   *
+   * @return A midi chord
+   */
+
+  static JaMidiChord midiChordAt(
+    final JaCPDSLExporterConfiguration configuration,
+    final JaCPDSLTimeline timeline,
+    final int index)
+  {
+    final var time = timeline.start(index) * TICKS_PER_QUARTER;
+    final var timeNext =
+      time + (long) timeline.duration(index) * TICKS_PER_QUARTER;
+
+    return JaMidiChords.midiChordOf(
+      configuration,
+      time,
+      timeNext,
+      timeline.root(index),
+      timeline.intervals(index));
+  }
+
+  /**
+   * Add the note events of a chord to a track.
+   *
+   * @param track     The track
+   * @param midiChord The chord
+   *
+   * @return The added events, in the order in which they were added
+   *
+   * @throws InvalidMidiDataException If MIDI data could not be produced
+   */
+
+  static MidiEvent[] addChord(
     final Track track,
     final JaMidiChord midiChord)
     throws InvalidMidiDataException
   {
-    for (final var note : midiChord.midiNotes()) {
+    final var notes = midiChord.midiNotes();
+    final var events = new MidiEvent[notes.size() * 2];
+    for (int index = 0; index < notes.size(); ++index) {
       addNote(
         track,
         midiChord.timeStart(),
         midiChord.timeEnd(),
-        note.intValue()
+        notes.get(index).intValue(),
+        events,
+        index * 2
       );
     }
+    return events;
   }
 
   private static void addNote(
     final Track track,
     final long time,
     final long time_end,
-    final int note)
+    final int note,
+    final MidiEvent[] events,
+    final int offset)
     throws InvalidMidiDataException
   {
     //
@@ -262,6 +356,7 @@ public final class JaCPDSLExporter
       mm.setMessage(0x90, note, 0x7f);
       final var me = new MidiEvent(mm, time);
       track.add(me);
+      events[offset] = me;
     }
 
     //
@@ -273,6 +368,7 @@ public final class JaCPDSLExporter
       mm.setMessage(0x80, note, 0x00);
       final var me = new MidiEvent(mm, time_end);
       track.add(me);
+      events[offset + 1] = me;
     }
   }
 }
@@ -0,0 +1,307 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl.midi;
+
+import com.io7m.jaccord.cpdsl.JaCPDSL;
+import com.io7m.jaccord.cpdsl.JaCPDSLDelta;
+import com.io7m.jaccord.cpdsl.JaCPDSLTimeline;
+import com.io7m.jaccord.cpdsl.midi.internal.JaMidiChord;
+import com.io7m.jaccord.cpdsl.midi.internal.JaVoiceLeading;
+
+import javax.sound.midi.InvalidMidiDataException;
+import javax.sound.midi.MidiEvent;
+import javax.sound.midi.Sequence;
+import javax.sound.midi.Track;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static com.io7m.jaccord.cpdsl.midi.JaCPDSLExporter.TICKS_PER_QUARTER;
+
+/**
+ * <p>An exporter that keeps a MIDI sequence up to date as a progression is
+ * edited. The sequence is initially identical to the one produced by
+ * {@link JaCPDSLExporter#exportWithConfiguration(JaCPDSLExporterConfiguration,
+ * JaCPDSL.Progression)}; each {@link JaCPDSLDelta} applied to the exporter
+ * then patches the sequence in place so that it remains identical to a full
+ * export of the edited progression.</p>
+ *
+ * <p>Applying a delta removes the note events of the removed changes, moves
+ * the events of every later change by the beat shift of the delta, and
+ * produces events only for the inserted changes. With voice leading
+ * enabled, the voicing of each change depends on the change before it, and
+ * so later changes are re-voiced until a voicing is reached that is
+ * unaffected by the edit.</p>
+ *
+ * <p>Instances are mutable and are not safe for use from multiple
+ * threads.</p>
+ *
+ * @see com.io7m.jaccord.cpdsl.JaCPDSLEdits
+ */
+
+public final class JaCPDSLIncrementalExporter
+{
+  private static final MidiEvent[] NO_EVENTS = new MidiEvent[0];
+
+  private final JaCPDSLExporterConfiguration configuration;
+  private final Sequence sequence;
+  private final Track track;
+  private final ArrayList<List<Integer>> voicings;
+  private final ArrayList<MidiEvent[]> events;
+  private JaCPDSL.Progression progression;
+
+  private JaCPDSLIncrementalExporter(
+    final JaCPDSLExporterConfiguration in_configuration,
+    final Sequence in_sequence,
+    final JaCPDSL.Progression in_progression)
+  {
+    this.configuration =
+      Objects.requireNonNull(in_configuration, "Configuration");
+    this.sequence = Objects.requireNonNull(in_sequence, "Sequence");
+    this.progression = Objects.requireNonNull(in_progression, "Progression");
+    this.track = in_sequence.getTracks()[0];
+
+    final int size = in_progression.timeline().size();
+    this.voicings = new ArrayList<>(size);
+    this.events = new ArrayList<>(size);
+  }
+
+  /**
+   * Export the given progression.
+   *
+   * @param configuration The exporter configuration
+   * @param progression   The input progression
+   *
+   * @return An exporter holding the exported sequence
+   *
+   * @throws InvalidMidiDataException If MIDI data could not be produced
+   */
+
+  public static JaCPDSLIncrementalExporter create(
+    final JaCPDSLExporterConfiguration configuration,
+    final JaCPDSL.Progression progression)
+    throws InvalidMidiDataException
+  {
+    Objects.requireNonNull(configuration, "Configuration");
+    Objects.requireNonNull(progression, "Progression");
+
+    final JaCPDSLIncrementalExporter exporter =
+      new JaCPDSLIncrementalExporter(
+        configuration, JaCPDSLExporter.createSequence(), progression);
+
+    final JaCPDSLTimeline timeline = progression.timeline();
+    exporter.insertEmpty(0, timeline.size());
+    exporter.setEnd(timeline);
+    exporter.place(timeline, 0, timeline.size());
+    return exporter;
+  }
+
+  /**
+   * @return The exported sequence, as of the most recently applied delta
+   */
+
+  public Sequence sequence()
+  {
+    return this.sequence;
+  }
+
+  /**
+   * @return The progression that the sequence currently represents
+   */
+
+  public JaCPDSL.Progression progression()
+  {
+    return this.progression;
+  }
+
+  /**
+   * Apply an edit to the exported sequence.
+   *
+   * @param delta The delta describing the edit
+   *
+   * @throws InvalidMidiDataException If MIDI data could not be produced
+   * @throws IllegalArgumentException If the delta was not produced by editing
+   *                                  the current progression
+   */
+
+  public void apply(
+    final JaCPDSLDelta delta)
+    throws InvalidMidiDataException
+  {
+    Objects.requireNonNull(delta, "Delta");
+
+    if (delta.previous() != this.progression) {
+      throw new IllegalArgumentException(
+        "Delta was not produced by editing the current progression");
+    }
+
+    final int index = delta.index();
+    final int inserted = delta.inserted();
+    final JaCPDSLTimeline timeline = delta.progression().timeline();
+
+    this.remove(index, delta.removed());
+    this.shift(index, delta.beatShift() * TICKS_PER_QUARTER);
+    this.insertEmpty(index, inserted);
+    this.setEnd(timeline);
+    this.place(timeline, index, index + inserted);
+    this.progression = delta.progression();
+  }
+
+  private void remove(
+    final int index,
+    final int count)
+  {
+    final List<MidiEvent[]> removed = this.events.subList(index, index + count);
+    for (final MidiEvent[] chord_events : removed) {
+      for (final MidiEvent event : chord_events) {
+        this.track.remove(event);
+      }
+    }
+    removed.clear();
+    this.voicings.subList(index, index + count).clear();
+  }
+
+  /*
+   * Moving every later event by the same number of ticks preserves their
+   * order relative to each other and to the events before the edit, and so
+   * the track stays sorted without any events being reinserted.
+   */
+
+  private void shift(
+    final int index,
+    final long ticks)
+  {
+    if (ticks == 0L) {
+      return;
+    }
+    for (int change = index; change < this.events.size(); ++change) {
+      for (final MidiEvent event : this.events.get(change)) {
+        event.setTick(event.getTick() + ticks);
+      }
+    }
+  }
+
+  private void insertEmpty(
+    final int index,
+    final int count)
+  {
+    this.voicings.addAll(index, Collections.nCopies(count, null));
+    this.events.addAll(index, Collections.nCopies(count, NO_EVENTS));
+  }
+
+  /*
+   * A track always ends with its end-of-track event. The event is moved
+   * before any chords are added, as a track inserts events by scanning
+   * backwards from its end.
+   */
+
+  private void setEnd(
+    final JaCPDSLTimeline timeline)
+  {
+    this.track.get(this.track.size() - 1)
+      .setTick(timeline.totalBeats() * TICKS_PER_QUARTER);
+  }
+
+  /**
+   * Produce events for the changes {@code [start, end)}, and for any later
+   * changes whose voicing differs from the one they currently have.
+   */
+
+  private void place(
+    final JaCPDSLTimeline timeline,
+    final int start,
+    final int end)
+    throws InvalidMidiDataException
+  {
+    final ArrayList<JaMidiChord> chords = new ArrayList<>(end - start);
+    final int size = timeline.size();
+
+    int change = start;
+    List<Integer> previous =
+      start > 0 ? this.voicings.get(start - 1) : List.of();
+    for (; change < size; ++change) {
+      final JaMidiChord chord = this.voice(previous, timeline, change);
+      if (change >= end
+        && chord.midiNotes().equals(this.voicings.get(change))) {
+        break;
+      }
+      chords.add(chord);
+      previous = chord.midiNotes();
+    }
+
+    final List<MidiEvent> held = this.holdBoundary(timeline, change);
+    for (int offset = 0; offset < chords.size(); ++offset) {
+      final int target = start + offset;
+      for (final MidiEvent event : this.events.get(target)) {
+        this.track.remove(event);
+      }
+      final JaMidiChord chord = chords.get(offset);
+      this.voicings.set(target, chord.midiNotes());
+      this.events.set(target, JaCPDSLExporter.addChord(this.track, chord));
+    }
+    for (final MidiEvent event : held) {
+      this.track.add(event);
+    }
+  }
+
+  private JaMidiChord voice(
+    final List<Integer> previous,
+    final JaCPDSLTimeline timeline,
+    final int change)
+  {
+    final JaMidiChord chord =
+      JaCPDSLExporter.midiChordAt(this.configuration, timeline, change);
+    if (this.configuration.voiceLeading() && !previous.isEmpty()) {
+      return JaVoiceLeading.bestInversionAfter(previous, chord);
+    }
+    return chord;
+  }
+
+  /**
+   * A track places a new event after every existing event with the same
+   * tick. In a full export, the note-off events of a change precede the
+   * note-on events of the next change at the same tick, and so the events
+   * of the unaffected changes that start exactly where the placed changes
+   * end are removed here and added again once the placed changes have
+   * been added.
+   */
+
+  private List<MidiEvent> holdBoundary(
+    final JaCPDSLTimeline timeline,
+    final int boundary)
+  {
+    final ArrayList<MidiEvent> held = new ArrayList<>();
+    if (boundary >= timeline.size()) {
+      return held;
+    }
+
+    final long tick = timeline.start(boundary) * TICKS_PER_QUARTER;
+    for (int change = boundary; change < timeline.size(); ++change) {
+      if (timeline.start(change) * TICKS_PER_QUARTER != tick) {
+        break;
+      }
+      for (final MidiEvent event : this.events.get(change)) {
+        if (event.getTick() == tick) {
+          this.track.remove(event);
+          held.add(event);
+        }
+      }
+    }
+    return held;
+  }
+}
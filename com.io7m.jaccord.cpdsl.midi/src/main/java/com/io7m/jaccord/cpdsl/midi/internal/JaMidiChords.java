@@ -52,7 +52,36 @@ public final class JaMidiChords
     final long timeEnd,
     final JaChord chord)
   {
-    final int root = toMidiNote(chord.root());
+    return midiChordOf(
+      configuration,
+      timeStart,
+      timeEnd,
+      chord.root(),
+      JaIntervals.mask(chord.intervals().intervals()));
+  }
+
+  /**
+   * Produce a midi chord.
+   *
+   * @param configuration The exporter configuration
+   * @param timeStart     The start time
+   * @param timeEnd       The ending time
+   * @param chordRoot     The root note of the chord
+   * @param chordMask     The interval mask of the chord
+   *
+   * @return A chord
+   *
+   * @see JaIntervals#mask(io.vavr.collection.SortedSet)
+   */
+
+  public static JaMidiChord midiChordOf(
+    final JaCPDSLExporterConfiguration configuration,
+    final long timeStart,
+    final long timeEnd,
+    final JaNote chordRoot,
+    final int chordMask)
+  {
+    final int root = toMidiNote(chordRoot);
 
     final var newNotes = new ArrayList<Integer>();
     newNotes.add(Integer.valueOf(root));
@@ -61,15 +90,19 @@ public final class JaMidiChords
       newNotes.add(Integer.valueOf(root - 12));
     }
 
-    for (final Integer i : chord.intervals().intervalsNormalized()) {
-      if (i.intValue() == JaIntervals.FIFTH.intValue()
-        || i.intValue() == JaIntervals.TRITAVE.intValue()) {
+    int remaining = JaIntervals.normalizeMask(chordMask);
+    while (remaining != 0) {
+      final int i = Integer.numberOfTrailingZeros(remaining);
+      remaining &= remaining - 1;
+
+      if (i == JaIntervals.FIFTH.intValue()
+        || i == JaIntervals.TRITAVE.intValue()) {
         if (configuration.omitFifth()) {
           continue;
         }
       }
 
-      newNotes.add(Integer.valueOf(root + i.intValue()));
+      newNotes.add(Integer.valueOf(root + i));
     }
 
     return JaMidiChord.builder()
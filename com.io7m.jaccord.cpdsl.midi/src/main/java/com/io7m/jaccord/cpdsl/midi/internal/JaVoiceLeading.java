@@ -106,12 +106,31 @@ public final class JaVoiceLeading
     final JaMidiChord chord0,
     final JaMidiChord chord1)
   {
-    final var inversions = inversionsOf(chord1);
+    return bestInversionAfter(chord0.midiNotes(), chord1);
+  }
+
+  /**
+   * Find the inversion of a chord that best follows the given notes. This
+   * is the step applied to each chord after the first by
+   * {@link #withVoiceLeading(List)}.
+   *
+   * @param previous The notes of the preceding (voiced) chord
+   * @param chord    The chord
+   *
+   * @return The best inversion of {@code chord}
+   */
+
+  public static JaMidiChord bestInversionAfter(
+    final List<Integer> previous,
+    final JaMidiChord chord)
+  {
+    final var inversions = inversionsOf(chord);
     var bestSoFar = 0;
     var smallest = Integer.MAX_VALUE;
 
     for (int index = 0; index < inversions.size(); ++index) {
-      final int diff = differenceBetween(chord0, inversions.get(index));
+      final int diff =
+        differenceBetween(previous, inversions.get(index).midiNotes());
       if (diff < smallest) {
         bestSoFar = index;
         smallest = diff;
@@ -122,12 +141,9 @@ public final class JaVoiceLeading
   }
 
   private static int differenceBetween(
-    final JaMidiChord chord0,
-    final JaMidiChord chord1)
+    final List<Integer> c0Notes,
+    final List<Integer> c1Notes)
   {
-    final var c0Notes = chord0.midiNotes();
-    final var c1Notes = chord1.midiNotes();
-
     final var lowest0 = c0Notes.get(0);
     final var lowest1 = c1Notes.get(0);
     final var highest0 = c0Notes.get(c0Notes.size() - 1);
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl.reharmonizer;
+
+import com.io7m.jaccord.cpdsl.JaCPDSL;
+
+import java.util.Objects;
+
+/**
+ * A reharmonized progression, along with its total cost.
+ */
+
+public final class JaReharmonization
+{
+  private final JaCPDSL.Progression progression;
+  private final double cost;
+
+  JaReharmonization(
+    final JaCPDSL.Progression in_progression,
+    final double in_cost)
+  {
+    this.progression = Objects.requireNonNull(in_progression, "Progression");
+    this.cost = in_cost;
+  }
+
+  /**
+   * @return The reharmonized progression
+   */
+
+  public JaCPDSL.Progression progression()
+  {
+    return this.progression;
+  }
+
+  /**
+   * @return The total cost of the reharmonization
+   */
+
+  public double cost()
+  {
+    return this.cost;
+  }
+
+  @Override
+  public String toString()
+  {
+    final StringBuilder sb = new StringBuilder(128);
+    sb.append("[JaReharmonization cost=");
+    sb.append(this.cost);
+    sb.append(' ');
+    sb.append(this.progression);
+    sb.append(']');
+    return sb.toString();
+  }
+}
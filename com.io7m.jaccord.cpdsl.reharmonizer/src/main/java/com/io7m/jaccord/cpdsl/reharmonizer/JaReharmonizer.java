@@ -0,0 +1,364 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl.reharmonizer;
+
+import com.io7m.jaccord.core.JaChord;
+import com.io7m.jaccord.cpdsl.JaCPDSL;
+import com.io7m.jaccord.cpdsl.internal.JaCPDSLHashing;
+import com.io7m.jaccord.cpdsl.internal.JaCPDSLParallel;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>A reharmonizer. A reharmonizer explores the substitutions that the
+ * chord progression DSL models, and returns the reharmonizations of a
+ * progression with the lowest total cost.</p>
+ *
+ * <p>The search is a beam search over chord changes. The candidate chords
+ * for every change, and the cost of every candidate and of every transition
+ * between candidates of adjacent changes, are computed up front and in
+ * parallel; the search itself then consists of table lookups. After each
+ * change is expanded, partial reharmonizations that end on the same chord
+ * are pruned down to the few best (as no later cost can tell them apart),
+ * and only the best {@link JaReharmonizerConfigurationType#beamWidth()}
+ * partial reharmonizations are retained.</p>
+ *
+ * <p>Ties between partial reharmonizations of equal cost are broken by a
+ * hash of their chord choices and the configured seed, and so the results
+ * are a deterministic function of the progression, the configuration, and
+ * the cost functions, regardless of the number of threads used.</p>
+ */
+
+public final class JaReharmonizer
+{
+  private final JaCPDSL dsl;
+  private final JaReharmonizerConfiguration configuration;
+  private final Vector<JaReharmonizerCostType> costs;
+
+  private JaReharmonizer(
+    final JaCPDSL in_dsl,
+    final JaReharmonizerConfiguration in_configuration,
+    final Vector<JaReharmonizerCostType> in_costs)
+  {
+    this.dsl = Objects.requireNonNull(in_dsl, "DSL");
+    this.configuration =
+      Objects.requireNonNull(in_configuration, "Configuration");
+    this.costs = Objects.requireNonNull(in_costs, "Costs");
+  }
+
+  /**
+   * Create a reharmonizer.
+   *
+   * @param dsl           The DSL used to build substituted chords
+   * @param configuration The reharmonizer configuration
+   * @param costs         The cost functions, whose costs are summed
+   *
+   * @return A reharmonizer
+   */
+
+  public static JaReharmonizer create(
+    final JaCPDSL dsl,
+    final JaReharmonizerConfiguration configuration,
+    final Seq<JaReharmonizerCostType> costs)
+  {
+    Objects.requireNonNull(costs, "Costs");
+    return new JaReharmonizer(dsl, configuration, Vector.ofAll(costs));
+  }
+
+  /**
+   * Reharmonize a progression, using the common fork-join pool.
+   *
+   * @param progression The progression
+   *
+   * @return At most {@link JaReharmonizerConfigurationType#resultCount()}
+   * reharmonizations, in order of increasing cost
+   *
+   * @see #reharmonize(JaCPDSL.Progression, ForkJoinPool)
+   */
+
+  public Vector<JaReharmonization> reharmonize(
+    final JaCPDSL.Progression progression)
+  {
+    return this.reharmonize(progression, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Reharmonize a progression.
+   *
+   * @param progression The progression
+   * @param pool        The pool used to evaluate candidates and costs
+   *
+   * @return At most {@link JaReharmonizerConfigurationType#resultCount()}
+   * reharmonizations, in order of increasing cost
+   */
+
+  public Vector<JaReharmonization> reharmonize(
+    final JaCPDSL.Progression progression,
+    final ForkJoinPool pool)
+  {
+    Objects.requireNonNull(progression, "Progression");
+    Objects.requireNonNull(pool, "Pool");
+
+    final Vector<JaCPDSL.Change> changes = progression.changes();
+    final int count = changes.size();
+    if (count == 0) {
+      return Vector.of(new JaReharmonization(progression, 0.0));
+    }
+
+    final JaReharmonizerCandidates[] candidates =
+      new JaReharmonizerCandidates[count];
+    final double[][] chord_costs = new double[count][];
+    JaCPDSLParallel.forEach(pool, count, 1, index -> {
+      candidates[index] = JaReharmonizerCandidates.generate(
+        this.dsl, this.configuration.substitutions(), changes, index);
+      chord_costs[index] = this.chordCosts(index, candidates[index]);
+    });
+
+    final double[][] transition_costs = new double[count][];
+    JaCPDSLParallel.forEach(pool, count - 1, 1, index -> {
+      transition_costs[index + 1] =
+        this.transitionCosts(candidates[index], candidates[index + 1]);
+    });
+
+    Layer layer = this.firstLayer(chord_costs[0]);
+    final Layer[] layers = new Layer[count];
+    layers[0] = layer;
+    for (int index = 1; index < count; ++index) {
+      layer = this.nextLayer(
+        layer,
+        candidates[index].size(),
+        chord_costs[index],
+        transition_costs[index]);
+      layers[index] = layer;
+    }
+
+    return this.results(changes, candidates, layers);
+  }
+
+  private double[] chordCosts(
+    final int index,
+    final JaReharmonizerCandidates candidates)
+  {
+    final JaChord original = candidates.chord(0);
+    final double[] result = new double[candidates.size()];
+    for (int c = 0; c < result.length; ++c) {
+      final JaChord chord = candidates.chord(c);
+      double sum = 0.0;
+      for (final JaReharmonizerCostType cost : this.costs) {
+        sum += cost.chordCost(index, original, chord);
+      }
+      result[c] = sum;
+    }
+    return result;
+  }
+
+  private double[] transitionCosts(
+    final JaReharmonizerCandidates previous,
+    final JaReharmonizerCandidates next)
+  {
+    final int width = next.size();
+    final double[] result = new double[previous.size() * width];
+    for (int p = 0; p < previous.size(); ++p) {
+      final JaChord chord_p = previous.chord(p);
+      for (int n = 0; n < width; ++n) {
+        final JaChord chord_n = next.chord(n);
+        double sum = 0.0;
+        for (final JaReharmonizerCostType cost : this.costs) {
+          sum += cost.transitionCost(chord_p, chord_n);
+        }
+        result[p * width + n] = sum;
+      }
+    }
+    return result;
+  }
+
+  private Layer firstLayer(
+    final double[] chord_costs)
+  {
+    final Layer all = new Layer(chord_costs.length);
+    for (int c = 0; c < chord_costs.length; ++c) {
+      all.add(
+        chord_costs[c], JaCPDSLHashing.mix(this.configuration.seed(), c), c, -1);
+    }
+    return all.best(this.configuration.beamWidth());
+  }
+
+  private Layer nextLayer(
+    final Layer previous,
+    final int width,
+    final double[] chord_costs,
+    final double[] transition_costs)
+  {
+    final int keep = Math.min(this.configuration.resultCount(), previous.size);
+    final Layer expanded = new Layer(width * keep);
+    final Layer scratch = new Layer(previous.size);
+
+    for (int c = 0; c < width; ++c) {
+      scratch.size = 0;
+      for (int s = 0; s < previous.size; ++s) {
+        scratch.add(
+          previous.costs[s]
+            + chord_costs[c]
+            + transition_costs[previous.candidates[s] * width + c],
+          JaCPDSLHashing.mix(previous.ties[s], c),
+          c,
+          s);
+      }
+      expanded.addAll(scratch.best(keep));
+    }
+    return expanded.best(this.configuration.beamWidth());
+  }
+
+  private Vector<JaReharmonization> results(
+    final Vector<JaCPDSL.Change> changes,
+    final JaReharmonizerCandidates[] candidates,
+    final Layer[] layers)
+  {
+    final int count = changes.size();
+    final Layer last =
+      layers[count - 1].best(this.configuration.resultCount());
+
+    Vector<JaReharmonization> results = Vector.empty();
+    for (int r = 0; r < last.size; ++r) {
+      final JaCPDSL.Change[] chosen = new JaCPDSL.Change[count];
+      int state = r;
+      Layer layer = last;
+      for (int index = count - 1; index >= 0; --index) {
+        final JaCPDSL.ChordTermType term =
+          candidates[index].term(layer.candidates[state]);
+        chosen[index] = this.dsl.change(term, changes.get(index).beats());
+        state = layer.parents[state];
+        if (index > 0) {
+          layer = layers[index - 1];
+        }
+      }
+      results = results.append(new JaReharmonization(
+        this.dsl.progression(chosen), last.costs[r]));
+    }
+    return results;
+  }
+
+  /**
+   * A set of partial reharmonizations ending at the same chord change, held
+   * as parallel arrays. The parent of a state is its index in the layer of
+   * the preceding change.
+   */
+
+  private static final class Layer
+  {
+    private double[] costs;
+    private long[] ties;
+    private int[] candidates;
+    private int[] parents;
+    private int size;
+
+    Layer(
+      final int capacity)
+    {
+      final int initial = Math.max(1, capacity);
+      this.costs = new double[initial];
+      this.ties = new long[initial];
+      this.candidates = new int[initial];
+      this.parents = new int[initial];
+      this.size = 0;
+    }
+
+    void add(
+      final double cost,
+      final long tie,
+      final int candidate,
+      final int parent)
+    {
+      if (this.size == this.costs.length) {
+        final int capacity = this.size * 2;
+        this.costs = Arrays.copyOf(this.costs, capacity);
+        this.ties = Arrays.copyOf(this.ties, capacity);
+        this.candidates = Arrays.copyOf(this.candidates, capacity);
+        this.parents = Arrays.copyOf(this.parents, capacity);
+      }
+      this.costs[this.size] = cost;
+      this.ties[this.size] = tie;
+      this.candidates[this.size] = candidate;
+      this.parents[this.size] = parent;
+      ++this.size;
+    }
+
+    void addAll(
+      final Layer other)
+    {
+      for (int index = 0; index < other.size; ++index) {
+        this.add(
+          other.costs[index],
+          other.ties[index],
+          other.candidates[index],
+          other.parents[index]);
+      }
+    }
+
+    private int compare(
+      final int x,
+      final int y)
+    {
+      final int c = Double.compare(this.costs[x], this.costs[y]);
+      if (c != 0) {
+        return c;
+      }
+      final int t = Long.compare(this.ties[x], this.ties[y]);
+      if (t != 0) {
+        return t;
+      }
+      final int k = Integer.compare(this.candidates[x], this.candidates[y]);
+      if (k != 0) {
+        return k;
+      }
+      return Integer.compare(this.parents[x], this.parents[y]);
+    }
+
+    /**
+     * @param count The maximum number of states
+     *
+     * @return A new layer holding the best {@code count} states of this
+     * layer, in order of increasing cost
+     */
+
+    Layer best(
+      final int count)
+    {
+      final Integer[] order = new Integer[this.size];
+      for (int index = 0; index < this.size; ++index) {
+        order[index] = Integer.valueOf(index);
+      }
+      Arrays.sort(order, (x, y) -> this.compare(x.intValue(), y.intValue()));
+
+      final int retained = Math.min(count, this.size);
+      final Layer result = new Layer(retained);
+      for (int index = 0; index < retained; ++index) {
+        final int source = order[index].intValue();
+        result.add(
+          this.costs[source],
+          this.ties[source],
+          this.candidates[source],
+          this.parents[source]);
+      }
+      return result;
+    }
+  }
+}
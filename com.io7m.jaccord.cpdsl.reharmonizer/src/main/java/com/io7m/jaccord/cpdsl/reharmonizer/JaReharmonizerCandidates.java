@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl.reharmonizer;
+
+import com.io7m.jaccord.core.JaChord;
+import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.cpdsl.JaCPDSL;
+import com.io7m.junreachable.UnimplementedCodeException;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.TreeSet;
+import io.vavr.collection.Vector;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static com.io7m.jaccord.cpdsl.reharmonizer.JaReharmonizerSubstitution.ALTERED;
+import static com.io7m.jaccord.cpdsl.reharmonizer.JaReharmonizerSubstitution.CHROMATIC_MEDIANT;
+import static com.io7m.jaccord.cpdsl.reharmonizer.JaReharmonizerSubstitution.CHROMATIC_PASSING;
+import static com.io7m.jaccord.cpdsl.reharmonizer.JaReharmonizerSubstitution.INVERSION;
+import static com.io7m.jaccord.cpdsl.reharmonizer.JaReharmonizerSubstitution.SECONDARY_DOMINANT;
+import static com.io7m.jaccord.cpdsl.reharmonizer.JaReharmonizerSubstitution.TRITONE;
+
+/**
+ * The candidate chords for a single chord change. The original chord is
+ * always the first candidate, and no two candidates evaluate to the same
+ * chord.
+ */
+
+final class JaReharmonizerCandidates
+{
+  private static final int ADDED_NINTH = 14;
+  private static final int FIFTH = 7;
+  private static final int FLAT_FIFTH = 6;
+
+  private final ArrayList<JaCPDSL.ChordTermType> terms;
+  private final ArrayList<JaChord> chords;
+
+  private JaReharmonizerCandidates()
+  {
+    this.terms = new ArrayList<>(16);
+    this.chords = new ArrayList<>(16);
+  }
+
+  /**
+   * Generate the candidates for the change at the given index.
+   *
+   * @param dsl           The DSL
+   * @param substitutions The permitted substitutions
+   * @param changes       The original changes
+   * @param index         The index of the change
+   *
+   * @return The candidates
+   */
+
+  static JaReharmonizerCandidates generate(
+    final JaCPDSL dsl,
+    final Set<JaReharmonizerSubstitution> substitutions,
+    final Vector<JaCPDSL.Change> changes,
+    final int index)
+  {
+    final JaReharmonizerCandidates result = new JaReharmonizerCandidates();
+    final JaCPDSL.ChordTermType term = changes.get(index).chord();
+    result.terms.add(term);
+    result.chords.add(term.evaluate());
+
+    if (substitutions.contains(TRITONE)) {
+      result.add(() -> dsl.tritone(term));
+    }
+
+    if (substitutions.contains(SECONDARY_DOMINANT)
+      && index + 1 < changes.size()) {
+      final JaCPDSL.ChordTermType next = changes.get(index + 1).chord();
+      result.add(() -> dsl.secondaryDominant(next));
+      result.add(() -> dsl.tritoneSecondaryDominant(next));
+    }
+
+    if (substitutions.contains(CHROMATIC_MEDIANT)) {
+      for (final JaCPDSL.ChromaticMediant m : JaCPDSL.ChromaticMediant.values()) {
+        result.add(() -> dsl.chromaticMediant(term, m));
+      }
+    }
+
+    if (substitutions.contains(CHROMATIC_PASSING)) {
+      addPassing(dsl, changes, index, result);
+    }
+
+    if (substitutions.contains(ALTERED)) {
+      result.add(() -> dsl.alteredAdded(
+        term, TreeSet.of(Integer.valueOf(ADDED_NINTH))));
+      result.add(() -> dsl.alteredReplaced(
+        term, HashMap.of(Integer.valueOf(FIFTH), Integer.valueOf(FLAT_FIFTH))));
+    }
+
+    if (substitutions.contains(INVERSION)) {
+      result.add(() -> dsl.inversion(term));
+    }
+
+    return result;
+  }
+
+  private static void addPassing(
+    final JaCPDSL dsl,
+    final Vector<JaCPDSL.Change> changes,
+    final int index,
+    final JaReharmonizerCandidates result)
+  {
+    if (index == 0 || index + 1 >= changes.size()) {
+      return;
+    }
+
+    final JaCPDSL.ChordTermType before = changes.get(index - 1).chord();
+    final JaCPDSL.ChordTermType after = changes.get(index + 1).chord();
+    if (before instanceof JaCPDSL.ChordDiatonic
+      && after instanceof JaCPDSL.ChordDiatonic) {
+      final JaCPDSL.ChordDiatonic chord_0 = (JaCPDSL.ChordDiatonic) before;
+      final JaCPDSL.ChordDiatonic chord_1 = (JaCPDSL.ChordDiatonic) after;
+      final JaNote root_0 = chord_0.evaluate().root();
+      final JaNote root_1 = chord_1.evaluate().root();
+      for (final JaNote root : new JaNote[]{root_0.next(), root_1.previous()}) {
+        if (root != root_0 && root != root_1) {
+          result.add(() -> dsl.chromaticPassing(chord_0, chord_1, root));
+        }
+      }
+    }
+  }
+
+  /**
+   * Add a candidate. The term is built inside the guard, because a DSL that
+   * evaluates eagerly evaluates the term as it is built, and substitutions
+   * that do not apply to the original chord fail at that point.
+   */
+
+  private void add(
+    final Supplier<JaCPDSL.ChordTermType> builder)
+  {
+    final JaCPDSL.ChordTermType term;
+    final JaChord chord;
+    try {
+      term = builder.get();
+      chord = term.evaluate();
+    } catch (final UnimplementedCodeException
+                   | IllegalArgumentException
+                   | NoSuchElementException e) {
+      return;
+    }
+
+    if (!this.chords.contains(chord)) {
+      this.terms.add(term);
+      this.chords.add(chord);
+    }
+  }
+
+  /**
+   * @return The number of candidates
+   */
+
+  int size()
+  {
+    return this.terms.size();
+  }
+
+  /**
+   * @param index The candidate index
+   *
+   * @return The term of the candidate
+   */
+
+  JaCPDSL.ChordTermType term(
+    final int index)
+  {
+    return this.terms.get(index);
+  }
+
+  /**
+   * @param index The candidate index
+   *
+   * @return The chord of the candidate
+   */
+
+  JaChord chord(
+    final int index)
+  {
+    return this.chords.get(index);
+  }
+}
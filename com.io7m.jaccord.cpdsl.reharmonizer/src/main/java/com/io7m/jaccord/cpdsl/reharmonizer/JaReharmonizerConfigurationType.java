@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl.reharmonizer;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.immutables.value.Value.Immutable;
+
+/**
+ * Configuration values for reharmonizers.
+ */
+
+@ImmutablesStyleType
+@Immutable
+public interface JaReharmonizerConfigurationType
+{
+  /**
+   * @return The maximum number of partial reharmonizations retained after
+   * each chord change is expanded
+   */
+
+  @Value.Default
+  default int beamWidth()
+  {
+    return 64;
+  }
+
+  /**
+   * @return The maximum number of reharmonizations returned
+   */
+
+  @Value.Default
+  default int resultCount()
+  {
+    return 4;
+  }
+
+  /**
+   * @return The seed used to order reharmonizations of equal cost
+   */
+
+  @Value.Default
+  default long seed()
+  {
+    return 0L;
+  }
+
+  /**
+   * @return The substitutions that may be applied
+   */
+
+  @Value.Default
+  default Set<JaReharmonizerSubstitution> substitutions()
+  {
+    return EnumSet.allOf(JaReharmonizerSubstitution.class);
+  }
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    if (this.beamWidth() < 1) {
+      throw new IllegalArgumentException(
+        new StringBuilder(64)
+          .append("Beam width must be positive (received ")
+          .append(this.beamWidth())
+          .append(")")
+          .toString());
+    }
+    if (this.resultCount() < 1 || this.resultCount() > this.beamWidth()) {
+      throw new IllegalArgumentException(
+        new StringBuilder(64)
+          .append("Result count must be in the range [1, ")
+          .append(this.beamWidth())
+          .append("] (received ")
+          .append(this.resultCount())
+          .append(")")
+          .toString());
+    }
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl.reharmonizer;
+
+import com.io7m.jaccord.core.JaChord;
+
+/**
+ * <p>A cost function for reharmonizations. The cost of a reharmonization is
+ * the sum, over every chord change, of the cost of the chord placed at the
+ * change and the cost of the transition into it from the preceding chord.
+ * Lower costs are better.</p>
+ *
+ * <p>Cost functions must be deterministic, and safe to call from multiple
+ * threads.</p>
+ *
+ * @see JaReharmonizerCosts
+ */
+
+public interface JaReharmonizerCostType
+{
+  /**
+   * @param index     The index of the chord change
+   * @param original  The chord originally at the change
+   * @param candidate The chord proposed for the change
+   *
+   * @return The cost of placing {@code candidate} at the change
+   */
+
+  default double chordCost(
+    final int index,
+    final JaChord original,
+    final JaChord candidate)
+  {
+    return 0.0;
+  }
+
+  /**
+   * @param previous  The chord proposed for the preceding change
+   * @param candidate The chord proposed for the change
+   *
+   * @return The cost of moving from {@code previous} to {@code candidate}
+   */
+
+  default double transitionCost(
+    final JaChord previous,
+    final JaChord candidate)
+  {
+    return 0.0;
+  }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl.reharmonizer;
+
+import com.io7m.jaccord.chord_names.api.JaChordNamesType;
+import com.io7m.jaccord.core.JaChord;
+import com.io7m.jaccord.core.JaIntervals;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Standard cost functions for reharmonizers.
+ */
+
+public final class JaReharmonizerCosts
+{
+  private static final int PITCH_CLASS_MASK = 0xfff;
+
+  /**
+   * The dissonance of each interval class: minor seconds and major sevenths
+   * are the most dissonant, followed by tritones, then major seconds and
+   * minor sevenths.
+   */
+
+  private static final double[] INTERVAL_CLASS_TENSION = {
+    0.0, 1.0, 0.5, 0.0, 0.0, 0.0, 0.75,
+  };
+
+  private JaReharmonizerCosts()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param chord A chord
+   *
+   * @return The set of pitch classes in the chord, as a 12-bit mask in which
+   * bit {@code n} denotes the note with ordinal {@code n}
+   */
+
+  public static int pitchClasses(
+    final JaChord chord)
+  {
+    final int intervals = JaIntervals.mask(chord.intervals().intervals()) | 1;
+    final int folded =
+      (intervals | (intervals >>> 12) | (intervals >>> 24)) & PITCH_CLASS_MASK;
+    final int root = chord.root().ordinal();
+    return ((folded << root) | (folded >>> (12 - root))) & PITCH_CLASS_MASK;
+  }
+
+  /**
+   * @param chord A chord
+   *
+   * @return The tension of the chord, as the summed dissonance of every pair
+   * of pitch classes in the chord
+   */
+
+  public static double tension(
+    final JaChord chord)
+  {
+    final int classes = pitchClasses(chord);
+    double sum = 0.0;
+    for (int x = 0; x < 12; ++x) {
+      if ((classes & (1 << x)) == 0) {
+        continue;
+      }
+      for (int y = x + 1; y < 12; ++y) {
+        if ((classes & (1 << y)) != 0) {
+          sum += INTERVAL_CLASS_TENSION[Math.min(y - x, 12 - (y - x))];
+        }
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * @param previous The pitch classes of a chord
+   * @param next     The pitch classes of a following chord
+   *
+   * @return The number of semitones that voices must move, in total, to get
+   * from every note of each chord to the nearest note of the other
+   *
+   * @see #pitchClasses(JaChord)
+   */
+
+  public static int movement(
+    final int previous,
+    final int next)
+  {
+    return distanceTo(previous, next) + distanceTo(next, previous);
+  }
+
+  private static int distanceTo(
+    final int sources,
+    final int targets)
+  {
+    if (targets == 0) {
+      return 0;
+    }
+
+    int total = 0;
+    for (int x = 0; x < 12; ++x) {
+      if ((sources & (1 << x)) == 0) {
+        continue;
+      }
+      for (int d = 0; d <= 6; ++d) {
+        final int up = (x + d) % 12;
+        final int down = (x + 12 - d) % 12;
+        if ((targets & ((1 << up) | (1 << down))) != 0) {
+          total += d;
+          break;
+        }
+      }
+    }
+    return total;
+  }
+
+  /**
+   * A cost function that favours smooth voice leading between consecutive
+   * chords.
+   *
+   * @param weight The weight of the cost
+   *
+   * @return A cost function
+   *
+   * @see #movement(int, int)
+   */
+
+  public static JaReharmonizerCostType voiceLeading(
+    final double weight)
+  {
+    return new JaReharmonizerCostType()
+    {
+      @Override
+      public double transitionCost(
+        final JaChord previous,
+        final JaChord candidate)
+      {
+        return weight * (double) movement(
+          pitchClasses(previous), pitchClasses(candidate));
+      }
+    };
+  }
+
+  /**
+   * A cost function that favours chords whose tension follows the given
+   * curve.
+   *
+   * @param target The desired tension at each chord change
+   * @param weight The weight of the cost
+   *
+   * @return A cost function
+   *
+   * @see #tension(JaChord)
+   */
+
+  public static JaReharmonizerCostType tensionCurve(
+    final IntToDoubleFunction target,
+    final double weight)
+  {
+    Objects.requireNonNull(target, "Target");
+
+    return new JaReharmonizerCostType()
+    {
+      @Override
+      public double chordCost(
+        final int index,
+        final JaChord original,
+        final JaChord candidate)
+      {
+        return weight * Math.abs(
+          tension(candidate) - target.applyAsDouble(index));
+      }
+    };
+  }
+
+  /**
+   * A cost function that favours chords with simple names, penalizing each
+   * added tone that the chord's quality does not account for.
+   *
+   * @param names  A chord name provider
+   * @param weight The weight of the cost
+   *
+   * @return A cost function
+   */
+
+  public static JaReharmonizerCostType namingComplexity(
+    final JaChordNamesType names,
+    final double weight)
+  {
+    Objects.requireNonNull(names, "Names");
+
+    return new JaReharmonizerCostType()
+    {
+      @Override
+      public double chordCost(
+        final int index,
+        final JaChord original,
+        final JaChord candidate)
+      {
+        return weight * (double) Integer.bitCount(
+          names.classify(candidate.intervals()).additions());
+      }
+    };
+  }
+
+  /**
+   * A cost function that penalizes every chord that differs from the
+   * original chord, and so limits how much of a progression is changed.
+   *
+   * @param weight The weight of the cost
+   *
+   * @return A cost function
+   */
+
+  public static JaReharmonizerCostType substitution(
+    final double weight)
+  {
+    return new JaReharmonizerCostType()
+    {
+      @Override
+      public double chordCost(
+        final int index,
+        final JaChord original,
+        final JaChord candidate)
+      {
+        return original.equals(candidate) ? 0.0 : weight;
+      }
+    };
+  }
+}
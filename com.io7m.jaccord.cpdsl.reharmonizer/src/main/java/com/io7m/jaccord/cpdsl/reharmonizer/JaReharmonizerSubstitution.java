@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl.reharmonizer;
+
+import com.io7m.jaccord.cpdsl.JaCPDSL;
+
+/**
+ * The substitutions that a reharmonizer may apply to a chord change.
+ */
+
+public enum JaReharmonizerSubstitution
+{
+  /**
+   * Substitute a chord with its tritone substitution.
+   *
+   * @see JaCPDSL#tritone(JaCPDSL.ChordTermType)
+   */
+
+  TRITONE,
+
+  /**
+   * Substitute a chord with the secondary dominant of the chord that follows
+   * it, or with the tritone substitution of that dominant.
+   *
+   * @see JaCPDSL#secondaryDominant(JaCPDSL.ChordTermType)
+   */
+
+  SECONDARY_DOMINANT,
+
+  /**
+   * Substitute a chord with any of its chromatic mediants.
+   *
+   * @see JaCPDSL.ChromaticMediant
+   */
+
+  CHROMATIC_MEDIANT,
+
+  /**
+   * Substitute a chord that lies between two diatonic chords with a
+   * chromatic passing chord between them.
+   *
+   * @see JaCPDSL#chromaticPassing
+   */
+
+  CHROMATIC_PASSING,
+
+  /**
+   * Substitute a chord with an altered form of itself (with an added ninth,
+   * or with a flattened fifth).
+   *
+   * @see JaCPDSL#alteredAddedReplaced
+   */
+
+  ALTERED,
+
+  /**
+   * Substitute a chord with its first inversion.
+   *
+   * @see JaCPDSL#inversion(JaCPDSL.ChordTermType)
+   */
+
+  INVERSION
+}
@@ -0,0 +1,621 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl.text;
+
+import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.cpdsl.JaCPDSL;
+import com.io7m.jaccord.parser.api.JaAccidentalEncoding;
+import com.io7m.jaccord.parser.api.JaParseError;
+import com.io7m.jaccord.parser.api.JaParseErrorCode;
+import com.io7m.jaccord.parser.vanilla.JaNoteLexer;
+import com.io7m.jaccord.scales.api.JaScales;
+import com.io7m.jlexing.core.LexicalPosition;
+import com.io7m.junreachable.UnimplementedCodeException;
+import io.vavr.collection.Map;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Set;
+import io.vavr.collection.TreeMap;
+import io.vavr.collection.TreeSet;
+import io.vavr.collection.Vector;
+import io.vavr.control.Validation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>A streaming parser for the progression text format.</p>
+ *
+ * <p>A file consists of any number of progressions. Each progression begins
+ * with a header line naming the root note and the identifier of a scale,
+ * continues with one chord change per line, and finishes with a line
+ * containing {@code end}. Blank lines are ignored, and a {@code #} at the
+ * start of a token begins a comment that extends to the end of the line.</p>
+ *
+ * <pre>
+ * progression C Major
+ *   triad I 4
+ *   inversion seventh VI 4
+ *   tritone secondary triad II 2
+ *   alter-add 14 triad V 2
+ * end
+ * </pre>
+ *
+ * <p>A change is a chord term followed by a number of beats. Chord terms are
+ * written in prefix form:</p>
+ *
+ * <ul>
+ *   <li>{@code triad D}, {@code seventh D}, {@code ninth D},
+ *   {@code eleventh D}, {@code sus2 D}, and {@code sus4 D} denote the
+ *   diatonic chord at degree {@code D} (one of {@code I} to {@code VII})
+ *   of the progression's scale.</li>
+ *   <li>{@code inversion T}, {@code secondary T}, and {@code tritone T}
+ *   denote the inversion, the secondary dominant, and the tritone
+ *   substitution of the term {@code T}.</li>
+ *   <li>{@code mediant M T} denotes the chromatic mediant of {@code T},
+ *   where {@code M} is one of {@code major-up}, {@code major-down},
+ *   {@code minor-up}, or {@code minor-down}.</li>
+ *   <li>{@code transpose N T} transposes {@code T} by {@code N}
+ *   semitones.</li>
+ *   <li>{@code alter-add A T} adds the comma-separated intervals
+ *   {@code A} to {@code T}, and {@code alter-replace R T} replaces chord
+ *   tones according to the comma-separated {@code from:to} pairs
+ *   {@code R}.</li>
+ *   <li>{@code passing N D0 D1} denotes a chromatic passing chord with root
+ *   {@code N} between the diatonic chords {@code D0} and {@code D1}.</li>
+ * </ul>
+ *
+ * <p>The parser reads one line at a time and holds only the changes of the
+ * progression that it is currently reading, so files of any size can be
+ * parsed in constant memory per progression. Errors are reported with the
+ * line and column of the offending token; after an error, parsing resumes
+ * at the next line. Instances are not thread-safe.</p>
+ */
+
+public final class JaCPDSLTextParser
+{
+  private static final int MAXIMUM_DEPTH = 256;
+  private static final JaCPDSL.Degree[] DEGREES = JaCPDSL.Degree.values();
+
+  private final JaCPDSL dsl;
+  private final BufferedReader reader;
+  private final Optional<Path> file;
+  private final HashMap<String, Optional<JaCPDSL.Scale>> scales;
+  private final ArrayList<JaParseError> errors;
+  private final ArrayList<JaCPDSL.Change> changes;
+  private String text;
+  private int line;
+  private int token_start;
+  private int token_end;
+
+  private JaCPDSLTextParser(
+    final JaCPDSL in_dsl,
+    final Path in_path,
+    final Reader in_reader)
+  {
+    this.dsl = Objects.requireNonNull(in_dsl, "DSL");
+    this.file = Optional.of(Objects.requireNonNull(in_path, "Path"));
+    this.reader = toBuffered(Objects.requireNonNull(in_reader, "Reader"));
+    this.scales = new HashMap<>(16);
+    this.errors = new ArrayList<>(8);
+    this.changes = new ArrayList<>(64);
+    this.text = "";
+  }
+
+  private static BufferedReader toBuffered(
+    final Reader reader)
+  {
+    if (reader instanceof BufferedReader) {
+      return (BufferedReader) reader;
+    }
+    return new BufferedReader(reader);
+  }
+
+  /**
+   * Create a parser.
+   *
+   * @param dsl    The DSL used to construct progressions
+   * @param path   The path of the file, for error reporting
+   * @param reader The source of text
+   *
+   * @return A parser
+   */
+
+  public static JaCPDSLTextParser create(
+    final JaCPDSL dsl,
+    final Path path,
+    final Reader reader)
+  {
+    return new JaCPDSLTextParser(dsl, path, reader);
+  }
+
+  /**
+   * @return The number of lines read so far
+   */
+
+  public int lineCount()
+  {
+    return this.line;
+  }
+
+  /**
+   * Parse the next progression.
+   *
+   * @return The parsed progression, or an empty value at the end of the
+   * input
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public Optional<Validation<Seq<JaParseError>, JaCPDSL.Progression>> next()
+    throws IOException
+  {
+    while (this.readLine()) {
+      if (!this.nextToken()) {
+        continue;
+      }
+      if (this.tokenIs("progression")) {
+        return Optional.of(this.parseProgression());
+      }
+      return Optional.of(Validation.invalid(Vector.of(
+        this.error(JaParseErrorCode.PROGRESSION_SYNTAX_ERROR, "'progression'"))));
+    }
+    return Optional.empty();
+  }
+
+  private boolean readLine()
+    throws IOException
+  {
+    final String next_text = this.reader.readLine();
+    if (next_text == null) {
+      return false;
+    }
+    this.text = next_text;
+    this.token_start = 0;
+    this.token_end = 0;
+    ++this.line;
+    return true;
+  }
+
+  private Validation<Seq<JaParseError>, JaCPDSL.Progression> parseProgression()
+    throws IOException
+  {
+    this.errors.clear();
+    this.changes.clear();
+
+    JaCPDSL.Scale scale = null;
+    try {
+      scale = this.parseScale();
+      this.expectEndOfLine();
+    } catch (final SyntaxException e) {
+      this.errors.add(e.error);
+    }
+
+    while (this.readLine()) {
+      if (!this.nextToken()) {
+        continue;
+      }
+      if (this.tokenIs("end")) {
+        try {
+          this.expectEndOfLine();
+        } catch (final SyntaxException e) {
+          this.errors.add(e.error);
+        }
+        return this.finish();
+      }
+      if (scale != null) {
+        try {
+          this.changes.add(this.parseChange(scale));
+        } catch (final SyntaxException e) {
+          this.errors.add(e.error);
+        }
+      }
+    }
+
+    this.token_start = this.text.length();
+    this.token_end = this.token_start;
+    this.errors.add(
+      this.error(JaParseErrorCode.PROGRESSION_SYNTAX_ERROR, "'end'"));
+    return this.finish();
+  }
+
+  private Validation<Seq<JaParseError>, JaCPDSL.Progression> finish()
+  {
+    if (!this.errors.isEmpty()) {
+      return Validation.invalid(Vector.ofAll(this.errors));
+    }
+    return Validation.valid(
+      this.dsl.progressionOfAll(Vector.ofAll(this.changes)));
+  }
+
+  private JaCPDSL.Scale parseScale()
+    throws SyntaxException
+  {
+    final JaNote root = this.parseNote();
+    this.requireToken("A scale identifier");
+
+    final String id = this.token();
+    final String key =
+      new StringBuilder(32)
+        .append(root.name())
+        .append(' ')
+        .append(id)
+        .toString();
+
+    Optional<JaCPDSL.Scale> scale = this.scales.get(key);
+    if (scale == null) {
+      if (JaScales.scalesByID(id).size() == 1) {
+        scale = Optional.of(this.dsl.scale(root, id));
+      } else {
+        scale = Optional.empty();
+      }
+      this.scales.put(key, scale);
+    }
+
+    if (scale.isPresent()) {
+      return scale.get();
+    }
+    throw new SyntaxException(
+      this.error(
+        JaParseErrorCode.PROGRESSION_SCALE_UNKNOWN,
+        "The identifier of exactly one known scale"));
+  }
+
+  private JaCPDSL.Change parseChange(
+    final JaCPDSL.Scale scale)
+    throws SyntaxException
+  {
+    final int term_start = this.token_start;
+
+    final JaCPDSL.ChordTermType term;
+    try {
+      term = this.parseTerm(scale, 0);
+      term.evaluate();
+    } catch (final UnimplementedCodeException | IllegalArgumentException e) {
+      throw new SyntaxException(
+        JaParseError.of(
+          LexicalPosition.of(this.line, term_start, this.file),
+          JaParseErrorCode.PROGRESSION_TERM_INVALID,
+          "A chord term that can be evaluated",
+          this.text.substring(term_start, this.token_end),
+          Optional.of(e)));
+    }
+
+    this.requireToken("A number of beats");
+    final int beats = this.tokenInteger(this.token_start, this.token_end);
+    if (beats < 0) {
+      throw new SyntaxException(
+        this.error(
+          JaParseErrorCode.PROGRESSION_SYNTAX_ERROR,
+          "A non-negative number of beats"));
+    }
+    this.expectEndOfLine();
+    return this.dsl.change(term, beats);
+  }
+
+  private JaCPDSL.ChordTermType parseTerm(
+    final JaCPDSL.Scale scale,
+    final int depth)
+    throws SyntaxException
+  {
+    if (depth > MAXIMUM_DEPTH) {
+      throw new SyntaxException(
+        this.error(
+          JaParseErrorCode.PROGRESSION_SYNTAX_ERROR,
+          "A chord term with fewer nested operators"));
+    }
+
+    switch (this.token()) {
+      case "inversion":
+        this.requireToken("A chord term");
+        return this.dsl.inversion(this.parseTerm(scale, depth + 1));
+      case "secondary":
+        this.requireToken("A chord term");
+        return this.dsl.secondaryDominant(this.parseTerm(scale, depth + 1));
+      case "tritone":
+        this.requireToken("A chord term");
+        return this.dsl.tritone(this.parseTerm(scale, depth + 1));
+      case "mediant": {
+        final JaCPDSL.ChromaticMediant mediant = this.parseMediant();
+        this.requireToken("A chord term");
+        return this.dsl.chromaticMediant(
+          this.parseTerm(scale, depth + 1), mediant);
+      }
+      case "transpose": {
+        this.requireToken("A number of semitones");
+        final int steps = this.tokenInteger(this.token_start, this.token_end);
+        this.requireToken("A chord term");
+        return this.dsl.chromaticTranspose(
+          this.parseTerm(scale, depth + 1), steps);
+      }
+      case "alter-add": {
+        final Set<Integer> add = this.parseIntervals();
+        this.requireToken("A chord term");
+        return this.dsl.alteredAdded(this.parseTerm(scale, depth + 1), add);
+      }
+      case "alter-replace": {
+        final Map<Integer, Integer> replace = this.parseReplacements();
+        this.requireToken("A chord term");
+        return this.dsl.alteredReplaced(
+          this.parseTerm(scale, depth + 1), replace);
+      }
+      case "passing": {
+        final JaNote root = this.parseNote();
+        this.requireToken("A diatonic chord");
+        final JaCPDSL.ChordDiatonic chord_0 = this.parseDiatonic(scale);
+        this.requireToken("A diatonic chord");
+        final JaCPDSL.ChordDiatonic chord_1 = this.parseDiatonic(scale);
+        return this.dsl.chromaticPassing(chord_0, chord_1, root);
+      }
+      default:
+        return this.parseDiatonic(scale);
+    }
+  }
+
+  private JaCPDSL.ChordDiatonic parseDiatonic(
+    final JaCPDSL.Scale scale)
+    throws SyntaxException
+  {
+    switch (this.token()) {
+      case "triad":
+        return this.dsl.diatonic(scale, this.parseDegree());
+      case "seventh":
+        return this.dsl.diatonic7(scale, this.parseDegree());
+      case "ninth":
+        return this.dsl.diatonic9(scale, this.parseDegree());
+      case "eleventh":
+        return this.dsl.diatonic11(scale, this.parseDegree());
+      case "sus2":
+        return this.dsl.sus2(scale, this.parseDegree());
+      case "sus4":
+        return this.dsl.sus4(scale, this.parseDegree());
+      default:
+        throw new SyntaxException(
+          this.error(
+            JaParseErrorCode.PROGRESSION_SYNTAX_ERROR,
+            "A chord term"));
+    }
+  }
+
+  private JaCPDSL.Degree parseDegree()
+    throws SyntaxException
+  {
+    this.requireToken("A scale degree");
+    switch (this.token()) {
+      case "I":
+        return DEGREES[0];
+      case "II":
+        return DEGREES[1];
+      case "III":
+        return DEGREES[2];
+      case "IV":
+        return DEGREES[3];
+      case "V":
+        return DEGREES[4];
+      case "VI":
+        return DEGREES[5];
+      case "VII":
+        return DEGREES[6];
+      default:
+        throw new SyntaxException(
+          this.error(
+            JaParseErrorCode.PROGRESSION_SYNTAX_ERROR,
+            "A scale degree in the range [I, VII]"));
+    }
+  }
+
+  private JaCPDSL.ChromaticMediant parseMediant()
+    throws SyntaxException
+  {
+    this.requireToken("A mediant");
+    switch (this.token()) {
+      case "major-up":
+        return JaCPDSL.ChromaticMediant.MAJOR_UP;
+      case "major-down":
+        return JaCPDSL.ChromaticMediant.MAJOR_DOWN;
+      case "minor-up":
+        return JaCPDSL.ChromaticMediant.MINOR_UP;
+      case "minor-down":
+        return JaCPDSL.ChromaticMediant.MINOR_DOWN;
+      default:
+        throw new SyntaxException(
+          this.error(
+            JaParseErrorCode.PROGRESSION_SYNTAX_ERROR,
+            "One of major-up, major-down, minor-up, or minor-down"));
+    }
+  }
+
+  private JaNote parseNote()
+    throws SyntaxException
+  {
+    this.requireToken("A note");
+    final int note =
+      JaNoteLexer.note(
+        JaAccidentalEncoding.UNICODE_AND_ASCII_ACCIDENTALS,
+        this.text,
+        this.token_start,
+        this.token_end);
+
+    if (note == JaNoteLexer.INVALID) {
+      throw new SyntaxException(
+        this.error(JaParseErrorCode.NOTE_INVALID, "A note"));
+    }
+    return JaNoteLexer.noteOf(note);
+  }
+
+  private Set<Integer> parseIntervals()
+    throws SyntaxException
+  {
+    this.requireToken("A comma-separated list of intervals");
+
+    TreeSet<Integer> intervals = TreeSet.empty();
+    int start = this.token_start;
+    while (start <= this.token_end) {
+      final int end = this.indexOf(',', start);
+      intervals = intervals.add(
+        Integer.valueOf(this.tokenInteger(start, end)));
+      start = end + 1;
+    }
+    return intervals;
+  }
+
+  private Map<Integer, Integer> parseReplacements()
+    throws SyntaxException
+  {
+    this.requireToken("A comma-separated list of interval replacements");
+
+    TreeMap<Integer, Integer> replace = TreeMap.empty();
+    int start = this.token_start;
+    while (start <= this.token_end) {
+      final int end = this.indexOf(',', start);
+      final int split = this.indexOf(':', start);
+      if (split >= end) {
+        throw new SyntaxException(
+          this.error(
+            JaParseErrorCode.PROGRESSION_SYNTAX_ERROR,
+            "A replacement of the form from:to"));
+      }
+      replace = replace.put(
+        Integer.valueOf(this.tokenInteger(start, split)),
+        Integer.valueOf(this.tokenInteger(split + 1, end)));
+      start = end + 1;
+    }
+    return replace;
+  }
+
+  private int indexOf(
+    final char c,
+    final int start)
+  {
+    int index = start;
+    while (index < this.token_end && this.text.charAt(index) != c) {
+      ++index;
+    }
+    return index;
+  }
+
+  private int tokenInteger(
+    final int start,
+    final int end)
+    throws SyntaxException
+  {
+    int index = start;
+    final boolean negative = index < end && this.text.charAt(index) == '-';
+    if (negative) {
+      ++index;
+    }
+
+    if (index == end || end - index > 9) {
+      throw this.integerError();
+    }
+
+    int value = 0;
+    for (; index < end; ++index) {
+      final char c = this.text.charAt(index);
+      if (c < '0' || c > '9') {
+        throw this.integerError();
+      }
+      value = (value * 10) + (c - '0');
+    }
+    return negative ? -value : value;
+  }
+
+  private SyntaxException integerError()
+  {
+    return new SyntaxException(
+      this.error(JaParseErrorCode.PROGRESSION_SYNTAX_ERROR, "An integer"));
+  }
+
+  private boolean nextToken()
+  {
+    final int end = this.text.length();
+    final int start = JaNoteLexer.skipWhitespace(this.text, this.token_end, end);
+    if (start == end || this.text.charAt(start) == '#') {
+      this.token_start = end;
+      this.token_end = end;
+      return false;
+    }
+    this.token_start = start;
+    this.token_end = JaNoteLexer.skipToken(this.text, start, end);
+    return true;
+  }
+
+  private void requireToken(
+    final String expected)
+    throws SyntaxException
+  {
+    if (!this.nextToken()) {
+      throw new SyntaxException(
+        this.error(JaParseErrorCode.PROGRESSION_SYNTAX_ERROR, expected));
+    }
+  }
+
+  private void expectEndOfLine()
+    throws SyntaxException
+  {
+    if (this.nextToken()) {
+      throw new SyntaxException(
+        this.error(
+          JaParseErrorCode.PROGRESSION_SYNTAX_ERROR,
+          "The end of the line"));
+    }
+  }
+
+  private boolean tokenIs(
+    final String name)
+  {
+    final int length = this.token_end - this.token_start;
+    return length == name.length()
+      && this.text.regionMatches(this.token_start, name, 0, length);
+  }
+
+  private String token()
+  {
+    return this.text.substring(this.token_start, this.token_end);
+  }
+
+  private JaParseError error(
+    final JaParseErrorCode code,
+    final String expected)
+  {
+    return JaParseError.of(
+      LexicalPosition.of(this.line, this.token_start, this.file),
+      code,
+      expected,
+      this.token_start == this.token_end ? "end of line" : this.token(),
+      Optional.empty());
+  }
+
+  private static final class SyntaxException extends Exception
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final transient JaParseError error;
+
+    SyntaxException(
+      final JaParseError in_error)
+    {
+      super(null, null, false, false);
+      this.error = Objects.requireNonNull(in_error, "Error");
+    }
+  }
+}
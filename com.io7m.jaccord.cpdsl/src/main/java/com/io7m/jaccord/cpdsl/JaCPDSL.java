@@ -31,7 +31,6 @@ import com.io7m.junreachable.UnimplementedCodeException;
 import com.io7m.junreachable.UnreachableCodeException;
 import io.vavr.collection.HashMap;
 import io.vavr.collection.HashSet;
-import io.vavr.collection.List;
 import io.vavr.collection.Map;
 import io.vavr.collection.Set;
 import io.vavr.collection.SortedSet;
@@ -39,46 +38,203 @@ import io.vavr.collection.Traversable;
 import io.vavr.collection.TreeSet;
 import io.vavr.collection.Vector;
 
-import java.util.Iterator;
 import java.util.Objects;
-import java.util.ServiceLoader;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 
 /**
- * A domain-specific language for describing chord progressions.
+ * <p>A domain-specific language for describing chord progressions.</p>
+ *
+ * <p>Chord terms are hash-consed: building a term that is structurally
+ * equal to a term built earlier by the same DSL usually yields the earlier
+ * term, along with its already-evaluated chord. Terms are held in a bounded
+ * table, so sharing is best-effort; terms always compare structurally, so
+ * whether or not two terms are shared is never observable except through
+ * reference equality.</p>
+ *
+ * <p>Terms are evaluated either as soon as they are built, or on demand,
+ * according to the {@link JaCPDSLEvaluation} strategy given when the DSL is
+ * created. Lazily evaluated terms memoize their chord, and may be evaluated
+ * from any thread.</p>
+ *
+ * <p>A DSL is immutable and safe for use from multiple threads: terms may be
+ * built, evaluated, and rendered concurrently. The chord name provider is
+ * located once per class loader, a new DSL has a small table of shared
+ * terms, and its chord and scale caches are filled only on use, so creating
+ * a DSL is cheap. A single DSL per evaluation strategy, with a much larger
+ * term table, may be shared across an entire application via
+ * {@link #shared(JaCPDSLEvaluation)}.</p>
  */
 
 public final class JaCPDSL
 {
-  private JaChordNamesType names;
+  private static final int TERM_TABLE_SIZE = 1 << 10;
+  private static final int SHARED_TERM_TABLE_SIZE = 1 << 16;
+
+  private static final int DOMINANT_SEVENTH =
+    (1 << JaIntervals.MAJOR_THIRD.intValue())
+      | (1 << JaIntervals.FIFTH.intValue())
+      | (1 << JaIntervals.MINOR_SEVENTH.intValue());
+
+  private static final AtomicReferenceArray<JaCPDSL> SHARED =
+    new AtomicReferenceArray<>(JaCPDSLEvaluation.values().length);
+
+  private final JaChordNamesType names;
+  private final JaCPDSLTermTable terms;
+  private final JaCPDSLEvaluation evaluation;
+  private final JaCPDSLScaleCache scale_cache;
+  private final JaCPDSLChordTable chord_table;
 
   private JaCPDSL(
-    final JaChordNamesType in_names)
+    final JaChordNamesType in_names,
+    final JaCPDSLEvaluation in_evaluation,
+    final int in_term_table_size)
   {
     this.names = Objects.requireNonNull(in_names, "Names");
+    this.evaluation = Objects.requireNonNull(in_evaluation, "Evaluation");
+    this.terms = new JaCPDSLTermTable(in_term_table_size);
+    this.scale_cache = new JaCPDSLScaleCache();
+    this.chord_table = new JaCPDSLChordTable();
+  }
+
+  /**
+   * @param chord The chord
+   *
+   * @return The name of the given chord's intervals
+   */
+
+  String nameOf(
+    final JaChord chord)
+  {
+    return this.names.name(chord.intervals());
   }
 
   /**
+   * @return The table of interned chords produced by terms of this DSL
+   */
+
+  JaCPDSLChordTable chordTable()
+  {
+    return this.chord_table;
+  }
+
+  private <T extends ChordTermType> T share(
+    final T term)
+  {
+    final T shared = this.terms.intern(term);
+    if (this.evaluation == JaCPDSLEvaluation.EAGER) {
+      shared.evaluate();
+    }
+    return shared;
+  }
+
+  private ChordDiatonic diatonicOf(
+    final Scale scale,
+    final Degree degree,
+    final JaScaleHarmonizationChordTypes types)
+  {
+    Objects.requireNonNull(scale, "Scale");
+    Objects.requireNonNull(degree, "Degree");
+
+    final Vector<JaChord> chords = scale.harmonize(types);
+    if (degree.ordinal() < chords.size()) {
+      return this.share(new ChordDiatonic(this, chords.get(degree.ordinal())));
+    }
+
+    throw new UnimplementedCodeException();
+  }
+
+  /**
+   * Create a DSL that evaluates terms eagerly.
+   *
    * @return A new DSL
+   *
+   * @see JaCPDSLEvaluation#EAGER
    */
 
   public static JaCPDSL create()
   {
-    final ServiceLoader<JaChordNamesType> names_loader =
-      ServiceLoader.load(JaChordNamesType.class);
-    final Iterator<JaChordNamesType> names_iter =
-      names_loader.iterator();
-
-    while (names_iter.hasNext()) {
-      final JaChordNamesType names = names_iter.next();
-      return new JaCPDSL(names);
+    return create(JaCPDSLEvaluation.EAGER);
+  }
+
+  /**
+   * Create a DSL. Each DSL has its own table of shared terms; applications
+   * that do not need isolated tables should prefer
+   * {@link #shared(JaCPDSLEvaluation)}.
+   *
+   * @param evaluation The evaluation strategy for terms
+   *
+   * @return A new DSL
+   */
+
+  public static JaCPDSL create(
+    final JaCPDSLEvaluation evaluation)
+  {
+    return createWithTable(evaluation, TERM_TABLE_SIZE);
+  }
+
+  private static JaCPDSL createWithTable(
+    final JaCPDSLEvaluation evaluation,
+    final int term_table_size)
+  {
+    return new JaCPDSL(JaCPDSLNames.instance(), evaluation, term_table_size);
+  }
+
+  /**
+   * Retrieve the shared DSL that evaluates terms eagerly.
+   *
+   * @return The shared DSL
+   *
+   * @see #shared(JaCPDSLEvaluation)
+   */
+
+  public static JaCPDSL shared()
+  {
+    return shared(JaCPDSLEvaluation.EAGER);
+  }
+
+  /**
+   * Retrieve the shared DSL for the given evaluation strategy. The same DSL
+   * is returned on every call with a given strategy.
+   *
+   * @param evaluation The evaluation strategy for terms
+   *
+   * @return The shared DSL
+   */
+
+  public static JaCPDSL shared(
+    final JaCPDSLEvaluation evaluation)
+  {
+    Objects.requireNonNull(evaluation, "Evaluation");
+
+    final int index = evaluation.ordinal();
+    final JaCPDSL existing = SHARED.get(index);
+    if (existing != null) {
+      return existing;
     }
 
-    throw new UnimplementedCodeException();
+    final JaCPDSL created =
+      createWithTable(evaluation, SHARED_TERM_TABLE_SIZE);
+    if (SHARED.compareAndSet(index, null, created)) {
+      return created;
+    }
+    return SHARED.get(index);
   }
 
   /**
-   * Look up a scale with the given root node and identifier.
+   * @return The evaluation strategy for terms
+   */
+
+  public JaCPDSLEvaluation evaluation()
+  {
+    return this.evaluation;
+  }
+
+  /**
+   * Look up a scale with the given root node and identifier. The same scale
+   * is returned on every call with a given root and identifier, and so
+   * harmonizations of the scale are computed at most once per DSL.
    *
    * @param root The root note
    * @param name The identifier
@@ -94,18 +250,72 @@ public final class JaCPDSL
   {
     Objects.requireNonNull(root, "Root");
     Objects.requireNonNull(name, "Name");
+    return this.scale_cache.scalesNamed(name)[root.ordinal()];
+  }
 
-    final List<JaScaleNamed> matching = JaScales.scalesByID(name);
+  /**
+   * Look up the scale with the given identifier in all twelve keys.
+   *
+   * @param name The identifier
+   *
+   * @return The scale rooted at each note, in note order
+   *
+   * @see #scale(JaNote, String)
+   */
 
-    if (matching.isEmpty()) {
-      throw new UnimplementedCodeException();
-    }
+  public Vector<Scale> scalesInAllKeys(
+    final String name)
+  {
+    Objects.requireNonNull(name, "Name");
+    return Vector.of(this.scale_cache.scalesNamed(name));
+  }
 
-    if (matching.size() == 1) {
-      return new Scale(root, matching.get(0));
-    }
+  /**
+   * Instantiate and compile a progression template for each of the given
+   * scales, in parallel on the common fork-join pool.
+   *
+   * @param template The progression template
+   * @param scales   The target scales
+   *
+   * @return The compiled progression for each scale, in the order of the
+   * given scales
+   *
+   * @see #evaluateAll(JaCPDSLTemplateType, Traversable, ForkJoinPool)
+   */
 
-    throw new UnimplementedCodeException();
+  public Vector<JaCPDSLTimeline> evaluateAll(
+    final JaCPDSLTemplateType template,
+    final Traversable<Scale> scales)
+  {
+    return this.evaluateAll(template, scales, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Instantiate and compile a progression template for each of the given
+   * scales, in parallel on the given fork-join pool. Scales obtained from
+   * {@link #scale(JaNote, String)} share their harmonizations across tasks,
+   * and the results are identical to instantiating and compiling the
+   * template for each scale in sequence.
+   *
+   * @param template The progression template
+   * @param scales   The target scales
+   * @param pool     The fork-join pool
+   *
+   * @return The compiled progression for each scale, in the order of the
+   * given scales
+   */
+
+  public Vector<JaCPDSLTimeline> evaluateAll(
+    final JaCPDSLTemplateType template,
+    final Traversable<Scale> scales,
+    final ForkJoinPool pool)
+  {
+    Objects.requireNonNull(template, "Template");
+    Objects.requireNonNull(scales, "Scales");
+    Objects.requireNonNull(pool, "Pool");
+
+    return JaCPDSLBulkEvaluation.evaluate(
+      template, scales.toJavaArray(Scale[]::new), pool);
   }
 
   /**
@@ -121,7 +331,7 @@ public final class JaCPDSL
     final ChordTermType chord,
     final int steps)
   {
-    return new ChordChromaticTranspose(this, chord, steps);
+    return this.share(new ChordChromaticTranspose(this, chord, steps));
   }
 
   /**
@@ -137,7 +347,7 @@ public final class JaCPDSL
     final ChordTermType chord,
     final ChromaticMediant mediant)
   {
-    return new ChordChromaticMediant(this, mediant, chord);
+    return this.share(new ChordChromaticMediant(this, mediant, chord));
   }
 
   /**
@@ -147,6 +357,8 @@ public final class JaCPDSL
    * @param beats The number of beats that the chord is held
    *
    * @return The chord change
+   *
+   * @throws IllegalArgumentException If {@code beats} is negative
    */
 
   public Change change(
@@ -169,7 +381,7 @@ public final class JaCPDSL
     final Change... changes)
   {
     return new Progression(Vector.of(
-      Objects.requireNonNull(changes, "Changes")));
+      Objects.requireNonNull(changes, "Changes")), null);
   }
 
   /**
@@ -184,7 +396,7 @@ public final class JaCPDSL
     final Traversable<Change> changes)
   {
     return new Progression(Vector.ofAll(
-      Objects.requireNonNull(changes, "Changes")));
+      Objects.requireNonNull(changes, "Changes")), null);
   }
 
   /**
@@ -200,18 +412,8 @@ public final class JaCPDSL
     final Scale scale,
     final Degree degree)
   {
-    Objects.requireNonNull(scale, "Scale");
-    Objects.requireNonNull(degree, "Degree");
-
-    final Vector<JaChord> triads =
-      JaScaleHarmonization.harmonize(
-        JaScaleHarmonizationChordTypes.TRIADS, scale.scale);
-
-    if (degree.ordinal() < triads.size()) {
-      return new ChordDiatonic(this, triads.get(degree.ordinal()));
-    }
-
-    throw new UnimplementedCodeException();
+    return this.diatonicOf(
+      scale, degree, JaScaleHarmonizationChordTypes.TRIADS);
   }
 
   /**
@@ -227,18 +429,8 @@ public final class JaCPDSL
     final Scale scale,
     final Degree degree)
   {
-    Objects.requireNonNull(scale, "Scale");
-    Objects.requireNonNull(degree, "Degree");
-
-    final Vector<JaChord> triads =
-      JaScaleHarmonization.harmonize(
-        JaScaleHarmonizationChordTypes.SUSPENDED_4_CHORDS, scale.scale);
-
-    if (degree.ordinal() < triads.size()) {
-      return new ChordDiatonic(this, triads.get(degree.ordinal()));
-    }
-
-    throw new UnimplementedCodeException();
+    return this.diatonicOf(
+      scale, degree, JaScaleHarmonizationChordTypes.SUSPENDED_4_CHORDS);
   }
 
   /**
@@ -254,18 +446,8 @@ public final class JaCPDSL
     final Scale scale,
     final Degree degree)
   {
-    Objects.requireNonNull(scale, "Scale");
-    Objects.requireNonNull(degree, "Degree");
-
-    final Vector<JaChord> triads =
-      JaScaleHarmonization.harmonize(
-        JaScaleHarmonizationChordTypes.SUSPENDED_2_CHORDS, scale.scale);
-
-    if (degree.ordinal() < triads.size()) {
-      return new ChordDiatonic(this, triads.get(degree.ordinal()));
-    }
-
-    throw new UnimplementedCodeException();
+    return this.diatonicOf(
+      scale, degree, JaScaleHarmonizationChordTypes.SUSPENDED_2_CHORDS);
   }
 
   /**
@@ -280,7 +462,7 @@ public final class JaCPDSL
     final ChordTermType chord)
   {
     Objects.requireNonNull(chord, "Chord");
-    return new ChordInversion(this, chord);
+    return this.share(new ChordInversion(this, chord));
   }
 
   /**
@@ -295,7 +477,7 @@ public final class JaCPDSL
     final ChordTermType chord)
   {
     Objects.requireNonNull(chord, "Chord");
-    return new ChordSecondaryDominant(this, chord);
+    return this.share(new ChordSecondaryDominant(this, chord));
   }
 
   /**
@@ -310,7 +492,7 @@ public final class JaCPDSL
     final ChordTermType chord)
   {
     Objects.requireNonNull(chord, "Chord");
-    return new ChordTritone(this, chord);
+    return this.share(new ChordTritone(this, chord));
   }
 
   /**
@@ -341,18 +523,8 @@ public final class JaCPDSL
     final Scale scale,
     final Degree degree)
   {
-    Objects.requireNonNull(scale, "Scale");
-    Objects.requireNonNull(degree, "Degree");
-
-    final Vector<JaChord> triads =
-      JaScaleHarmonization.harmonize(
-        JaScaleHarmonizationChordTypes.SEVENTH_CHORDS, scale.scale);
-
-    if (degree.ordinal() < triads.size()) {
-      return new ChordDiatonic(this, triads.get(degree.ordinal()));
-    }
-
-    throw new UnimplementedCodeException();
+    return this.diatonicOf(
+      scale, degree, JaScaleHarmonizationChordTypes.SEVENTH_CHORDS);
   }
 
   /**
@@ -368,18 +540,8 @@ public final class JaCPDSL
     final Scale scale,
     final Degree degree)
   {
-    Objects.requireNonNull(scale, "Scale");
-    Objects.requireNonNull(degree, "Degree");
-
-    final Vector<JaChord> triads =
-      JaScaleHarmonization.harmonize(
-        JaScaleHarmonizationChordTypes.NINTH_CHORDS, scale.scale);
-
-    if (degree.ordinal() < triads.size()) {
-      return new ChordDiatonic(this, triads.get(degree.ordinal()));
-    }
-
-    throw new UnimplementedCodeException();
+    return this.diatonicOf(
+      scale, degree, JaScaleHarmonizationChordTypes.NINTH_CHORDS);
   }
 
   /**
@@ -395,18 +557,8 @@ public final class JaCPDSL
     final Scale scale,
     final Degree degree)
   {
-    Objects.requireNonNull(scale, "Scale");
-    Objects.requireNonNull(degree, "Degree");
-
-    final Vector<JaChord> triads =
-      JaScaleHarmonization.harmonize(
-        JaScaleHarmonizationChordTypes.ELEVENTH_CHORDS, scale.scale);
-
-    if (degree.ordinal() < triads.size()) {
-      return new ChordDiatonic(this, triads.get(degree.ordinal()));
-    }
-
-    throw new UnimplementedCodeException();
+    return this.diatonicOf(
+      scale, degree, JaScaleHarmonizationChordTypes.ELEVENTH_CHORDS);
   }
 
   /**
@@ -424,7 +576,7 @@ public final class JaCPDSL
     final Set<Integer> add,
     final Map<Integer, Integer> replace)
   {
-    return new ChordAltered(this, input, add, replace);
+    return this.share(new ChordAltered(this, input, add, replace));
   }
 
   /**
@@ -440,7 +592,7 @@ public final class JaCPDSL
     final ChordTermType input,
     final Map<Integer, Integer> replace)
   {
-    return new ChordAltered(this, input, TreeSet.empty(), replace);
+    return this.share(new ChordAltered(this, input, TreeSet.empty(), replace));
   }
 
   /**
@@ -456,7 +608,7 @@ public final class JaCPDSL
     final ChordTermType input,
     final Set<Integer> add)
   {
-    return new ChordAltered(this, input, add, HashMap.empty());
+    return this.share(new ChordAltered(this, input, add, HashMap.empty()));
   }
 
   /**
@@ -474,7 +626,8 @@ public final class JaCPDSL
     final ChordDiatonic chord_1,
     final JaNote intermediate_root)
   {
-    return new ChordChromaticPassing(this, chord_0, chord_1, intermediate_root);
+    return this.share(
+      new ChordChromaticPassing(this, chord_0, chord_1, intermediate_root));
   }
 
   /**
@@ -489,9 +642,7 @@ public final class JaCPDSL
     final Degree degree)
   {
     final Vector<JaChord> triads =
-      JaScaleHarmonization.harmonize(
-        JaScaleHarmonizationChordTypes.TRIADS,
-        scale.scale);
+      scale.harmonize(JaScaleHarmonizationChordTypes.TRIADS);
 
     if (degree.ordinal() < triads.size()) {
       return triads.get(degree.ordinal()).root();
@@ -743,14 +894,32 @@ public final class JaCPDSL
     private final JaNote root;
     private final JaScaleNamed scale_named;
     private final JaScale scale;
+    private final AtomicReferenceArray<Vector<JaChord>> harmonizations;
 
-    private Scale(
+    Scale(
       final JaNote in_root,
       final JaScaleNamed in_scale)
     {
       this.root = Objects.requireNonNull(in_root, "Root");
       this.scale_named = Objects.requireNonNull(in_scale, "Scale");
       this.scale = JaScale.of(this.root, this.scale_named.intervals());
+      this.harmonizations = new AtomicReferenceArray<>(
+        JaScaleHarmonizationChordTypes.values().length);
+    }
+
+    private Vector<JaChord> harmonize(
+      final JaScaleHarmonizationChordTypes types)
+    {
+      final int index = types.ordinal();
+      final Vector<JaChord> existing = this.harmonizations.get(index);
+      if (existing != null) {
+        return existing;
+      }
+
+      final Vector<JaChord> chords =
+        JaScaleHarmonization.harmonize(types, this.scale);
+      this.harmonizations.set(index, chords);
+      return chords;
     }
 
     /**
@@ -789,11 +958,14 @@ public final class JaCPDSL
   public static final class Progression
   {
     private final Vector<Change> changes;
+    private volatile JaCPDSLTimeline timeline;
 
-    private Progression(
-      final Vector<Change> in_changes)
+    Progression(
+      final Vector<Change> in_changes,
+      final JaCPDSLTimeline in_timeline)
     {
       this.changes = Objects.requireNonNull(in_changes, "Changes");
+      this.timeline = in_timeline;
     }
 
     /**
@@ -805,6 +977,26 @@ public final class JaCPDSL
       return this.changes;
     }
 
+    /**
+     * Compile the progression into a timeline. The progression is compiled
+     * at most once, and the same timeline is returned on every call.
+     *
+     * @return The compiled timeline of the progression
+     *
+     * @see JaCPDSLTimeline#compile(Progression)
+     */
+
+    public JaCPDSLTimeline timeline()
+    {
+      final JaCPDSLTimeline existing = this.timeline;
+      if (existing != null) {
+        return existing;
+      }
+      final JaCPDSLTimeline created = JaCPDSLTimeline.compile(this);
+      this.timeline = created;
+      return created;
+    }
+
     @Override
     public String toString()
     {
@@ -828,7 +1020,7 @@ public final class JaCPDSL
       final int in_beats)
     {
       this.chord = Objects.requireNonNull(in_chord, "Chord");
-      this.beats = in_beats;
+      this.beats = JaCPDSLTimeline.checkBeats(in_beats);
     }
 
     /**
@@ -865,21 +1057,20 @@ public final class JaCPDSL
    * A diatonic chord.
    */
 
-  public static final class ChordDiatonic implements ChordTermType
+  public static final class ChordDiatonic extends JaCPDSLTerm
   {
     private final JaChord chord;
-    private final JaCPDSL dsl;
 
     private ChordDiatonic(
       final JaCPDSL in_dsl,
       final JaChord in_chord)
     {
-      this.dsl = Objects.requireNonNull(in_dsl, "DSL");
-      this.chord = Objects.requireNonNull(in_chord, "Chord");
+      super(in_dsl, Objects.requireNonNull(in_chord, "Chord").hashCode());
+      this.chord = in_chord;
     }
 
     @Override
-    public JaChord evaluate()
+    JaChord evaluateEager()
     {
       return this.chord;
     }
@@ -891,12 +1082,11 @@ public final class JaCPDSL
     }
 
     @Override
-    public String toString()
+    boolean sameStructure(
+      final JaCPDSLTerm o)
     {
-      final StringBuilder sb = new StringBuilder(32);
-      sb.append(this.chord.root().noteName());
-      sb.append(this.dsl.names.name(this.chord.intervals()));
-      return sb.toString();
+      final ChordDiatonic other = (ChordDiatonic) o;
+      return this.chord.equals(other.chord);
     }
   }
 
@@ -904,28 +1094,23 @@ public final class JaCPDSL
    * An inverted chord.
    */
 
-  public static final class ChordInversion implements ChordTermType
+  public static final class ChordInversion extends JaCPDSLTerm
   {
     private final ChordTermType input;
-    private final JaChord output;
-    private final JaCPDSL dsl;
 
     private ChordInversion(
       final JaCPDSL in_dsl,
       final ChordTermType in_input)
     {
-      this.dsl = Objects.requireNonNull(in_dsl, "DSL");
-      this.input = Objects.requireNonNull(in_input, "Chord");
-      this.output = this.evaluateEager();
+      super(
+        in_dsl,
+        Type.CHORD_INVERSION.ordinal() * 31
+        + Objects.requireNonNull(in_input, "Chord").hashCode());
+      this.input = in_input;
     }
 
     @Override
-    public JaChord evaluate()
-    {
-      return this.output;
-    }
-
-    private JaChord evaluateEager()
+    JaChord evaluateEager()
     {
       final JaChord e = this.input.evaluate();
       return JaChordInversions.invert(e);
@@ -938,12 +1123,11 @@ public final class JaCPDSL
     }
 
     @Override
-    public String toString()
+    boolean sameStructure(
+      final JaCPDSLTerm o)
     {
-      final StringBuilder sb = new StringBuilder(32);
-      sb.append(this.output.root().noteName());
-      sb.append(this.dsl.names.name(this.output.intervals()));
-      return sb.toString();
+      final ChordInversion other = (ChordInversion) o;
+      return this.input.equals(other.input);
     }
   }
 
@@ -982,43 +1166,40 @@ public final class JaCPDSL
    * A chromatic-mediant subtituted chord.
    */
 
-  public static final class ChordChromaticMediant implements ChordTermType
+  public static final class ChordChromaticMediant extends JaCPDSLChromaticTerm
   {
     private final ChordTermType input;
-    private final JaChord output;
     private final ChromaticMediant mediant;
-    private final JaCPDSL dsl;
 
     private ChordChromaticMediant(
       final JaCPDSL in_dsl,
       final ChromaticMediant in_mediant,
       final ChordTermType in_input)
     {
-      this.dsl = Objects.requireNonNull(in_dsl, "DSL");
-      this.mediant = Objects.requireNonNull(in_mediant, "Mediant");
-      this.input = Objects.requireNonNull(in_input, "Chord");
-      this.output = this.evaluateEager();
-    }
-
-    @Override
-    public JaChord evaluate()
-    {
-      return this.output;
-    }
-
-    private JaChord evaluateEager()
+      super(
+        in_dsl,
+        (Type.CHORD_CHROMATIC_MEDIANT.ordinal() * 31
+        + Objects.requireNonNull(in_mediant, "Mediant").ordinal()) * 31
+        + Objects.requireNonNull(in_input, "Chord").hashCode(),
+        in_input,
+        mediantShift(in_mediant),
+        KEEP);
+      this.mediant = in_mediant;
+      this.input = in_input;
+    }
+
+    private static int mediantShift(
+      final ChromaticMediant mediant)
     {
-      final JaChord e = this.input.evaluate();
-
-      switch (this.mediant) {
+      switch (mediant) {
         case MAJOR_UP:
-          return JaChord.of(e.root().stepBy(4), e.intervals());
+          return 4;
         case MAJOR_DOWN:
-          return JaChord.of(e.root().stepBy(-4), e.intervals());
+          return -4;
         case MINOR_UP:
-          return JaChord.of(e.root().stepBy(3), e.intervals());
+          return 3;
         case MINOR_DOWN:
-          return JaChord.of(e.root().stepBy(-3), e.intervals());
+          return -3;
       }
 
       throw new UnreachableCodeException();
@@ -1031,12 +1212,11 @@ public final class JaCPDSL
     }
 
     @Override
-    public String toString()
+    boolean sameStructure(
+      final JaCPDSLTerm o)
     {
-      final StringBuilder sb = new StringBuilder(32);
-      sb.append(this.output.root().noteName());
-      sb.append(this.dsl.names.name(this.output.intervals()));
-      return sb.toString();
+      final ChordChromaticMediant other = (ChordChromaticMediant) o;
+      return this.mediant == other.mediant && this.input.equals(other.input);
     }
   }
 
@@ -1044,31 +1224,22 @@ public final class JaCPDSL
    * A tritone-subtituted chord.
    */
 
-  public static final class ChordTritone implements ChordTermType
+  public static final class ChordTritone extends JaCPDSLChromaticTerm
   {
-    private final JaCPDSL dsl;
     private final ChordTermType input;
-    private final JaChord output;
 
     private ChordTritone(
       final JaCPDSL in_dsl,
       final ChordTermType in_input)
     {
-      this.dsl = Objects.requireNonNull(in_dsl, "DSL");
-      this.input = Objects.requireNonNull(in_input, "Chord");
-      this.output = this.evaluateEager();
-    }
-
-    @Override
-    public JaChord evaluate()
-    {
-      return this.output;
-    }
-
-    private JaChord evaluateEager()
-    {
-      final JaChord e = this.input.evaluate();
-      return JaChord.of(e.root().stepBy(6), e.intervals());
+      super(
+        in_dsl,
+        Type.CHORD_TRITONE.ordinal() * 31
+        + Objects.requireNonNull(in_input, "Chord").hashCode(),
+        in_input,
+        6,
+        KEEP);
+      this.input = in_input;
     }
 
     @Override
@@ -1078,12 +1249,11 @@ public final class JaCPDSL
     }
 
     @Override
-    public String toString()
+    boolean sameStructure(
+      final JaCPDSLTerm o)
     {
-      final StringBuilder sb = new StringBuilder(32);
-      sb.append(this.output.root().noteName());
-      sb.append(this.dsl.names.name(this.output.intervals()));
-      return sb.toString();
+      final ChordTritone other = (ChordTritone) o;
+      return this.input.equals(other.input);
     }
   }
 
@@ -1091,11 +1261,9 @@ public final class JaCPDSL
    * An altered chord.
    */
 
-  public static final class ChordAltered implements ChordTermType
+  public static final class ChordAltered extends JaCPDSLTerm
   {
-    private final JaCPDSL dsl;
     private final ChordTermType input;
-    private final JaChord output;
     private final Set<Integer> add;
     private final Map<Integer, Integer> replace;
 
@@ -1105,20 +1273,19 @@ public final class JaCPDSL
       final Set<Integer> in_add,
       final Map<Integer, Integer> in_replace)
     {
-      this.dsl = Objects.requireNonNull(in_dsl, "DSL");
-      this.input = Objects.requireNonNull(in_input, "Chord");
-      this.add = Objects.requireNonNull(in_add, "Add");
-      this.replace = Objects.requireNonNull(in_replace, "Replace");
-      this.output = this.evaluateEager();
+      super(
+        in_dsl,
+        ((Type.CHORD_ALTERED.ordinal() * 31
+        + Objects.requireNonNull(in_input, "Chord").hashCode()) * 31
+        + Objects.requireNonNull(in_add, "Add").hashCode()) * 31
+        + Objects.requireNonNull(in_replace, "Replace").hashCode());
+      this.input = in_input;
+      this.add = in_add;
+      this.replace = in_replace;
     }
 
     @Override
-    public JaChord evaluate()
-    {
-      return this.output;
-    }
-
-    private JaChord evaluateEager()
+    JaChord evaluateEager()
     {
       final JaChord e = this.input.evaluate();
       final SortedSet<Integer> r =
@@ -1137,12 +1304,13 @@ public final class JaCPDSL
     }
 
     @Override
-    public String toString()
+    boolean sameStructure(
+      final JaCPDSLTerm o)
     {
-      final StringBuilder sb = new StringBuilder(32);
-      sb.append(this.output.root().noteName());
-      sb.append(this.dsl.names.name(this.output.intervals()));
-      return sb.toString();
+      final ChordAltered other = (ChordAltered) o;
+      return this.input.equals(other.input)
+        && this.add.equals(other.add)
+        && this.replace.equals(other.replace);
     }
   }
 
@@ -1150,34 +1318,25 @@ public final class JaCPDSL
    * A chromatically transposed chord.
    */
 
-  public static final class ChordChromaticTranspose implements ChordTermType
+  public static final class ChordChromaticTranspose extends JaCPDSLChromaticTerm
   {
-    private final JaCPDSL dsl;
     private final ChordTermType input;
     private final int steps;
-    private final JaChord output;
 
     private ChordChromaticTranspose(
       final JaCPDSL in_dsl,
       final ChordTermType in_input,
       final int in_steps)
     {
-      this.dsl = Objects.requireNonNull(in_dsl, "DSL");
-      this.input = Objects.requireNonNull(in_input, "Chord");
+      super(
+        in_dsl,
+        (Type.CHORD_CHROMATIC_TRANSPOSE.ordinal() * 31 + in_steps) * 31
+        + Objects.requireNonNull(in_input, "Chord").hashCode(),
+        in_input,
+        in_steps,
+        KEEP);
+      this.input = in_input;
       this.steps = in_steps;
-      this.output = this.evaluateEager();
-    }
-
-    @Override
-    public JaChord evaluate()
-    {
-      return this.output;
-    }
-
-    private JaChord evaluateEager()
-    {
-      final JaChord e = this.input.evaluate();
-      return JaChord.of(e.root().stepBy(this.steps), e.intervals());
     }
 
     @Override
@@ -1187,12 +1346,11 @@ public final class JaCPDSL
     }
 
     @Override
-    public String toString()
+    boolean sameStructure(
+      final JaCPDSLTerm o)
     {
-      final StringBuilder sb = new StringBuilder(32);
-      sb.append(this.output.root().noteName());
-      sb.append(this.dsl.names.name(this.output.intervals()));
-      return sb.toString();
+      final ChordChromaticTranspose other = (ChordChromaticTranspose) o;
+      return this.steps == other.steps && this.input.equals(other.input);
     }
   }
 
@@ -1200,36 +1358,22 @@ public final class JaCPDSL
    * A secondary dominant chord.
    */
 
-  public static final class ChordSecondaryDominant implements ChordTermType
+  public static final class ChordSecondaryDominant extends JaCPDSLChromaticTerm
   {
-    private final JaCPDSL dsl;
     private final ChordTermType input;
-    private final JaChord output;
 
     private ChordSecondaryDominant(
       final JaCPDSL in_dsl,
       final ChordTermType in_input)
     {
-      this.dsl = Objects.requireNonNull(in_dsl, "DSL");
-      this.input = Objects.requireNonNull(in_input, "Chord");
-      this.output = this.evaluateEager();
-    }
-
-    @Override
-    public JaChord evaluate()
-    {
-      return this.output;
-    }
-
-    private JaChord evaluateEager()
-    {
-      final JaChord e = this.input.evaluate();
-      return JaChord.of(
-        e.root().stepBy(JaIntervals.FIFTH.intValue()),
-        JaChordIntervals.of(TreeSet.of(
-          JaIntervals.MAJOR_THIRD,
-          JaIntervals.FIFTH,
-          JaIntervals.MINOR_SEVENTH)));
+      super(
+        in_dsl,
+        Type.CHORD_SECONDARY_DOMINANT.ordinal() * 31
+        + Objects.requireNonNull(in_input, "Chord").hashCode(),
+        in_input,
+        JaIntervals.FIFTH.intValue(),
+        DOMINANT_SEVENTH);
+      this.input = in_input;
     }
 
     @Override
@@ -1239,12 +1383,11 @@ public final class JaCPDSL
     }
 
     @Override
-    public String toString()
+    boolean sameStructure(
+      final JaCPDSLTerm o)
     {
-      final StringBuilder sb = new StringBuilder(32);
-      sb.append(this.output.root().noteName());
-      sb.append(this.dsl.names.name(this.output.intervals()));
-      return sb.toString();
+      final ChordSecondaryDominant other = (ChordSecondaryDominant) o;
+      return this.input.equals(other.input);
     }
   }
 
@@ -1252,13 +1395,11 @@ public final class JaCPDSL
    * A chromatic passing chord.
    */
 
-  public static final class ChordChromaticPassing implements ChordTermType
+  public static final class ChordChromaticPassing extends JaCPDSLTerm
   {
     private final ChordDiatonic chord_0;
     private final ChordDiatonic chord_1;
     private final JaNote intermediate_root;
-    private final JaCPDSL dsl;
-    private JaChord output;
 
     private ChordChromaticPassing(
       final JaCPDSL in_dsl,
@@ -1266,16 +1407,20 @@ public final class JaCPDSL
       final ChordDiatonic in_chord_1,
       final JaNote in_intermediate_root)
     {
-      this.dsl = Objects.requireNonNull(in_dsl, "DSL");
-      this.chord_0 = Objects.requireNonNull(in_chord_0, "chord_0");
-      this.chord_1 = Objects.requireNonNull(in_chord_1, "chord_1");
-      this.intermediate_root = Objects.requireNonNull(
-        in_intermediate_root,
-        "intermediate_root");
-      this.output = this.evaluateEager();
+      super(
+        in_dsl,
+        ((Type.CHORD_CHROMATIC_PASSING.ordinal() * 31
+          + Objects.requireNonNull(in_chord_0, "chord_0").hashCode()) * 31
+          + Objects.requireNonNull(in_chord_1, "chord_1").hashCode()) * 31
+          + Objects.requireNonNull(in_intermediate_root, "intermediate_root")
+          .ordinal());
+      this.chord_0 = in_chord_0;
+      this.chord_1 = in_chord_1;
+      this.intermediate_root = in_intermediate_root;
     }
 
-    private JaChord evaluateEager()
+    @Override
+    JaChord evaluateEager()
     {
       final HashSet<JaNote> common_notes = commonNotes(
         this.chord_0,
@@ -1336,18 +1481,13 @@ public final class JaCPDSL
     }
 
     @Override
-    public String toString()
+    boolean sameStructure(
+      final JaCPDSLTerm o)
     {
-      final StringBuilder sb = new StringBuilder(32);
-      sb.append(this.output.root().noteName());
-      sb.append(this.dsl.names.name(this.output.intervals()));
-      return sb.toString();
-    }
-
-    @Override
-    public JaChord evaluate()
-    {
-      return this.output;
+      final ChordChromaticPassing other = (ChordChromaticPassing) o;
+      return this.intermediate_root == other.intermediate_root
+        && this.chord_0.equals(other.chord_0)
+        && this.chord_1.equals(other.chord_1);
     }
 
     @Override
@@ -1356,4 +1496,5 @@ public final class JaCPDSL
       return Type.CHORD_CHROMATIC_PASSING;
     }
   }
+
 }
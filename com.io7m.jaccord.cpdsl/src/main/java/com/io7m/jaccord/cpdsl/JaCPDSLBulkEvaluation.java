@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl;
+
+import com.io7m.jaccord.cpdsl.internal.JaCPDSLParallel;
+import com.io7m.junreachable.UnreachableCodeException;
+import io.vavr.collection.Vector;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Functions to instantiate and compile a template for many scales in
+ * parallel. Each scale is handled by its own task, and each task writes only
+ * to its own slot of the result array.
+ */
+
+final class JaCPDSLBulkEvaluation
+{
+  private JaCPDSLBulkEvaluation()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  static Vector<JaCPDSLTimeline> evaluate(
+    final JaCPDSLTemplateType template,
+    final JaCPDSL.Scale[] scales,
+    final ForkJoinPool pool)
+  {
+    final JaCPDSLTimeline[] results = new JaCPDSLTimeline[scales.length];
+    JaCPDSLParallel.forEach(
+      pool,
+      scales.length,
+      1,
+      index -> results[index] = template.instantiate(scales[index]).timeline());
+    return Vector.of(results);
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl;
+
+import com.io7m.jaccord.core.JaChord;
+import com.io7m.jaccord.core.JaChordIntervals;
+import com.io7m.jaccord.core.JaIntervals;
+import com.io7m.jaccord.core.JaNote;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>A table of interned chords, indexed by interval mask and root. The
+ * first time a mask is requested, the chord with those intervals is built on
+ * every root at once, yielding a row of twelve chords that share a single
+ * {@link JaChordIntervals} value. Transposing an interned chord is then an
+ * index into its row, and never allocates.</p>
+ *
+ * <p>Tables are safe for use from multiple threads.</p>
+ */
+
+final class JaCPDSLChordTable
+{
+  private static final JaNote[] NOTES = JaNote.values();
+
+  private final ConcurrentHashMap<Integer, JaChord[]> rows;
+
+  JaCPDSLChordTable()
+  {
+    this.rows = new ConcurrentHashMap<>(64);
+  }
+
+  private static JaChord[] createRow(
+    final Integer mask)
+  {
+    final JaChordIntervals intervals =
+      JaChordIntervals.of(JaIntervals.ofMask(mask.intValue()));
+    final JaChord[] row = new JaChord[NOTES.length];
+    for (final JaNote note : NOTES) {
+      row[note.ordinal()] = JaChord.of(note, intervals);
+    }
+    return row;
+  }
+
+  /**
+   * @param mask An interval mask
+   *
+   * @return The chords with the given intervals, indexed by root ordinal
+   */
+
+  JaChord[] row(
+    final int mask)
+  {
+    return this.rows.computeIfAbsent(
+      Integer.valueOf(mask), JaCPDSLChordTable::createRow);
+  }
+
+  /**
+   * @param mask An interval mask
+   * @param root The ordinal of a root note
+   *
+   * @return The interned chord with the given intervals and root
+   */
+
+  JaChord chord(
+    final int mask,
+    final int root)
+  {
+    return this.row(mask)[root];
+  }
+
+  /**
+   * @param chord A chord
+   *
+   * @return The interned chord equal to {@code chord}
+   */
+
+  JaChord intern(
+    final JaChord chord)
+  {
+    return this.chord(
+      JaIntervals.mask(chord.intervals().intervals()),
+      chord.root().ordinal());
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl;
+
+import com.io7m.jaccord.core.JaChord;
+import com.io7m.jaccord.core.JaIntervals;
+
+/**
+ * <p>The base of chromatic operator terms. A chromatic operator moves the
+ * root of its input by a fixed number of semitones, and either keeps the
+ * intervals of its input or replaces them with a fixed set of intervals.</p>
+ *
+ * <p>Operators compose: a chromatic operator applied to another chromatic
+ * operator is, on construction, reduced to a single shift and interval mask
+ * applied to the innermost non-chromatic term. Evaluating an operator
+ * therefore evaluates only that term, and then performs one lookup in the
+ * DSL's chord table, however deeply operators are nested.</p>
+ */
+
+abstract class JaCPDSLChromaticTerm extends JaCPDSLTerm
+{
+  /**
+   * The mask value indicating that the intervals of the input are kept.
+   */
+
+  static final int KEEP = -1;
+
+  private static final int NOTE_COUNT = 12;
+
+  private final JaCPDSL.ChordTermType base;
+  private final int shift;
+  private final int mask;
+
+  JaCPDSLChromaticTerm(
+    final JaCPDSL in_dsl,
+    final int in_hash,
+    final JaCPDSL.ChordTermType in_input,
+    final int in_shift,
+    final int in_mask)
+  {
+    super(in_dsl, in_hash);
+
+    if (in_input instanceof JaCPDSLChromaticTerm) {
+      final JaCPDSLChromaticTerm inner = (JaCPDSLChromaticTerm) in_input;
+      this.base = inner.base;
+      this.shift = Math.floorMod(inner.shift + in_shift, NOTE_COUNT);
+      this.mask = in_mask == KEEP ? inner.mask : in_mask;
+    } else {
+      this.base = in_input;
+      this.shift = Math.floorMod(in_shift, NOTE_COUNT);
+      this.mask = in_mask;
+    }
+  }
+
+  @Override
+  final JaChord evaluateEager()
+  {
+    final JaChord e = this.base.evaluate();
+    final int intervals =
+      this.mask == KEEP ? JaIntervals.mask(e.intervals().intervals()) : this.mask;
+    return this.chords().chord(
+      intervals, (e.root().ordinal() + this.shift) % NOTE_COUNT);
+  }
+}
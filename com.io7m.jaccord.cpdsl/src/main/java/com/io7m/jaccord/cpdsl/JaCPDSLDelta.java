@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl;
+
+import java.util.Objects;
+
+/**
+ * <p>The difference between a progression and the result of editing it. An
+ * edit replaces the range of changes {@code [index, index + removed)} of the
+ * previous progression with {@code inserted} new changes; every change after
+ * the range is unchanged apart from its start beat, which moves by
+ * {@link #beatShift()} beats.</p>
+ *
+ * <p>Consumers that have already processed the previous progression need
+ * only process the inserted changes and shift everything after them.</p>
+ *
+ * @see JaCPDSLEdits
+ */
+
+public final class JaCPDSLDelta
+{
+  private final JaCPDSL.Progression previous;
+  private final JaCPDSL.Progression progression;
+  private final int index;
+  private final int removed;
+  private final int inserted;
+  private final long start_beat;
+  private final long beat_shift;
+
+  JaCPDSLDelta(
+    final JaCPDSL.Progression in_previous,
+    final JaCPDSL.Progression in_progression,
+    final int in_index,
+    final int in_removed,
+    final int in_inserted,
+    final long in_start_beat,
+    final long in_beat_shift)
+  {
+    this.previous = Objects.requireNonNull(in_previous, "Previous");
+    this.progression = Objects.requireNonNull(in_progression, "Progression");
+    this.index = in_index;
+    this.removed = in_removed;
+    this.inserted = in_inserted;
+    this.start_beat = in_start_beat;
+    this.beat_shift = in_beat_shift;
+  }
+
+  /**
+   * @return The progression before the edit
+   */
+
+  public JaCPDSL.Progression previous()
+  {
+    return this.previous;
+  }
+
+  /**
+   * @return The progression after the edit
+   */
+
+  public JaCPDSL.Progression progression()
+  {
+    return this.progression;
+  }
+
+  /**
+   * @return The index of the first affected change
+   */
+
+  public int index()
+  {
+    return this.index;
+  }
+
+  /**
+   * @return The number of changes removed from the previous progression
+   */
+
+  public int removed()
+  {
+    return this.removed;
+  }
+
+  /**
+   * @return The number of changes inserted into the new progression
+   */
+
+  public int inserted()
+  {
+    return this.inserted;
+  }
+
+  /**
+   * @return The beat at which the first affected change starts
+   */
+
+  public long startBeat()
+  {
+    return this.start_beat;
+  }
+
+  /**
+   * @return The number of beats by which every change after the edited range
+   * has moved (negative if the changes have moved earlier)
+   */
+
+  public long beatShift()
+  {
+    return this.beat_shift;
+  }
+
+  @Override
+  public String toString()
+  {
+    final StringBuilder sb = new StringBuilder(64);
+    sb.append("[JaCPDSLDelta index=");
+    sb.append(this.index);
+    sb.append(" removed=");
+    sb.append(this.removed);
+    sb.append(" inserted=");
+    sb.append(this.inserted);
+    sb.append(" start=");
+    sb.append(this.start_beat);
+    sb.append(" shift=");
+    sb.append(this.beat_shift);
+    sb.append(']');
+    return sb.toString();
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl;
+
+import com.io7m.junreachable.UnreachableCodeException;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+
+import java.util.Objects;
+
+/**
+ * <p>Persistent edits of progressions. Each edit leaves the original
+ * progression untouched and returns a delta holding the edited
+ * progression.</p>
+ *
+ * <p>Edits are incremental: the changes of a progression are held in a
+ * persistent vector, so unaffected changes are shared with the original,
+ * and the compiled timeline of the edited progression is derived from the
+ * timeline of the original by evaluating only the inserted chord terms.</p>
+ */
+
+public final class JaCPDSLEdits
+{
+  private JaCPDSLEdits()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Replace the change at the given index.
+   *
+   * @param progression The progression
+   * @param index       The index of the change
+   * @param change      The new change
+   *
+   * @return The delta describing the edit
+   */
+
+  public static JaCPDSLDelta replace(
+    final JaCPDSL.Progression progression,
+    final int index,
+    final JaCPDSL.Change change)
+  {
+    Objects.requireNonNull(progression, "Progression");
+    Objects.requireNonNull(change, "Change");
+    Objects.checkIndex(index, progression.changes().size());
+
+    return edit(
+      progression,
+      index,
+      1,
+      Vector.of(change),
+      progression.changes().update(index, change));
+  }
+
+  /**
+   * Insert a change before the change at the given index. An index equal to
+   * the number of changes appends the change.
+   *
+   * @param progression The progression
+   * @param index       The index at which to insert the change
+   * @param change      The new change
+   *
+   * @return The delta describing the edit
+   */
+
+  public static JaCPDSLDelta insert(
+    final JaCPDSL.Progression progression,
+    final int index,
+    final JaCPDSL.Change change)
+  {
+    Objects.requireNonNull(progression, "Progression");
+    Objects.requireNonNull(change, "Change");
+    Objects.checkIndex(index, progression.changes().size() + 1);
+
+    return edit(
+      progression,
+      index,
+      0,
+      Vector.of(change),
+      progression.changes().insert(index, change));
+  }
+
+  /**
+   * Delete the change at the given index.
+   *
+   * @param progression The progression
+   * @param index       The index of the change
+   *
+   * @return The delta describing the edit
+   */
+
+  public static JaCPDSLDelta delete(
+    final JaCPDSL.Progression progression,
+    final int index)
+  {
+    Objects.requireNonNull(progression, "Progression");
+    Objects.checkIndex(index, progression.changes().size());
+
+    return edit(
+      progression,
+      index,
+      1,
+      Vector.empty(),
+      progression.changes().removeAt(index));
+  }
+
+  /**
+   * Replace the {@code removed} changes starting at the given index with the
+   * given changes.
+   *
+   * @param progression The progression
+   * @param index       The index of the first change to remove
+   * @param removed     The number of changes to remove
+   * @param inserted    The changes to insert
+   *
+   * @return The delta describing the edit
+   *
+   * @throws IndexOutOfBoundsException If the range of removed changes does
+   *                                   not lie within the progression
+   */
+
+  public static JaCPDSLDelta splice(
+    final JaCPDSL.Progression progression,
+    final int index,
+    final int removed,
+    final Seq<JaCPDSL.Change> inserted)
+  {
+    Objects.requireNonNull(progression, "Progression");
+    Objects.requireNonNull(inserted, "Inserted");
+
+    final Vector<JaCPDSL.Change> changes = progression.changes();
+    Objects.checkFromIndexSize(index, removed, changes.size());
+
+    return edit(
+      progression,
+      index,
+      removed,
+      inserted,
+      changes.take(index)
+        .appendAll(inserted)
+        .appendAll(changes.drop(index + removed)));
+  }
+
+  private static JaCPDSLDelta edit(
+    final JaCPDSL.Progression progression,
+    final int index,
+    final int removed,
+    final Seq<JaCPDSL.Change> inserted,
+    final Vector<JaCPDSL.Change> result)
+  {
+    final JaCPDSLTimeline timeline = progression.timeline();
+    final JaCPDSLTimeline edited = timeline.splice(index, removed, inserted);
+    final long start = timeline.startOrEnd(index);
+
+    return new JaCPDSLDelta(
+      progression,
+      new JaCPDSL.Progression(result, edited),
+      index,
+      removed,
+      inserted.size(),
+      start,
+      edited.totalBeats() - timeline.totalBeats());
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl;
+
+import com.io7m.jaccord.chord_names.api.JaChordNamesType;
+import com.io7m.junreachable.UnimplementedCodeException;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * The chord name provider used by DSL instances. The provider is located
+ * once, on first use.
+ */
+
+final class JaCPDSLNames
+{
+  private static final JaChordNamesType INSTANCE = load();
+
+  private JaCPDSLNames()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @return The chord name provider
+   *
+   * @throws UnimplementedCodeException If no provider is available
+   */
+
+  static JaChordNamesType instance()
+  {
+    if (INSTANCE == null) {
+      throw new UnimplementedCodeException();
+    }
+    return INSTANCE;
+  }
+
+  private static JaChordNamesType load()
+  {
+    final Iterator<JaChordNamesType> names_iter =
+      ServiceLoader.load(JaChordNamesType.class).iterator();
+    if (names_iter.hasNext()) {
+      return names_iter.next();
+    }
+    return null;
+  }
+}
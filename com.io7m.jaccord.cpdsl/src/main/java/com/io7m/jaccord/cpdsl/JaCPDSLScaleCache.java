@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl;
+
+import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.core.JaScaleNamed;
+import com.io7m.jaccord.scales.api.JaScales;
+import com.io7m.junreachable.UnimplementedCodeException;
+import io.vavr.collection.List;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of scales. Scales are created in all twelve keys the first time
+ * a scale identifier is requested, so that every request for a given root
+ * and identifier yields the same scale (and therefore the same cached
+ * harmonizations).
+ */
+
+final class JaCPDSLScaleCache
+{
+  private final ConcurrentHashMap<String, JaCPDSL.Scale[]> scales;
+
+  JaCPDSLScaleCache()
+  {
+    this.scales = new ConcurrentHashMap<>(16);
+  }
+
+  private static JaCPDSL.Scale[] create(
+    final String name)
+  {
+    final List<JaScaleNamed> matching = JaScales.scalesByID(name);
+    if (matching.size() != 1) {
+      return null;
+    }
+
+    final JaNote[] notes = JaNote.values();
+    final JaCPDSL.Scale[] created = new JaCPDSL.Scale[notes.length];
+    for (final JaNote note : notes) {
+      created[note.ordinal()] = new JaCPDSL.Scale(note, matching.get(0));
+    }
+    return created;
+  }
+
+  /**
+   * @param name The scale identifier
+   *
+   * @return The scale with the given identifier rooted at each note, indexed
+   * by note ordinal
+   */
+
+  JaCPDSL.Scale[] scalesNamed(
+    final String name)
+  {
+    final JaCPDSL.Scale[] existing =
+      this.scales.computeIfAbsent(name, JaCPDSLScaleCache::create);
+    if (existing == null) {
+      throw new UnimplementedCodeException();
+    }
+    return existing;
+  }
+}
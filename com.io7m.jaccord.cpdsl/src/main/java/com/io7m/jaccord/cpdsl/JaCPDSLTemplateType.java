@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl;
+
+/**
+ * A progression template. A template describes a progression in terms of
+ * a scale, and can be instantiated for any number of scales.
+ *
+ * @see JaCPDSL#evaluateAll(JaCPDSLTemplateType, io.vavr.collection.Traversable)
+ */
+
+@FunctionalInterface
+public interface JaCPDSLTemplateType
+{
+  /**
+   * Instantiate the template for the given scale. Implementations must be
+   * safe to call from multiple threads.
+   *
+   * @param scale The scale
+   *
+   * @return A progression in the given scale
+   */
+
+  JaCPDSL.Progression instantiate(JaCPDSL.Scale scale);
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl;
+
+import com.io7m.jaccord.core.JaChord;
+
+import java.util.Objects;
+
+/**
+ * The base of all chord terms. A term computes its structural hash code
+ * once, on construction, and memoizes its chord on first evaluation. The
+ * memoized chord is interned in the DSL's chord table, and is published
+ * through a volatile field, so a term may be shared and evaluated across
+ * threads; terms are immutable, so a racing evaluation merely computes the
+ * same chord twice.
+ */
+
+abstract class JaCPDSLTerm implements JaCPDSL.ChordTermType
+{
+  private final JaCPDSL dsl;
+  private final int hash;
+  private volatile JaChord output;
+
+  JaCPDSLTerm(
+    final JaCPDSL in_dsl,
+    final int in_hash)
+  {
+    this.dsl = Objects.requireNonNull(in_dsl, "DSL");
+    this.hash = in_hash;
+  }
+
+  /**
+   * @return The chord table of the DSL that built this term
+   */
+
+  final JaCPDSLChordTable chords()
+  {
+    return this.dsl.chordTable();
+  }
+
+  /**
+   * @return The chord denoted by this term, computed without caching
+   */
+
+  abstract JaChord evaluateEager();
+
+  @Override
+  public final JaChord evaluate()
+  {
+    JaChord result = this.output;
+    if (result == null) {
+      result = this.dsl.chordTable().intern(this.evaluateEager());
+      this.output = result;
+    }
+    return result;
+  }
+
+  /**
+   * @param o A term of the same class as this term
+   *
+   * @return {@code true} if the given term is structurally equal to this term
+   */
+
+  abstract boolean sameStructure(JaCPDSLTerm o);
+
+  @Override
+  public final boolean equals(
+    final Object o)
+  {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || this.getClass() != o.getClass()) {
+      return false;
+    }
+    final JaCPDSLTerm other = (JaCPDSLTerm) o;
+    return this.hash == other.hash && this.sameStructure(other);
+  }
+
+  @Override
+  public final int hashCode()
+  {
+    return this.hash;
+  }
+
+  @Override
+  public final String toString()
+  {
+    final JaChord result = this.evaluate();
+    final StringBuilder sb = new StringBuilder(32);
+    sb.append(result.root().noteName());
+    sb.append(this.dsl.nameOf(result));
+    return sb.toString();
+  }
+}
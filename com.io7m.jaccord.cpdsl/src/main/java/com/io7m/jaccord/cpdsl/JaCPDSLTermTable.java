@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, thread-safe table of hash-consed chord terms. The table is
+ * direct-mapped: each term hashes to exactly one slot, and a term that
+ * hashes to an occupied slot replaces the previous occupant. The table
+ * therefore never grows, and recently built terms are preferred. Eviction
+ * only loses sharing, never correctness, as terms compare structurally.
+ */
+
+final class JaCPDSLTermTable
+{
+  private final AtomicReferenceArray<JaCPDSL.ChordTermType> slots;
+  private final int mask;
+
+  JaCPDSLTermTable(
+    final int in_size)
+  {
+    if (in_size <= 0 || Integer.bitCount(in_size) != 1) {
+      throw new IllegalArgumentException(
+        new StringBuilder(64)
+          .append("Table size must be a positive power of two: ")
+          .append(in_size)
+          .toString());
+    }
+    this.slots = new AtomicReferenceArray<>(in_size);
+    this.mask = in_size - 1;
+  }
+
+  /**
+   * Find the shared term structurally equal to the given term, or make the
+   * given term the shared term if there is none.
+   *
+   * @param term The term
+   * @param <T>  The precise type of term
+   *
+   * @return The shared term
+   */
+
+  @SuppressWarnings("unchecked")
+  <T extends JaCPDSL.ChordTermType> T intern(
+    final T term)
+  {
+    final int hash = term.hashCode();
+    final int index = (hash ^ (hash >>> 16)) & this.mask;
+
+    final JaCPDSL.ChordTermType existing = this.slots.get(index);
+    if (existing != null && existing.equals(term)) {
+      return (T) existing;
+    }
+    this.slots.set(index, term);
+    return term;
+  }
+
+  /**
+   * @return The number of slots in the table
+   */
+
+  int size()
+  {
+    return this.slots.length();
+  }
+}
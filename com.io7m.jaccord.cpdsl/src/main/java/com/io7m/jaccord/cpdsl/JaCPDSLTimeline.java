@@ -0,0 +1,500 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl;
+
+import com.io7m.jaccord.core.JaChord;
+import com.io7m.jaccord.core.JaChordIntervals;
+import com.io7m.jaccord.core.JaIntervals;
+import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.cpdsl.internal.JaCPDSLTimelineAccess;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.IntConsumer;
+
+/**
+ * <p>A compiled progression. A timeline holds the evaluated chords of a
+ * progression in columnar form: parallel arrays of root notes, interval
+ * masks, start beats, and durations. Consumers such as exporters and
+ * analyzers can read a timeline any number of times without touching chord
+ * terms again.</p>
+ *
+ * <p>Start beats are prefix sums of durations, and so queries by beat are
+ * answered by binary search in {@code O(log n)} time.</p>
+ *
+ * <p>Timelines are immutable and safe for use from multiple threads.</p>
+ *
+ * @see JaCPDSL.Progression#timeline()
+ */
+
+public final class JaCPDSLTimeline
+{
+  private static final JaNote[] NOTES = JaNote.values();
+
+  static {
+    JaCPDSLTimelineAccess.setFactory(JaCPDSLTimeline::ofOwnedColumns);
+  }
+
+  private final int[] roots;
+  private final int[] intervals;
+  private final long[] starts;
+  private final int[] durations;
+  private final long total;
+
+  private JaCPDSLTimeline(
+    final int[] in_roots,
+    final int[] in_intervals,
+    final long[] in_starts,
+    final int[] in_durations,
+    final long in_total)
+  {
+    this.roots = in_roots;
+    this.intervals = in_intervals;
+    this.starts = in_starts;
+    this.durations = in_durations;
+    this.total = in_total;
+  }
+
+  /**
+   * Compile a progression into a timeline. The chord term of each change is
+   * evaluated exactly once.
+   *
+   * @param progression The progression
+   *
+   * @return A timeline
+   */
+
+  public static JaCPDSLTimeline compile(
+    final JaCPDSL.Progression progression)
+  {
+    Objects.requireNonNull(progression, "Progression");
+
+    final Vector<JaCPDSL.Change> changes = progression.changes();
+    final int size = changes.size();
+    final int[] roots = new int[size];
+    final int[] intervals = new int[size];
+    final long[] starts = new long[size];
+    final int[] durations = new int[size];
+
+    long time = 0L;
+    int index = 0;
+    for (final JaCPDSL.Change change : changes) {
+      final JaChord chord = change.chord().evaluate();
+      roots[index] = chord.root().ordinal();
+      intervals[index] = JaIntervals.mask(chord.intervals().intervals());
+      starts[index] = time;
+      durations[index] = change.beats();
+      time += change.beats();
+      ++index;
+    }
+
+    return new JaCPDSLTimeline(roots, intervals, starts, durations, time);
+  }
+
+  /**
+   * Construct a timeline directly from columns of chord roots, interval
+   * masks, and durations. The start beat of each change is the sum of the
+   * durations of the changes before it. The given arrays are copied.
+   *
+   * @param roots     The ordinal of the root note of each chord
+   * @param intervals The interval mask of each chord
+   * @param durations The number of beats for which each chord is held
+   *
+   * @return A timeline
+   *
+   * @throws IllegalArgumentException If the arrays differ in length, or any
+   *                                  root, mask, or duration is out of range
+   * @see JaIntervals#mask(io.vavr.collection.SortedSet)
+   */
+
+  public static JaCPDSLTimeline ofColumns(
+    final int[] roots,
+    final int[] intervals,
+    final int[] durations)
+  {
+    Objects.requireNonNull(roots, "Roots");
+    Objects.requireNonNull(intervals, "Intervals");
+    Objects.requireNonNull(durations, "Durations");
+    return ofOwnedColumns(roots.clone(), intervals.clone(), durations.clone());
+  }
+
+  private static JaCPDSLTimeline ofOwnedColumns(
+    final int[] roots,
+    final int[] intervals,
+    final int[] durations)
+  {
+    Objects.requireNonNull(roots, "Roots");
+    Objects.requireNonNull(intervals, "Intervals");
+    Objects.requireNonNull(durations, "Durations");
+
+    final int size = roots.length;
+    if (intervals.length != size || durations.length != size) {
+      throw new IllegalArgumentException(
+        new StringBuilder(64)
+          .append("Column lengths differ: roots ")
+          .append(size)
+          .append(", intervals ")
+          .append(intervals.length)
+          .append(", durations ")
+          .append(durations.length)
+          .toString());
+    }
+
+    final long[] starts = new long[size];
+    long time = 0L;
+    for (int index = 0; index < size; ++index) {
+      if (!isValidChange(roots[index], intervals[index], durations[index])) {
+        throw new IllegalArgumentException(
+          new StringBuilder(64)
+            .append("Invalid change at index ")
+            .append(index)
+            .append(": root ")
+            .append(roots[index])
+            .append(", intervals 0x")
+            .append(Integer.toUnsignedString(intervals[index], 16))
+            .append(", duration ")
+            .append(durations[index])
+            .toString());
+      }
+      starts[index] = time;
+      time += durations[index];
+    }
+
+    return new JaCPDSLTimeline(roots, intervals, starts, durations, time);
+  }
+
+  /**
+   * Check that a number of beats is non-negative. Start beats are prefix
+   * sums of durations, and the binary searches used by queries rely on them
+   * never decreasing.
+   *
+   * @param beats The number of beats
+   *
+   * @return {@code beats}
+   */
+
+  static int checkBeats(
+    final int beats)
+  {
+    if (beats < 0) {
+      throw new IllegalArgumentException(
+        new StringBuilder(32)
+          .append("Beats must be non-negative: ")
+          .append(beats)
+          .toString());
+    }
+    return beats;
+  }
+
+  private static boolean isValidChange(
+    final int root,
+    final int mask,
+    final int duration)
+  {
+    if (root < 0 || root >= NOTES.length || duration < 0) {
+      return false;
+    }
+    return (mask & ~0x1ffffff) == 0 && JaIntervals.normalizeMask(mask) != 0;
+  }
+
+  /**
+   * @return The number of chord changes in the timeline
+   */
+
+  public int size()
+  {
+    return this.roots.length;
+  }
+
+  /**
+   * @return The total number of beats in the timeline
+   */
+
+  public long totalBeats()
+  {
+    return this.total;
+  }
+
+  /**
+   * @param index The index of a change
+   *
+   * @return The root note of the chord of the change
+   */
+
+  public JaNote root(
+    final int index)
+  {
+    return NOTES[this.roots[index]];
+  }
+
+  /**
+   * @param index The index of a change
+   *
+   * @return The interval mask of the chord of the change, as per
+   * {@link JaIntervals#mask(io.vavr.collection.SortedSet)}
+   */
+
+  public int intervals(
+    final int index)
+  {
+    return this.intervals[index];
+  }
+
+  /**
+   * @param index The index of a change
+   *
+   * @return The beat at which the change starts
+   */
+
+  public long start(
+    final int index)
+  {
+    return this.starts[index];
+  }
+
+  /**
+   * @param index The index of a change
+   *
+   * @return The number of beats that the chord of the change is held
+   */
+
+  public int duration(
+    final int index)
+  {
+    return this.durations[index];
+  }
+
+  /**
+   * Find the change sounding at the given beat. Changes with a duration of
+   * zero beats are never sounding.
+   *
+   * @param beat The beat
+   *
+   * @return The index of the change sounding at {@code beat}, or {@code -1}
+   * if {@code beat} lies outside of the timeline
+   */
+
+  public int indexAt(
+    final long beat)
+  {
+    if (beat < 0L || beat >= this.total) {
+      return -1;
+    }
+    return this.upperIndex(beat + 1L) - 1;
+  }
+
+  /**
+   * Find the chord sounding at the given beat.
+   *
+   * @param beat The beat
+   *
+   * @return The chord sounding at {@code beat}, if any
+   *
+   * @see #indexAt(long)
+   */
+
+  public Optional<JaChord> chordAt(
+    final long beat)
+  {
+    final int index = this.indexAt(beat);
+    return index < 0 ? Optional.empty() : Optional.of(this.chord(index));
+  }
+
+  /**
+   * @param beat The beat
+   *
+   * @return The index of the first change that ends after {@code beat}, or
+   * the number of changes if there is no such change
+   */
+
+  public int lowerIndex(
+    final long beat)
+  {
+    int low = 0;
+    int high = this.starts.length;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (this.starts[middle] + (long) this.durations[middle] > beat) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * @param beat The beat
+   *
+   * @return The index of the first change that starts at or after
+   * {@code beat}, or the number of changes if there is no such change
+   */
+
+  public int upperIndex(
+    final long beat)
+  {
+    int low = 0;
+    int high = this.starts.length;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (this.starts[middle] >= beat) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Iterate over the changes that overlap the range of beats
+   * {@code [beat_start, beat_end)}, in order. The indices of the changes are
+   * exactly those in {@code [lowerIndex(beat_start), upperIndex(beat_end))}.
+   *
+   * @param beat_start The start of the range (inclusive)
+   * @param beat_end   The end of the range (exclusive)
+   * @param receiver   A receiver of change indices
+   */
+
+  public void forEachInRange(
+    final long beat_start,
+    final long beat_end,
+    final IntConsumer receiver)
+  {
+    Objects.requireNonNull(receiver, "Receiver");
+
+    final int end = this.upperIndex(beat_end);
+    for (int index = this.lowerIndex(beat_start); index < end; ++index) {
+      receiver.accept(index);
+    }
+  }
+
+  /**
+   * Construct the chord of a change. A new chord value is constructed on
+   * each call; consumers that only need the root and intervals should use
+   * {@link #root(int)} and {@link #intervals(int)} instead.
+   *
+   * @param index The index of a change
+   *
+   * @return The chord of the change
+   */
+
+  public JaChord chord(
+    final int index)
+  {
+    return JaChord.of(
+      NOTES[this.roots[index]],
+      JaChordIntervals.of(JaIntervals.ofMask(this.intervals[index])));
+  }
+
+  /**
+   * Transpose every chord in the timeline. The resulting timeline shares
+   * its intervals, start beats, and durations with this timeline.
+   *
+   * @param steps The number of semitones upwards (or downwards if negative)
+   *
+   * @return A transposed timeline
+   */
+
+  public JaCPDSLTimeline transpose(
+    final int steps)
+  {
+    final int shift = Math.floorMod(steps, NOTES.length);
+    if (shift == 0) {
+      return this;
+    }
+
+    final int[] transposed = new int[this.roots.length];
+    for (int index = 0; index < transposed.length; ++index) {
+      transposed[index] = (this.roots[index] + shift) % NOTES.length;
+    }
+    return new JaCPDSLTimeline(
+      transposed, this.intervals, this.starts, this.durations, this.total);
+  }
+
+  /**
+   * Replace a range of changes. Only the chord terms of the inserted changes
+   * are evaluated; the remaining changes are copied from this timeline, with
+   * the start beats of changes after the range shifted as necessary.
+   *
+   * @param index    The index of the first change to remove
+   * @param removed  The number of changes to remove
+   * @param inserted The changes to insert at {@code index}
+   *
+   * @return A new timeline
+   */
+
+  JaCPDSLTimeline splice(
+    final int index,
+    final int removed,
+    final Seq<JaCPDSL.Change> inserted)
+  {
+    final int old_size = this.roots.length;
+    final int tail = index + removed;
+    final int tail_count = old_size - tail;
+    final int added = inserted.size();
+    final int size = index + added + tail_count;
+
+    final int[] new_roots = new int[size];
+    final int[] new_intervals = new int[size];
+    final long[] new_starts = new long[size];
+    final int[] new_durations = new int[size];
+
+    System.arraycopy(this.roots, 0, new_roots, 0, index);
+    System.arraycopy(this.intervals, 0, new_intervals, 0, index);
+    System.arraycopy(this.starts, 0, new_starts, 0, index);
+    System.arraycopy(this.durations, 0, new_durations, 0, index);
+
+    long time = this.startOrEnd(index);
+    int position = index;
+    for (final JaCPDSL.Change change : inserted) {
+      final JaChord chord = change.chord().evaluate();
+      new_roots[position] = chord.root().ordinal();
+      new_intervals[position] = JaIntervals.mask(chord.intervals().intervals());
+      new_starts[position] = time;
+      new_durations[position] = change.beats();
+      time += change.beats();
+      ++position;
+    }
+
+    final long shift = time - this.startOrEnd(tail);
+    System.arraycopy(this.roots, tail, new_roots, position, tail_count);
+    System.arraycopy(this.intervals, tail, new_intervals, position, tail_count);
+    System.arraycopy(this.durations, tail, new_durations, position, tail_count);
+    for (int offset = 0; offset < tail_count; ++offset) {
+      new_starts[position + offset] = this.starts[tail + offset] + shift;
+    }
+
+    return new JaCPDSLTimeline(
+      new_roots, new_intervals, new_starts, new_durations, this.total + shift);
+  }
+
+  /**
+   * @param index The index of a change, or the number of changes
+   *
+   * @return The start beat of the change, or the total number of beats if
+   * {@code index} is the number of changes
+   */
+
+  long startOrEnd(
+    final int index)
+  {
+    return index < this.starts.length ? this.starts[index] : this.total;
+  }
+}
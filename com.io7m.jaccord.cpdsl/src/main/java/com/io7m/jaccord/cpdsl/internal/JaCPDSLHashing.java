@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl.internal;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * Functions to derive well-distributed values from seeds.
+ */
+
+public final class JaCPDSLHashing
+{
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  private JaCPDSLHashing()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Apply the output function of the SplitMix64 generator to the
+   * {@code index}'th element of the sequence starting at {@code seed}.
+   * Distinct indices yield statistically independent values, so the result
+   * is suitable as the seed of a per-index random stream, or as a
+   * reproducible tie-breaker.
+   *
+   * @param seed  The seed
+   * @param index The index
+   *
+   * @return A mixed value
+   */
+
+  public static long mix(
+    final long seed,
+    final long index)
+  {
+    long z = seed + (index + 1L) * GOLDEN_GAMMA;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
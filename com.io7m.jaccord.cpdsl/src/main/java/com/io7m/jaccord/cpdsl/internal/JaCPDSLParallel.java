@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl.internal;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Functions to apply an action to every index in a range on a fork-join
+ * pool.
+ */
+
+public final class JaCPDSLParallel
+{
+  private JaCPDSLParallel()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Apply an action to every index in {@code [0, count)}. The range is split
+   * in half repeatedly until each task holds at most {@code batch} indices,
+   * and each task applies the action to its indices in ascending order. The
+   * call returns when the action has been applied to every index.
+   *
+   * @param pool   The pool
+   * @param count  The number of indices
+   * @param batch  The largest number of indices handled by a single task
+   * @param action The action
+   */
+
+  public static void forEach(
+    final ForkJoinPool pool,
+    final int count,
+    final int batch,
+    final IntConsumer action)
+  {
+    Objects.requireNonNull(pool, "Pool");
+    Objects.requireNonNull(action, "Action");
+
+    if (batch < 1) {
+      throw new IllegalArgumentException(
+        new StringBuilder(32)
+          .append("Batch size must be positive: ")
+          .append(batch)
+          .toString());
+    }
+
+    if (count > 0) {
+      pool.invoke(new Task(action, batch, 0, count));
+    }
+  }
+
+  private static final class Task extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final IntConsumer action;
+    private final int batch;
+    private final int start;
+    private final int end;
+
+    Task(
+      final IntConsumer in_action,
+      final int in_batch,
+      final int in_start,
+      final int in_end)
+    {
+      this.action = in_action;
+      this.batch = in_batch;
+      this.start = in_start;
+      this.end = in_end;
+    }
+
+    @Override
+    protected void compute()
+    {
+      final int count = this.end - this.start;
+      if (count <= this.batch) {
+        for (int index = this.start; index < this.end; ++index) {
+          this.action.accept(index);
+        }
+        return;
+      }
+
+      final int middle = this.start + count / 2;
+      invokeAll(
+        new Task(this.action, this.batch, this.start, middle),
+        new Task(this.action, this.batch, middle, this.end));
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.cpdsl.internal;
+
+import com.io7m.jaccord.cpdsl.JaCPDSLTimeline;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * Access to timeline construction paths that are not part of the public
+ * API. The timeline class registers a factory here when it is initialized.
+ */
+
+public final class JaCPDSLTimelineAccess
+{
+  private static volatile FactoryType FACTORY;
+
+  private JaCPDSLTimelineAccess()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * A factory of timelines.
+   */
+
+  public interface FactoryType
+  {
+    /**
+     * Construct a timeline that takes ownership of the given arrays.
+     *
+     * @param roots     The ordinal of the root note of each chord
+     * @param intervals The interval mask of each chord
+     * @param durations The number of beats for which each chord is held
+     *
+     * @return A timeline
+     */
+
+    JaCPDSLTimeline ofOwnedColumns(
+      int[] roots,
+      int[] intervals,
+      int[] durations);
+  }
+
+  /**
+   * Register the timeline factory. This is called exactly once, by the
+   * timeline class.
+   *
+   * @param in_factory The factory
+   *
+   * @throws IllegalStateException If a factory has already been registered
+   */
+
+  public static synchronized void setFactory(
+    final FactoryType in_factory)
+  {
+    Objects.requireNonNull(in_factory, "Factory");
+    if (FACTORY != null) {
+      throw new IllegalStateException("Timeline factory already registered");
+    }
+    FACTORY = in_factory;
+  }
+
+  /**
+   * Construct a timeline as per
+   * {@link JaCPDSLTimeline#ofColumns(int[], int[], int[])}, but without
+   * copying the given arrays. The caller must not modify the arrays after
+   * calling this method.
+   *
+   * @param roots     The ordinal of the root note of each chord
+   * @param intervals The interval mask of each chord
+   * @param durations The number of beats for which each chord is held
+   *
+   * @return A timeline
+   *
+   * @throws IllegalArgumentException If the arrays differ in length, or any
+   *                                  root, mask, or duration is out of range
+   */
+
+  public static JaCPDSLTimeline ofOwnedColumns(
+    final int[] roots,
+    final int[] intervals,
+    final int[] durations)
+  {
+    FactoryType current = FACTORY;
+    if (current == null) {
+      initializeTimeline();
+      current = FACTORY;
+    }
+    return current.ofOwnedColumns(roots, intervals, durations);
+  }
+
+  private static void initializeTimeline()
+  {
+    try {
+      Class.forName(
+        JaCPDSLTimeline.class.getName(),
+        true,
+        JaCPDSLTimeline.class.getClassLoader());
+    } catch (final ClassNotFoundException e) {
+      throw new UnreachableCodeException(e);
+    }
+  }
+}
@@ -28,4 +28,8 @@ module com.io7m.jaccord.cpdsl
   requires io.vavr;
 
   exports com.io7m.jaccord.cpdsl;
+
+  exports com.io7m.jaccord.cpdsl.internal
+    to com.io7m.jaccord.cpdsl.generator,
+      com.io7m.jaccord.cpdsl.reharmonizer;
 }
\ No newline at end of file
@@ -16,7 +16,17 @@
 
 package com.io7m.jaccord.parser.api;
 
+import com.io7m.jaccord.core.JaChord;
+import io.vavr.collection.Seq;
+import io.vavr.control.Validation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
 
 /**
  * The type of providers of chord note parsers.
@@ -36,4 +46,138 @@ public interface JaChordNoteParserProviderType
   JaChordNoteParserType create(
     Path path,
     JaChordNoteParserConfiguration configuration);
+
+  /**
+   * Parse every line of a file, one chord per line. Lines that contain only
+   * whitespace are skipped.
+   *
+   * @param path          The file
+   * @param configuration The parser configuration
+   * @param sink          The receiver of chords and errors
+   *
+   * @throws IOException On I/O errors
+   *
+   * @see #parseChannel(Path, FileChannel, JaChordNoteParserConfiguration, JaChordNoteSinkType)
+   */
+
+  default void parseFile(
+    final Path path,
+    final JaChordNoteParserConfiguration configuration,
+    final JaChordNoteSinkType sink)
+    throws IOException
+  {
+    try (FileChannel channel =
+           FileChannel.open(path, StandardOpenOption.READ)) {
+      this.parseChannel(path, channel, configuration, sink);
+    }
+  }
+
+  /**
+   * Parse every line of a UTF-8 encoded file channel, one chord per line.
+   * Lines that contain only whitespace are skipped. The channel is
+   * memory-mapped and parsed in place; lexical positions and error messages
+   * are only constructed for lines that fail to parse.
+   *
+   * @param path          The path of the source, for diagnostic messages
+   * @param channel       The file channel
+   * @param configuration The parser configuration
+   * @param sink          The receiver of chords and errors
+   *
+   * @throws IOException On I/O errors
+   */
+
+  void parseChannel(
+    Path path,
+    FileChannel channel,
+    JaChordNoteParserConfiguration configuration,
+    JaChordNoteSinkType sink)
+    throws IOException;
+
+  /**
+   * Parse every line of a file in parallel.
+   *
+   * @param path          The file
+   * @param configuration The parser configuration
+   * @param executor      The executor used to parse chunks of the file
+   * @param sink          The receiver of chords and errors
+   *
+   * @throws IOException On I/O errors
+   *
+   * @see #parseChannelParallel(Path, FileChannel, JaChordNoteParserConfiguration, ExecutorService, JaChordNoteSinkType)
+   */
+
+  default void parseFileParallel(
+    final Path path,
+    final JaChordNoteParserConfiguration configuration,
+    final ExecutorService executor,
+    final JaChordNoteSinkType sink)
+    throws IOException
+  {
+    try (FileChannel channel =
+           FileChannel.open(path, StandardOpenOption.READ)) {
+      this.parseChannelParallel(path, channel, configuration, executor, sink);
+    }
+  }
+
+  /**
+   * Parse every line of a UTF-8 encoded file channel in parallel. The
+   * channel is split into chunks at line boundaries and the chunks are
+   * parsed concurrently on the given executor (such as a
+   * {@link java.util.concurrent.ForkJoinPool} or a virtual thread
+   * executor). The sink is only ever called on the calling thread, and
+   * receives exactly the same chords, errors, and line numbers, in the same
+   * order, as {@link #parseChannel(Path, FileChannel, JaChordNoteParserConfiguration, JaChordNoteSinkType)}.
+   *
+   * @param path          The path of the source, for diagnostic messages
+   * @param channel       The file channel
+   * @param configuration The parser configuration
+   * @param executor      The executor used to parse chunks of the file
+   * @param sink          The receiver of chords and errors
+   *
+   * @throws IOException On I/O errors
+   */
+
+  void parseChannelParallel(
+    Path path,
+    FileChannel channel,
+    JaChordNoteParserConfiguration configuration,
+    ExecutorService executor,
+    JaChordNoteSinkType sink)
+    throws IOException;
+
+  /**
+   * Create a streaming parser that accepts chunks of UTF-8 encoded bytes.
+   * Chunks may split lines, tokens, and multi-byte characters at arbitrary
+   * boundaries. One result is published for each line that contains
+   * anything other than whitespace, as soon as the line is complete, and in
+   * input order. The processor supports a single subscriber, and only
+   * requests more input from upstream when the subscriber has outstanding
+   * demand. Any incomplete final line is parsed when upstream completes.
+   *
+   * @param path          The path of the source, for diagnostic messages
+   * @param configuration The parser configuration
+   *
+   * @return A new processor
+   */
+
+  Flow.Processor<ByteBuffer, Validation<Seq<JaParseError>, JaChord>>
+  createByteProcessor(
+    Path path,
+    JaChordNoteParserConfiguration configuration);
+
+  /**
+   * Create a streaming parser that accepts chunks of characters.
+   *
+   * @param path          The path of the source, for diagnostic messages
+   * @param configuration The parser configuration
+   *
+   * @return A new processor
+   *
+   * @see #createByteProcessor(Path, JaChordNoteParserConfiguration)
+   */
+
+  Flow.Processor<CharSequence, Validation<Seq<JaParseError>, JaChord>>
+  createCharProcessor(
+    Path path,
+    JaChordNoteParserConfiguration configuration);
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.parser.api;
+
+import com.io7m.jaccord.core.JaNote;
+
+/**
+ * A receiver of chords produced by bulk parsing. Chords are delivered as a
+ * root note and an interval mask, so that no chord objects need to be
+ * allocated for well-formed input.
+ *
+ * @see JaChordNoteParserProviderType#parseFile(java.nio.file.Path, JaChordNoteParserConfiguration, JaChordNoteSinkType)
+ */
+
+public interface JaChordNoteSinkType
+{
+  /**
+   * A chord was parsed.
+   *
+   * @param line      The line number (starting at {@code 1})
+   * @param root      The root note
+   * @param intervals The mask of chord intervals, as per
+   *                  {@link com.io7m.jaccord.core.JaIntervals#mask(io.vavr.collection.SortedSet)}
+   */
+
+  void onChord(
+    int line,
+    JaNote root,
+    int intervals);
+
+  /**
+   * A line could not be parsed.
+   *
+   * @param error The parse error
+   */
+
+  void onError(
+    JaParseError error);
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.parser.api;
+
+/**
+ * The kinds of parse errors.
+ */
+
+public enum JaParseErrorCode
+{
+  /**
+   * A token could not be parsed as a note.
+   */
+
+  NOTE_INVALID("Could not parse note."),
+
+  /**
+   * A chord had fewer than two notes.
+   */
+
+  CHORD_TOO_FEW_NOTES("Too few notes for chord."),
+
+  /**
+   * The notes of a chord did not contain any non-unison interval.
+   */
+
+  CHORD_INTERVALS_MALFORMED("Malformed chord intervals."),
+
+  /**
+   * The notes of a chord spanned more than two octaves.
+   */
+
+  CHORD_INTERVALS_OUT_OF_RANGE("Out-of-range chord intervals."),
+
+  /**
+   * The notes of a scale repeated the root note.
+   */
+
+  SCALE_INTERVALS_INVALID("Scale validity error."),
+
+  /**
+   * A progression did not conform to the progression syntax.
+   */
+
+  PROGRESSION_SYNTAX_ERROR("Progression syntax error."),
+
+  /**
+   * A progression named a scale that does not exist or is ambiguous.
+   */
+
+  PROGRESSION_SCALE_UNKNOWN("Unknown progression scale."),
+
+  /**
+   * A chord term in a progression could not be evaluated.
+   */
+
+  PROGRESSION_TERM_INVALID("Invalid chord term."),
+
+  /**
+   * A scale catalogue entry did not conform to the catalogue syntax.
+   */
+
+  CATALOGUE_SYNTAX_ERROR("Scale catalogue syntax error."),
+
+  /**
+   * A scale catalogue defined the same identifier more than once.
+   */
+
+  CATALOGUE_DUPLICATE_ID("Duplicate scale identifier."),
+
+  /**
+   * A scale catalogue alias referred to a scale that was never defined.
+   */
+
+  CATALOGUE_ALIAS_UNRESOLVED("Unresolved scale alias.");
+
+  private final String title;
+
+  JaParseErrorCode(
+    final String in_title)
+  {
+    this.title = in_title;
+  }
+
+  /**
+   * @return A short human-readable description of the error
+   */
+
+  public String title()
+  {
+    return this.title;
+  }
+}
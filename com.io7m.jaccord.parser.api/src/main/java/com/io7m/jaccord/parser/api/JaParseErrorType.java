@@ -27,7 +27,10 @@ import java.util.Optional;
 import static org.immutables.value.Value.Immutable;
 
 /**
- * The type of parse errors.
+ * The type of parse errors. An error carries a structured code and the
+ * offending span of source text; the human-readable message is only
+ * rendered when {@link #message()} is first called, so code that merely
+ * counts or classifies errors does not pay for message formatting.
  */
 
 @ImmutablesStyleType
@@ -35,17 +38,51 @@ import static org.immutables.value.Value.Immutable;
 public interface JaParseErrorType extends JaErrorType
 {
   /**
-   * @return The lexical position of the parse error
+   * @return The lexical position of the start of the offending span
    */
 
   @Value.Parameter
   LexicalPosition<Path> position();
 
-  @Override
+  /**
+   * @return The kind of error
+   */
+
+  @Value.Parameter
+  JaParseErrorCode code();
+
+  /**
+   * @return A description of the input that was expected
+   */
+
+  @Value.Parameter
+  String expected();
+
+  /**
+   * @return The offending span of source text
+   */
+
   @Value.Parameter
-  String message();
+  String received();
 
   @Override
   @Value.Parameter
   Optional<Exception> exception();
+
+  @Override
+  @Value.Lazy
+  default String message()
+  {
+    final String separator = System.lineSeparator();
+    return new StringBuilder(128)
+      .append(this.code().title())
+      .append(separator)
+      .append("  Expected: ")
+      .append(this.expected())
+      .append(separator)
+      .append("  Received: ")
+      .append(this.received())
+      .append(separator)
+      .toString();
+  }
 }
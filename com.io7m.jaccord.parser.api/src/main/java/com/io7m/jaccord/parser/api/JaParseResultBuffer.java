@@ -0,0 +1,355 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.parser.api;
+
+import com.io7m.jaccord.core.JaChord;
+import com.io7m.jaccord.core.JaChordIntervals;
+import com.io7m.jaccord.core.JaIntervals;
+import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.core.JaScale;
+import com.io7m.jaccord.core.JaScaleIntervals;
+import com.io7m.jlexing.core.LexicalPosition;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>A reusable buffer of parse results.</p>
+ *
+ * <p>The buffer is a sink for both chords and scales. Results are held in
+ * primitive arrays, in the order they were received, and errors are held in
+ * a reusable list. Receiving a well-formed result allocates nothing once
+ * the buffer has grown to its working size. Immutable {@link JaChord} and
+ * {@link JaScale} values are only created when requested with
+ * {@link #chords()} or {@link #scales()}.</p>
+ *
+ * <p>Instances are not thread-safe.</p>
+ */
+
+public final class JaParseResultBuffer
+  implements JaChordNoteSinkType, JaScaleSinkType
+{
+  private static final JaNote[] NOTES = JaNote.values();
+  private static final int ERROR = -1;
+
+  private final ArrayList<JaParseError> errors;
+  private int[] lines;
+  private int[] roots;
+  private int[] masks;
+  private int count;
+
+  /**
+   * Create an empty buffer.
+   */
+
+  public JaParseResultBuffer()
+  {
+    this.lines = new int[256];
+    this.roots = new int[256];
+    this.masks = new int[256];
+    this.errors = new ArrayList<>(16);
+  }
+
+  /**
+   * Remove all results and errors. The buffer retains its capacity.
+   */
+
+  public void clear()
+  {
+    this.count = 0;
+    this.errors.clear();
+  }
+
+  /**
+   * @return The number of results and errors in the buffer
+   */
+
+  public int size()
+  {
+    return this.count;
+  }
+
+  /**
+   * @return The number of errors in the buffer
+   */
+
+  public int errorCount()
+  {
+    return this.errors.size();
+  }
+
+  /**
+   * @return The number of chords or scales in the buffer
+   */
+
+  public int resultCount()
+  {
+    return this.count - this.errors.size();
+  }
+
+  /**
+   * @return A read-only view of the errors in the buffer, in input order
+   */
+
+  public List<JaParseError> errors()
+  {
+    return Collections.unmodifiableList(this.errors);
+  }
+
+  /**
+   * @param index The index of an entry in the range {@code [0, size())}
+   *
+   * @return {@code true} if the entry is an error
+   */
+
+  public boolean isError(
+    final int index)
+  {
+    return this.roots[this.checkIndex(index)] == ERROR;
+  }
+
+  /**
+   * @param index The index of an entry in the range {@code [0, size())}
+   *
+   * @return The line number of the entry
+   */
+
+  public int line(
+    final int index)
+  {
+    return this.lines[this.checkIndex(index)];
+  }
+
+  /**
+   * @param index The index of a non-error entry
+   *
+   * @return The root note of the entry
+   */
+
+  public JaNote root(
+    final int index)
+  {
+    return NOTES[this.roots[this.checkResult(index)]];
+  }
+
+  /**
+   * @param index The index of a non-error entry
+   *
+   * @return The interval mask of the entry
+   */
+
+  public int intervals(
+    final int index)
+  {
+    return this.masks[this.checkResult(index)];
+  }
+
+  /**
+   * @param index The index of an error entry
+   *
+   * @return The error
+   */
+
+  public JaParseError error(
+    final int index)
+  {
+    if (!this.isError(index)) {
+      throw new IllegalArgumentException(
+        new StringBuilder(32)
+          .append("Entry ")
+          .append(index)
+          .append(" is not an error")
+          .toString());
+    }
+    return this.errors.get(this.masks[index]);
+  }
+
+  /**
+   * Create chords from all of the non-error entries.
+   *
+   * @return The chords, in input order
+   */
+
+  public List<JaChord> chords()
+  {
+    final ArrayList<JaChord> chords = new ArrayList<>(this.resultCount());
+    for (int index = 0; index < this.count; ++index) {
+      final int root = this.roots[index];
+      if (root != ERROR) {
+        chords.add(
+          JaChord.of(
+            NOTES[root],
+            JaChordIntervals.of(JaIntervals.ofMask(this.masks[index]))));
+      }
+    }
+    return chords;
+  }
+
+  /**
+   * Create scales from all of the non-error entries.
+   *
+   * @return The scales, in input order
+   */
+
+  public List<JaScale> scales()
+  {
+    final ArrayList<JaScale> scales = new ArrayList<>(this.resultCount());
+    for (int index = 0; index < this.count; ++index) {
+      final int root = this.roots[index];
+      if (root != ERROR) {
+        scales.add(
+          JaScale.of(
+            NOTES[root],
+            JaScaleIntervals.of(JaIntervals.ofMask(this.masks[index]))));
+      }
+    }
+    return scales;
+  }
+
+  /**
+   * Replay the contents of the buffer into a chord sink.
+   *
+   * @param line_offset A value added to every line number
+   * @param sink        The sink
+   */
+
+  public void replayChords(
+    final int line_offset,
+    final JaChordNoteSinkType sink)
+  {
+    for (int index = 0; index < this.count; ++index) {
+      final int root = this.roots[index];
+      if (root == ERROR) {
+        sink.onError(this.errorAt(index, line_offset));
+      } else {
+        sink.onChord(
+          this.lines[index] + line_offset, NOTES[root], this.masks[index]);
+      }
+    }
+  }
+
+  /**
+   * Replay the contents of the buffer into a scale sink.
+   *
+   * @param line_offset A value added to every line number
+   * @param sink        The sink
+   */
+
+  public void replayScales(
+    final int line_offset,
+    final JaScaleSinkType sink)
+  {
+    for (int index = 0; index < this.count; ++index) {
+      final int root = this.roots[index];
+      if (root == ERROR) {
+        sink.onError(this.errorAt(index, line_offset));
+      } else {
+        sink.onScale(
+          this.lines[index] + line_offset, NOTES[root], this.masks[index]);
+      }
+    }
+  }
+
+  @Override
+  public void onChord(
+    final int line,
+    final JaNote root,
+    final int intervals)
+  {
+    this.append(line, root.ordinal(), intervals);
+  }
+
+  @Override
+  public void onScale(
+    final int line,
+    final JaNote root,
+    final int intervals)
+  {
+    this.append(line, root.ordinal(), intervals);
+  }
+
+  @Override
+  public void onError(
+    final JaParseError error)
+  {
+    this.append(error.position().line(), ERROR, this.errors.size());
+    this.errors.add(error);
+  }
+
+  private void append(
+    final int line,
+    final int root,
+    final int mask)
+  {
+    if (this.count == this.lines.length) {
+      final int size = this.count * 2;
+      this.lines = Arrays.copyOf(this.lines, size);
+      this.roots = Arrays.copyOf(this.roots, size);
+      this.masks = Arrays.copyOf(this.masks, size);
+    }
+    this.lines[this.count] = line;
+    this.roots[this.count] = root;
+    this.masks[this.count] = mask;
+    ++this.count;
+  }
+
+  private JaParseError errorAt(
+    final int index,
+    final int line_offset)
+  {
+    final JaParseError error = this.errors.get(this.masks[index]);
+    if (line_offset == 0) {
+      return error;
+    }
+    final LexicalPosition<Path> position = error.position();
+    return error.withPosition(
+      position.withLine(position.line() + line_offset));
+  }
+
+  private int checkIndex(
+    final int index)
+  {
+    if (index < 0 || index >= this.count) {
+      throw new IndexOutOfBoundsException(
+        new StringBuilder(64)
+          .append("Index ")
+          .append(index)
+          .append(" out of range [0, ")
+          .append(this.count)
+          .append(")")
+          .toString());
+    }
+    return index;
+  }
+
+  private int checkResult(
+    final int index)
+  {
+    if (this.isError(index)) {
+      throw new IllegalArgumentException(
+        new StringBuilder(32)
+          .append("Entry ")
+          .append(index)
+          .append(" is an error")
+          .toString());
+    }
+    return index;
+  }
+}
@@ -0,0 +1,484 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.parser.api;
+
+import com.io7m.jaccord.core.JaIntervals;
+import com.io7m.jaccord.core.JaScaleIntervals;
+import com.io7m.jaccord.core.JaScaleNamed;
+import com.io7m.jlexing.core.LexicalPosition;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>A streaming parser for scale catalogues.</p>
+ *
+ * <p>A catalogue contains one entry per line. An entry is an identifier,
+ * a {@code =} or {@code :} separator, and either a list of semitones above
+ * the root, or the identifier of another scale of which the entry is an
+ * alias:</p>
+ *
+ * <pre>
+ * # Comments begin with '#' or '!'.
+ * Major        = semitones 2 4 5 7 9 11
+ * Ionian_Mode  = alias Major
+ * Dorian_Mode  = semitones 2 3 5 7 9 10 ; name Dorian
+ * </pre>
+ *
+ * <p>An entry may be followed by any number of {@code ;}-separated
+ * attributes. The only attribute currently defined is {@code name}, which
+ * gives the long name of the scale; by default, the long name is the
+ * identifier with underscores replaced by spaces. The plain form is
+ * compatible with the properties files historically used for scale
+ * data.</p>
+ *
+ * <p>Aliases may refer to scales (or other aliases) defined anywhere in the
+ * catalogue, and are resolved in a single pass: an alias is delivered as soon
+ * as its target has been defined, and aliases that remain unresolved at the
+ * end of the input are reported as errors. Instances are not
+ * thread-safe.</p>
+ */
+
+public final class JaScaleCatalogueParser
+{
+  private static final Comparator<Entry> ENTRY_ORDER =
+    Comparator.comparingInt((Entry e) -> e.line)
+      .thenComparingInt(e -> e.column);
+
+  private final BufferedReader reader;
+  private final Optional<Path> file;
+  private final HashSet<String> declared;
+  private final HashMap<String, JaScaleIntervals> defined;
+  private final HashMap<String, ArrayList<Entry>> pending;
+  private final ArrayDeque<Entry> resolved;
+  private String text;
+  private int line;
+  private int position;
+
+  private JaScaleCatalogueParser(
+    final Path in_path,
+    final Reader in_reader)
+  {
+    this.file = Optional.of(Objects.requireNonNull(in_path, "Path"));
+    Objects.requireNonNull(in_reader, "Reader");
+    this.reader = in_reader instanceof BufferedReader
+      ? (BufferedReader) in_reader
+      : new BufferedReader(in_reader);
+    this.declared = new HashSet<>(128);
+    this.defined = new HashMap<>(128);
+    this.pending = new HashMap<>(16);
+    this.resolved = new ArrayDeque<>(16);
+    this.text = "";
+  }
+
+  /**
+   * Create a parser.
+   *
+   * @param path   The path of the catalogue, for error reporting
+   * @param reader The source of text
+   *
+   * @return A parser
+   */
+
+  public static JaScaleCatalogueParser create(
+    final Path path,
+    final Reader reader)
+  {
+    return new JaScaleCatalogueParser(path, reader);
+  }
+
+  /**
+   * Parse the entire catalogue, delivering scales and errors to the given
+   * sink as they are encountered.
+   *
+   * @param sink The receiver of scales and errors
+   *
+   * @return The number of scales delivered
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public int parse(
+    final JaScaleCatalogueSinkType sink)
+    throws IOException
+  {
+    Objects.requireNonNull(sink, "Sink");
+
+    int count = 0;
+    while (true) {
+      final String next_text = this.reader.readLine();
+      if (next_text == null) {
+        break;
+      }
+      this.text = next_text;
+      this.position = 0;
+      ++this.line;
+      count += this.parseEntry(sink);
+    }
+
+    final ArrayList<Entry> unresolved = new ArrayList<>();
+    for (final ArrayList<Entry> aliases : this.pending.values()) {
+      unresolved.addAll(aliases);
+    }
+    unresolved.sort(ENTRY_ORDER);
+    for (final Entry alias : unresolved) {
+      sink.onError(JaParseError.of(
+        LexicalPosition.of(alias.line, alias.column, this.file),
+        JaParseErrorCode.CATALOGUE_ALIAS_UNRESOLVED,
+        "The identifier of a defined scale",
+        alias.target,
+        Optional.empty()));
+    }
+    this.pending.clear();
+    return count;
+  }
+
+  private int parseEntry(
+    final JaScaleCatalogueSinkType sink)
+  {
+    this.skipWhitespace();
+    if (this.atEnd()) {
+      return 0;
+    }
+    final char first = this.text.charAt(this.position);
+    if (first == '#' || first == '!') {
+      return 0;
+    }
+
+    final int id_start = this.position;
+    final String id = this.identifier();
+    if (id.isEmpty()) {
+      return this.syntaxError(sink, "A scale identifier");
+    }
+
+    this.skipWhitespace();
+    if (this.atEnd() || !isSeparator(this.text.charAt(this.position))) {
+      return this.syntaxError(sink, "'=' or ':'");
+    }
+    ++this.position;
+    this.skipWhitespace();
+
+    final int keyword_start = this.position;
+    final String keyword = this.identifier();
+    switch (keyword) {
+      case "semitones":
+        return this.parseSemitones(sink, id, id_start);
+      case "alias":
+        return this.parseAlias(sink, id, id_start);
+      default:
+        this.position = keyword_start;
+        return this.syntaxError(sink, "'semitones' or 'alias'");
+    }
+  }
+
+  private int parseSemitones(
+    final JaScaleCatalogueSinkType sink,
+    final String id,
+    final int id_start)
+  {
+    int mask = 0;
+    int count = 0;
+    while (true) {
+      this.skipWhitespace();
+      if (this.atEnd() || this.text.charAt(this.position) == ';') {
+        break;
+      }
+
+      final int start = this.position;
+      final int semitone = this.integer();
+      if (semitone < 1 || semitone > 11) {
+        this.position = start;
+        sink.onError(this.error(
+          JaParseErrorCode.SCALE_INTERVALS_INVALID,
+          "A semitone in the range [1, 11]",
+          this.text.substring(start, this.tokenEnd())));
+        return 0;
+      }
+      mask |= 1 << semitone;
+      ++count;
+    }
+
+    if (count == 0) {
+      return this.syntaxError(sink, "At least one semitone");
+    }
+
+    final String name = this.parseAttributes(sink, id);
+    if (name == null) {
+      return 0;
+    }
+
+    final JaScaleIntervals intervals =
+      JaScaleIntervals.of(JaIntervals.ofMask(mask));
+    return this.define(
+      sink, new Entry(id, name, null, this.line, id_start), intervals);
+  }
+
+  private int parseAlias(
+    final JaScaleCatalogueSinkType sink,
+    final String id,
+    final int id_start)
+  {
+    this.skipWhitespace();
+    final String target = this.identifier();
+    if (target.isEmpty()) {
+      return this.syntaxError(sink, "A scale identifier");
+    }
+
+    final String name = this.parseAttributes(sink, id);
+    if (name == null) {
+      return 0;
+    }
+
+    final Entry alias = new Entry(id, name, target, this.line, id_start);
+    final JaScaleIntervals intervals = this.defined.get(target);
+    if (intervals != null) {
+      return this.define(sink, alias, intervals);
+    }
+
+    if (!this.declare(sink, alias)) {
+      return 0;
+    }
+    this.pending.computeIfAbsent(target, k -> new ArrayList<>(2)).add(alias);
+    return 0;
+  }
+
+  private String parseAttributes(
+    final JaScaleCatalogueSinkType sink,
+    final String id)
+  {
+    String name = null;
+    while (true) {
+      this.skipWhitespace();
+      if (this.atEnd()) {
+        break;
+      }
+      if (this.text.charAt(this.position) != ';') {
+        this.syntaxError(sink, "';' or the end of the line");
+        return null;
+      }
+      ++this.position;
+      this.skipWhitespace();
+
+      final int key_start = this.position;
+      final String key = this.identifier();
+      if (!"name".equals(key)) {
+        this.position = key_start;
+        this.syntaxError(sink, "'name'");
+        return null;
+      }
+
+      this.skipWhitespace();
+      final int value_start = this.position;
+      int value_end = this.text.indexOf(';', value_start);
+      if (value_end < 0) {
+        value_end = this.text.length();
+      }
+      this.position = value_end;
+      while (value_end > value_start
+        && Character.isWhitespace(this.text.charAt(value_end - 1))) {
+        --value_end;
+      }
+      if (value_end == value_start) {
+        this.syntaxError(sink, "A scale name");
+        return null;
+      }
+      name = this.text.substring(value_start, value_end);
+    }
+
+    if (name == null) {
+      return id.replace('_', ' ');
+    }
+    return name;
+  }
+
+  private boolean declare(
+    final JaScaleCatalogueSinkType sink,
+    final Entry entry)
+  {
+    if (this.declared.add(entry.id)) {
+      return true;
+    }
+
+    sink.onError(JaParseError.of(
+      LexicalPosition.of(entry.line, entry.column, this.file),
+      JaParseErrorCode.CATALOGUE_DUPLICATE_ID,
+      "An identifier that has not already been defined",
+      entry.id,
+      Optional.empty()));
+    return false;
+  }
+
+  /**
+   * Define a scale, and then define every alias that was waiting for it
+   * (transitively).
+   */
+
+  private int define(
+    final JaScaleCatalogueSinkType sink,
+    final Entry entry,
+    final JaScaleIntervals intervals)
+  {
+    if (!this.declare(sink, entry)) {
+      return 0;
+    }
+
+    int count = 0;
+    Entry current = entry;
+    while (current != null) {
+      this.defined.put(current.id, intervals);
+      sink.onScale(
+        current.line,
+        JaScaleNamed.of(current.id, current.name, intervals));
+      ++count;
+
+      final ArrayList<Entry> waiting = this.pending.remove(current.id);
+      if (waiting != null) {
+        this.resolved.addAll(waiting);
+      }
+      current = this.resolved.poll();
+    }
+    return count;
+  }
+
+  private static boolean isSeparator(
+    final char c)
+  {
+    return c == '=' || c == ':';
+  }
+
+  private static boolean isIdentifier(
+    final char c)
+  {
+    return !Character.isWhitespace(c) && !isSeparator(c) && c != ';';
+  }
+
+  private boolean atEnd()
+  {
+    return this.position >= this.text.length();
+  }
+
+  private void skipWhitespace()
+  {
+    final int end = this.text.length();
+    while (this.position < end
+      && Character.isWhitespace(this.text.charAt(this.position))) {
+      ++this.position;
+    }
+  }
+
+  private int tokenEnd()
+  {
+    final int end = this.text.length();
+    int index = this.position;
+    while (index < end && isIdentifier(this.text.charAt(index))) {
+      ++index;
+    }
+    return index;
+  }
+
+  private String identifier()
+  {
+    final int start = this.position;
+    this.position = this.tokenEnd();
+    return this.text.substring(start, this.position);
+  }
+
+  private int integer()
+  {
+    final int end = this.tokenEnd();
+    if (end == this.position || end - this.position > 2) {
+      return -1;
+    }
+
+    int value = 0;
+    for (int index = this.position; index < end; ++index) {
+      final char c = this.text.charAt(index);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      value = (value * 10) + (c - '0');
+    }
+    this.position = end;
+    return value;
+  }
+
+  private int syntaxError(
+    final JaScaleCatalogueSinkType sink,
+    final String expected)
+  {
+    final String received;
+    if (this.atEnd()) {
+      received = "end of line";
+    } else {
+      final int end = Math.max(this.tokenEnd(), this.position + 1);
+      received = this.text.substring(this.position, end);
+    }
+    sink.onError(
+      this.error(JaParseErrorCode.CATALOGUE_SYNTAX_ERROR, expected, received));
+    return 0;
+  }
+
+  private JaParseError error(
+    final JaParseErrorCode code,
+    final String expected,
+    final String received)
+  {
+    return JaParseError.of(
+      LexicalPosition.of(this.line, this.position, this.file),
+      code,
+      expected,
+      received,
+      Optional.empty());
+  }
+
+  /**
+   * A catalogue entry. The target is {@code null} for entries that are not
+   * aliases.
+   */
+
+  private static final class Entry
+  {
+    private final String id;
+    private final String name;
+    private final String target;
+    private final int line;
+    private final int column;
+
+    Entry(
+      final String in_id,
+      final String in_name,
+      final String in_target,
+      final int in_line,
+      final int in_column)
+    {
+      this.id = in_id;
+      this.name = in_name;
+      this.target = in_target;
+      this.line = in_line;
+      this.column = in_column;
+    }
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.parser.api;
+
+import com.io7m.jaccord.core.JaScaleNamed;
+
+/**
+ * A receiver of scales produced by parsing a scale catalogue.
+ *
+ * @see JaScaleCatalogueParser
+ */
+
+public interface JaScaleCatalogueSinkType
+{
+  /**
+   * A scale was defined. Aliases are delivered as soon as the scale that
+   * they refer to has been defined, and so may be delivered out of line
+   * order.
+   *
+   * @param line  The line number (starting at {@code 1}) of the definition
+   * @param scale The scale
+   */
+
+  void onScale(
+    int line,
+    JaScaleNamed scale);
+
+  /**
+   * An entry could not be parsed.
+   *
+   * @param error The parse error
+   */
+
+  void onError(
+    JaParseError error);
+}
@@ -22,6 +22,12 @@ import io.vavr.control.Validation;
 
 /**
  * The type of scale parsers.
+ *
+ * Parsers are safe for use from multiple threads. {@link #parseLineAt(int,
+ * CharSequence)} keeps no state between calls, so a single parser can be
+ * shared by any number of threads. {@link #parseLine(String)} numbers lines
+ * using an internal counter, and is only meaningful when lines are supplied
+ * in order from a single source.
  */
 
 public interface JaScaleParserType
@@ -35,4 +41,39 @@ public interface JaScaleParserType
    */
 
   Validation<Seq<JaParseError>, JaScale> parseLine(String line);
+
+  /**
+   * Parse the given text as a scale, reporting any errors at the given line
+   * number. This method does not read or modify the line counter used by
+   * {@link #parseLine(String)}.
+   *
+   * @param line The line number, for diagnostic messages
+   * @param text The text
+   *
+   * @return The parsed scale, or a list of parse errors
+   */
+
+  Validation<Seq<JaParseError>, JaScale> parseLineAt(
+    int line,
+    CharSequence text);
+
+  /**
+   * Parse a sequence of lines, one scale per line, into a sink. Every error
+   * on every line is reported. Lines that contain only whitespace are
+   * skipped. Notes are accumulated in a reusable buffer for the duration of
+   * the call, so a well-formed line allocates nothing and delivers exactly
+   * one scale to the sink; use a {@link JaParseResultBuffer} as the sink to
+   * create immutable values only once all lines have been parsed. This
+   * method does not read or modify the line counter used by
+   * {@link #parseLine(String)}.
+   *
+   * @param first_line The line number of the first line
+   * @param lines      The lines
+   * @param sink       The receiver of scales and errors
+   */
+
+  void parseLines(
+    int first_line,
+    Iterable<? extends CharSequence> lines,
+    JaScaleSinkType sink);
 }
@@ -18,25 +18,28 @@ package com.io7m.jaccord.parser.vanilla;
 
 import com.io7m.jaccord.core.JaChord;
 import com.io7m.jaccord.core.JaChordIntervals;
-import com.io7m.jaccord.core.JaChordIntervalsType;
-import com.io7m.jaccord.core.JaExceptionChord;
-import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.core.JaIntervals;
+import com.io7m.jaccord.parser.api.JaAccidentalEncoding;
 import com.io7m.jaccord.parser.api.JaChordNoteParserConfiguration;
 import com.io7m.jaccord.parser.api.JaChordNoteParserProviderType;
 import com.io7m.jaccord.parser.api.JaChordNoteParserType;
+import com.io7m.jaccord.parser.api.JaChordNoteSinkType;
 import com.io7m.jaccord.parser.api.JaParseError;
-import com.io7m.jlexing.core.LexicalPositionMutable;
+import com.io7m.jaccord.parser.api.JaParseErrorCode;
+import com.io7m.jlexing.core.LexicalPosition;
 import io.vavr.collection.Seq;
-import io.vavr.collection.SortedSet;
-import io.vavr.collection.TreeSet;
 import io.vavr.collection.Vector;
 import io.vavr.control.Validation;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A provider for chord note parsers.
@@ -44,6 +47,8 @@ import java.util.stream.Collectors;
 
 public final class JaChordNoteParsers implements JaChordNoteParserProviderType
 {
+  private static final int MAXIMUM_SPAN = 24;
+
   /**
    * Construct a provider.
    */
@@ -61,11 +66,271 @@ public final class JaChordNoteParsers implements JaChordNoteParserProviderType
     return new Parser(path, configuration);
   }
 
+  @Override
+  public Flow.Processor<ByteBuffer, Validation<Seq<JaParseError>, JaChord>>
+  createByteProcessor(
+    final Path path,
+    final JaChordNoteParserConfiguration configuration)
+  {
+    final Parser parser = new Parser(path, configuration);
+    return new JaParserProcessor<>(
+      JaLineSplitter::acceptBytes, parser::parseLineAt);
+  }
+
+  @Override
+  public Flow.Processor<CharSequence, Validation<Seq<JaParseError>, JaChord>>
+  createCharProcessor(
+    final Path path,
+    final JaChordNoteParserConfiguration configuration)
+  {
+    final Parser parser = new Parser(path, configuration);
+    return new JaParserProcessor<>(
+      JaLineSplitter::acceptChars, parser::parseLineAt);
+  }
+
+  @Override
+  public void parseChannel(
+    final Path path,
+    final FileChannel channel,
+    final JaChordNoteParserConfiguration configuration,
+    final JaChordNoteSinkType sink)
+    throws IOException
+  {
+    Objects.requireNonNull(channel, "Channel");
+    Objects.requireNonNull(sink, "Sink");
+
+    JaMappedLines.forEachLine(
+      channel, new BulkParser(path, configuration, sink));
+  }
+
+  @Override
+  public void parseChannelParallel(
+    final Path path,
+    final FileChannel channel,
+    final JaChordNoteParserConfiguration configuration,
+    final ExecutorService executor,
+    final JaChordNoteSinkType sink)
+    throws IOException
+  {
+    Objects.requireNonNull(path, "Path");
+    Objects.requireNonNull(channel, "Channel");
+    Objects.requireNonNull(configuration, "Configuration");
+    Objects.requireNonNull(executor, "Executor");
+    Objects.requireNonNull(sink, "Sink");
+
+    JaParallelParsing.parse(
+      channel,
+      executor,
+      (start, end) -> {
+        final JaParsedChunk chunk = new JaParsedChunk();
+        chunk.setLineCount(JaMappedLines.forEachLine(
+          channel,
+          start,
+          end,
+          new BulkParser(path, configuration, chunk.results())));
+        return chunk;
+      },
+      (line_offset, chunk) -> chunk.results().replayChords(line_offset, sink));
+  }
+
+  /**
+   * Compute the interval mask of the chord formed by the given notes.
+   *
+   * @param notes The notes
+   *
+   * @return The interval mask, or {@link JaNoteLexer#INVALID} if the notes
+   * do not form a valid chord
+   */
+
+  private static int chordMask(
+    final JaNoteBuffer notes)
+  {
+    final int count = notes.count();
+    if (count < 2) {
+      return JaNoteLexer.INVALID;
+    }
+
+    int previous = notes.note(0);
+    int span = 0;
+    int mask = 0;
+    for (int index = 1; index < count; ++index) {
+      final int current = notes.note(index);
+      span += Math.floorMod(current - previous, 12);
+      if (span > MAXIMUM_SPAN) {
+        return JaNoteLexer.INVALID;
+      }
+      mask |= 1 << span;
+      previous = current;
+    }
+
+    if (JaIntervals.normalizeMask(mask) == 0) {
+      return JaNoteLexer.INVALID;
+    }
+    return mask;
+  }
+
+  /**
+   * Parse a line into a sink. Every error on the line is reported, and a
+   * well-formed line allocates nothing. Lines that contain only whitespace
+   * are skipped.
+   */
+
+  private static void parseInto(
+    final JaChordNoteParserConfiguration config,
+    final Optional<Path> file,
+    final int line,
+    final CharSequence text,
+    final JaNoteBuffer notes,
+    final JaChordNoteSinkType sink)
+  {
+    final int end = text.length();
+    if (JaNoteLexer.skipWhitespace(text, 0, end) == end) {
+      return;
+    }
+
+    JaNoteParsing.scanNotes(config, line, file, text, notes);
+    final int errors = notes.errorCount();
+    if (errors > 0) {
+      for (int index = 0; index < errors; ++index) {
+        sink.onError(notes.error(index));
+      }
+      return;
+    }
+
+    final int mask = chordMask(notes);
+    if (mask == JaNoteLexer.INVALID) {
+      sink.onError(errorChord(file, line, text, notes));
+    } else {
+      sink.onChord(line, JaNoteLexer.noteOf(notes.note(0)), mask);
+    }
+  }
+
+  private static Validation<Seq<JaParseError>, JaChord> parseChord(
+    final JaChordNoteParserConfiguration config,
+    final Optional<Path> file,
+    final int line,
+    final CharSequence text,
+    final JaNoteBuffer notes)
+  {
+    JaNoteParsing.scanNotes(config, line, file, text, notes);
+    if (notes.hasErrors()) {
+      return Validation.invalid(notes.errors());
+    }
+    return buildChord(file, line, text, notes);
+  }
+
+  private static Validation<Seq<JaParseError>, JaChord> buildChord(
+    final Optional<Path> file,
+    final int line,
+    final CharSequence text,
+    final JaNoteBuffer notes)
+  {
+    final int mask = chordMask(notes);
+    if (mask == JaNoteLexer.INVALID) {
+      return Validation.invalid(Vector.of(errorChord(file, line, text, notes)));
+    }
+
+    return Validation.valid(
+      JaChord.of(
+        JaNoteLexer.noteOf(notes.note(0)),
+        JaChordIntervals.of(JaIntervals.ofMask(mask))));
+  }
+
+  private static JaParseError errorChord(
+    final Optional<Path> file,
+    final int line,
+    final CharSequence text,
+    final JaNoteBuffer notes)
+  {
+    final JaParseErrorCode code;
+    final String expected;
+    if (notes.count() < 2) {
+      code = JaParseErrorCode.CHORD_TOO_FEW_NOTES;
+      expected = "At least three notes.";
+    } else if (chordSpan(notes) > MAXIMUM_SPAN) {
+      code = JaParseErrorCode.CHORD_INTERVALS_OUT_OF_RANGE;
+      expected = "All intervals to be in the range [0, 24]";
+    } else {
+      code = JaParseErrorCode.CHORD_INTERVALS_MALFORMED;
+      expected = "At least one non-unison interval";
+    }
+
+    return JaParseError.of(
+      LexicalPosition.of(line, notes.spanStart(), file),
+      code,
+      expected,
+      text.subSequence(notes.spanStart(), notes.spanEnd()).toString(),
+      Optional.empty());
+  }
+
+  private static int chordSpan(
+    final JaNoteBuffer notes)
+  {
+    int span = 0;
+    for (int index = 1; index < notes.count(); ++index) {
+      span += Math.floorMod(notes.note(index) - notes.note(index - 1), 12);
+    }
+    return span;
+  }
+
+  private static final class BulkParser implements JaMappedLines.ReceiverType
+  {
+    private final JaChordNoteParserConfiguration config;
+    private final Optional<Path> file;
+    private final JaChordNoteSinkType sink;
+    private final JaAccidentalEncoding accidentals;
+    private final JaNoteBuffer notes;
+
+    BulkParser(
+      final Path in_path,
+      final JaChordNoteParserConfiguration in_configuration,
+      final JaChordNoteSinkType in_sink)
+    {
+      this.file = Optional.of(in_path);
+      this.config =
+        Objects.requireNonNull(in_configuration, "Configuration");
+      this.sink = Objects.requireNonNull(in_sink, "Sink");
+      this.accidentals = in_configuration.accidentals();
+      this.notes = new JaNoteBuffer();
+    }
+
+    @Override
+    public void onLine(
+      final ByteBuffer bytes,
+      final int start,
+      final int end,
+      final int line)
+    {
+      final boolean scanned =
+        JaNoteParsing.scanNotesUTF8(
+          this.accidentals, bytes, start, end, this.notes);
+
+      if (scanned) {
+        if (this.notes.count() == 0) {
+          return;
+        }
+        final int mask = chordMask(this.notes);
+        if (mask != JaNoteLexer.INVALID) {
+          this.sink.onChord(line, JaNoteLexer.noteOf(this.notes.note(0)), mask);
+          return;
+        }
+      }
+
+      parseInto(
+        this.config,
+        this.file,
+        line,
+        JaMappedLines.decode(bytes, start, end),
+        this.notes,
+        this.sink);
+    }
+  }
+
   private static final class Parser implements JaChordNoteParserType
   {
-    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
     private final JaChordNoteParserConfiguration config;
-    private final LexicalPositionMutable<Path> position;
+    private final Optional<Path> file;
+    private final AtomicInteger line_counter;
 
     private Parser(
       final Path in_path,
@@ -75,8 +340,8 @@ public final class JaChordNoteParsers implements JaChordNoteParserProviderType
 
       this.config =
         Objects.requireNonNull(in_configuration, "Configuration");
-      this.position =
-        LexicalPositionMutable.create(0, 0, Optional.of(in_path));
+      this.file = Optional.of(in_path);
+      this.line_counter = new AtomicInteger(0);
     }
 
     @Override
@@ -84,71 +349,38 @@ public final class JaChordNoteParsers implements JaChordNoteParserProviderType
       final String line)
     {
       Objects.requireNonNull(line, "Line");
-
-      this.position.setLine(this.position.line() + 1);
-
-      Vector<Validation<Seq<JaParseError>, JaNote>> results = Vector.empty();
-      final String[] pieces = WHITESPACE.split(line.trim());
-      for (int index = 0; index < pieces.length; ++index) {
-        final String segment =
-          Objects.requireNonNull(pieces[index], "Segment");
-
-        results = results.append(
-          JaNoteParsing.parseNote(
-            this.config,
-            this.position.toImmutable(),
-            segment));
-      }
-
-      return Validation.sequence(results).flatMap(this::buildChord);
+      return this.parseLineAt(this.line_counter.incrementAndGet(), line);
     }
 
-    private Validation<Seq<JaParseError>, JaChord> buildChord(
-      final Seq<JaNote> notes)
+    @Override
+    public Validation<Seq<JaParseError>, JaChord> parseLineAt(
+      final int line,
+      final CharSequence text)
     {
-      final JaNote root = notes.head();
-
-      final Seq<JaNote> rest = notes.tail();
-      if (rest.isEmpty()) {
-        final String separator = System.lineSeparator();
-        return Validation.invalid(
-          Vector.of(
-            JaParseError.of(
-              this.position.toImmutable(),
-              new StringBuilder(64)
-                .append("Too few notes for chord.")
-                .append(separator)
-                .append("  Expected: At least three notes.")
-                .append(separator)
-                .append("  Received: ")
-                .append(notes.map(Object::toString).collect(Collectors.joining(
-                  " ")))
-                .append(separator)
-                .toString(),
-              Optional.empty())));
-      }
+      Objects.requireNonNull(text, "Text");
+      return parseChord(this.config, this.file, line, text, new JaNoteBuffer());
+    }
 
-      SortedSet<Integer> intervals = TreeSet.empty();
-      JaNote previous = root;
-      int span = 0;
-      for (int index = 0; index < rest.length(); ++index) {
-        final JaNote current = rest.get(index);
-        final int interval = previous.intervalUpTo(current);
-        span += interval;
-        intervals = intervals.add(Integer.valueOf(span));
-        previous = current;
-      }
+    @Override
+    public void parseLines(
+      final int first_line,
+      final Iterable<? extends CharSequence> lines,
+      final JaChordNoteSinkType sink)
+    {
+      Objects.requireNonNull(lines, "Lines");
+      Objects.requireNonNull(sink, "Sink");
 
-      try {
-        JaChordIntervalsType.checkValidChord(intervals);
-        return Validation.valid(
-          JaChord.of(root, JaChordIntervals.of(intervals)));
-      } catch (final JaExceptionChord e) {
-        return Validation.invalid(Vector.of(
-          JaParseError.of(
-            this.position.toImmutable(),
-            e.getMessage(),
-            Optional.of(e))));
+      final JaNoteBuffer notes = new JaNoteBuffer();
+      int line = first_line;
+      for (final CharSequence text : lines) {
+        parseInto(
+          this.config,
+          this.file,
+          line,
+          Objects.requireNonNull(text, "Text"),
+          notes,
+          sink);
+        ++line;
       }
     }
   }
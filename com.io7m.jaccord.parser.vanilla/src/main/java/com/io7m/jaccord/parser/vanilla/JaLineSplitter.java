@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.parser.vanilla;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * An incremental line splitter. Text is supplied in chunks that may split
+ * lines (and, for UTF-8 input, multi-byte characters) at arbitrary
+ * boundaries, and complete lines are passed to a receiver as soon as their
+ * terminators arrive. Lines that contain only whitespace are counted but
+ * not delivered. Instances are not thread-safe.
+ */
+
+final class JaLineSplitter
+{
+  private static final int MAXIMUM_CARRY = 4;
+
+  private final ReceiverType receiver;
+  private final StringBuilder line;
+  private final CharsetDecoder decoder;
+  private final CharBuffer decoded;
+  private final byte[] carry;
+  private int carry_count;
+  private int line_number;
+
+  JaLineSplitter(
+    final ReceiverType in_receiver)
+  {
+    this.receiver = Objects.requireNonNull(in_receiver, "Receiver");
+    this.line = new StringBuilder(64);
+    this.decoder =
+      StandardCharsets.UTF_8.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    this.decoded = CharBuffer.allocate(1024);
+    this.carry = new byte[MAXIMUM_CARRY];
+  }
+
+  /**
+   * A receiver of lines.
+   */
+
+  interface ReceiverType
+  {
+    /**
+     * A line was completed.
+     *
+     * @param line The line number (starting at {@code 1})
+     * @param text The text of the line, excluding the line terminator
+     */
+
+    void onLine(
+      int line,
+      CharSequence text);
+  }
+
+  /**
+   * Accept a chunk of characters.
+   *
+   * @param text The characters
+   */
+
+  void acceptChars(
+    final CharSequence text)
+  {
+    final int length = text.length();
+    for (int index = 0; index < length; ++index) {
+      final char c = text.charAt(index);
+      if (c == '\n') {
+        this.endLine();
+      } else {
+        this.line.append(c);
+      }
+    }
+  }
+
+  /**
+   * Accept a chunk of UTF-8 encoded bytes.
+   *
+   * @param bytes The bytes
+   */
+
+  void acceptBytes(
+    final ByteBuffer bytes)
+  {
+    ByteBuffer input = bytes;
+    if (this.carry_count > 0) {
+      input = ByteBuffer.allocate(this.carry_count + bytes.remaining());
+      input.put(this.carry, 0, this.carry_count);
+      input.put(bytes);
+      input.flip();
+      this.carry_count = 0;
+    }
+
+    this.decode(input, false);
+
+    final int remaining = input.remaining();
+    input.get(this.carry, 0, remaining);
+    this.carry_count = remaining;
+  }
+
+  /**
+   * Indicate that no more input will arrive. Any incomplete line is
+   * delivered as if it had been terminated.
+   */
+
+  void finish()
+  {
+    final ByteBuffer input = ByteBuffer.wrap(this.carry, 0, this.carry_count);
+    this.carry_count = 0;
+    this.decode(input, true);
+
+    this.decoded.clear();
+    this.decoder.flush(this.decoded);
+    this.decoded.flip();
+    this.acceptChars(this.decoded);
+
+    if (!this.line.isEmpty()) {
+      this.endLine();
+    }
+  }
+
+  private void decode(
+    final ByteBuffer input,
+    final boolean end)
+  {
+    while (true) {
+      this.decoded.clear();
+      final CoderResult result = this.decoder.decode(input, this.decoded, end);
+      this.decoded.flip();
+      this.acceptChars(this.decoded);
+      if (!result.isOverflow()) {
+        break;
+      }
+    }
+  }
+
+  private void endLine()
+  {
+    ++this.line_number;
+    final int end = this.line.length();
+    if (JaNoteLexer.skipWhitespace(this.line, 0, end) != end) {
+      this.receiver.onLine(this.line_number, this.line);
+    }
+    this.line.setLength(0);
+  }
+}
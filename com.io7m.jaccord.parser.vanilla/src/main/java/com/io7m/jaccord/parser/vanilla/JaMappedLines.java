@@ -0,0 +1,217 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.parser.vanilla;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Functions to iterate over the lines of memory-mapped files.
+ */
+
+final class JaMappedLines
+{
+  private static final long CHUNK_SIZE = 1L << 28;
+  private static final int SCAN_SIZE = 4096;
+
+  private JaMappedLines()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * A receiver of lines.
+   */
+
+  interface ReceiverType
+  {
+    /**
+     * A line was read.
+     *
+     * @param bytes The mapped bytes
+     * @param start The offset of the start of the line
+     * @param end   The offset of the end of the line (exclusive, and not
+     *              including the line terminator)
+     * @param line  The line number (starting at {@code 1})
+     */
+
+    void onLine(
+      ByteBuffer bytes,
+      int start,
+      int end,
+      int line);
+  }
+
+  /**
+   * Map the given channel into memory in chunks, and pass each line to the
+   * given receiver. Chunks always end on a line boundary, so a line is never
+   * split across two chunks.
+   *
+   * @param channel  The file channel
+   * @param receiver The line receiver
+   *
+   * @return The number of lines read
+   *
+   * @throws IOException On I/O errors, or if a single line is too large to
+   *                     be mapped
+   */
+
+  static int forEachLine(
+    final FileChannel channel,
+    final ReceiverType receiver)
+    throws IOException
+  {
+    return forEachLine(channel, 0L, channel.size(), receiver);
+  }
+
+  /**
+   * Map the region {@code [region_start, region_end)} of the given channel
+   * into memory in chunks, and pass each line to the given receiver. Line
+   * numbers are relative to the start of the region, which is assumed to be
+   * the start of a line.
+   *
+   * @param channel      The file channel
+   * @param region_start The start of the region
+   * @param region_end   The end of the region (exclusive)
+   * @param receiver     The line receiver
+   *
+   * @return The number of lines read
+   *
+   * @throws IOException On I/O errors, or if a single line is too large to
+   *                     be mapped
+   */
+
+  static int forEachLine(
+    final FileChannel channel,
+    final long region_start,
+    final long region_end,
+    final ReceiverType receiver)
+    throws IOException
+  {
+    long offset = region_start;
+    int line = 0;
+    while (offset < region_end) {
+      final long length = Math.min(region_end - offset, CHUNK_SIZE);
+      final boolean last = offset + length == region_end;
+      final MappedByteBuffer bytes =
+        channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+
+      final int limit = (int) length;
+      int start = 0;
+      while (start < limit) {
+        final int end = lineEnd(bytes, start, limit);
+        if (end == limit && !last) {
+          break;
+        }
+        ++line;
+        receiver.onLine(bytes, start, end, line);
+        start = end + 1;
+      }
+
+      if (start == 0) {
+        throw new IOException(
+          new StringBuilder(64)
+            .append("Line ")
+            .append(line + 1)
+            .append(" exceeds the maximum line length of ")
+            .append(CHUNK_SIZE)
+            .append(" bytes")
+            .toString());
+      }
+      offset += Math.min(start, limit);
+    }
+    return line;
+  }
+
+  /**
+   * Find the start of the first line that begins at or after
+   * {@code offset}. The search reads the channel directly and does not map
+   * it.
+   *
+   * @param channel The file channel
+   * @param offset  The offset
+   * @param size    The size of the channel
+   *
+   * @return The offset of the start of the line, or {@code size}
+   *
+   * @throws IOException On I/O errors
+   */
+
+  static long nextLineStart(
+    final FileChannel channel,
+    final long offset,
+    final long size)
+    throws IOException
+  {
+    if (offset == 0L) {
+      return 0L;
+    }
+
+    final ByteBuffer block = ByteBuffer.allocate(SCAN_SIZE);
+    long position = offset - 1L;
+    while (position < size) {
+      block.clear();
+      final int read = channel.read(block, position);
+      if (read <= 0) {
+        break;
+      }
+      for (int index = 0; index < read; ++index) {
+        if (block.get(index) == '\n') {
+          return position + index + 1L;
+        }
+      }
+      position += read;
+    }
+    return size;
+  }
+
+  /**
+   * Decode a range of UTF-8 encoded bytes.
+   *
+   * @param bytes The bytes
+   * @param start The starting offset
+   * @param end   The end offset (exclusive)
+   *
+   * @return The decoded text
+   */
+
+  static String decode(
+    final ByteBuffer bytes,
+    final int start,
+    final int end)
+  {
+    return StandardCharsets.UTF_8.decode(bytes.slice(start, end - start))
+      .toString();
+  }
+
+  private static int lineEnd(
+    final ByteBuffer bytes,
+    final int start,
+    final int limit)
+  {
+    int index = start;
+    while (index < limit && bytes.get(index) != '\n') {
+      ++index;
+    }
+    return index;
+  }
+}
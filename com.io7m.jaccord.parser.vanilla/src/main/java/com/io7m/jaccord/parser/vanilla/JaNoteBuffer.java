@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jaccord.parser.vanilla;
+
+import com.io7m.jaccord.parser.api.JaParseError;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * A reusable buffer of note ordinals and parse errors for a single line.
+ * Neither notes nor errors are stored in persistent collections; a
+ * persistent copy of the errors is only made on request.
+ */
+
+final class JaNoteBuffer
+{
+  private int[] notes;
+  private int count;
+  private int span_start;
+  private int span_end;
+  private final ArrayList<JaParseError> errors;
+
+  JaNoteBuffer()
+  {
+    this.notes = new int[16];
+    this.errors = new ArrayList<>(4);
+  }
+
+  void clear()
+  {
+    this.count = 0;
+    this.span_start = 0;
+    this.span_end = 0;
+    this.errors.clear();
+  }
+
+  void add(
+    final int note)
+  {
+    if (this.count == this.notes.length) {
+      this.notes = Arrays.copyOf(this.notes, this.notes.length * 2);
+    }
+    this.notes[this.count] = note;
+    ++this.count;
+  }
+
+  void addError(
+    final JaParseError error)
+  {
+    this.errors.add(error);
+  }
+
+  void setSpanStart(
+    final int offset)
+  {
+    this.span_start = offset;
+  }
+
+  void setSpanEnd(
+    final int offset)
+  {
+    this.span_end = offset;
+  }
+
+  /**
+   * @return The offset of the start of the first token on the line
+   */
+
+  int spanStart()
+  {
+    return this.span_start;
+  }
+
+  /**
+   * @return The offset of the end of the last token on the line
+   */
+
+  int spanEnd()
+  {
+    return this.span_end;
+  }
+
+  int count()
+  {
+    return this.count;
+  }
+
+  int note(
+    final int index)
+  {
+    return this.notes[index];
+  }
+
+  boolean hasErrors()
+  {
+    return !this.errors.isEmpty();
+  }
+
+  int errorCount()
+  {
+    return this.errors.size();
+  }
+
+  JaParseError error(
+    final int index)
+  {
+    return this.errors.get(index);
+  }
+
+  /**
+   * @return An immutable copy of the errors
+   */
+
+  Seq<JaParseError> errors()
+  {
+    return Vector.ofAll(this.errors);
+  }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jaccord.parser.vanilla;
+
+import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.parser.api.JaAccidentalEncoding;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>A hand-written lexer for notes and whitespace-separated note lists.</p>
+ *
+ * <p>The lexer scans {@link CharSequence} values or UTF-8 encoded
+ * {@link ByteBuffer} values in place, and produces note ordinals (as per
+ * {@link JaNote#ordinal()}) rather than objects. No method in this class
+ * allocates.</p>
+ */
+
+public final class JaNoteLexer
+{
+  /**
+   * The value returned when a token is not a valid note.
+   */
+
+  public static final int INVALID = -1;
+
+  private static final JaNote[] NOTES = JaNote.values();
+  private static final int NOTE_COUNT = NOTES.length;
+
+  private static final char SHARP_UNICODE = '♯';
+  private static final char FLAT_UNICODE = '♭';
+  private static final int UTF8_ACCIDENTAL_0 = 0xe2;
+  private static final int UTF8_ACCIDENTAL_1 = 0x99;
+  private static final int UTF8_SHARP_2 = 0xaf;
+  private static final int UTF8_FLAT_2 = 0xad;
+
+  private JaNoteLexer()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param ordinal A note ordinal
+   *
+   * @return The note with the given ordinal
+   */
+
+  public static JaNote noteOf(
+    final int ordinal)
+  {
+    return NOTES[ordinal];
+  }
+
+  /**
+   * @param c A character (or byte)
+   *
+   * @return {@code true} iff {@code c} is whitespace as per the regular
+   * expression class {@code \s}
+   */
+
+  public static boolean isWhitespace(
+    final int c)
+  {
+    return c == ' ' || (c >= '\t' && c <= '\r');
+  }
+
+  /**
+   * Skip whitespace.
+   *
+   * @param text  The text
+   * @param start The starting offset
+   * @param end   The end offset (exclusive)
+   *
+   * @return The offset of the first non-whitespace character, or {@code end}
+   */
+
+  public static int skipWhitespace(
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    int index = start;
+    while (index < end && isWhitespace(text.charAt(index))) {
+      ++index;
+    }
+    return index;
+  }
+
+  /**
+   * Skip a token.
+   *
+   * @param text  The text
+   * @param start The starting offset
+   * @param end   The end offset (exclusive)
+   *
+   * @return The offset of the first whitespace character, or {@code end}
+   */
+
+  public static int skipToken(
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    int index = start;
+    while (index < end && !isWhitespace(text.charAt(index))) {
+      ++index;
+    }
+    return index;
+  }
+
+  /**
+   * Skip whitespace in UTF-8 encoded text.
+   *
+   * @param bytes The text
+   * @param start The starting offset
+   * @param end   The end offset (exclusive)
+   *
+   * @return The offset of the first non-whitespace byte, or {@code end}
+   */
+
+  public static int skipWhitespaceUTF8(
+    final ByteBuffer bytes,
+    final int start,
+    final int end)
+  {
+    int index = start;
+    while (index < end && isWhitespace(bytes.get(index))) {
+      ++index;
+    }
+    return index;
+  }
+
+  /**
+   * Skip a token in UTF-8 encoded text.
+   *
+   * @param bytes The text
+   * @param start The starting offset
+   * @param end   The end offset (exclusive)
+   *
+   * @return The offset of the first whitespace byte, or {@code end}
+   */
+
+  public static int skipTokenUTF8(
+    final ByteBuffer bytes,
+    final int start,
+    final int end)
+  {
+    int index = start;
+    while (index < end && !isWhitespace(bytes.get(index))) {
+      ++index;
+    }
+    return index;
+  }
+
+  /**
+   * Decode the note in the range {@code [start, end)} of {@code text}.
+   *
+   * @param accidentals The permitted accidentals
+   * @param text        The text
+   * @param start       The starting offset
+   * @param end         The end offset (exclusive)
+   *
+   * @return The note ordinal, or {@link #INVALID}
+   */
+
+  public static int note(
+    final JaAccidentalEncoding accidentals,
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    Objects.requireNonNull(accidentals, "Accidentals");
+
+    final int length = end - start;
+    if (length < 1 || length > 2) {
+      return INVALID;
+    }
+
+    final int base = letter(text.charAt(start));
+    if (base == INVALID || length == 1) {
+      return base;
+    }
+
+    switch (text.charAt(start + 1)) {
+      case '#':
+        return allowsAscii(accidentals) ? sharpen(base) : INVALID;
+      case 'b':
+        return allowsAscii(accidentals) ? flatten(base) : INVALID;
+      case SHARP_UNICODE:
+        return allowsUnicode(accidentals) ? sharpen(base) : INVALID;
+      case FLAT_UNICODE:
+        return allowsUnicode(accidentals) ? flatten(base) : INVALID;
+      default:
+        return INVALID;
+    }
+  }
+
+  /**
+   * Decode the UTF-8 encoded note in the range {@code [start, end)} of
+   * {@code bytes}.
+   *
+   * @param accidentals The permitted accidentals
+   * @param bytes       The text
+   * @param start       The starting offset
+   * @param end         The end offset (exclusive)
+   *
+   * @return The note ordinal, or {@link #INVALID}
+   */
+
+  public static int noteUTF8(
+    final JaAccidentalEncoding accidentals,
+    final ByteBuffer bytes,
+    final int start,
+    final int end)
+  {
+    Objects.requireNonNull(accidentals, "Accidentals");
+
+    final int length = end - start;
+    if (length < 1) {
+      return INVALID;
+    }
+
+    final int base = letter(bytes.get(start));
+    if (base == INVALID || length == 1) {
+      return base;
+    }
+
+    if (length == 2) {
+      switch (bytes.get(start + 1)) {
+        case '#':
+          return allowsAscii(accidentals) ? sharpen(base) : INVALID;
+        case 'b':
+          return allowsAscii(accidentals) ? flatten(base) : INVALID;
+        default:
+          return INVALID;
+      }
+    }
+
+    if (length == 4 && allowsUnicode(accidentals)) {
+      return unicodeAccidentalUTF8(bytes, start + 1, base);
+    }
+    return INVALID;
+  }
+
+  private static int unicodeAccidentalUTF8(
+    final ByteBuffer bytes,
+    final int offset,
+    final int base)
+  {
+    if ((bytes.get(offset) & 0xff) != UTF8_ACCIDENTAL_0) {
+      return INVALID;
+    }
+    if ((bytes.get(offset + 1) & 0xff) != UTF8_ACCIDENTAL_1) {
+      return INVALID;
+    }
+
+    final int last = bytes.get(offset + 2) & 0xff;
+    if (last == UTF8_SHARP_2) {
+      return sharpen(base);
+    }
+    if (last == UTF8_FLAT_2) {
+      return flatten(base);
+    }
+    return INVALID;
+  }
+
+  private static boolean allowsAscii(
+    final JaAccidentalEncoding accidentals)
+  {
+    return accidentals != JaAccidentalEncoding.UNICODE_ACCIDENTALS;
+  }
+
+  private static boolean allowsUnicode(
+    final JaAccidentalEncoding accidentals)
+  {
+    return accidentals != JaAccidentalEncoding.ASCII_ACCIDENTALS;
+  }
+
+  private static int sharpen(
+    final int note)
+  {
+    return (note + 1) % NOTE_COUNT;
+  }
+
+  private static int flatten(
+    final int note)
+  {
+    return (note + NOTE_COUNT - 1) % NOTE_COUNT;
+  }
+
+  private static int letter(
+    final int c)
+  {
+    switch (c) {
+      case 'A':
+        return JaNote.A.ordinal();
+      case 'B':
+        return JaNote.B.ordinal();
+      case 'C':
+        return JaNote.C.ordinal();
+      case 'D':
+        return JaNote.D.ordinal();
+      case 'E':
+        return JaNote.E.ordinal();
+      case 'F':
+        return JaNote.F.ordinal();
+      case 'G':
+        return JaNote.G.ordinal();
+      default:
+        return INVALID;
+    }
+  }
+}
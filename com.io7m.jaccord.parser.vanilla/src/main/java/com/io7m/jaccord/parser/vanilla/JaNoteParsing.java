@@ -19,6 +19,7 @@ package com.io7m.jaccord.parser.vanilla;
 import com.io7m.jaccord.core.JaNote;
 import com.io7m.jaccord.parser.api.JaAccidentalEncoding;
 import com.io7m.jaccord.parser.api.JaParseError;
+import com.io7m.jaccord.parser.api.JaParseErrorCode;
 import com.io7m.jaccord.parser.api.JaParserConfigurationType;
 import com.io7m.jlexing.core.LexicalPosition;
 import com.io7m.junreachable.UnreachableCodeException;
@@ -26,11 +27,10 @@ import io.vavr.collection.Seq;
 import io.vavr.collection.Vector;
 import io.vavr.control.Validation;
 
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Functions to parse notes.
@@ -38,12 +38,12 @@ import java.util.regex.Pattern;
 
 public final class JaNoteParsing
 {
-  private static final Pattern NOTE_ASCII =
-    Pattern.compile("([ABCDEFG])([#b])?");
-  private static final Pattern NOTE_UNICODE =
-    Pattern.compile("([ABCDEFG])([♯♭])?");
-  private static final Pattern NOTE_UNICODE_AND_ASCII =
-    Pattern.compile("([ABCDEFG])([♯♭#b])?");
+  private static final String NOTE_ASCII =
+    "A note of the form: ([ABCDEFG])([#b])?";
+  private static final String NOTE_UNICODE =
+    "A note of the form: ([ABCDEFG])([♯♭])?";
+  private static final String NOTE_UNICODE_AND_ASCII =
+    "A note of the form: ([ABCDEFG])([♯♭#b])?";
 
   private JaNoteParsing()
   {
@@ -68,95 +68,129 @@ public final class JaNoteParsing
     Objects.requireNonNull(config, "Config");
     Objects.requireNonNull(text, "Text");
 
-    final Matcher matcher = createMatcher(config.accidentals(), text);
-    if (!matcher.matches()) {
-      final String separator = System.lineSeparator();
+    final int note =
+      JaNoteLexer.note(config.accidentals(), text, 0, text.length());
+
+    if (note == JaNoteLexer.INVALID) {
       return Validation.invalid(
-        Vector.of(
-          JaParseError.of(
-            position,
-            new StringBuilder(64)
-              .append("Could not parse note.")
-              .append(separator)
-              .append("  Expected: A note of the form: ")
-              .append(matcher.pattern())
-              .append(separator)
-              .append("  Received: ")
-              .append(text)
-              .append(separator)
-              .toString(),
-            Optional.empty())));
+        Vector.of(errorNote(config.accidentals(), position, text)));
     }
-
-    return Validation.valid(parseNoteActual(matcher));
+    return Validation.valid(JaNoteLexer.noteOf(note));
   }
 
-  private static JaNote parseNoteActual(
-    final Matcher matcher)
+  /**
+   * Scan a line of whitespace-separated notes into the given buffer. An
+   * error is recorded for each token that is not a note; a line with no
+   * tokens is treated as a single empty token.
+   *
+   * @param config The parser configuration
+   * @param line   The line number, for diagnostic messages
+   * @param file   The file, for diagnostic messages
+   * @param text   The input line
+   * @param buffer The buffer receiving notes and errors
+   */
+
+  static void scanNotes(
+    final JaParserConfigurationType config,
+    final int line,
+    final Optional<Path> file,
+    final CharSequence text,
+    final JaNoteBuffer buffer)
   {
-    final String name = matcher.group(1);
-    final String accidental = matcher.group(2);
+    final JaAccidentalEncoding accidentals = config.accidentals();
+    final int end = text.length();
 
-    switch (name) {
-      case "A": {
-        return applyAccidental(JaNote.A, accidental);
-      }
-      case "B": {
-        return applyAccidental(JaNote.B, accidental);
-      }
-      case "C": {
-        return applyAccidental(JaNote.C, accidental);
-      }
-      case "D": {
-        return applyAccidental(JaNote.D, accidental);
-      }
-      case "E": {
-        return applyAccidental(JaNote.E, accidental);
-      }
-      case "F": {
-        return applyAccidental(JaNote.F, accidental);
-      }
-      case "G": {
-        return applyAccidental(JaNote.G, accidental);
+    buffer.clear();
+
+    int index = JaNoteLexer.skipWhitespace(text, 0, end);
+    if (index == end) {
+      buffer.addError(
+        errorNote(accidentals, LexicalPosition.of(line, 0, file), ""));
+      return;
+    }
+
+    buffer.setSpanStart(index);
+    while (index < end) {
+      final int token_end = JaNoteLexer.skipToken(text, index, end);
+      buffer.setSpanEnd(token_end);
+      final int note = JaNoteLexer.note(accidentals, text, index, token_end);
+      if (note == JaNoteLexer.INVALID) {
+        buffer.addError(
+          errorNote(
+            accidentals,
+            LexicalPosition.of(line, index, file),
+            text.subSequence(index, token_end)));
+      } else {
+        buffer.add(note);
       }
-      default:
-        throw new UnreachableCodeException();
+      index = JaNoteLexer.skipWhitespace(text, token_end, end);
     }
   }
 
-  private static JaNote applyAccidental(
-    final JaNote note,
-    final String accidental)
+  /**
+   * Scan a UTF-8 encoded line of whitespace-separated notes into the given
+   * buffer. Scanning stops at the first token that is not a note. No errors
+   * are recorded; callers are expected to re-parse failing lines with
+   * {@link #scanNotes(JaParserConfigurationType, int, Optional,
+   * CharSequence, JaNoteBuffer)} to obtain diagnostics.
+   *
+   * @param accidentals The permitted accidentals
+   * @param bytes       The input bytes
+   * @param start       The offset of the start of the line
+   * @param end         The offset of the end of the line (exclusive)
+   * @param buffer      The buffer receiving notes
+   *
+   * @return {@code true} if every token on the line is a note
+   */
+
+  static boolean scanNotesUTF8(
+    final JaAccidentalEncoding accidentals,
+    final ByteBuffer bytes,
+    final int start,
+    final int end,
+    final JaNoteBuffer buffer)
   {
-    if (accidental == null) {
-      return note;
-    }
+    buffer.clear();
 
-    switch (accidental) {
-      case "#":
-      case "♯":
-        return note.next();
-      case "b":
-      case "♭":
-        return note.previous();
-      default:
-        throw new UnreachableCodeException();
+    int index = JaNoteLexer.skipWhitespaceUTF8(bytes, start, end);
+    while (index < end) {
+      final int token_end = JaNoteLexer.skipTokenUTF8(bytes, index, end);
+      final int note =
+        JaNoteLexer.noteUTF8(accidentals, bytes, index, token_end);
+      if (note == JaNoteLexer.INVALID) {
+        return false;
+      }
+      buffer.add(note);
+      index = JaNoteLexer.skipWhitespaceUTF8(bytes, token_end, end);
     }
+    return true;
   }
 
-  private static Matcher createMatcher(
+  private static JaParseError errorNote(
     final JaAccidentalEncoding accidentals,
-    final String text)
+    final LexicalPosition<Path> position,
+    final CharSequence text)
+  {
+    return JaParseError.of(
+      position,
+      JaParseErrorCode.NOTE_INVALID,
+      notePattern(accidentals),
+      text.toString(),
+      Optional.empty());
+  }
+
+  private static String notePattern(
+    final JaAccidentalEncoding accidentals)
   {
     switch (accidentals) {
       case UNICODE_ACCIDENTALS: {
-        return NOTE_UNICODE.matcher(text);
+        return NOTE_UNICODE;
       }
       case ASCII_ACCIDENTALS: {
-        return NOTE_ASCII.matcher(text);
+        return NOTE_ASCII;
       }
       case UNICODE_AND_ASCII_ACCIDENTALS: {
-        return NOTE_UNICODE_AND_ASCII.matcher(text);
+        return NOTE_UNICODE_AND_ASCII;
       }
     }
     throw new UnreachableCodeException();
@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.parser.vanilla;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Functions to parse files in parallel. A file is split into chunks at line
+ * boundaries, the chunks are parsed concurrently, and the results of each
+ * chunk are delivered in input order on the calling thread. A bounded
+ * number of chunks are in flight at any one time, so memory use does not
+ * grow with the size of the file.
+ *
+ * Line numbers are reported as {@code int} values. Lines are counted with
+ * a {@code long}, and parsing fails rather than reporting a wrapped line
+ * number if a file has more than {@link Integer#MAX_VALUE} lines.
+ */
+
+final class JaParallelParsing
+{
+  private static final long CHUNK_SIZE = 1L << 22;
+
+  private JaParallelParsing()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * A parser of a single chunk.
+   */
+
+  interface ChunkParserType
+  {
+    /**
+     * Parse the lines in the region {@code [start, end)}.
+     *
+     * @param start The start of the region
+     * @param end   The end of the region (exclusive)
+     *
+     * @return The parsed chunk
+     *
+     * @throws IOException On I/O errors
+     */
+
+    JaParsedChunk parse(
+      long start,
+      long end)
+      throws IOException;
+  }
+
+  /**
+   * A receiver of parsed chunks.
+   */
+
+  interface ChunkReceiverType
+  {
+    /**
+     * A chunk was parsed.
+     *
+     * @param line_offset The number of lines preceding the chunk
+     * @param chunk       The chunk
+     */
+
+    void onChunk(
+      int line_offset,
+      JaParsedChunk chunk);
+  }
+
+  /**
+   * Parse the given channel in parallel.
+   *
+   * @param channel  The file channel
+   * @param executor The executor used to parse chunks
+   * @param parser   The chunk parser
+   * @param receiver The receiver of parsed chunks, called in input order on
+   *                 the calling thread
+   *
+   * @throws IOException On I/O errors, or if the file has too many lines
+   */
+
+  static void parse(
+    final FileChannel channel,
+    final ExecutorService executor,
+    final ChunkParserType parser,
+    final ChunkReceiverType receiver)
+    throws IOException
+  {
+    final long size = channel.size();
+    final int window = 2 * Runtime.getRuntime().availableProcessors();
+    final ArrayDeque<Future<JaParsedChunk>> pending = new ArrayDeque<>(window);
+
+    try {
+      long offset = 0L;
+      long line_offset = 0L;
+      while (offset < size || !pending.isEmpty()) {
+        while (offset < size && pending.size() < window) {
+          final long start = offset;
+          final long end =
+            JaMappedLines.nextLineStart(channel, start + CHUNK_SIZE, size);
+          pending.add(executor.submit(() -> parser.parse(start, end)));
+          offset = end;
+        }
+
+        final JaParsedChunk chunk = await(pending.remove());
+        final long line_end = line_offset + (long) chunk.lineCount();
+        checkLineCount(line_end);
+        receiver.onChunk((int) line_offset, chunk);
+        line_offset = line_end;
+      }
+    } finally {
+      for (final Future<JaParsedChunk> future : pending) {
+        future.cancel(true);
+      }
+    }
+  }
+
+  private static void checkLineCount(
+    final long lines)
+    throws IOException
+  {
+    if (lines > Integer.MAX_VALUE) {
+      throw new IOException(
+        new StringBuilder(128)
+          .append("File has too many lines.")
+          .append(System.lineSeparator())
+          .append("  Maximum: ")
+          .append(Integer.MAX_VALUE)
+          .append(System.lineSeparator())
+          .append("  Lines: at least ")
+          .append(lines)
+          .append(System.lineSeparator())
+          .toString());
+    }
+  }
+
+  private static JaParsedChunk await(
+    final Future<JaParsedChunk> future)
+    throws IOException
+  {
+    try {
+      return future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      final InterruptedIOException ex =
+        new InterruptedIOException("Interrupted while parsing");
+      ex.initCause(e);
+      throw ex;
+    } catch (final CancellationException e) {
+      throw new IOException(e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof final IOException io) {
+        throw io;
+      }
+      if (cause instanceof final RuntimeException rt) {
+        throw rt;
+      }
+      throw new IOException(cause);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.parser.vanilla;
+
+import com.io7m.jaccord.parser.api.JaParseResultBuffer;
+
+/**
+ * The buffered results of parsing one chunk of a file. Results are held
+ * with line numbers relative to the start of the chunk, and are replayed
+ * into a sink once the line numbers of all preceding chunks are known.
+ */
+
+final class JaParsedChunk
+{
+  private final JaParseResultBuffer results;
+  private int line_count;
+
+  JaParsedChunk()
+  {
+    this.results = new JaParseResultBuffer();
+  }
+
+  /**
+   * @return The results of the chunk
+   */
+
+  JaParseResultBuffer results()
+  {
+    return this.results;
+  }
+
+  /**
+   * @return The number of lines in the chunk
+   */
+
+  int lineCount()
+  {
+    return this.line_count;
+  }
+
+  void setLineCount(
+    final int lines_read)
+  {
+    this.line_count = lines_read;
+  }
+}
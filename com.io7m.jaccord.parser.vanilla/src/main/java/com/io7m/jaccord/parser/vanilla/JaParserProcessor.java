@@ -0,0 +1,347 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.parser.vanilla;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>A processor that parses a stream of text chunks into a stream of
+ * per-line results.</p>
+ *
+ * <p>The processor supports a single downstream subscriber and honours its
+ * demand: a chunk is only requested from upstream once every result
+ * produced by the previous chunks has been delivered, and only while the
+ * downstream subscriber has outstanding demand. Results are delivered in
+ * input order.</p>
+ *
+ * @param <I> The type of input chunks
+ * @param <R> The type of results
+ */
+
+final class JaParserProcessor<I, R> implements Flow.Processor<I, R>
+{
+  private final FeederType<I> feeder;
+  private final JaLineSplitter splitter;
+  private final Object lock;
+  private final ArrayDeque<R> pending;
+  private final AtomicInteger work;
+  private Flow.Subscription upstream;
+  private Flow.Subscriber<? super R> downstream;
+  private long demand;
+  private boolean requested;
+  private boolean completed;
+  private Throwable failure;
+  private boolean terminated;
+  private R next;
+
+  JaParserProcessor(
+    final FeederType<I> in_feeder,
+    final LineParserType<R> in_parser)
+  {
+    this.feeder = Objects.requireNonNull(in_feeder, "Feeder");
+    Objects.requireNonNull(in_parser, "Parser");
+
+    this.lock = new Object();
+    this.pending = new ArrayDeque<>(16);
+    this.work = new AtomicInteger(0);
+    this.splitter = new JaLineSplitter((line, text) -> {
+      final R result = in_parser.parse(line, text);
+      synchronized (this.lock) {
+        this.pending.add(result);
+      }
+    });
+  }
+
+  /**
+   * A function that feeds an input chunk to a line splitter.
+   *
+   * @param <I> The type of input chunks
+   */
+
+  interface FeederType<I>
+  {
+    /**
+     * Feed a chunk to the splitter.
+     *
+     * @param splitter The splitter
+     * @param item     The chunk
+     */
+
+    void feed(
+      JaLineSplitter splitter,
+      I item);
+  }
+
+  /**
+   * A function that parses a single line.
+   *
+   * @param <R> The type of results
+   */
+
+  interface LineParserType<R>
+  {
+    /**
+     * Parse a line.
+     *
+     * @param line The line number
+     * @param text The text of the line
+     *
+     * @return The result
+     */
+
+    R parse(
+      int line,
+      CharSequence text);
+  }
+
+  private enum Action
+  {
+    NONE,
+    EMIT,
+    REQUEST,
+    COMPLETE,
+    FAIL
+  }
+
+  @Override
+  public void subscribe(
+    final Flow.Subscriber<? super R> subscriber)
+  {
+    Objects.requireNonNull(subscriber, "Subscriber");
+
+    final boolean accepted;
+    synchronized (this.lock) {
+      accepted = this.downstream == null;
+      if (accepted) {
+        this.downstream = subscriber;
+      }
+    }
+
+    if (!accepted) {
+      subscriber.onSubscribe(new Flow.Subscription()
+      {
+        @Override
+        public void request(final long n)
+        {
+
+        }
+
+        @Override
+        public void cancel()
+        {
+
+        }
+      });
+      subscriber.onError(
+        new IllegalStateException("This processor already has a subscriber"));
+      return;
+    }
+
+    subscriber.onSubscribe(new Subscription());
+    this.drain();
+  }
+
+  @Override
+  public void onSubscribe(
+    final Flow.Subscription subscription)
+  {
+    Objects.requireNonNull(subscription, "Subscription");
+
+    final boolean accepted;
+    synchronized (this.lock) {
+      accepted = this.upstream == null && !this.terminated;
+      if (accepted) {
+        this.upstream = subscription;
+      }
+    }
+
+    if (!accepted) {
+      subscription.cancel();
+      return;
+    }
+    this.drain();
+  }
+
+  @Override
+  public void onNext(
+    final I item)
+  {
+    Objects.requireNonNull(item, "Item");
+
+    try {
+      this.feeder.feed(this.splitter, item);
+    } catch (final RuntimeException e) {
+      this.upstream.cancel();
+      this.onError(e);
+      return;
+    }
+
+    synchronized (this.lock) {
+      this.requested = false;
+    }
+    this.drain();
+  }
+
+  @Override
+  public void onError(
+    final Throwable throwable)
+  {
+    Objects.requireNonNull(throwable, "Throwable");
+
+    synchronized (this.lock) {
+      if (this.failure == null) {
+        this.failure = throwable;
+      }
+    }
+    this.drain();
+  }
+
+  @Override
+  public void onComplete()
+  {
+    this.splitter.finish();
+
+    synchronized (this.lock) {
+      this.completed = true;
+    }
+    this.drain();
+  }
+
+  private Action nextAction()
+  {
+    synchronized (this.lock) {
+      if (this.downstream == null || this.terminated) {
+        return Action.NONE;
+      }
+      if (this.failure != null) {
+        this.terminated = true;
+        this.pending.clear();
+        return Action.FAIL;
+      }
+      if (!this.pending.isEmpty()) {
+        if (this.demand == 0L) {
+          return Action.NONE;
+        }
+        --this.demand;
+        this.next = this.pending.remove();
+        return Action.EMIT;
+      }
+      if (this.completed) {
+        this.terminated = true;
+        return Action.COMPLETE;
+      }
+      if (this.demand > 0L && !this.requested && this.upstream != null) {
+        this.requested = true;
+        return Action.REQUEST;
+      }
+      return Action.NONE;
+    }
+  }
+
+  private void drain()
+  {
+    if (this.work.getAndIncrement() != 0) {
+      return;
+    }
+
+    int missed = 1;
+    while (missed != 0) {
+      this.runActions();
+      missed = this.work.addAndGet(-missed);
+    }
+  }
+
+  private void runActions()
+  {
+    while (true) {
+      switch (this.nextAction()) {
+        case NONE: {
+          return;
+        }
+        case EMIT: {
+          final R item = this.next;
+          this.next = null;
+          this.downstream.onNext(item);
+          break;
+        }
+        case REQUEST: {
+          this.upstream.request(1L);
+          break;
+        }
+        case COMPLETE: {
+          this.downstream.onComplete();
+          return;
+        }
+        case FAIL: {
+          this.downstream.onError(this.failure);
+          return;
+        }
+      }
+    }
+  }
+
+  private final class Subscription implements Flow.Subscription
+  {
+    Subscription()
+    {
+
+    }
+
+    @Override
+    public void request(
+      final long n)
+    {
+      if (n <= 0L) {
+        JaParserProcessor.this.onError(
+          new IllegalArgumentException(
+            "Requested item count must be positive"));
+        this.cancelUpstream();
+        return;
+      }
+
+      synchronized (JaParserProcessor.this.lock) {
+        final long sum = JaParserProcessor.this.demand + n;
+        JaParserProcessor.this.demand = sum < 0L ? Long.MAX_VALUE : sum;
+      }
+      JaParserProcessor.this.drain();
+    }
+
+    @Override
+    public void cancel()
+    {
+      synchronized (JaParserProcessor.this.lock) {
+        JaParserProcessor.this.terminated = true;
+        JaParserProcessor.this.pending.clear();
+      }
+      this.cancelUpstream();
+    }
+
+    private void cancelUpstream()
+    {
+      final Flow.Subscription subscription;
+      synchronized (JaParserProcessor.this.lock) {
+        subscription = JaParserProcessor.this.upstream;
+      }
+      if (subscription != null) {
+        subscription.cancel();
+      }
+    }
+  }
+}
@@ -16,23 +16,30 @@
 
 package com.io7m.jaccord.parser.vanilla;
 
-import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.core.JaIntervals;
 import com.io7m.jaccord.core.JaScale;
 import com.io7m.jaccord.core.JaScaleIntervals;
+import com.io7m.jaccord.parser.api.JaAccidentalEncoding;
 import com.io7m.jaccord.parser.api.JaParseError;
+import com.io7m.jaccord.parser.api.JaParseErrorCode;
 import com.io7m.jaccord.parser.api.JaScaleParserConfiguration;
 import com.io7m.jaccord.parser.api.JaScaleParserProviderType;
 import com.io7m.jaccord.parser.api.JaScaleParserType;
-import com.io7m.jlexing.core.LexicalPositionMutable;
+import com.io7m.jaccord.parser.api.JaScaleSinkType;
+import com.io7m.jlexing.core.LexicalPosition;
 import io.vavr.collection.Seq;
-import io.vavr.collection.SortedSet;
 import io.vavr.collection.Vector;
 import io.vavr.control.Validation;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A provider for scale parsers.
@@ -57,11 +64,235 @@ public final class JaScaleParsers implements JaScaleParserProviderType
     return new Parser(path, configuration);
   }
 
+  @Override
+  public Flow.Processor<ByteBuffer, Validation<Seq<JaParseError>, JaScale>>
+  createByteProcessor(
+    final Path path,
+    final JaScaleParserConfiguration configuration)
+  {
+    final Parser parser = new Parser(path, configuration);
+    return new JaParserProcessor<>(
+      JaLineSplitter::acceptBytes, parser::parseLineAt);
+  }
+
+  @Override
+  public Flow.Processor<CharSequence, Validation<Seq<JaParseError>, JaScale>>
+  createCharProcessor(
+    final Path path,
+    final JaScaleParserConfiguration configuration)
+  {
+    final Parser parser = new Parser(path, configuration);
+    return new JaParserProcessor<>(
+      JaLineSplitter::acceptChars, parser::parseLineAt);
+  }
+
+  @Override
+  public void parseChannel(
+    final Path path,
+    final FileChannel channel,
+    final JaScaleParserConfiguration configuration,
+    final JaScaleSinkType sink)
+    throws IOException
+  {
+    Objects.requireNonNull(channel, "Channel");
+    Objects.requireNonNull(sink, "Sink");
+
+    JaMappedLines.forEachLine(
+      channel, new BulkParser(path, configuration, sink));
+  }
+
+  @Override
+  public void parseChannelParallel(
+    final Path path,
+    final FileChannel channel,
+    final JaScaleParserConfiguration configuration,
+    final ExecutorService executor,
+    final JaScaleSinkType sink)
+    throws IOException
+  {
+    Objects.requireNonNull(path, "Path");
+    Objects.requireNonNull(channel, "Channel");
+    Objects.requireNonNull(configuration, "Configuration");
+    Objects.requireNonNull(executor, "Executor");
+    Objects.requireNonNull(sink, "Sink");
+
+    JaParallelParsing.parse(
+      channel,
+      executor,
+      (start, end) -> {
+        final JaParsedChunk chunk = new JaParsedChunk();
+        chunk.setLineCount(JaMappedLines.forEachLine(
+          channel,
+          start,
+          end,
+          new BulkParser(path, configuration, chunk.results())));
+        return chunk;
+      },
+      (line_offset, chunk) -> chunk.results().replayScales(line_offset, sink));
+  }
+
+  /**
+   * Compute the interval mask of the scale formed by the given notes.
+   *
+   * @param notes The notes
+   *
+   * @return The interval mask, or {@link JaNoteLexer#INVALID} if the notes
+   * do not form a valid scale
+   */
+
+  private static int scaleMask(
+    final JaNoteBuffer notes)
+  {
+    final int root = notes.note(0);
+    int mask = 0;
+    for (int index = 1; index < notes.count(); ++index) {
+      mask |= 1 << Math.floorMod(notes.note(index) - root, 12);
+    }
+    if ((mask & 1) != 0) {
+      return JaNoteLexer.INVALID;
+    }
+    return mask;
+  }
+
+  /**
+   * Parse a line into a sink. Every error on the line is reported, and a
+   * well-formed line allocates nothing. Lines that contain only whitespace
+   * are skipped.
+   */
+
+  private static void parseInto(
+    final JaScaleParserConfiguration config,
+    final Optional<Path> file,
+    final int line,
+    final CharSequence text,
+    final JaNoteBuffer notes,
+    final JaScaleSinkType sink)
+  {
+    final int end = text.length();
+    if (JaNoteLexer.skipWhitespace(text, 0, end) == end) {
+      return;
+    }
+
+    JaNoteParsing.scanNotes(config, line, file, text, notes);
+    final int errors = notes.errorCount();
+    if (errors > 0) {
+      for (int index = 0; index < errors; ++index) {
+        sink.onError(notes.error(index));
+      }
+      return;
+    }
+
+    final int mask = scaleMask(notes);
+    if (mask == JaNoteLexer.INVALID) {
+      sink.onError(errorScale(file, line, text, notes));
+    } else {
+      sink.onScale(line, JaNoteLexer.noteOf(notes.note(0)), mask);
+    }
+  }
+
+  private static Validation<Seq<JaParseError>, JaScale> parseScale(
+    final JaScaleParserConfiguration config,
+    final Optional<Path> file,
+    final int line,
+    final CharSequence text,
+    final JaNoteBuffer notes)
+  {
+    JaNoteParsing.scanNotes(config, line, file, text, notes);
+    if (notes.hasErrors()) {
+      return Validation.invalid(notes.errors());
+    }
+    return buildScale(file, line, text, notes);
+  }
+
+  private static Validation<Seq<JaParseError>, JaScale> buildScale(
+    final Optional<Path> file,
+    final int line,
+    final CharSequence text,
+    final JaNoteBuffer notes)
+  {
+    final int mask = scaleMask(notes);
+    if (mask == JaNoteLexer.INVALID) {
+      return Validation.invalid(Vector.of(errorScale(file, line, text, notes)));
+    }
+
+    return Validation.valid(
+      JaScale.of(
+        JaNoteLexer.noteOf(notes.note(0)),
+        JaScaleIntervals.of(JaIntervals.ofMask(mask))));
+  }
+
+  private static JaParseError errorScale(
+    final Optional<Path> file,
+    final int line,
+    final CharSequence text,
+    final JaNoteBuffer notes)
+  {
+    return JaParseError.of(
+      LexicalPosition.of(line, notes.spanStart(), file),
+      JaParseErrorCode.SCALE_INTERVALS_INVALID,
+      "All intervals must be in the range [1, 11]",
+      text.subSequence(notes.spanStart(), notes.spanEnd()).toString(),
+      Optional.empty());
+  }
+
+  private static final class BulkParser implements JaMappedLines.ReceiverType
+  {
+    private final JaScaleParserConfiguration config;
+    private final Optional<Path> file;
+    private final JaScaleSinkType sink;
+    private final JaAccidentalEncoding accidentals;
+    private final JaNoteBuffer notes;
+
+    BulkParser(
+      final Path in_path,
+      final JaScaleParserConfiguration in_configuration,
+      final JaScaleSinkType in_sink)
+    {
+      this.file = Optional.of(in_path);
+      this.config =
+        Objects.requireNonNull(in_configuration, "Configuration");
+      this.sink = Objects.requireNonNull(in_sink, "Sink");
+      this.accidentals = in_configuration.accidentals();
+      this.notes = new JaNoteBuffer();
+    }
+
+    @Override
+    public void onLine(
+      final ByteBuffer bytes,
+      final int start,
+      final int end,
+      final int line)
+    {
+      final boolean scanned =
+        JaNoteParsing.scanNotesUTF8(
+          this.accidentals, bytes, start, end, this.notes);
+
+      if (scanned) {
+        if (this.notes.count() == 0) {
+          return;
+        }
+        final int mask = scaleMask(this.notes);
+        if (mask != JaNoteLexer.INVALID) {
+          this.sink.onScale(line, JaNoteLexer.noteOf(this.notes.note(0)), mask);
+          return;
+        }
+      }
+
+      parseInto(
+        this.config,
+        this.file,
+        line,
+        JaMappedLines.decode(bytes, start, end),
+        this.notes,
+        this.sink);
+    }
+  }
+
   private static final class Parser implements JaScaleParserType
   {
-    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
     private final JaScaleParserConfiguration config;
-    private final LexicalPositionMutable<Path> position;
+    private final Optional<Path> file;
+    private final AtomicInteger line_counter;
 
     private Parser(
       final Path in_path,
@@ -71,18 +302,8 @@ public final class JaScaleParsers implements JaScaleParserProviderType
 
       this.config =
         Objects.requireNonNull(in_configuration, "Configuration");
-      this.position =
-        LexicalPositionMutable.create(0, 0, Optional.of(in_path));
-    }
-
-    private static Validation<Seq<JaParseError>, JaScale> buildScale(
-      final Seq<JaNote> notes)
-    {
-      final JaNote root = notes.head();
-      final Seq<JaNote> rest = notes.tail();
-      final SortedSet<Integer> intervals =
-        rest.map(note -> Integer.valueOf(root.intervalUpTo(note))).toSortedSet();
-      return Validation.valid(JaScale.of(root, JaScaleIntervals.of(intervals)));
+      this.file = Optional.of(in_path);
+      this.line_counter = new AtomicInteger(0);
     }
 
     @Override
@@ -90,23 +311,39 @@ public final class JaScaleParsers implements JaScaleParserProviderType
       final String line)
     {
       Objects.requireNonNull(line, "Line");
+      return this.parseLineAt(this.line_counter.incrementAndGet(), line);
+    }
 
-      this.position.setLine(this.position.line() + 1);
+    @Override
+    public Validation<Seq<JaParseError>, JaScale> parseLineAt(
+      final int line,
+      final CharSequence text)
+    {
+      Objects.requireNonNull(text, "Text");
+      return parseScale(this.config, this.file, line, text, new JaNoteBuffer());
+    }
 
-      Vector<Validation<Seq<JaParseError>, JaNote>> results = Vector.empty();
-      final String[] pieces = WHITESPACE.split(line.trim());
-      for (int index = 0; index < pieces.length; ++index) {
-        final String segment =
-          Objects.requireNonNull(pieces[index], "Segment");
+    @Override
+    public void parseLines(
+      final int first_line,
+      final Iterable<? extends CharSequence> lines,
+      final JaScaleSinkType sink)
+    {
+      Objects.requireNonNull(lines, "Lines");
+      Objects.requireNonNull(sink, "Sink");
 
-        results = results.append(
-          JaNoteParsing.parseNote(
-            this.config,
-            this.position.toImmutable(),
-            segment));
+      final JaNoteBuffer notes = new JaNoteBuffer();
+      int line = first_line;
+      for (final CharSequence text : lines) {
+        parseInto(
+          this.config,
+          this.file,
+          line,
+          Objects.requireNonNull(text, "Text"),
+          notes,
+          sink);
+        ++line;
       }
-
-      return Validation.sequence(results).flatMap(Parser::buildScale);
     }
   }
 }
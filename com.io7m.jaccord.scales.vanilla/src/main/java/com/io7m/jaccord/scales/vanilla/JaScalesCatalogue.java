@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.scales.vanilla;
+
+import com.io7m.jaccord.core.JaScaleIntervals;
+import com.io7m.jaccord.core.JaScaleNamed;
+import com.io7m.jaccord.parser.api.JaParseError;
+import com.io7m.jaccord.parser.api.JaScaleCatalogueParser;
+import com.io7m.jaccord.parser.api.JaScaleCatalogueSinkType;
+import com.io7m.jaccord.scales.spi.JaScaleProviderType;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.collection.SortedSet;
+import io.vavr.collection.TreeMap;
+import io.vavr.collection.Vector;
+import io.vavr.control.Validation;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A scale provider backed by a scale catalogue.
+ *
+ * @see JaScaleCatalogueParser
+ */
+
+public final class JaScalesCatalogue implements JaScaleProviderType
+{
+  private final TreeMap<String, JaScaleNamed> by_id;
+  private final HashMap<JaScaleIntervals, List<JaScaleNamed>> by_intervals;
+
+  private JaScalesCatalogue(
+    final TreeMap<String, JaScaleNamed> in_by_id,
+    final HashMap<JaScaleIntervals, List<JaScaleNamed>> in_by_intervals)
+  {
+    this.by_id = Objects.requireNonNull(in_by_id, "By ID");
+    this.by_intervals =
+      Objects.requireNonNull(in_by_intervals, "By Intervals");
+  }
+
+  /**
+   * Load a catalogue from a file.
+   *
+   * @param path The file
+   *
+   * @return A catalogue, or the errors encountered while parsing it
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static Validation<Seq<JaParseError>, JaScalesCatalogue> open(
+    final Path path)
+    throws IOException
+  {
+    Objects.requireNonNull(path, "Path");
+    try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      return open(path, reader);
+    }
+  }
+
+  /**
+   * Load a catalogue from a reader.
+   *
+   * @param path   The path of the catalogue, for error reporting
+   * @param reader The source of text
+   *
+   * @return A catalogue, or the errors encountered while parsing it
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static Validation<Seq<JaParseError>, JaScalesCatalogue> open(
+    final Path path,
+    final Reader reader)
+    throws IOException
+  {
+    final Builder builder = new Builder();
+    JaScaleCatalogueParser.create(path, reader).parse(builder);
+
+    if (!builder.errors.isEmpty()) {
+      return Validation.invalid(builder.errors);
+    }
+    return Validation.valid(
+      new JaScalesCatalogue(builder.by_id, builder.by_intervals));
+  }
+
+  @Override
+  public SortedSet<String> scales()
+  {
+    return this.by_id.keySet();
+  }
+
+  @Override
+  public Optional<JaScaleNamed> scaleByID(
+    final String id)
+  {
+    Objects.requireNonNull(id, "ID");
+    return this.by_id.get(id).toJavaOptional();
+  }
+
+  @Override
+  public List<JaScaleNamed> scalesByIntervals(
+    final JaScaleIntervals intervals)
+  {
+    Objects.requireNonNull(intervals, "Intervals");
+    return this.by_intervals.getOrDefault(intervals, List.empty());
+  }
+
+  private static final class Builder implements JaScaleCatalogueSinkType
+  {
+    private final HashMap<JaScaleIntervals, List<JaScaleNamed>> by_intervals;
+    private TreeMap<String, JaScaleNamed> by_id;
+    private Vector<JaParseError> errors;
+
+    Builder()
+    {
+      this.by_intervals = new HashMap<>(64);
+      this.by_id = TreeMap.empty();
+      this.errors = Vector.empty();
+    }
+
+    @Override
+    public void onScale(
+      final int line,
+      final JaScaleNamed scale)
+    {
+      this.by_id = this.by_id.put(scale.id(), scale);
+      this.by_intervals.merge(
+        scale.intervals(), List.of(scale), List::appendAll);
+    }
+
+    @Override
+    public void onError(
+      final JaParseError error)
+    {
+      this.errors = this.errors.append(error);
+    }
+  }
+}
@@ -18,24 +18,23 @@ package com.io7m.jaccord.scales.vanilla;
 
 import com.io7m.jaccord.core.JaScaleIntervals;
 import com.io7m.jaccord.core.JaScaleNamed;
+import com.io7m.jaccord.parser.api.JaParseError;
 import com.io7m.jaccord.scales.spi.JaScaleProviderType;
-import io.vavr.collection.HashMap;
 import io.vavr.collection.List;
-import io.vavr.collection.Map;
+import io.vavr.collection.Seq;
 import io.vavr.collection.SortedSet;
-import io.vavr.collection.TreeMap;
-import io.vavr.collection.TreeSet;
+import io.vavr.control.Validation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
 import java.net.URL;
-import java.util.Objects;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.util.Optional;
-import java.util.Properties;
-import java.util.regex.Pattern;
 
 /**
  * A provider for a set of well-known scales.
@@ -46,7 +45,7 @@ public final class JaScalesVanilla implements JaScaleProviderType
   private static final Logger LOG =
     LoggerFactory.getLogger(JaScalesVanilla.class);
 
-  private final ScalesDatabase database;
+  private final JaScalesCatalogue catalogue;
 
   /**
    * Construct a scale provider.
@@ -54,18 +53,36 @@ public final class JaScalesVanilla implements JaScaleProviderType
 
   public JaScalesVanilla()
   {
-    this.database = ScalesDatabase.open(loadScaleData());
+    this.catalogue = loadScaleData();
   }
 
-  private static Properties loadScaleData()
+  private static JaScalesCatalogue loadScaleData()
   {
     try {
-      final Properties props = new Properties();
       final URL url = JaScalesVanilla.class.getResource("scales.properties");
+      final Validation<Seq<JaParseError>, JaScalesCatalogue> result;
       try (InputStream stream = url.openStream()) {
-        props.load(stream);
+        result = JaScalesCatalogue.open(
+          Paths.get("scales.properties"),
+          new InputStreamReader(stream, StandardCharsets.ISO_8859_1));
       }
-      return props;
+
+      if (result.isInvalid()) {
+        final StringBuilder sb = new StringBuilder(128);
+        sb.append("Broken scale data.");
+        sb.append(System.lineSeparator());
+        for (final JaParseError error : result.getError()) {
+          sb.append(error.position());
+          sb.append(": ");
+          sb.append(error.message());
+          sb.append(System.lineSeparator());
+        }
+        throw new IllegalStateException(sb.toString());
+      }
+
+      final JaScalesCatalogue loaded = result.get();
+      LOG.debug("loaded {} scales", Integer.valueOf(loaded.scales().size()));
+      return loaded;
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -74,127 +91,20 @@ public final class JaScalesVanilla implements JaScaleProviderType
   @Override
   public SortedSet<String> scales()
   {
-    return this.database.by_id.keySet();
+    return this.catalogue.scales();
   }
 
   @Override
   public Optional<JaScaleNamed> scaleByID(
     final String id)
   {
-    Objects.requireNonNull(id, "ID");
-    return this.database.by_id.get(id).toJavaOptional();
+    return this.catalogue.scaleByID(id);
   }
 
   @Override
   public List<JaScaleNamed> scalesByIntervals(
     final JaScaleIntervals intervals)
   {
-    Objects.requireNonNull(intervals, "Intervals");
-    return this.database.by_intervals.getOrElse(intervals, List.empty());
-  }
-
-  private static final class ScalesDatabase
-  {
-    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
-    private final Map<JaScaleIntervals, List<JaScaleNamed>> by_intervals;
-    private final TreeMap<String, JaScaleNamed> by_id;
-
-    private ScalesDatabase(
-      final Map<JaScaleIntervals, List<JaScaleNamed>> in_by_intervals,
-      final TreeMap<String, JaScaleNamed> in_by_id)
-    {
-      this.by_intervals =
-        Objects.requireNonNull(in_by_intervals, "By Intervals");
-      this.by_id =
-        Objects.requireNonNull(in_by_id, "By ID");
-    }
-
-    private static JaScaleNamed parseScaleDefinition(
-      final String id,
-      final String data)
-    {
-      final String indices_text =
-        data.replace("semitones ", "");
-      final String[] indices = WHITESPACE.split(indices_text);
-      TreeSet<Integer> intervals = TreeSet.empty();
-      for (int index = 0; index < indices.length; ++index) {
-        final int semitone = Integer.parseInt(indices[index]);
-        intervals = intervals.add(Integer.valueOf(semitone));
-      }
-
-      final String name = id.replace('_', ' ');
-      return JaScaleNamed.of(id, name, JaScaleIntervals.of(intervals));
-    }
-
-    private static final class Builder
-    {
-      private Map<JaScaleIntervals, List<JaScaleNamed>> by_intervals = HashMap.empty();
-      private TreeMap<String, JaScaleNamed> by_id = TreeMap.empty();
-
-      Builder()
-      {
-
-      }
-
-      void addDefinition(
-        final JaScaleNamed def)
-      {
-        final JaScaleIntervals intervals = def.intervals();
-        if (LOG.isTraceEnabled()) {
-          LOG.trace(
-            "registered scale: {} {}",
-            def.id(),
-            intervals.intervals());
-        }
-
-        final List<JaScaleNamed> defs;
-        if (this.by_intervals.containsKey(intervals)) {
-          defs = this.by_intervals.get(intervals).get();
-        } else {
-          defs = List.of(def);
-        }
-
-        this.by_intervals = this.by_intervals.put(intervals, defs);
-        this.by_id = this.by_id.put(def.id(), def);
-      }
-    }
-
-    static ScalesDatabase open(
-      final Properties props)
-    {
-      Objects.requireNonNull(props, "Properties");
-
-      final Builder builder = new Builder();
-
-      for (final Object id_raw : props.keySet()) {
-        final String id = (String) id_raw;
-        final String data = props.getProperty(id).trim();
-
-        if (data.startsWith("semitones")) {
-          builder.addDefinition(parseScaleDefinition(id, data));
-        }
-      }
-
-      for (final Object id_raw : props.keySet()) {
-        final String id = (String) id_raw;
-        final String data = props.getProperty(id).trim();
-
-        if (data.startsWith("alias")) {
-          final String alias_text = data.replace("alias ", "");
-
-          if (builder.by_id.containsKey(alias_text)) {
-            final JaScaleNamed def = builder.by_id.get(alias_text).get();
-            final String name = id.replace('_', ' ');
-            final JaScaleNamed def2 =
-              JaScaleNamed.of(alias_text, name, def.intervals());
-            builder.addDefinition(def2);
-          } else {
-            throw new IllegalStateException("Broken alias: " + id);
-          }
-        }
-      }
-
-      return new ScalesDatabase(builder.by_intervals, builder.by_id);
-    }
+    return this.catalogue.scalesByIntervals(intervals);
   }
 }
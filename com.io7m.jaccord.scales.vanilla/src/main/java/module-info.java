@@ -23,6 +23,7 @@ import com.io7m.jaccord.scales.spi.JaScaleProviderType;
 module com.io7m.jaccord.scales.vanilla
 {
   requires transitive com.io7m.jaccord.core;
+  requires transitive com.io7m.jaccord.parser.api;
   requires transitive com.io7m.jaccord.scales.spi;
 
   requires io.vavr;
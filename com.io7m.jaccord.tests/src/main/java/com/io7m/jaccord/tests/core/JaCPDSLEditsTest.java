@@ -0,0 +1,225 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.tests.core;
+
+import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.cpdsl.JaCPDSL;
+import com.io7m.jaccord.cpdsl.JaCPDSLDelta;
+import com.io7m.jaccord.cpdsl.JaCPDSLEdits;
+import com.io7m.jaccord.cpdsl.JaCPDSLTimeline;
+import com.io7m.jaccord.cpdsl.midi.JaCPDSLExporter;
+import com.io7m.jaccord.cpdsl.midi.JaCPDSLExporterConfiguration;
+import com.io7m.jaccord.cpdsl.midi.JaCPDSLIncrementalExporter;
+import io.vavr.collection.Vector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.sound.midi.InvalidMidiDataException;
+import javax.sound.midi.Sequence;
+import javax.sound.midi.Track;
+
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.I;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.II;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.IV;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.V;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.VI;
+
+public final class JaCPDSLEditsTest
+{
+  private static void checkCompiled(
+    final JaCPDSL.Progression progression)
+  {
+    final JaCPDSLTimeline expected = JaCPDSLTimeline.compile(progression);
+    final JaCPDSLTimeline received = progression.timeline();
+    Assertions.assertEquals(expected.size(), received.size());
+    Assertions.assertEquals(expected.totalBeats(), received.totalBeats());
+    for (int index = 0; index < expected.size(); ++index) {
+      Assertions.assertEquals(expected.chord(index), received.chord(index));
+      Assertions.assertEquals(expected.start(index), received.start(index));
+      Assertions.assertEquals(
+        expected.duration(index), received.duration(index));
+    }
+  }
+
+  private static void checkExported(
+    final JaCPDSLExporterConfiguration configuration,
+    final JaCPDSLIncrementalExporter exporter)
+    throws InvalidMidiDataException
+  {
+    final Sequence expected_sequence =
+      JaCPDSLExporter.exportWithConfiguration(
+        configuration, exporter.progression());
+    final Track expected = expected_sequence.getTracks()[0];
+    final Track received = exporter.sequence().getTracks()[0];
+
+    Assertions.assertEquals(expected.size(), received.size());
+    for (int index = 0; index < expected.size(); ++index) {
+      Assertions.assertEquals(
+        expected.get(index).getTick(), received.get(index).getTick());
+      Assertions.assertArrayEquals(
+        expected.get(index).getMessage().getMessage(),
+        received.get(index).getMessage().getMessage());
+    }
+  }
+
+  private static JaCPDSL.Progression progression(
+    final JaCPDSL d,
+    final JaCPDSL.Scale c)
+  {
+    return d.progression(
+      d.change(d.diatonic(c, I), 4),
+      d.change(d.diatonic7(c, IV), 2),
+      d.change(d.diatonic7(c, V), 2),
+      d.change(d.diatonic(c, I), 8));
+  }
+
+  @Test
+  public void testReplace()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSL.Scale c = d.scale(JaNote.C, "Major");
+    final JaCPDSL.Progression p = progression(d, c);
+    final JaCPDSL.Change change = d.change(d.diatonic7(c, II), 3);
+
+    final JaCPDSLDelta delta = JaCPDSLEdits.replace(p, 1, change);
+    Assertions.assertSame(p, delta.previous());
+    Assertions.assertEquals(4, p.changes().size());
+    Assertions.assertEquals(1, delta.index());
+    Assertions.assertEquals(1, delta.removed());
+    Assertions.assertEquals(1, delta.inserted());
+    Assertions.assertEquals(4L, delta.startBeat());
+    Assertions.assertEquals(1L, delta.beatShift());
+    Assertions.assertSame(change, delta.progression().changes().get(1));
+    Assertions.assertEquals(17L, delta.progression().timeline().totalBeats());
+    checkCompiled(delta.progression());
+  }
+
+  @Test
+  public void testInsertDelete()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSL.Scale c = d.scale(JaNote.C, "Major");
+    final JaCPDSL.Progression p = progression(d, c);
+
+    final JaCPDSLDelta inserted =
+      JaCPDSLEdits.insert(p, 4, d.change(d.diatonic(c, VI), 4));
+    Assertions.assertEquals(5, inserted.progression().changes().size());
+    Assertions.assertEquals(16L, inserted.startBeat());
+    Assertions.assertEquals(4L, inserted.beatShift());
+    checkCompiled(inserted.progression());
+
+    final JaCPDSLDelta first =
+      JaCPDSLEdits.insert(p, 0, d.change(d.diatonic(c, VI), 1));
+    Assertions.assertEquals(0L, first.startBeat());
+    checkCompiled(first.progression());
+
+    final JaCPDSLDelta deleted = JaCPDSLEdits.delete(p, 0);
+    Assertions.assertEquals(3, deleted.progression().changes().size());
+    Assertions.assertEquals(0, deleted.inserted());
+    Assertions.assertEquals(-4L, deleted.beatShift());
+    Assertions.assertEquals(0L, deleted.progression().timeline().start(0));
+    checkCompiled(deleted.progression());
+
+    final JaCPDSLDelta spliced =
+      JaCPDSLEdits.splice(
+        p,
+        1,
+        2,
+        Vector.of(
+          d.change(d.diatonic(c, II), 1),
+          d.change(d.diatonic(c, IV), 1),
+          d.change(d.diatonic(c, V), 1)));
+    Assertions.assertEquals(5, spliced.progression().changes().size());
+    Assertions.assertEquals(-1L, spliced.beatShift());
+    checkCompiled(spliced.progression());
+  }
+
+  @Test
+  public void testIncrementalExport()
+    throws InvalidMidiDataException
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSL.Scale c = d.scale(JaNote.C, "Major");
+
+    for (final boolean voice_leading : new boolean[]{false, true}) {
+      final JaCPDSLExporterConfiguration configuration =
+        JaCPDSLExporterConfiguration.builder()
+          .setVoiceLeading(voice_leading)
+          .build();
+
+      final JaCPDSLIncrementalExporter exporter =
+        JaCPDSLIncrementalExporter.create(configuration, progression(d, c));
+      checkExported(configuration, exporter);
+
+      exporter.apply(
+        JaCPDSLEdits.replace(
+          exporter.progression(), 1, d.change(d.diatonic7(c, II), 3)));
+      checkExported(configuration, exporter);
+
+      exporter.apply(
+        JaCPDSLEdits.insert(
+          exporter.progression(), 2, d.change(d.diatonic(c, VI), 0)));
+      checkExported(configuration, exporter);
+
+      exporter.apply(
+        JaCPDSLEdits.insert(
+          exporter.progression(), 0, d.change(d.diatonic(c, V), 2)));
+      checkExported(configuration, exporter);
+
+      exporter.apply(JaCPDSLEdits.delete(exporter.progression(), 1));
+      checkExported(configuration, exporter);
+
+      exporter.apply(
+        JaCPDSLEdits.splice(
+          exporter.progression(),
+          1,
+          2,
+          Vector.of(
+            d.change(d.diatonic(c, IV), 1),
+            d.change(d.diatonic7(c, V), 1))));
+      checkExported(configuration, exporter);
+
+      final JaCPDSL.Progression stale = exporter.progression();
+      exporter.apply(JaCPDSLEdits.delete(stale, 0));
+      Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> exporter.apply(JaCPDSLEdits.delete(stale, 0)));
+    }
+  }
+
+  @Test
+  public void testOutOfBounds()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSL.Scale c = d.scale(JaNote.C, "Major");
+    final JaCPDSL.Progression p = progression(d, c);
+    final JaCPDSL.Change change = d.change(d.diatonic(c, I), 1);
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> JaCPDSLEdits.replace(p, 4, change));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> JaCPDSLEdits.insert(p, 5, change));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> JaCPDSLEdits.delete(p, -1));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> JaCPDSLEdits.splice(p, 3, 2, Vector.empty()));
+  }
+}
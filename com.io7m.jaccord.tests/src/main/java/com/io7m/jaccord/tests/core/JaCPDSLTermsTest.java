@@ -0,0 +1,230 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.tests.core;
+
+import com.io7m.jaccord.core.JaChord;
+import com.io7m.jaccord.core.JaChordIntervals;
+import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.cpdsl.JaCPDSL;
+import com.io7m.jaccord.cpdsl.JaCPDSLEvaluation;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.TreeSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.io7m.jaccord.cpdsl.JaCPDSL.ChromaticMediant.MAJOR_UP;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.ChromaticMediant.MINOR_DOWN;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.I;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.II;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.V;
+
+public final class JaCPDSLTermsTest
+{
+  private static JaCPDSL.ChordTermType build(
+    final JaCPDSL d,
+    final JaCPDSL.Scale scale,
+    final int steps)
+  {
+    return d.alteredAddedReplaced(
+      d.chromaticMediant(
+        d.chromaticTranspose(
+          d.tritoneSecondaryDominant(d.diatonic7(scale, II)), steps),
+        MAJOR_UP),
+      TreeSet.of(14),
+      HashMap.of(7, 8));
+  }
+
+  @Test
+  public void testShared()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSL.Scale c = d.scale(JaNote.C, "Major");
+
+    Assertions.assertSame(d.diatonic(c, I), d.diatonic(c, I));
+    Assertions.assertSame(
+      d.tritone(d.secondaryDominant(d.diatonic(c, V))),
+      d.tritone(d.secondaryDominant(d.diatonic(c, V))));
+    Assertions.assertSame(build(d, c, 3), build(d, c, 3));
+    Assertions.assertNotEquals(build(d, c, 3), build(d, c, 4));
+
+    final JaCPDSL.ChordTermType passing_0 =
+      d.chromaticPassing(d.diatonic(c, I), d.diatonic(c, II), JaNote.C_SHARP);
+    final JaCPDSL.ChordTermType passing_1 =
+      d.chromaticPassing(d.diatonic(c, I), d.diatonic(c, II), JaNote.C_SHARP);
+    Assertions.assertSame(passing_0, passing_1);
+  }
+
+  @Test
+  public void testStructuralAcrossInstances()
+  {
+    final JaCPDSL d0 = JaCPDSL.create();
+    final JaCPDSL d1 = JaCPDSL.create();
+    final JaCPDSL.ChordTermType t0 = build(d0, d0.scale(JaNote.C, "Major"), 3);
+    final JaCPDSL.ChordTermType t1 = build(d1, d1.scale(JaNote.C, "Major"), 3);
+
+    Assertions.assertNotSame(t0, t1);
+    Assertions.assertEquals(t0, t1);
+    Assertions.assertEquals(t0.hashCode(), t1.hashCode());
+    Assertions.assertEquals(t0.evaluate(), t1.evaluate());
+    Assertions.assertEquals(t0.toString(), t1.toString());
+  }
+
+  @Test
+  public void testConcurrent()
+    throws InterruptedException, ExecutionException
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSL.Scale c = d.scale(JaNote.C, "Major");
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      final List<Future<List<JaCPDSL.ChordTermType>>> futures =
+        new ArrayList<>();
+      for (int task = 0; task < 4; ++task) {
+        futures.add(executor.submit(() -> {
+          final List<JaCPDSL.ChordTermType> terms = new ArrayList<>();
+          for (int index = 0; index < 2000; ++index) {
+            terms.add(build(d, c, index % 12));
+          }
+          return terms;
+        }));
+      }
+
+      final JaCPDSL reference = JaCPDSL.create();
+      final JaCPDSL.Scale reference_c = reference.scale(JaNote.C, "Major");
+      for (final Future<List<JaCPDSL.ChordTermType>> future : futures) {
+        final List<JaCPDSL.ChordTermType> terms = future.get();
+        for (int index = 0; index < terms.size(); ++index) {
+          Assertions.assertEquals(
+            build(reference, reference_c, index % 12).evaluate(),
+            terms.get(index).evaluate());
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testLazy()
+  {
+    final JaCPDSL eager = JaCPDSL.create();
+    final JaCPDSL lazy = JaCPDSL.create(JaCPDSLEvaluation.LAZY);
+    Assertions.assertEquals(JaCPDSLEvaluation.EAGER, eager.evaluation());
+    Assertions.assertEquals(JaCPDSLEvaluation.LAZY, lazy.evaluation());
+
+    final JaCPDSL.Scale eager_c = eager.scale(JaNote.C, "Major");
+    final JaCPDSL.Scale lazy_c = lazy.scale(JaNote.C, "Major");
+
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> eager.alteredReplaced(
+        eager.diatonic(eager_c, I), HashMap.of(4, 0, 7, 0)));
+
+    final JaCPDSL.ChordTermType broken =
+      lazy.tritone(lazy.alteredReplaced(
+        lazy.diatonic(lazy_c, I), HashMap.of(4, 0, 7, 0)));
+    Assertions.assertThrows(IllegalArgumentException.class, broken::evaluate);
+
+    final JaCPDSL.ChordTermType term = build(lazy, lazy_c, 5);
+    Assertions.assertEquals(
+      build(eager, eager_c, 5).evaluate(), term.evaluate());
+    Assertions.assertSame(term.evaluate(), term.evaluate());
+  }
+
+  @Test
+  public void testSharedInstance()
+    throws Exception
+  {
+    final JaCPDSL d = JaCPDSL.shared();
+    Assertions.assertSame(d, JaCPDSL.shared());
+    Assertions.assertSame(d, JaCPDSL.shared(JaCPDSLEvaluation.EAGER));
+    Assertions.assertSame(
+      JaCPDSL.shared(JaCPDSLEvaluation.LAZY),
+      JaCPDSL.shared(JaCPDSLEvaluation.LAZY));
+    Assertions.assertNotSame(d, JaCPDSL.shared(JaCPDSLEvaluation.LAZY));
+    Assertions.assertEquals(
+      JaCPDSLEvaluation.LAZY,
+      JaCPDSL.shared(JaCPDSLEvaluation.LAZY).evaluation());
+
+    final JaCPDSL.Scale c = d.scale(JaNote.C, "Major");
+    final String expected = build(d, c, 7).toString();
+
+    final List<Future<String>> futures = new ArrayList<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int task = 0; task < 64; ++task) {
+        futures.add(executor.submit(() -> {
+          final JaCPDSL shared = JaCPDSL.shared();
+          return build(shared, shared.scale(JaNote.C, "Major"), 7).toString();
+        }));
+      }
+      for (final Future<String> future : futures) {
+        Assertions.assertEquals(expected, future.get());
+      }
+    }
+  }
+
+  @Test
+  public void testChromaticComposition()
+  {
+    final JaCPDSL d = JaCPDSL.create(JaCPDSLEvaluation.LAZY);
+    final JaCPDSL.Scale c = d.scale(JaNote.C, "Major");
+
+    final JaCPDSL.ChordTermType composed =
+      d.chromaticMediant(
+        d.tritone(
+          d.secondaryDominant(
+            d.chromaticTranspose(d.diatonic7(c, II), -5))),
+        MINOR_DOWN);
+
+    final JaChord dm7 = d.diatonic7(c, II).evaluate();
+    final JaChord expected =
+      JaChord.of(
+        dm7.root().stepBy(-5).stepBy(7).stepBy(6).stepBy(-3),
+        JaChordIntervals.of(TreeSet.of(4, 7, 10)));
+
+    Assertions.assertEquals(expected, composed.evaluate());
+    Assertions.assertEquals(
+      JaChord.of(dm7.root().stepBy(6), dm7.intervals()),
+      d.tritone(d.diatonic7(c, II)).evaluate());
+    Assertions.assertEquals(
+      JaChord.of(dm7.root().stepBy(4), dm7.intervals()),
+      d.chromaticMediant(d.diatonic7(c, II), MAJOR_UP).evaluate());
+  }
+
+  @Test
+  public void testChordsInterned()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSL.Scale c = d.scale(JaNote.C, "Major");
+    final JaCPDSL.Scale g = d.scale(JaNote.G, "Major");
+
+    Assertions.assertSame(
+      d.diatonic(g, I).evaluate(),
+      d.chromaticTranspose(d.diatonic(c, I), 7).evaluate());
+    Assertions.assertSame(
+      d.diatonic7(c, V).evaluate(),
+      d.secondaryDominant(d.diatonic(c, I)).evaluate());
+  }
+}
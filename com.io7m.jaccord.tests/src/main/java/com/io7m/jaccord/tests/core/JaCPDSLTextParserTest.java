@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.tests.core;
+
+import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.cpdsl.JaCPDSL;
+import com.io7m.jaccord.cpdsl.text.JaCPDSLTextParser;
+import com.io7m.jaccord.parser.api.JaParseError;
+import com.io7m.jaccord.parser.api.JaParseErrorCode;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Seq;
+import io.vavr.collection.TreeSet;
+import io.vavr.control.Validation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import static com.io7m.jaccord.cpdsl.JaCPDSL.ChromaticMediant.MINOR_UP;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.I;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.II;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.IV;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.V;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.VI;
+
+public final class JaCPDSLTextParserTest
+{
+  private static JaCPDSLTextParser parser(
+    final JaCPDSL d,
+    final String text)
+  {
+    return JaCPDSLTextParser.create(
+      d, Paths.get("test.cpd"), new StringReader(text));
+  }
+
+  private static void assertSameChords(
+    final JaCPDSL.Progression expected,
+    final JaCPDSL.Progression received)
+  {
+    Assertions.assertEquals(
+      expected.changes().size(), received.changes().size());
+    for (int index = 0; index < expected.changes().size(); ++index) {
+      final JaCPDSL.Change e = expected.changes().get(index);
+      final JaCPDSL.Change r = received.changes().get(index);
+      Assertions.assertEquals(e.chord().type(), r.chord().type());
+      Assertions.assertEquals(e.chord().evaluate(), r.chord().evaluate());
+      Assertions.assertEquals(e.beats(), r.beats());
+    }
+  }
+
+  @Test
+  public void testProgressions()
+    throws IOException
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSLTextParser p = parser(
+      d,
+      String.join(
+        "\n",
+        "# A comment",
+        "",
+        "progression C Major",
+        "  triad I 4     # The tonic",
+        "  inversion seventh VI 4",
+        "  tritone secondary triad II 2",
+        "  mediant minor-up triad IV 2",
+        "  transpose -2 ninth V 1",
+        "  alter-add 14 triad V 2",
+        "  alter-replace 7:8,4:5 sus4 II 2",
+        "  passing C♯ triad I triad II 1",
+        "end",
+        "progression D♭ Major",
+        "  eleventh I 8",
+        "end"));
+
+    final JaCPDSL.Scale c = d.scale(JaNote.C, "Major");
+    final JaCPDSL.Progression expected_0 =
+      d.progression(
+        d.change(d.diatonic(c, I), 4),
+        d.change(d.inversion(d.diatonic7(c, VI)), 4),
+        d.change(d.tritoneSecondaryDominant(d.diatonic(c, II)), 2),
+        d.change(d.chromaticMediant(d.diatonic(c, IV), MINOR_UP), 2),
+        d.change(d.chromaticTranspose(d.diatonic9(c, V), -2), 1),
+        d.change(d.alteredAdded(d.diatonic(c, V), TreeSet.of(14)), 2),
+        d.change(d.alteredReplaced(
+          d.sus4(c, II),
+          HashMap.of(7, 8, 4, 5)), 2),
+        d.change(d.chromaticPassing(
+          d.diatonic(c, I), d.diatonic(c, II), JaNote.C_SHARP), 1));
+
+    final Optional<Validation<Seq<JaParseError>, JaCPDSL.Progression>> r0 =
+      p.next();
+    assertSameChords(expected_0, r0.get().get());
+
+    final JaCPDSL.Scale db = d.scale(JaNote.C_SHARP, "Major");
+    assertSameChords(
+      d.progression(d.change(d.diatonic11(db, I), 8)),
+      p.next().get().get());
+
+    Assertions.assertEquals(Optional.empty(), p.next());
+    Assertions.assertEquals(15, p.lineCount());
+  }
+
+  @Test
+  public void testErrors()
+    throws IOException
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSLTextParser p = parser(
+      d,
+      String.join(
+        "\n",
+        "triad I 4",
+        "progression C Major",
+        "  triad VIII 4",
+        "  inversion 4",
+        "  triad I",
+        "  triad I 4 x",
+        "  passing H triad I triad II 1",
+        "  alter-replace 4:0,7:0 triad I 1",
+        "  triad I 4",
+        "end",
+        "progression C Nonexistent",
+        "  triad I 4",
+        "end",
+        "progression C Major",
+        "  triad I 4"));
+
+    final Seq<JaParseError> e0 = p.next().get().getError();
+    Assertions.assertEquals(1, e0.size());
+    Assertions.assertEquals(
+      JaParseErrorCode.PROGRESSION_SYNTAX_ERROR, e0.get(0).code());
+    Assertions.assertEquals(1, e0.get(0).position().line());
+
+    final Seq<JaParseError> e1 = p.next().get().getError();
+    Assertions.assertEquals(6, e1.size());
+    Assertions.assertEquals("VIII", e1.get(0).received());
+    Assertions.assertEquals(3, e1.get(0).position().line());
+    Assertions.assertEquals(8, e1.get(0).position().column());
+    Assertions.assertEquals("4", e1.get(1).received());
+    Assertions.assertEquals("end of line", e1.get(2).received());
+    Assertions.assertEquals("x", e1.get(3).received());
+    Assertions.assertEquals(JaParseErrorCode.NOTE_INVALID, e1.get(4).code());
+    Assertions.assertEquals(
+      JaParseErrorCode.PROGRESSION_TERM_INVALID, e1.get(5).code());
+    Assertions.assertTrue(e1.get(5).exception().isPresent());
+
+    final Seq<JaParseError> e2 = p.next().get().getError();
+    Assertions.assertEquals(1, e2.size());
+    Assertions.assertEquals(
+      JaParseErrorCode.PROGRESSION_SCALE_UNKNOWN, e2.get(0).code());
+
+    final Seq<JaParseError> e3 = p.next().get().getError();
+    Assertions.assertEquals(1, e3.size());
+    Assertions.assertEquals("'end'", e3.get(0).expected());
+    Assertions.assertEquals(Optional.empty(), p.next());
+  }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.tests.core;
+
+import com.io7m.jaccord.core.JaIntervals;
+import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.cpdsl.JaCPDSL;
+import com.io7m.jaccord.cpdsl.JaCPDSLTemplateType;
+import com.io7m.jaccord.cpdsl.JaCPDSLTimeline;
+import com.io7m.jaccord.cpdsl.midi.JaCPDSLExporter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.vavr.collection.Vector;
+
+import javax.sound.midi.Sequence;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.I;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.IV;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.V;
+
+public final class JaCPDSLTimelineTest
+{
+  private static JaCPDSL.Progression progression(
+    final JaCPDSL d)
+  {
+    final JaCPDSL.Scale c = d.scale(JaNote.C, "Major");
+    return d.progression(
+      d.change(d.diatonic(c, I), 4),
+      d.change(d.diatonic7(c, IV), 2),
+      d.change(d.diatonic7(c, V), 2),
+      d.change(d.diatonic(c, I), 8));
+  }
+
+  @Test
+  public void testCompile()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSL.Progression p = progression(d);
+    final JaCPDSLTimeline t = JaCPDSLTimeline.compile(p);
+
+    Assertions.assertEquals(4, t.size());
+    Assertions.assertEquals(16L, t.totalBeats());
+
+    long start = 0L;
+    for (int index = 0; index < t.size(); ++index) {
+      final JaCPDSL.Change change = p.changes().get(index);
+      Assertions.assertEquals(change.chord().evaluate(), t.chord(index));
+      Assertions.assertEquals(
+        change.chord().evaluate().root(), t.root(index));
+      Assertions.assertEquals(
+        JaIntervals.mask(change.chord().evaluate().intervals().intervals()),
+        t.intervals(index));
+      Assertions.assertEquals(start, t.start(index));
+      Assertions.assertEquals(change.beats(), t.duration(index));
+      start += change.beats();
+    }
+  }
+
+  @Test
+  public void testNegativeBeatsRejected()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSL.Scale c = d.scale(JaNote.C, "Major");
+
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> d.change(d.diatonic(c, I), -2));
+
+    final JaCPDSLTimeline t =
+      d.progression(
+        d.change(d.diatonic(c, I), 4),
+        d.change(d.diatonic(c, IV), 0),
+        d.change(d.diatonic(c, V), 4)).timeline();
+
+    Assertions.assertEquals(8L, t.totalBeats());
+    Assertions.assertEquals(4L, t.start(2));
+    Assertions.assertEquals(2, t.indexAt(4L));
+  }
+
+  @Test
+  public void testMemoized()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSL.Progression p = progression(d);
+    Assertions.assertSame(p.timeline(), p.timeline());
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSLTimeline t = d.progression().timeline();
+    Assertions.assertEquals(0, t.size());
+    Assertions.assertEquals(0L, t.totalBeats());
+  }
+
+  @Test
+  public void testTranspose()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSLTimeline t = progression(d).timeline();
+
+    Assertions.assertSame(t, t.transpose(0));
+    Assertions.assertSame(t, t.transpose(12));
+
+    final JaCPDSLTimeline up = t.transpose(2);
+    final JaCPDSLTimeline down = t.transpose(-10);
+    for (int index = 0; index < t.size(); ++index) {
+      Assertions.assertEquals(t.root(index).stepBy(2), up.root(index));
+      Assertions.assertEquals(up.root(index), down.root(index));
+      Assertions.assertEquals(t.intervals(index), up.intervals(index));
+      Assertions.assertEquals(t.start(index), up.start(index));
+      Assertions.assertEquals(t.duration(index), up.duration(index));
+    }
+  }
+
+  @Test
+  public void testExportEquivalent()
+    throws Exception
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSL.Progression p = progression(d);
+
+    final Sequence s0 = JaCPDSLExporter.export(p);
+    final Sequence s1 = JaCPDSLExporter.export(p.timeline());
+    Assertions.assertEquals(s0.getTickLength(), s1.getTickLength());
+    Assertions.assertEquals(
+      s0.getTracks()[0].size(), s1.getTracks()[0].size());
+  }
+
+  @Test
+  public void testEvaluateAll()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSLTemplateType template = scale -> d.progression(
+      d.change(d.diatonic(scale, I), 4),
+      d.change(d.diatonic7(scale, IV), 2),
+      d.change(d.diatonic7(scale, V), 2),
+      d.change(d.diatonic(scale, I), 8));
+
+    final Vector<JaCPDSL.Scale> scales =
+      d.scalesInAllKeys("Major")
+        .appendAll(d.scalesInAllKeys("Natural_Minor"))
+        .appendAll(d.scalesInAllKeys("Major"));
+
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final Vector<JaCPDSLTimeline> results =
+        d.evaluateAll(template, scales, pool);
+      Assertions.assertEquals(scales.size(), results.size());
+
+      for (int index = 0; index < scales.size(); ++index) {
+        final JaCPDSL.Scale scale = scales.get(index);
+        final JaCPDSLTimeline expected =
+          template.instantiate(scale).timeline();
+        final JaCPDSLTimeline received = results.get(index);
+        Assertions.assertEquals(expected.size(), received.size());
+        for (int c = 0; c < expected.size(); ++c) {
+          Assertions.assertEquals(expected.chord(c), received.chord(c));
+          Assertions.assertEquals(expected.start(c), received.start(c));
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+
+    Assertions.assertEquals(0, d.evaluateAll(template, Vector.empty()).size());
+  }
+
+  @Test
+  public void testScalesShared()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    Assertions.assertSame(
+      d.scale(JaNote.D, "Major"),
+      d.scale(JaNote.D, "Major"));
+    Assertions.assertSame(
+      d.scale(JaNote.D, "Major"),
+      d.scalesInAllKeys("Major").get(JaNote.D.ordinal()));
+    Assertions.assertEquals(12, d.scalesInAllKeys("Natural_Minor").size());
+  }
+
+  @Test
+  public void testIndexAt()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSL.Scale c = d.scale(JaNote.C, "Major");
+    final JaCPDSLTimeline t = d.progression(
+      d.change(d.diatonic(c, I), 4),
+      d.change(d.diatonic7(c, IV), 0),
+      d.change(d.diatonic7(c, V), 2),
+      d.change(d.diatonic(c, I), 8)).timeline();
+
+    Assertions.assertEquals(-1, t.indexAt(-1L));
+    Assertions.assertEquals(0, t.indexAt(0L));
+    Assertions.assertEquals(0, t.indexAt(3L));
+    Assertions.assertEquals(2, t.indexAt(4L));
+    Assertions.assertEquals(2, t.indexAt(5L));
+    Assertions.assertEquals(3, t.indexAt(6L));
+    Assertions.assertEquals(3, t.indexAt(13L));
+    Assertions.assertEquals(-1, t.indexAt(14L));
+
+    Assertions.assertEquals(t.chord(3), t.chordAt(10L).get());
+    Assertions.assertTrue(t.chordAt(100L).isEmpty());
+  }
+
+  @Test
+  public void testIndexAtExhaustive()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final Vector<JaCPDSL.Scale> scales = d.scalesInAllKeys("Major");
+
+    final List<JaCPDSL.Change> changes = new ArrayList<>();
+    for (int index = 0; index < 500; ++index) {
+      changes.add(d.change(
+        d.diatonic(scales.get(index % 12), I), (index * 7) % 5));
+    }
+
+    final JaCPDSLTimeline t =
+      d.progressionOfAll(Vector.ofAll(changes)).timeline();
+    for (long beat = -1L; beat <= t.totalBeats(); ++beat) {
+      int expected = -1;
+      for (int index = 0; index < t.size(); ++index) {
+        if (t.start(index) <= beat
+          && beat < t.start(index) + t.duration(index)) {
+          expected = index;
+        }
+      }
+      Assertions.assertEquals(expected, t.indexAt(beat));
+    }
+  }
+
+  @Test
+  public void testRange()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSLTimeline t = progression(d).timeline();
+
+    final List<Integer> received = new ArrayList<>();
+    t.forEachInRange(3L, 7L, index -> received.add(Integer.valueOf(index)));
+    Assertions.assertEquals(List.of(0, 1, 2), received);
+
+    received.clear();
+    t.forEachInRange(4L, 6L, index -> received.add(Integer.valueOf(index)));
+    Assertions.assertEquals(List.of(1), received);
+
+    received.clear();
+    t.forEachInRange(0L, 100L, index -> received.add(Integer.valueOf(index)));
+    Assertions.assertEquals(List.of(0, 1, 2, 3), received);
+
+    received.clear();
+    t.forEachInRange(16L, 100L, index -> received.add(Integer.valueOf(index)));
+    Assertions.assertEquals(List.of(), received);
+
+    Assertions.assertEquals(0, t.lowerIndex(-5L));
+    Assertions.assertEquals(4, t.lowerIndex(16L));
+    Assertions.assertEquals(0, t.upperIndex(0L));
+    Assertions.assertEquals(4, t.upperIndex(16L));
+  }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+package com.io7m.jaccord.tests.core;
+
+import com.io7m.jaccord.chord_names.api.JaChordCandidate;
+import com.io7m.jaccord.chord_names.api.JaChordClassification;
+import com.io7m.jaccord.chord_names.api.JaChordMatcher;
+import com.io7m.jaccord.chord_names.api.JaChordMatcherConfiguration;
+import com.io7m.jaccord.chord_names.api.JaChordMatches;
+import com.io7m.jaccord.chord_names.api.JaChordName;
+import com.io7m.jaccord.chord_names.api.JaChordNameStyles;
+import com.io7m.jaccord.chord_names.api.JaChordQuality;
+import com.io7m.jaccord.chord_names.api.JaChordRecognizer;
+import com.io7m.jaccord.chord_names.vanilla.JaChordNameTable;
+import com.io7m.jaccord.chord_names.vanilla.JaChordNameTableWriter;
+import com.io7m.jaccord.chord_names.vanilla.JaChordNames;
+import com.io7m.jaccord.chord_names.vanilla.JaChordNamesVanilla;
+import com.io7m.jaccord.core.JaChordIntervals;
+import com.io7m.jaccord.core.JaIntervals;
+import com.io7m.jaccord.core.JaNote;
+import io.vavr.collection.TreeSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+public final class JaChordNamesTest
+{
+  private static JaChordIntervals chord(
+    final int... intervals)
+  {
+    TreeSet<Integer> set = TreeSet.empty();
+    for (final int i : intervals) {
+      set = set.add(Integer.valueOf(i));
+    }
+    return JaChordIntervals.of(set);
+  }
+
+  @Test
+  public void testMajor()
+  {
+    final JaChordIntervals c = chord(0, 4, 7);
+    Assertions.assertEquals("M", JaChordNames.name(c));
+    Assertions.assertEquals(
+      JaChordClassification.of(JaChordQuality.MAJOR, 0),
+      JaChordNames.classify(c));
+  }
+
+  @Test
+  public void testHalfDiminished()
+  {
+    final JaChordIntervals c = chord(0, 3, 6, 10);
+    Assertions.assertEquals("m7♭5", JaChordNames.name(c));
+    Assertions.assertEquals(
+      "m7b5", JaChordNames.name(c, JaChordNameStyles.ASCII));
+  }
+
+  @Test
+  public void testAdditions()
+  {
+    final JaChordIntervals c = chord(0, 4, 7, 11, 18);
+    Assertions.assertEquals("M7add♯11", JaChordNames.name(c));
+    Assertions.assertEquals(
+      "maj7add#11", JaChordNames.name(c, JaChordNameStyles.ASCII));
+  }
+
+  @Test
+  public void testStylesShareClassification()
+  {
+    final JaChordClassification k =
+      JaChordNames.classify(chord(0, 4, 7, 10));
+
+    Assertions.assertEquals(JaChordQuality.DOMINANT_SEVENTH, k.quality());
+    Assertions.assertEquals(0, k.additions());
+    Assertions.assertEquals("7", JaChordNameStyles.UNICODE.render(k));
+    Assertions.assertEquals("7", JaChordNameStyles.ASCII.render(k));
+    Assertions.assertEquals(
+      "♭7/5/3", JaChordNameStyles.FIGURED_BASS.render(k));
+    Assertions.assertEquals(
+      "7", JaChordNameStyles.ROMAN_NUMERAL.render(k));
+    Assertions.assertFalse(k.quality().hasMinorThird());
+  }
+
+  @Test
+  public void testRecognizerIncremental()
+  {
+    final JaChordRecognizer r =
+      JaChordRecognizer.create(
+        new JaChordNamesVanilla(), JaChordNameStyles.UNICODE);
+
+    Assertions.assertFalse(r.noteOn(60));
+    Assertions.assertEquals("", r.label());
+    Assertions.assertTrue(r.noteOn(64));
+    Assertions.assertEquals("CM", r.label());
+    Assertions.assertFalse(r.noteOn(67));
+    Assertions.assertEquals("CM", r.label());
+    Assertions.assertTrue(r.noteOn(70));
+    Assertions.assertEquals("C7", r.label());
+    Assertions.assertFalse(r.noteOn(79));
+    Assertions.assertTrue(r.noteOff(60));
+    Assertions.assertEquals("Edim", r.label());
+    Assertions.assertEquals(64, r.root());
+    Assertions.assertEquals(4, r.heldCount());
+    Assertions.assertEquals(
+      JaChordQuality.DIMINISHED,
+      r.classification().orElseThrow().quality());
+
+    Assertions.assertTrue(r.reset());
+    Assertions.assertEquals("", r.label());
+    Assertions.assertEquals(-1, r.root());
+  }
+
+  @Test
+  public void testRecognizerMatchesClassifier()
+  {
+    final JaChordRecognizer r =
+      JaChordRecognizer.create(
+        new JaChordNamesVanilla(), JaChordNameStyles.ASCII);
+
+    r.noteOn(2);
+    r.noteOn(100);
+    r.noteOn(127);
+    Assertions.assertEquals(
+      "D" + JaChordNames.name(
+        chord(0, (100 - 2) % 24, (127 - 2) % 24), JaChordNameStyles.ASCII),
+      r.label());
+
+    r.reset();
+    r.noteOn(61);
+    r.noteOn(65);
+    r.noteOn(68);
+    Assertions.assertEquals("C#maj", r.label());
+  }
+
+  @Test
+  public void testNamesCanonical()
+  {
+    final JaChordNamesVanilla names = new JaChordNamesVanilla();
+    final JaChordName n0 =
+      names.nameOf(chord(0, 4, 7, 11, 18), JaChordNameStyles.UNICODE);
+    final JaChordName n1 =
+      names.nameOf(chord(0, 4, 11, 18), JaChordNameStyles.UNICODE);
+
+    Assertions.assertEquals(n0, n1);
+    Assertions.assertEquals(n0.text(), names.name(chord(0, 4, 7, 11, 18)));
+    Assertions.assertEquals(
+      n0, JaChordNameStyles.UNICODE.nameById(n0.id()).orElseThrow());
+    Assertions.assertEquals("M7add♯11", n0.text());
+    Assertions.assertEquals(
+      (JaChordQuality.MAJOR_SEVENTH.ordinal() << 25) | (1 << 18), n0.id());
+    Assertions.assertEquals(
+      Optional.empty(), JaChordNameStyles.UNICODE.nameById(-1));
+
+    final JaChordName m =
+      names.nameOf(chord(0, 4, 7), JaChordNameStyles.ROMAN_NUMERAL);
+    final JaChordName m_minor =
+      names.nameOf(chord(0, 3, 7), JaChordNameStyles.ROMAN_NUMERAL);
+    Assertions.assertEquals(m, m_minor);
+    Assertions.assertEquals(m.id(), m_minor.id());
+  }
+
+  private static int pitchClasses(
+    final int... classes)
+  {
+    int mask = 0;
+    for (final int c : classes) {
+      mask |= 1 << c;
+    }
+    return mask;
+  }
+
+  @Test
+  public void testMatcherExact()
+  {
+    final JaChordMatcher m = JaChordMatcher.create();
+    final List<JaChordCandidate> r =
+      m.match(pitchClasses(2, 5, 9, 0), 2, 3);
+
+    Assertions.assertEquals(3, r.size());
+    Assertions.assertEquals(JaNote.D, r.get(0).root());
+    Assertions.assertEquals(JaChordQuality.MINOR_SEVENTH, r.get(0).quality());
+    Assertions.assertEquals(0, r.get(0).distance());
+    Assertions.assertEquals(1.0, r.get(0).confidence());
+    Assertions.assertEquals(JaNote.F, r.get(1).root());
+    Assertions.assertEquals(JaChordQuality.MAJOR_SIXTH, r.get(1).quality());
+  }
+
+  @Test
+  public void testMatcherTolerant()
+  {
+    final JaChordMatcher m = JaChordMatcher.create();
+    final JaChordMatches out = JaChordMatches.create(4);
+
+    /*
+     * C E B♭ with no fifth, and a passing D.
+     */
+
+    final JaChordRecognizer r =
+      JaChordRecognizer.create(
+        new JaChordNamesVanilla(), JaChordNameStyles.UNICODE);
+    r.noteOn(48);
+    r.noteOn(64);
+    r.noteOn(70);
+    r.noteOn(86);
+
+    Assertions.assertEquals(pitchClasses(0, 2, 4, 10), r.pitchClasses());
+    Assertions.assertEquals(0, r.bassPitchClass());
+    Assertions.assertEquals(4, m.match(r.pitchClasses(), r.bassPitchClass(), out));
+    Assertions.assertEquals(JaNote.C, out.root(0));
+    Assertions.assertEquals(JaChordQuality.DOMINANT_NINTH, out.quality(0));
+
+    r.noteOff(86);
+    m.match(r.pitchClasses(), r.bassPitchClass(), out);
+    Assertions.assertEquals(JaChordQuality.DOMINANT_SEVENTH, out.quality(0));
+    Assertions.assertEquals(0, out.distance(0));
+
+    r.noteOn(62);
+    r.noteOff(70);
+    m.match(r.pitchClasses(), r.bassPitchClass(), out);
+    Assertions.assertEquals(JaChordQuality.MAJOR, out.quality(0));
+    Assertions.assertTrue(out.confidence(0) < 1.0);
+    Assertions.assertTrue(out.distance(0) < out.distance(3));
+  }
+
+  @Test
+  public void testMatcherWeightsBounded()
+  {
+    final int w = JaChordMatcher.MAXIMUM_WEIGHT;
+    final JaChordMatcher m =
+      JaChordMatcher.create(
+        JaChordMatcherConfiguration.builder()
+          .setMissingWeight(w)
+          .setExtraWeight(w)
+          .setContradictionWeight(w)
+          .setRootWeight(w)
+          .build());
+
+    final JaChordMatches out = JaChordMatches.create(4);
+    m.match(pitchClasses(0, 4, 7, 10, 1, 3, 6), 0, out);
+    for (int index = 1; index < out.size(); ++index) {
+      Assertions.assertTrue(out.distance(index - 1) <= out.distance(index));
+    }
+
+    m.match(pitchClasses(0, 4, 7), 0, out);
+    Assertions.assertEquals(JaChordQuality.MAJOR, out.quality(0));
+    Assertions.assertEquals(0, out.distance(0));
+
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> JaChordMatcherConfiguration.builder()
+        .setExtraWeight(w + 1)
+        .build());
+  }
+
+  @Test
+  public void testNameTable()
+    throws IOException
+  {
+    final Path directory = Files.createTempDirectory("jaccord");
+    final Path file = directory.resolve("names.bin");
+    JaChordNameTableWriter.write(file, JaChordNameStyles.ASCII);
+
+    try (var entries = Files.list(directory)) {
+      Assertions.assertEquals(List.of(file), entries.toList());
+    }
+
+    final JaChordNameTable table = JaChordNameTable.open(file);
+    Assertions.assertEquals("ascii", table.styleName());
+    Assertions.assertSame(JaChordNameStyles.ASCII, table.style());
+
+    for (int mask = 1; mask < (1 << 24); mask += 4099) {
+      if (JaIntervals.normalizeMask(mask) == 0) {
+        continue;
+      }
+      Assertions.assertEquals(
+        JaChordNameStyles.ASCII.render(JaChordNames.classifyMask(mask)),
+        table.nameMask(mask));
+    }
+
+    final JaChordIntervals c = chord(0, 3, 6, 10);
+    Assertions.assertEquals("m7b5", table.name(c, JaChordNameStyles.ASCII));
+    Assertions.assertEquals("m7♭5", table.name(c));
+
+    final byte[] data = Files.readAllBytes(file);
+    final ByteBuffer header = ByteBuffer.wrap(data);
+    final int offsets_position = header.getInt(20);
+    final int ids_position = header.getInt(28);
+
+    final byte[] bad_id = data.clone();
+    for (int index = 0; index < header.getInt(8); ++index) {
+      bad_id[ids_position + 1000 * header.getInt(8) + index] = (byte) 0xff;
+    }
+    Files.write(file, bad_id);
+    final JaChordNameTable bad_table =
+      JaChordNameTable.open(file, JaChordNameStyles.ASCII);
+    Assertions.assertEquals("m7b5", bad_table.nameMask(1 << 3 | 1 << 6 | 1 << 10));
+    Assertions.assertThrows(
+      UncheckedIOException.class, () -> bad_table.nameMask(1000 << 1));
+    Assertions.assertThrows(
+      IOException.class,
+      () -> JaChordNameTable.open(file, JaChordNameStyles.UNICODE));
+
+    final byte[] bad_offset = data.clone();
+    ByteBuffer.wrap(bad_offset).putInt(offsets_position + 4, Integer.MAX_VALUE);
+    Files.write(file, bad_offset);
+    Assertions.assertThrows(IOException.class, () -> JaChordNameTable.open(file));
+
+    final byte[] bad_ids = data.clone();
+    ByteBuffer.wrap(bad_ids).putInt(28, header.getInt(24) - 1);
+    Files.write(file, bad_ids);
+    Assertions.assertThrows(IOException.class, () -> JaChordNameTable.open(file));
+
+    Files.write(file, new byte[]{0x0, 0x1, 0x2, 0x3});
+    Assertions.assertThrows(IOException.class, () -> JaChordNameTable.open(file));
+    Files.delete(file);
+    Files.delete(directory);
+  }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.tests.core;
+
+import com.io7m.jaccord.codec.JaCodec;
+import com.io7m.jaccord.codec.JaCodecChange;
+import com.io7m.jaccord.codec.JaCodecDecoder;
+import com.io7m.jaccord.codec.JaCodecEncoder;
+import com.io7m.jaccord.codec.JaCodecRecordKind;
+import com.io7m.jaccord.core.JaChord;
+import com.io7m.jaccord.core.JaChordIntervals;
+import com.io7m.jaccord.core.JaChordSlash;
+import com.io7m.jaccord.core.JaIntervals;
+import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.core.JaScale;
+import com.io7m.jaccord.core.JaScaleIntervals;
+import com.io7m.jaccord.cpdsl.JaCPDSL;
+import com.io7m.jaccord.cpdsl.JaCPDSLEvaluation;
+import io.vavr.collection.TreeSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.I;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.II;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.IV;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.V;
+
+public final class JaCodecTest
+{
+  private static JaChord chord(
+    final JaNote root,
+    final Integer... intervals)
+  {
+    return JaChord.of(
+      root,
+      JaChordIntervals.of(TreeSet.of(intervals)));
+  }
+
+  @Test
+  public void testRoundTripBuffer()
+    throws IOException
+  {
+    final JaChord c_major = chord(JaNote.C, 4, 7);
+    final JaChord b_thirteen = chord(JaNote.B, 4, 7, 10, 14, 17, 21);
+    final JaScale scale =
+      JaScale.of(
+        JaNote.D,
+        JaScaleIntervals.of(JaIntervals.ofMask(0b101010110100)));
+    final JaChordSlash slash = JaChordSlash.of(JaNote.E, c_major);
+    final List<JaCodecChange> changes =
+      List.of(
+        JaCodecChange.of(c_major, 4),
+        JaCodecChange.of(b_thirteen, 300));
+
+    final ByteBuffer buffer = ByteBuffer.allocate(256);
+    final JaCodecEncoder encoder = JaCodecEncoder.createForBuffer(buffer);
+    encoder.writeChord(c_major);
+    encoder.writeChord(b_thirteen);
+    encoder.writeScale(scale);
+    encoder.writeSlashChord(slash);
+    encoder.writeProgression(changes);
+    encoder.close();
+    buffer.flip();
+
+    Assertions.assertEquals(JaCodec.MAGIC, buffer.getInt(0));
+
+    final JaCodecDecoder decoder = JaCodecDecoder.createForBuffer(buffer);
+    Assertions.assertTrue(decoder.next());
+    Assertions.assertEquals(JaCodecRecordKind.CHORD, decoder.kind());
+    Assertions.assertEquals(c_major, decoder.chord());
+    Assertions.assertTrue(decoder.next());
+    Assertions.assertEquals(JaNote.B, decoder.root());
+    Assertions.assertEquals(b_thirteen, decoder.chord());
+    Assertions.assertTrue(decoder.next());
+    Assertions.assertEquals(scale, decoder.scale());
+    Assertions.assertTrue(decoder.next());
+    Assertions.assertEquals(slash, decoder.slashChord());
+    Assertions.assertThrows(IllegalStateException.class, decoder::chord);
+    Assertions.assertTrue(decoder.next());
+    Assertions.assertEquals(2, decoder.changeCount());
+    Assertions.assertEquals(300, decoder.changeBeats(1));
+    Assertions.assertEquals(changes, decoder.changes());
+    Assertions.assertFalse(decoder.next());
+  }
+
+  @Test
+  public void testRoundTripChannel()
+    throws IOException
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSL.Scale base = d.scale(JaNote.C, "Major");
+    final JaCPDSL.Progression progression =
+      d.progression(
+        d.change(d.diatonic(base, I), 4),
+        d.change(d.diatonic(base, IV), 4),
+        d.change(d.diatonic(base, V), 8));
+
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (JaCodecEncoder encoder =
+           JaCodecEncoder.create(Channels.newChannel(output))) {
+      for (int index = 0; index < 5000; ++index) {
+        encoder.writeProgression(progression);
+      }
+    }
+
+    final JaCodecDecoder decoder =
+      JaCodecDecoder.create(
+        Channels.newChannel(new ByteArrayInputStream(output.toByteArray())));
+
+    int count = 0;
+    while (decoder.next()) {
+      Assertions.assertEquals(3, decoder.changeCount());
+      for (int index = 0; index < 3; ++index) {
+        final JaCPDSL.Change change = progression.changes().get(index);
+        Assertions.assertEquals(
+          change.chord().evaluate(),
+          decoder.changes().get(index).chord());
+        Assertions.assertEquals(change.beats(), decoder.changeBeats(index));
+      }
+      ++count;
+    }
+    Assertions.assertEquals(5000, count);
+  }
+
+  @Test
+  public void testProgressionFailureWritesNothing()
+    throws IOException
+  {
+    final JaCPDSL d = JaCPDSL.create(JaCPDSLEvaluation.LAZY);
+    final JaCPDSL.Scale base = d.scale(JaNote.C, "Phrygian_Dominant");
+    final JaCPDSL.Progression progression =
+      d.progression(
+        d.change(d.diatonic7(base, I), 4),
+        d.change(
+          d.chromaticPassing(
+            d.diatonic7(base, II), d.diatonic7(base, IV), JaNote.E),
+          4));
+
+    final JaChord c_major = chord(JaNote.C, 4, 7);
+    final ByteBuffer buffer = ByteBuffer.allocate(256);
+    final JaCodecEncoder encoder = JaCodecEncoder.createForBuffer(buffer);
+    encoder.writeChord(c_major);
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> encoder.writeProgression(progression));
+    encoder.writeChord(c_major);
+    encoder.close();
+    buffer.flip();
+
+    final JaCodecDecoder decoder = JaCodecDecoder.createForBuffer(buffer);
+    Assertions.assertTrue(decoder.next());
+    Assertions.assertEquals(c_major, decoder.chord());
+    Assertions.assertTrue(decoder.next());
+    Assertions.assertEquals(c_major, decoder.chord());
+    Assertions.assertFalse(decoder.next());
+  }
+
+  @Test
+  public void testBufferOverflowWritesNothing()
+    throws IOException
+  {
+    final JaChord c_major = chord(JaNote.C, 4, 7);
+    final ArrayList<JaCodecChange> changes = new ArrayList<>();
+    for (int index = 0; index < 64; ++index) {
+      changes.add(JaCodecChange.of(c_major, 4));
+    }
+
+    final ByteBuffer buffer = ByteBuffer.allocate(32);
+    final JaCodecEncoder encoder = JaCodecEncoder.createForBuffer(buffer);
+    encoder.writeChord(c_major);
+    final int position = buffer.position();
+    Assertions.assertThrows(
+      BufferOverflowException.class,
+      () -> encoder.writeProgression(changes));
+    Assertions.assertEquals(position, buffer.position());
+    encoder.writeChord(c_major);
+    encoder.close();
+    buffer.flip();
+
+    final JaCodecDecoder decoder = JaCodecDecoder.createForBuffer(buffer);
+    Assertions.assertTrue(decoder.next());
+    Assertions.assertEquals(c_major, decoder.chord());
+    Assertions.assertTrue(decoder.next());
+    Assertions.assertEquals(c_major, decoder.chord());
+    Assertions.assertFalse(decoder.next());
+  }
+
+  @Test
+  public void testMalformedProgressionCount()
+  {
+    final ByteBuffer hostile = ByteBuffer.allocate(16);
+    hostile.putInt(JaCodec.MAGIC).putShort((short) JaCodec.VERSION);
+    hostile.put((byte) JaCodecRecordKind.PROGRESSION.tag());
+    JaCodec.putVarint(hostile, JaCodec.MAXIMUM_PROGRESSION_LENGTH);
+    hostile.flip();
+
+    Assertions.assertThrows(IOException.class, () -> {
+      JaCodecDecoder.createForBuffer(hostile).next();
+    });
+  }
+
+  @Test
+  public void testMalformed()
+  {
+    Assertions.assertThrows(
+      IOException.class,
+      () -> JaCodecDecoder.createForBuffer(ByteBuffer.wrap(new byte[6])));
+    Assertions.assertThrows(
+      EOFException.class,
+      () -> JaCodecDecoder.createForBuffer(ByteBuffer.wrap(new byte[2])));
+
+    final ByteBuffer bad_tag = ByteBuffer.allocate(7);
+    bad_tag.putInt(JaCodec.MAGIC).putShort((short) JaCodec.VERSION);
+    bad_tag.put((byte) 0x7f);
+    bad_tag.flip();
+    Assertions.assertThrows(IOException.class, () -> {
+      JaCodecDecoder.createForBuffer(bad_tag).next();
+    });
+
+    final ByteBuffer bad_note = ByteBuffer.allocate(16);
+    bad_note.putInt(JaCodec.MAGIC).putShort((short) JaCodec.VERSION);
+    bad_note.put((byte) JaCodecRecordKind.CHORD.tag());
+    JaCodec.putVarint(bad_note, (0b10010000 << 4) | 0xf);
+    bad_note.flip();
+    Assertions.assertThrows(IOException.class, () -> {
+      JaCodecDecoder.createForBuffer(bad_note).next();
+    });
+  }
+}
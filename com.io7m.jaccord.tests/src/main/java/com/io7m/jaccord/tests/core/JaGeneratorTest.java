@@ -0,0 +1,352 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.tests.core;
+
+import com.io7m.jaccord.core.JaChord;
+import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.core.JaScaleHarmonization;
+import com.io7m.jaccord.cpdsl.JaCPDSL;
+import com.io7m.jaccord.cpdsl.JaCPDSLTimeline;
+import com.io7m.jaccord.cpdsl.generator.JaGenerator;
+import com.io7m.jaccord.cpdsl.generator.JaGeneratorModel;
+import io.vavr.collection.Vector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.io7m.jaccord.core.JaScaleHarmonizationChordTypes.SEVENTH_CHORDS;
+import static com.io7m.jaccord.core.JaScaleHarmonizationChordTypes.TRIADS;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.I;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.II;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.IV;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.V;
+import static com.io7m.jaccord.cpdsl.generator.JaGeneratorModel.state;
+
+public final class JaGeneratorTest
+{
+  private static final int TONIC = state(I, TRIADS);
+  private static final int SUBDOMINANT = state(IV, TRIADS);
+  private static final int SUPERTONIC = state(II, SEVENTH_CHORDS);
+  private static final int DOMINANT = state(V, SEVENTH_CHORDS);
+
+  private static JaGeneratorModel model()
+  {
+    return JaGeneratorModel.builder()
+      .observeProgression(
+        new int[]{TONIC, SUBDOMINANT, DOMINANT, TONIC},
+        new int[]{4, 2, 2, 4})
+      .observeProgression(
+        new int[]{TONIC, SUPERTONIC, DOMINANT, TONIC},
+        new int[]{4, 2, 2, 4})
+      .build();
+  }
+
+  private static JaGenerator generator()
+  {
+    final JaCPDSL d = JaCPDSL.shared();
+    return JaGenerator.create(model(), d.scale(JaNote.C, "Major"));
+  }
+
+  @Test
+  public void testModelProbabilities()
+  {
+    final JaGeneratorModel m = model();
+
+    Assertions.assertEquals(1.0, m.startProbability(TONIC), 1.0e-9);
+    Assertions.assertEquals(
+      0.5, m.transitionProbability(TONIC, SUBDOMINANT), 1.0e-9);
+    Assertions.assertEquals(
+      0.5, m.transitionProbability(TONIC, SUPERTONIC), 1.0e-9);
+    Assertions.assertEquals(
+      1.0, m.transitionProbability(DOMINANT, TONIC), 1.0e-9);
+    Assertions.assertEquals(1.0, m.beatsProbability(DOMINANT, 2), 1.0e-9);
+    Assertions.assertEquals(
+      1.0, m.beatsProbability(state(V, TRIADS), 4), 1.0e-9);
+
+    Assertions.assertTrue(m.isReachable(SUPERTONIC));
+    Assertions.assertFalse(m.isReachable(state(V, TRIADS)));
+    Assertions.assertEquals(V, JaGeneratorModel.degreeOf(DOMINANT));
+    Assertions.assertEquals(SEVENTH_CHORDS, JaGeneratorModel.typesOf(DOMINANT));
+  }
+
+  @Test
+  public void testModelEmpty()
+  {
+    Assertions.assertThrows(
+      IllegalStateException.class,
+      () -> JaGeneratorModel.builder().build());
+  }
+
+  @Test
+  public void testGenerateFollowsModel()
+  {
+    final JaGenerator g = generator();
+    final JaCPDSL.Scale c = g.scale();
+    final Vector<JaChord> triads =
+      JaScaleHarmonization.harmonize(TRIADS, c.scale());
+    final Vector<JaChord> sevenths =
+      JaScaleHarmonization.harmonize(SEVENTH_CHORDS, c.scale());
+
+    for (int index = 0; index < 100; ++index) {
+      final JaCPDSLTimeline t = g.generate(23L, index, 9);
+      Assertions.assertEquals(9, t.size());
+
+      for (int position = 0; position < t.size(); ++position) {
+        final JaChord chord = t.chord(position);
+        switch (position % 3) {
+          case 0:
+            Assertions.assertEquals(triads.get(0), chord);
+            Assertions.assertEquals(4, t.duration(position));
+            break;
+          case 1:
+            Assertions.assertTrue(
+              chord.equals(triads.get(3)) || chord.equals(sevenths.get(1)));
+            Assertions.assertEquals(2, t.duration(position));
+            break;
+          default:
+            Assertions.assertEquals(sevenths.get(4), chord);
+            Assertions.assertEquals(2, t.duration(position));
+            break;
+        }
+      }
+      Assertions.assertEquals(24L, t.totalBeats());
+    }
+  }
+
+  @Test
+  public void testGenerateReproducible()
+  {
+    final JaGenerator g = generator();
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final Vector<JaCPDSLTimeline> parallel =
+        g.generateAll(5L, 100L, 1000, 16, pool);
+
+      Assertions.assertEquals(1000, parallel.size());
+      for (int index = 999; index >= 0; --index) {
+        final JaCPDSLTimeline expected = g.generate(5L, 100L + index, 16);
+        final JaCPDSLTimeline received = parallel.get(index);
+        for (int position = 0; position < 16; ++position) {
+          Assertions.assertEquals(
+            expected.chord(position), received.chord(position));
+        }
+      }
+
+      boolean differs = false;
+      for (int index = 1; index < parallel.size(); ++index) {
+        differs |= !parallel.get(0).chord(1).equals(parallel.get(index).chord(1));
+      }
+      Assertions.assertTrue(differs);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testGenerateUnreachableDegree()
+  {
+    final JaCPDSL d = JaCPDSL.shared();
+    final JaGeneratorModel m =
+      JaGeneratorModel.builder()
+        .observeStart(state(JaCPDSL.Degree.VII, TRIADS), 1L)
+        .build();
+
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> JaGenerator.create(m, d.scale(JaNote.C, "Major_Pentatonic")));
+  }
+
+  @Test
+  public void testPublisherBackpressure()
+    throws Exception
+  {
+    final JaGenerator g = generator();
+    final Vector<JaCPDSLTimeline> expected = g.generateAll(9L, 0L, 50, 8);
+
+    final List<JaCPDSLTimeline> received = new ArrayList<>();
+    final AtomicReference<Throwable> error = new AtomicReference<>();
+    final CountDownLatch done = new CountDownLatch(1);
+
+    g.publisher(9L, 50L, 8).subscribe(new Flow.Subscriber<>()
+    {
+      private Flow.Subscription subscription;
+      private int outstanding;
+
+      @Override
+      public void onSubscribe(final Flow.Subscription s)
+      {
+        this.subscription = s;
+        this.outstanding = 3;
+        s.request(3L);
+      }
+
+      @Override
+      public void onNext(final JaCPDSLTimeline item)
+      {
+        --this.outstanding;
+        if (this.outstanding < 0) {
+          error.set(new IllegalStateException("Demand exceeded"));
+        }
+        received.add(item);
+        if (this.outstanding == 0) {
+          this.outstanding = 7;
+          this.subscription.request(7L);
+        }
+      }
+
+      @Override
+      public void onError(final Throwable throwable)
+      {
+        error.set(throwable);
+        done.countDown();
+      }
+
+      @Override
+      public void onComplete()
+      {
+        done.countDown();
+      }
+    });
+
+    Assertions.assertTrue(done.await(30L, TimeUnit.SECONDS));
+    Assertions.assertNull(error.get());
+    Assertions.assertEquals(50, received.size());
+    for (int index = 0; index < 50; ++index) {
+      Assertions.assertEquals(
+        expected.get(index).chord(3), received.get(index).chord(3));
+      Assertions.assertEquals(
+        expected.get(index).totalBeats(), received.get(index).totalBeats());
+    }
+  }
+
+  @Test
+  public void testPublisherCancel()
+    throws Exception
+  {
+    final JaGenerator g = generator();
+    final List<JaCPDSLTimeline> received = new ArrayList<>();
+    final CountDownLatch first = new CountDownLatch(1);
+
+    g.publisher(1L, Long.MAX_VALUE, 4).subscribe(new Flow.Subscriber<>()
+    {
+      private Flow.Subscription subscription;
+
+      @Override
+      public void onSubscribe(final Flow.Subscription s)
+      {
+        this.subscription = s;
+        s.request(Long.MAX_VALUE);
+      }
+
+      @Override
+      public void onNext(final JaCPDSLTimeline item)
+      {
+        received.add(item);
+        this.subscription.cancel();
+        first.countDown();
+      }
+
+      @Override
+      public void onError(final Throwable throwable)
+      {
+
+      }
+
+      @Override
+      public void onComplete()
+      {
+
+      }
+    });
+
+    Assertions.assertTrue(first.await(30L, TimeUnit.SECONDS));
+    Thread.sleep(100L);
+    Assertions.assertEquals(1, received.size());
+  }
+
+  @Test
+  public void testPublisherRejectsNonPositiveRequest()
+    throws Exception
+  {
+    final JaGenerator g = generator();
+    final AtomicReference<Throwable> error = new AtomicReference<>();
+    final CountDownLatch done = new CountDownLatch(1);
+
+    g.publisher(1L, 10L, 4).subscribe(new Flow.Subscriber<>()
+    {
+      @Override
+      public void onSubscribe(final Flow.Subscription s)
+      {
+        s.request(0L);
+      }
+
+      @Override
+      public void onNext(final JaCPDSLTimeline item)
+      {
+
+      }
+
+      @Override
+      public void onError(final Throwable throwable)
+      {
+        error.set(throwable);
+        done.countDown();
+      }
+
+      @Override
+      public void onComplete()
+      {
+        done.countDown();
+      }
+    });
+
+    Assertions.assertTrue(done.await(30L, TimeUnit.SECONDS));
+    Assertions.assertInstanceOf(IllegalArgumentException.class, error.get());
+  }
+
+  @Test
+  public void testTimelineOfColumns()
+  {
+    final JaCPDSLTimeline t =
+      JaCPDSLTimeline.ofColumns(
+        new int[]{0, 7},
+        new int[]{0b10010000, 0b10001000},
+        new int[]{3, 5});
+
+    Assertions.assertEquals(2, t.size());
+    Assertions.assertEquals(3L, t.start(1));
+    Assertions.assertEquals(8L, t.totalBeats());
+    Assertions.assertEquals(JaNote.G, t.root(1));
+
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> JaCPDSLTimeline.ofColumns(new int[]{0}, new int[]{0}, new int[]{1}));
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> JaCPDSLTimeline.ofColumns(new int[]{12}, new int[]{8}, new int[]{1}));
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> JaCPDSLTimeline.ofColumns(new int[]{0}, new int[]{8}, new int[0]));
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.tests.core;
+
+import com.io7m.jaccord.core.JaChord;
+import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.parser.api.JaAccidentalEncoding;
+import com.io7m.jaccord.parser.api.JaChordNoteParserConfiguration;
+import com.io7m.jaccord.parser.api.JaChordNoteParserType;
+import com.io7m.jaccord.parser.api.JaParseError;
+import com.io7m.jaccord.parser.vanilla.JaChordNoteParsers;
+import com.io7m.jaccord.parser.vanilla.JaNoteLexer;
+import io.vavr.collection.Seq;
+import io.vavr.control.Validation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.io7m.jaccord.parser.api.JaAccidentalEncoding.ASCII_ACCIDENTALS;
+import static com.io7m.jaccord.parser.api.JaAccidentalEncoding.UNICODE_ACCIDENTALS;
+import static com.io7m.jaccord.parser.api.JaAccidentalEncoding.UNICODE_AND_ASCII_ACCIDENTALS;
+import static com.io7m.jaccord.parser.api.JaParseErrorCode.CHORD_INTERVALS_MALFORMED;
+import static com.io7m.jaccord.parser.api.JaParseErrorCode.CHORD_INTERVALS_OUT_OF_RANGE;
+import static com.io7m.jaccord.parser.api.JaParseErrorCode.CHORD_TOO_FEW_NOTES;
+import static com.io7m.jaccord.parser.api.JaParseErrorCode.NOTE_INVALID;
+
+public final class JaNoteLexerTest
+{
+  private static JaChordNoteParserType parser(
+    final JaAccidentalEncoding accidentals)
+  {
+    return new JaChordNoteParsers().create(
+      Paths.get("/x"),
+      JaChordNoteParserConfiguration.builder()
+        .setAccidentals(accidentals)
+        .build());
+  }
+
+  private static int utf8(
+    final JaAccidentalEncoding accidentals,
+    final String text)
+  {
+    final ByteBuffer bytes =
+      ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    return JaNoteLexer.noteUTF8(accidentals, bytes, 0, bytes.limit());
+  }
+
+  @Test
+  public void testNotes()
+  {
+    Assertions.assertAll(
+      () -> Assertions.assertEquals(
+        JaNote.C.ordinal(),
+        JaNoteLexer.note(ASCII_ACCIDENTALS, "C", 0, 1)),
+      () -> Assertions.assertEquals(
+        JaNote.C_SHARP.ordinal(),
+        JaNoteLexer.note(ASCII_ACCIDENTALS, "C#", 0, 2)),
+      () -> Assertions.assertEquals(
+        JaNote.B.ordinal(),
+        JaNoteLexer.note(UNICODE_ACCIDENTALS, "C♭", 0, 2)),
+      () -> Assertions.assertEquals(
+        JaNoteLexer.INVALID,
+        JaNoteLexer.note(ASCII_ACCIDENTALS, "C♭", 0, 2)),
+      () -> Assertions.assertEquals(
+        JaNoteLexer.INVALID,
+        JaNoteLexer.note(UNICODE_ACCIDENTALS, "C#", 0, 2)),
+      () -> Assertions.assertEquals(
+        JaNoteLexer.INVALID,
+        JaNoteLexer.note(UNICODE_AND_ASCII_ACCIDENTALS, "H", 0, 1)),
+      () -> Assertions.assertEquals(
+        JaNote.A_SHARP.ordinal(),
+        utf8(UNICODE_ACCIDENTALS, "B♭")),
+      () -> Assertions.assertEquals(
+        JaNote.G_SHARP.ordinal(),
+        utf8(UNICODE_AND_ASCII_ACCIDENTALS, "G#")),
+      () -> Assertions.assertEquals(
+        JaNoteLexer.INVALID,
+        utf8(ASCII_ACCIDENTALS, "G♯")));
+  }
+
+  @Test
+  public void testParseChord()
+  {
+    final Validation<Seq<JaParseError>, JaChord> result =
+      parser(UNICODE_AND_ASCII_ACCIDENTALS).parseLine("  C\tE  G# B♭ ");
+
+    Assertions.assertTrue(result.isValid());
+    final JaChord chord = result.get();
+    Assertions.assertEquals(JaNote.C, chord.root());
+    Assertions.assertEquals(
+      "[4, 8, 10]",
+      chord.intervals().intervals().toJavaList().toString());
+  }
+
+  @Test
+  public void testParseChordErrorColumns()
+  {
+    final Validation<Seq<JaParseError>, JaChord> result =
+      parser(ASCII_ACCIDENTALS).parseLine("C X E Gq");
+
+    Assertions.assertTrue(result.isInvalid());
+    final Seq<JaParseError> errors = result.getError();
+    Assertions.assertEquals(2, errors.size());
+    Assertions.assertEquals(2, errors.get(0).position().column());
+    Assertions.assertEquals(6, errors.get(1).position().column());
+    Assertions.assertEquals(NOTE_INVALID, errors.get(0).code());
+    Assertions.assertEquals("Gq", errors.get(1).received());
+  }
+
+  @Test
+  public void testParseChordErrorCodes()
+  {
+    final JaChordNoteParserType parser = parser(ASCII_ACCIDENTALS);
+
+    final JaParseError few = parser.parseLine("  C  ").getError().get(0);
+    Assertions.assertEquals(CHORD_TOO_FEW_NOTES, few.code());
+    Assertions.assertEquals(2, few.position().column());
+    Assertions.assertEquals("C", few.received());
+    Assertions.assertTrue(few.message().startsWith("Too few notes for chord."));
+
+    Assertions.assertEquals(
+      CHORD_INTERVALS_MALFORMED,
+      parser.parseLine("C C").getError().get(0).code());
+    Assertions.assertEquals(
+      CHORD_INTERVALS_OUT_OF_RANGE,
+      parser.parseLine("C B A# A").getError().get(0).code());
+  }
+
+  @Test
+  public void testParseLineAtShared()
+    throws Exception
+  {
+    final JaChordNoteParserType parser = parser(ASCII_ACCIDENTALS);
+
+    final List<Callable<Integer>> tasks = new ArrayList<>();
+    for (int index = 1; index <= 64; ++index) {
+      final int line = index;
+      tasks.add(() -> {
+        Assertions.assertTrue(parser.parseLineAt(line, "A C# E").isValid());
+        return Integer.valueOf(
+          parser.parseLineAt(line, "A X").getError().get(0).position().line());
+      });
+    }
+
+    try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+      final List<Future<Integer>> results = executor.invokeAll(tasks);
+      for (int index = 0; index < results.size(); ++index) {
+        Assertions.assertEquals(index + 1, results.get(index).get().intValue());
+      }
+    }
+
+    Assertions.assertEquals(
+      1,
+      parser.parseLine("Q").getError().get(0).position().line());
+  }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.tests.core;
+
+import com.io7m.jaccord.core.JaChord;
+import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.parser.api.JaAccidentalEncoding;
+import com.io7m.jaccord.parser.api.JaChordNoteParserConfiguration;
+import com.io7m.jaccord.parser.api.JaChordNoteSinkType;
+import com.io7m.jaccord.parser.api.JaParseError;
+import com.io7m.jaccord.parser.api.JaParseResultBuffer;
+import com.io7m.jaccord.parser.api.JaScaleParserConfiguration;
+import com.io7m.jaccord.parser.api.JaScaleSinkType;
+import com.io7m.jaccord.parser.vanilla.JaChordNoteParsers;
+import com.io7m.jaccord.parser.vanilla.JaScaleParsers;
+import io.vavr.collection.Seq;
+import io.vavr.control.Validation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+public final class JaParsersBulkTest
+{
+  private static Path write(
+    final String text)
+    throws IOException
+  {
+    final Path path = Files.createTempFile("jaccord-", ".txt");
+    path.toFile().deleteOnExit();
+    Files.writeString(path, text, StandardCharsets.UTF_8);
+    return path;
+  }
+
+  @Test
+  public void testChords()
+    throws IOException
+  {
+    final Path path = write("C E G\n\n  D♭ F A♭\r\nC X\nC C\nB D# F#");
+
+    final List<String> chords = new ArrayList<>();
+    final List<JaParseError> errors = new ArrayList<>();
+    new JaChordNoteParsers().parseFile(
+      path,
+      JaChordNoteParserConfiguration.builder()
+        .setAccidentals(JaAccidentalEncoding.UNICODE_AND_ASCII_ACCIDENTALS)
+        .build(),
+      new JaChordNoteSinkType()
+      {
+        @Override
+        public void onChord(
+          final int line,
+          final JaNote root,
+          final int intervals)
+        {
+          chords.add(line + ":" + root.noteName() + ":" + intervals);
+        }
+
+        @Override
+        public void onError(
+          final JaParseError error)
+        {
+          errors.add(error);
+        }
+      });
+
+    Assertions.assertEquals(
+      List.of("1:C:144", "3:C♯:144", "6:B:144"),
+      chords);
+    Assertions.assertEquals(2, errors.size());
+    Assertions.assertEquals(4, errors.get(0).position().line());
+    Assertions.assertEquals(2, errors.get(0).position().column());
+    Assertions.assertEquals(5, errors.get(1).position().line());
+  }
+
+  @Test
+  public void testScales()
+    throws IOException
+  {
+    final Path path = write("C D E F G A B\nA B C D E F G A\n");
+
+    final List<String> scales = new ArrayList<>();
+    final List<JaParseError> errors = new ArrayList<>();
+    new JaScaleParsers().parseFile(
+      path,
+      JaScaleParserConfiguration.builder()
+        .setAccidentals(JaAccidentalEncoding.ASCII_ACCIDENTALS)
+        .build(),
+      new JaScaleSinkType()
+      {
+        @Override
+        public void onScale(
+          final int line,
+          final JaNote root,
+          final int intervals)
+        {
+          scales.add(line + ":" + root.noteName() + ":" + intervals);
+        }
+
+        @Override
+        public void onError(
+          final JaParseError error)
+        {
+          errors.add(error);
+        }
+      });
+
+    Assertions.assertEquals(List.of("1:C:2740"), scales);
+    Assertions.assertEquals(1, errors.size());
+    Assertions.assertEquals(2, errors.get(0).position().line());
+  }
+
+  private static List<String> collectChords(
+    final Path path,
+    final ExecutorService executor)
+    throws IOException
+  {
+    final List<String> events = new ArrayList<>();
+    final JaChordNoteSinkType sink = new JaChordNoteSinkType()
+    {
+      @Override
+      public void onChord(
+        final int line,
+        final JaNote root,
+        final int intervals)
+      {
+        events.add(line + ":" + root.noteName() + ":" + intervals);
+      }
+
+      @Override
+      public void onError(
+        final JaParseError error)
+      {
+        events.add(error.position().line() + ":" + error.position().column());
+      }
+    };
+
+    final JaChordNoteParserConfiguration config =
+      JaChordNoteParserConfiguration.builder()
+        .setAccidentals(JaAccidentalEncoding.UNICODE_AND_ASCII_ACCIDENTALS)
+        .build();
+
+    if (executor == null) {
+      new JaChordNoteParsers().parseFile(path, config, sink);
+    } else {
+      new JaChordNoteParsers().parseFileParallel(path, config, executor, sink);
+    }
+    return events;
+  }
+
+  @Test
+  public void testChordsParallel()
+    throws IOException
+  {
+    final String[] lines = {
+      "C E G",
+      "D♭ F A♭ C",
+      "",
+      "E G# B D F#",
+      "C Q",
+      "A C E G B D F",
+    };
+
+    final StringBuilder text = new StringBuilder(16_000_000);
+    for (int index = 0; index < 600_000; ++index) {
+      text.append(lines[index % lines.length]);
+      text.append('\n');
+    }
+    final Path path = write(text.toString());
+
+    final List<String> expected = collectChords(path, null);
+    final List<String> received;
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      received = collectChords(path, executor);
+    }
+
+    Assertions.assertEquals(500_000, expected.size());
+    Assertions.assertEquals(expected, received);
+  }
+
+  @Test
+  public void testChordsStreaming()
+    throws Exception
+  {
+    final byte[] bytes =
+      "C E G\n\nD♭ F A♭\nC X\nB D# F#"
+        .getBytes(StandardCharsets.UTF_8);
+
+    final Flow.Processor<ByteBuffer, Validation<Seq<JaParseError>, JaChord>> processor =
+      new JaChordNoteParsers().createByteProcessor(
+        Path.of("/x"),
+        JaChordNoteParserConfiguration.builder()
+          .setAccidentals(JaAccidentalEncoding.UNICODE_AND_ASCII_ACCIDENTALS)
+          .build());
+
+    final List<String> received = new ArrayList<>();
+    final CompletableFuture<Void> done = new CompletableFuture<>();
+    processor.subscribe(new Flow.Subscriber<>()
+    {
+      private Flow.Subscription subscription;
+
+      @Override
+      public void onSubscribe(
+        final Flow.Subscription in_subscription)
+      {
+        this.subscription = in_subscription;
+        this.subscription.request(1L);
+      }
+
+      @Override
+      public void onNext(
+        final Validation<Seq<JaParseError>, JaChord> item)
+      {
+        received.add(
+          item.isValid()
+            ? item.get().root().noteName()
+            : "error:" + item.getError().get(0).position().line());
+        this.subscription.request(1L);
+      }
+
+      @Override
+      public void onError(
+        final Throwable throwable)
+      {
+        done.completeExceptionally(throwable);
+      }
+
+      @Override
+      public void onComplete()
+      {
+        done.complete(null);
+      }
+    });
+
+    try (SubmissionPublisher<ByteBuffer> publisher = new SubmissionPublisher<>()) {
+      publisher.subscribe(processor);
+      for (int index = 0; index < bytes.length; index += 3) {
+        final int length = Math.min(3, bytes.length - index);
+        publisher.submit(ByteBuffer.wrap(bytes, index, length).slice());
+      }
+    }
+
+    done.get(10L, TimeUnit.SECONDS);
+    Assertions.assertEquals(List.of("C", "C♯", "error:4", "B"), received);
+  }
+
+  @Test
+  public void testChordsParseLinesBuffered()
+  {
+    final JaParseResultBuffer buffer = new JaParseResultBuffer();
+    new JaChordNoteParsers()
+      .create(
+        Path.of("/x"),
+        JaChordNoteParserConfiguration.builder()
+          .setAccidentals(JaAccidentalEncoding.ASCII_ACCIDENTALS)
+          .build())
+      .parseLines(
+        10,
+        List.of("C E G", "  ", "C X Y", "C", "A C E"),
+        buffer);
+
+    Assertions.assertEquals(5, buffer.size());
+    Assertions.assertEquals(3, buffer.errorCount());
+    Assertions.assertEquals(2, buffer.resultCount());
+    Assertions.assertEquals(12, buffer.line(1));
+    Assertions.assertEquals(12, buffer.line(2));
+    Assertions.assertEquals(13, buffer.line(3));
+    Assertions.assertTrue(buffer.isError(3));
+    Assertions.assertEquals(JaNote.A, buffer.root(4));
+
+    final List<JaChord> chords = buffer.chords();
+    Assertions.assertEquals(2, chords.size());
+    Assertions.assertEquals(JaNote.C, chords.get(0).root());
+    Assertions.assertEquals(JaNote.A, chords.get(1).root());
+
+    buffer.clear();
+    Assertions.assertEquals(0, buffer.size());
+    Assertions.assertEquals(List.of(), buffer.chords());
+  }
+}
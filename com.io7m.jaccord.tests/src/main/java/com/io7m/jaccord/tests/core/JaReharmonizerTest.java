@@ -0,0 +1,238 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.tests.core;
+
+import com.io7m.jaccord.chord_names.vanilla.JaChordNamesVanilla;
+import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.cpdsl.JaCPDSL;
+import com.io7m.jaccord.cpdsl.JaCPDSLEvaluation;
+import com.io7m.jaccord.cpdsl.reharmonizer.JaReharmonization;
+import com.io7m.jaccord.cpdsl.reharmonizer.JaReharmonizer;
+import com.io7m.jaccord.cpdsl.reharmonizer.JaReharmonizerConfiguration;
+import com.io7m.jaccord.cpdsl.reharmonizer.JaReharmonizerCostType;
+import com.io7m.jaccord.cpdsl.reharmonizer.JaReharmonizerCosts;
+import com.io7m.jaccord.cpdsl.reharmonizer.JaReharmonizerSubstitution;
+import io.vavr.collection.Vector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.I;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.II;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.IV;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.V;
+import static com.io7m.jaccord.cpdsl.JaCPDSL.Degree.VI;
+
+public final class JaReharmonizerTest
+{
+  private static final Vector<JaReharmonizerCostType> COSTS =
+    Vector.of(
+      JaReharmonizerCosts.voiceLeading(1.0),
+      JaReharmonizerCosts.tensionCurve(index -> (index % 4 == 3) ? 2.0 : 0.5, 2.0),
+      JaReharmonizerCosts.namingComplexity(new JaChordNamesVanilla(), 0.5),
+      JaReharmonizerCosts.substitution(0.25));
+
+  private static JaCPDSL.Progression tune(
+    final JaCPDSL d,
+    final int bars)
+  {
+    final JaCPDSL.Scale c = d.scale(JaNote.C, "Major");
+    final JaCPDSL.Degree[] degrees = {I, VI, II, V};
+    final List<JaCPDSL.Change> changes = new ArrayList<>();
+    for (int bar = 0; bar < bars; ++bar) {
+      changes.add(d.change(d.diatonic7(c, degrees[bar % 4]), 2));
+      changes.add(d.change(d.diatonic(c, degrees[(bar + 1) % 4]), 2));
+    }
+    return d.progressionOfAll(Vector.ofAll(changes));
+  }
+
+  private static String render(
+    final Vector<JaReharmonization> results)
+  {
+    final StringBuilder sb = new StringBuilder(1024);
+    for (final JaReharmonization r : results) {
+      sb.append(r.cost());
+      sb.append(':');
+      for (final JaCPDSL.Change ch : r.progression().changes()) {
+        sb.append(ch.chord().evaluate());
+        sb.append(',');
+      }
+      sb.append('\n');
+    }
+    return sb.toString();
+  }
+
+  @Test
+  public void testPitchClasses()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSL.Scale c = d.scale(JaNote.C, "Major");
+
+    Assertions.assertEquals(
+      0b000010010001, JaReharmonizerCosts.pitchClasses(d.diatonic(c, I).evaluate()));
+    Assertions.assertEquals(
+      0b100010000100, JaReharmonizerCosts.pitchClasses(d.diatonic(c, V).evaluate()));
+    Assertions.assertEquals(
+      0, JaReharmonizerCosts.movement(0b000010010001, 0b000010010001));
+    Assertions.assertEquals(
+      0.0, JaReharmonizerCosts.tension(d.diatonic(c, I).evaluate()));
+    Assertions.assertTrue(
+      JaReharmonizerCosts.tension(d.diatonic7(c, V).evaluate()) > 0.0);
+  }
+
+  @Test
+  public void testResults()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSL.Progression p = tune(d, 8);
+    final JaReharmonizer r =
+      JaReharmonizer.create(
+        d,
+        JaReharmonizerConfiguration.builder()
+          .setBeamWidth(32)
+          .setResultCount(3)
+          .build(),
+        COSTS);
+
+    final Vector<JaReharmonization> results = r.reharmonize(p);
+    Assertions.assertEquals(3, results.size());
+    for (int index = 0; index < results.size(); ++index) {
+      final JaReharmonization result = results.get(index);
+      Assertions.assertEquals(
+        p.changes().size(), result.progression().changes().size());
+      Assertions.assertEquals(
+        p.timeline().totalBeats(), result.progression().timeline().totalBeats());
+      if (index > 0) {
+        Assertions.assertTrue(results.get(index - 1).cost() <= result.cost());
+      }
+    }
+  }
+
+  @Test
+  public void testNoSubstitutions()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSL.Progression p = tune(d, 4);
+    final JaReharmonizer r =
+      JaReharmonizer.create(
+        d,
+        JaReharmonizerConfiguration.builder()
+          .setResultCount(1)
+          .setSubstitutions(EnumSet.noneOf(JaReharmonizerSubstitution.class))
+          .build(),
+        COSTS);
+
+    final Vector<JaReharmonization> results = r.reharmonize(p);
+    Assertions.assertEquals(1, results.size());
+    for (int index = 0; index < p.changes().size(); ++index) {
+      Assertions.assertEquals(
+        p.changes().get(index).chord().evaluate(),
+        results.get(0).progression().changes().get(index).chord().evaluate());
+    }
+  }
+
+  @Test
+  public void testDeterministic()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSL.Progression p = tune(d, 16);
+    final JaReharmonizerConfiguration config =
+      JaReharmonizerConfiguration.builder()
+        .setSeed(0x5eedL)
+        .build();
+
+    final String sequential;
+    final ForkJoinPool single = new ForkJoinPool(1);
+    try {
+      sequential = render(JaReharmonizer.create(d, config, COSTS)
+                            .reharmonize(p, single));
+    } finally {
+      single.shutdown();
+    }
+
+    final String parallel =
+      render(JaReharmonizer.create(JaCPDSL.create(), config, COSTS)
+               .reharmonize(tune(JaCPDSL.create(), 16)));
+    Assertions.assertEquals(sequential, parallel);
+  }
+
+  @Test
+  public void testLongTune()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaCPDSL.Progression p = tune(d, 64);
+    final JaReharmonizer r =
+      JaReharmonizer.create(
+        d, JaReharmonizerConfiguration.builder().build(), COSTS);
+
+    final Vector<JaReharmonization> results = r.reharmonize(p);
+    Assertions.assertEquals(4, results.size());
+    Assertions.assertEquals(128, results.get(0).progression().changes().size());
+  }
+
+  @Test
+  public void testInvalidSubstitutionsEager()
+  {
+    final JaCPDSL d = JaCPDSL.create(JaCPDSLEvaluation.EAGER);
+    final JaReharmonizer r =
+      JaReharmonizer.create(
+        d, JaReharmonizerConfiguration.builder().build(), COSTS);
+
+    for (final String name : List.of("Phrygian_Dominant", "Mixolydian_b2")) {
+      final JaCPDSL.Scale scale = d.scale(JaNote.C, name);
+      final List<JaCPDSL.Change> changes = new ArrayList<>();
+      for (final JaCPDSL.Degree degree : JaCPDSL.Degree.values()) {
+        changes.add(d.change(d.diatonic7(scale, degree), 2));
+      }
+
+      final Vector<JaReharmonization> results =
+        r.reharmonize(d.progressionOfAll(Vector.ofAll(changes)));
+      Assertions.assertEquals(4, results.size());
+      Assertions.assertEquals(7, results.get(0).progression().changes().size());
+    }
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    final JaCPDSL d = JaCPDSL.create();
+    final JaReharmonizer r =
+      JaReharmonizer.create(
+        d, JaReharmonizerConfiguration.builder().build(), COSTS);
+    final Vector<JaReharmonization> results = r.reharmonize(d.progression());
+    Assertions.assertEquals(1, results.size());
+    Assertions.assertEquals(0.0, results.get(0).cost());
+  }
+
+  @Test
+  public void testConfigurationInvalid()
+  {
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> JaReharmonizerConfiguration.builder().setBeamWidth(0).build());
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> JaReharmonizerConfiguration.builder()
+        .setBeamWidth(2)
+        .setResultCount(3)
+        .build());
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaccord.tests.core;
+
+import com.io7m.jaccord.core.JaScaleNamed;
+import com.io7m.jaccord.parser.api.JaParseError;
+import com.io7m.jaccord.parser.api.JaParseErrorCode;
+import com.io7m.jaccord.parser.api.JaScaleCatalogueParser;
+import com.io7m.jaccord.parser.api.JaScaleCatalogueSinkType;
+import com.io7m.jaccord.scales.vanilla.JaScalesCatalogue;
+import com.io7m.jaccord.scales.vanilla.JaScalesVanilla;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.control.Validation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+public final class JaScaleCatalogueTest
+{
+  private static final class Collector implements JaScaleCatalogueSinkType
+  {
+    private final ArrayList<JaScaleNamed> scales = new ArrayList<>();
+    private final ArrayList<JaParseError> errors = new ArrayList<>();
+
+    Collector()
+    {
+
+    }
+
+    @Override
+    public void onScale(
+      final int line,
+      final JaScaleNamed scale)
+    {
+      this.scales.add(scale);
+    }
+
+    @Override
+    public void onError(
+      final JaParseError error)
+    {
+      this.errors.add(error);
+    }
+  }
+
+  private static Collector parse(
+    final String text)
+    throws IOException
+  {
+    final Collector collector = new Collector();
+    JaScaleCatalogueParser.create(
+      Paths.get("scales.txt"), new StringReader(text)).parse(collector);
+    return collector;
+  }
+
+  @Test
+  public void testCatalogue()
+    throws IOException
+  {
+    final Collector c = parse(String.join(
+      "\n",
+      "# Comment",
+      "! Comment",
+      "",
+      "Ionian_Mode = alias Major",
+      "First_Mode  : alias Ionian_Mode ; name The First Mode",
+      "Major       = semitones 2 4 5 7 9 11",
+      "Dorian_Mode = semitones 2 3 5 7 9 10 ; name Dorian"));
+
+    Assertions.assertEquals(List.empty(), List.ofAll(c.errors));
+    Assertions.assertEquals(4, c.scales.size());
+
+    final JaScaleNamed major = c.scales.get(0);
+    Assertions.assertEquals("Major", major.id());
+    Assertions.assertEquals("Major", major.name());
+    Assertions.assertEquals(
+      List.of(2, 4, 5, 7, 9, 11), major.intervals().intervals().toList());
+
+    Assertions.assertEquals("Ionian_Mode", c.scales.get(1).id());
+    Assertions.assertEquals("Ionian Mode", c.scales.get(1).name());
+    Assertions.assertEquals(major.intervals(), c.scales.get(1).intervals());
+    Assertions.assertEquals("First_Mode", c.scales.get(2).id());
+    Assertions.assertEquals("The First Mode", c.scales.get(2).name());
+    Assertions.assertEquals(major.intervals(), c.scales.get(2).intervals());
+    Assertions.assertEquals("Dorian", c.scales.get(3).name());
+  }
+
+  @Test
+  public void testErrors()
+    throws IOException
+  {
+    final Collector c = parse(String.join(
+      "\n",
+      "A = semitones 2 4",
+      "A = semitones 2 5",
+      "B = semitones 2 12",
+      "C = chord 2 4",
+      "D",
+      "E = semitones",
+      "F = alias G",
+      "G = alias F",
+      "H = semitones 2 ; colour red",
+      "I = alias Nowhere"));
+
+    Assertions.assertEquals(1, c.scales.size());
+
+    final List<JaParseErrorCode> codes =
+      List.ofAll(c.errors).map(JaParseError::code);
+    Assertions.assertEquals(
+      List.of(
+        JaParseErrorCode.CATALOGUE_DUPLICATE_ID,
+        JaParseErrorCode.SCALE_INTERVALS_INVALID,
+        JaParseErrorCode.CATALOGUE_SYNTAX_ERROR,
+        JaParseErrorCode.CATALOGUE_SYNTAX_ERROR,
+        JaParseErrorCode.CATALOGUE_SYNTAX_ERROR,
+        JaParseErrorCode.CATALOGUE_SYNTAX_ERROR,
+        JaParseErrorCode.CATALOGUE_ALIAS_UNRESOLVED,
+        JaParseErrorCode.CATALOGUE_ALIAS_UNRESOLVED,
+        JaParseErrorCode.CATALOGUE_ALIAS_UNRESOLVED),
+      codes);
+
+    final JaParseError bad_semitone = c.errors.get(1);
+    Assertions.assertEquals(3, bad_semitone.position().line());
+    Assertions.assertEquals(16, bad_semitone.position().column());
+    Assertions.assertEquals("12", bad_semitone.received());
+    Assertions.assertEquals("colour", c.errors.get(5).received());
+    Assertions.assertEquals(7, c.errors.get(6).position().line());
+    Assertions.assertEquals("Nowhere", c.errors.get(8).received());
+  }
+
+  @Test
+  public void testProvider()
+    throws IOException
+  {
+    final Validation<Seq<JaParseError>, JaScalesCatalogue> result =
+      JaScalesCatalogue.open(
+        Paths.get("scales.txt"),
+        new StringReader("X = semitones 3 7\nY = alias X\n"));
+
+    final JaScalesCatalogue catalogue = result.get();
+    Assertions.assertEquals(List.of("X", "Y"), catalogue.scales().toList());
+    Assertions.assertEquals(
+      List.of("X", "Y"),
+      catalogue.scalesByIntervals(catalogue.scaleByID("X").get().intervals())
+        .map(JaScaleNamed::id));
+  }
+
+  @Test
+  public void testVanillaAliases()
+  {
+    final JaScalesVanilla vanilla = new JaScalesVanilla();
+    final JaScaleNamed ionian = vanilla.scaleByID("Ionian_Mode").get();
+    final JaScaleNamed major = vanilla.scaleByID("Major").get();
+
+    Assertions.assertEquals("Ionian_Mode", ionian.id());
+    Assertions.assertEquals("Major", major.name());
+
+    final List<String> same =
+      vanilla.scalesByIntervals(major.intervals()).map(JaScaleNamed::id);
+    Assertions.assertTrue(same.contains("Ionian_Mode"));
+    Assertions.assertTrue(same.contains("Major"));
+  }
+}
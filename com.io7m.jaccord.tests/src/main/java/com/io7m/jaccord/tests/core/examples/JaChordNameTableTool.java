@@ -0,0 +1,62 @@
+package com.io7m.jaccord.tests.core.examples;
+
+import com.io7m.jaccord.chord_names.api.JaChordNameStyle;
+import com.io7m.jaccord.chord_names.api.JaChordNameStyles;
+import com.io7m.jaccord.chord_names.vanilla.JaChordNameTable;
+import com.io7m.jaccord.chord_names.vanilla.JaChordNameTableWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+public final class JaChordNameTableTool
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(JaChordNameTableTool.class);
+
+  private JaChordNameTableTool()
+  {
+
+  }
+
+  public static void main(
+    final String[] args)
+    throws IOException
+  {
+    if (args.length < 1) {
+      LOG.error("usage: output-file [unicode|ascii|figured-bass|roman-numeral]");
+      System.exit(1);
+    }
+
+    final Path path = Paths.get(args[0]);
+    final String style_name = args.length > 1 ? args[1] : "unicode";
+
+    final JaChordNameStyle style =
+      List.of(
+        JaChordNameStyles.UNICODE,
+        JaChordNameStyles.ASCII,
+        JaChordNameStyles.FIGURED_BASS,
+        JaChordNameStyles.ROMAN_NUMERAL)
+        .stream()
+        .filter(s -> s.name().equals(style_name))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException(
+          "Unrecognized style: " + style_name));
+
+    final long time_start = System.nanoTime();
+    JaChordNameTableWriter.write(path, style);
+    final long time_end = System.nanoTime();
+
+    final JaChordNameTable table = JaChordNameTable.open(path);
+    LOG.info(
+      "wrote {} ({} names, {} bytes) in {}ms",
+      path,
+      Integer.valueOf(table.nameCount()),
+      Long.valueOf(Files.size(path)),
+      Long.valueOf((time_end - time_start) / 1_000_000L));
+  }
+}
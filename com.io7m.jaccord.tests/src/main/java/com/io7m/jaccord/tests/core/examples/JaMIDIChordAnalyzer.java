@@ -16,10 +16,9 @@
 
 package com.io7m.jaccord.tests.core.examples;
 
-import com.io7m.jaccord.chord_names.vanilla.JaChordNames;
-import com.io7m.jaccord.core.JaChord;
-import com.io7m.jaccord.core.JaChordIntervals;
-import com.io7m.jaccord.core.JaNote;
+import com.io7m.jaccord.chord_names.api.JaChordNameStyles;
+import com.io7m.jaccord.chord_names.api.JaChordRecognizer;
+import com.io7m.jaccord.chord_names.vanilla.JaChordNamesVanilla;
 import org.jaudiolibs.jnajack.Jack;
 import org.jaudiolibs.jnajack.JackClient;
 import org.jaudiolibs.jnajack.JackMidi;
@@ -33,11 +32,8 @@ import org.slf4j.LoggerFactory;
 
 import javax.sound.midi.ShortMessage;
 import java.util.EnumSet;
-import java.util.SortedSet;
-import java.util.TreeSet;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 public final class JaMIDIChordAnalyzer
 {
@@ -92,47 +88,60 @@ public final class JaMIDIChordAnalyzer
           }
         });
 
-      final var workingNotes =
-        new TreeSet<Integer>();
+      final var recognizer =
+        JaChordRecognizer.create(
+          new JaChordNamesVanilla(), JaChordNameStyles.UNICODE);
 
       final var chordChanges =
-        new LinkedBlockingQueue<SortedSet<Integer>>(10_000);
+        new LinkedBlockingQueue<String>(10_000);
 
+      final var lastEmitted = new String[]{""};
       final var event = new JackMidi.Event();
+      final var buffer = new byte[3];
       client.setProcessCallback((peer, nframes) -> {
         try {
           final var eventCount = JackMidi.getEventCount(port);
-          var changed = false;
 
           for (int index = 0; index < eventCount; ++index) {
             JackMidi.eventGet(event, port, index);
-            final var buffer = new byte[event.size()];
+            if (event.size() != 3) {
+              continue;
+            }
+
             event.read(buffer);
-            if (buffer.length == 3) {
-              final var message =
-                new ShortMessage(buffer[0], buffer[1], buffer[2]);
-
-              switch (message.getCommand()) {
-                case ShortMessage.NOTE_ON: {
-                  workingNotes.add(Integer.valueOf(message.getData1()));
-                  changed = true;
-                  break;
-                }
-                case ShortMessage.NOTE_OFF: {
-                  workingNotes.remove(Integer.valueOf(message.getData1()));
-                  changed = true;
-                  break;
-                }
-                default: {
-                  break;
+            final var command = buffer[0] & 0xf0;
+            final var note = buffer[1] & 0x7f;
+            final var velocity = buffer[2] & 0x7f;
+
+            switch (command) {
+              case ShortMessage.NOTE_ON: {
+                if (velocity == 0) {
+                  recognizer.noteOff(note);
+                } else {
+                  recognizer.noteOn(note);
                 }
+                break;
+              }
+              case ShortMessage.NOTE_OFF: {
+                recognizer.noteOff(note);
+                break;
+              }
+              default: {
+                break;
               }
             }
-          }
 
-          if (changed) {
-            if (!workingNotes.isEmpty()) {
-              chordChanges.add(new TreeSet<>(workingNotes));
+            /*
+             * A chord is reported once at least three notes are held. The
+             * label usually settles before the third note arrives (two notes
+             * already name a dyad), and so the comparison is against the
+             * last reported label rather than the last label.
+             */
+
+            final var label = recognizer.label();
+            if (recognizer.heldCount() >= 3 && !label.equals(lastEmitted[0])) {
+              lastEmitted[0] = label;
+              chordChanges.offer(label);
             }
           }
           return true;
@@ -145,81 +154,15 @@ public final class JaMIDIChordAnalyzer
       client.activate();
 
       while (true) {
-        final var notes = chordChanges.poll(1L, TimeUnit.SECONDS);
-        if (notes == null) {
+        final var label = chordChanges.poll(1L, TimeUnit.SECONDS);
+        if (label == null) {
           continue;
         }
 
-        processChordChange(notes);
+        LOG.info("chord: {}", label);
       }
     } finally {
       client.close();
     }
   }
-
-  private static void processChordChange(
-    final SortedSet<Integer> notes)
-  {
-    LOG.debug("chordChange: {}", notes);
-
-    if (notes.size() < 3) {
-      return;
-    }
-
-    final var first =
-      notes.first();
-    final var root =
-      noteNumberToNote(first.intValue());
-
-    final SortedSet<Integer> rest =
-      notes.tailSet(Integer.valueOf(first.intValue() + 1))
-        .stream()
-        .map(x -> Integer.valueOf(x.intValue() - first.intValue()))
-        .map(x -> Integer.valueOf(x.intValue() % 24))
-        .collect(Collectors.toCollection(TreeSet::new));
-
-    final var chord =
-      JaChord.builder()
-        .setRoot(root)
-        .setIntervals(JaChordIntervals.of(io.vavr.collection.TreeSet.ofAll(rest)))
-        .build();
-
-    JaChordDemo.forChord(chord);
-  }
-
-  private static JaNote noteNumberToNote(
-    final int note)
-  {
-    final var noteMod = note % 12;
-    switch (noteMod) {
-      case 0:
-        return JaNote.C;
-      case 1:
-        return JaNote.C_SHARP;
-      case 2:
-        return JaNote.D;
-      case 3:
-        return JaNote.D_SHARP;
-      case 4:
-        return JaNote.E;
-      case 5:
-        return JaNote.F;
-      case 6:
-        return JaNote.F_SHARP;
-      case 7:
-        return JaNote.G;
-      case 8:
-        return JaNote.G_SHARP;
-      case 9:
-        return JaNote.A;
-      case 10:
-        return JaNote.A_SHARP;
-      case 11:
-        return JaNote.B;
-      default:
-        throw new IllegalStateException(
-          String.format("Unexpected value: %d", Integer.valueOf(noteMod))
-        );
-    }
-  }
 }